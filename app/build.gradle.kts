@@ -35,6 +35,13 @@ android {
         versionName = "1.2.1"
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
 
+        // Room 스키마 내보내기 (미리 채워진 DB 생성 스크립트가 같은 테이블 구조를 사용)
+        javaCompileOptions {
+            annotationProcessorOptions {
+                arguments += mapOf("room.schemaLocation" to "$projectDir/schemas")
+            }
+        }
+
         ndk {
             abiFilters += listOf("armeabi-v7a", "arm64-v8a", "x86", "x86_64")
         }
@@ -84,6 +91,13 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+
+    testOptions {
+        unitTests {
+            // Robolectric 테스트용 (매니페스트/리소스 병합 결과 사용)
+            isIncludeAndroidResources = true
+        }
+    }
 }
 
 dependencies {
@@ -107,6 +121,10 @@ dependencies {
     // ===== Room 데이터베이스 =====
     implementation(libs.room.runtime)
     annotationProcessor(libs.room.compiler)
+    implementation(libs.room.paging)
+
+    // ===== Paging (이력 목록 페이지 단위 로드) =====
+    implementation(libs.paging.runtime)
 
     implementation(libs.work.runtime)
 
@@ -117,6 +135,10 @@ dependencies {
     implementation(libs.okhttp)
 
     testImplementation(libs.junit)
+    // Room 쿼리 실행 계획 테스트 (JVM에서 실제 SQLite로 EXPLAIN QUERY PLAN)
+    testImplementation(libs.robolectric)
+    testImplementation(libs.test.core)
+    testImplementation(libs.okhttp.mockwebserver)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
 
@@ -139,4 +161,62 @@ dependencies {
     // --- 기타 라이브러리 ---
     implementation(libs.guava)
     implementation(libs.opencsv)
-}
\ No newline at end of file
+}
+
+// ==================== 미리 채워진 DB 생성 ====================
+// assets/draw_kor.csv로 당첨번호/번호 통계/번호 쌍을 미리 계산한 Room DB를 assets/database/lotto.db로 포함
+// (첫 실행은 이 DB를 복사하고 그 이후 회차만 반영, 테이블 구조는 커밋된 app/schemas의 Room 스키마 사용)
+// python3가 없거나 생성에 실패하면 빌드 실패 (에셋 없는 APK가 조용히 배포되지 않도록)
+androidComponents {
+    onVariants { variant ->
+        val variantName = variant.name.replaceFirstChar { it.uppercase() }
+        val generateTask = tasks.register<PrepackagedDatabaseTask>("generate${variantName}PrepackagedDatabase") {
+            script.set(rootProject.file("scripts/build_prepackaged_db.py"))
+            csvFile.set(file("src/main/assets/draw_kor.csv"))
+            schemaDir.set(file("schemas/app.grapekim.smartlotto.data.local.room.AppDatabase"))
+            // 커밋된 스키마 JSON을 Room 어노테이션 처리가 엔티티 기준으로 갱신한 뒤 실행
+            dependsOn("compile${variantName}JavaWithJavac")
+        }
+        variant.sources.assets?.addGeneratedSourceDirectory(generateTask, PrepackagedDatabaseTask::outputDir)
+    }
+}
+
+abstract class PrepackagedDatabaseTask : DefaultTask() {
+    @get:InputFile
+    abstract val script: RegularFileProperty
+
+    @get:InputFile
+    abstract val csvFile: RegularFileProperty
+
+    @get:InputDirectory
+    abstract val schemaDir: DirectoryProperty
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @get:javax.inject.Inject
+    abstract val execOperations: ExecOperations
+
+    @TaskAction
+    fun generate() {
+        val output = outputDir.get().file("database/lotto.db").asFile
+        output.delete()
+        val result = try {
+            execOperations.exec {
+                commandLine(
+                    "python3", script.get().asFile.path,
+                    "--schema-dir", schemaDir.get().asFile.path,
+                    "--csv", csvFile.get().asFile.path,
+                    "--out", output.path
+                )
+                isIgnoreExitValue = true
+            }
+        } catch (e: Exception) {
+            throw GradleException("python3를 실행할 수 없어 미리 채워진 DB를 만들 수 없습니다: ${e.message}", e)
+        }
+        if (result.exitValue != 0) {
+            output.delete()
+            throw GradleException("미리 채워진 DB 생성 실패 (exit ${result.exitValue})")
+        }
+    }
+}
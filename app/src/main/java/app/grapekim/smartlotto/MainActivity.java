@@ -8,6 +8,7 @@ import android.graphics.Insets;
 import android.os.Build;
 import android.os.Bundle;
 import android.view.View;
+import android.view.ViewTreeObserver;
 import android.view.Window;
 import android.view.WindowInsets;
 import android.view.WindowInsetsController;
@@ -23,21 +24,16 @@ import androidx.navigation.NavController;
 import androidx.navigation.fragment.NavHostFragment;
 import androidx.navigation.ui.NavigationUI;
 
-import app.grapekim.smartlotto.data.csv.LottoDataLoader;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.di.AppContainer;
 import app.grapekim.smartlotto.data.CsvUpdateManager;
+import app.grapekim.smartlotto.data.work.DataUpdateOrchestrator;
 import app.grapekim.smartlotto.util.RoundCache;
-import app.grapekim.smartlotto.util.StatisticsUpdateTester;
 import app.grapekim.smartlotto.util.AdMobConfigValidator;
+import app.grapekim.smartlotto.util.StartupTimingReport;
+import app.grapekim.smartlotto.util.StartupTimings;
 import com.google.android.material.bottomnavigation.BottomNavigationView;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-
 /**
  * 메인 액티비티
  * Navigation Component와 BottomNavigationView를 사용한 주요 화면 관리
@@ -78,8 +74,12 @@ public class MainActivity extends AppCompatActivity {
         // 시스템 UI 인셋 처리
         setupSystemUIInsets();
 
+        // 첫 프레임 시각 기록 (시작 단계 시간)
+        markFirstFrame();
+
         try {
             initializeRepository();
+            StartupTimings.mark(StartupTimingReport.Phase.REPOSITORY_READY);
             initializeCsvUpdateManager(); // CSV 업데이트 매니저 초기화
             initializeRoundCache(); // 회차 캐시 초기화
             fixAiDataOnce(); // AI 데이터 정리 (한 번만 실행)
@@ -91,11 +91,8 @@ public class MainActivity extends AppCompatActivity {
                 AdMobConfigValidator.logAdMobSummary();
             }
 
-            // 자동 업데이트 체크 (앱 시작 시) - 강제 실행으로 변경
-            forceAutoUpdateOnStartup();
-
-            // CSV 데이터 자동 로딩 (필요시 업데이트 포함)
-            initializeCsvDataIfNeeded();
+            // 데이터 갱신 (다운로드/DB 반영/통계/채점을 하나의 백그라운드 체인으로)
+            requestStartupDataUpdate();
 
             initializeNavigation();
             setupBottomNavigation();
@@ -117,56 +114,27 @@ public class MainActivity extends AppCompatActivity {
     }
 
     /**
-     * 앱 시작 시 주간 자동 업데이트 체크
+     * 앱 시작 시 데이터 갱신 요청 (DataUpdateOrchestrator 체인에 합쳐짐)
+     * 체인이 새 회차를 저장하면 저장소가 DataVersionBus에 발행하므로 통계 화면 등은 따로 통지할 필요가 없습니다.
      */
-    private void checkAutoUpdateOnStartup() {
-        android.util.Log.d("MainActivity", "=== 주간 자동 업데이트 체크 시작 ===");
-
-        long lastAutoUpdate = csvUpdateManager.getLastAutoUpdateTime();
-        int daysUntilNext = csvUpdateManager.getDaysUntilNextUpdate();
-
-        if (lastAutoUpdate > 0) {
-            android.util.Log.d("MainActivity", "마지막 자동 업데이트: " + new java.util.Date(lastAutoUpdate));
-            android.util.Log.d("MainActivity", "다음 업데이트까지: " + daysUntilNext + "일");
-        } else {
-            android.util.Log.d("MainActivity", "첫 실행 - 자동 업데이트 이력 없음");
-        }
-
-        // 백그라운드에서 체크 및 필요시 업데이트
-        csvUpdateManager.checkAndUpdateIfNeeded();
+    private void requestStartupDataUpdate() {
+        DataUpdateOrchestrator.requestUpdate(this, DataUpdateOrchestrator.Trigger.APP_START);
     }
 
     /**
-     * 앱 시작 시 강제 자동 업데이트 실행 (테스트용)
+     * 첫 그리기가 끝난 직후 첫 프레임 단계 기록
      */
-    private void forceAutoUpdateOnStartup() {
-        android.util.Log.i("MainActivity", "=== 강제 자동 업데이트 실행 ===");
-
-        long lastAutoUpdate = csvUpdateManager.getLastAutoUpdateTime();
-
-        if (lastAutoUpdate > 0) {
-            android.util.Log.i("MainActivity", "마지막 자동 업데이트: " + new java.util.Date(lastAutoUpdate));
-        } else {
-            android.util.Log.i("MainActivity", "첫 실행 - 자동 업데이트 이력 없음");
-        }
-
-        // 항상 업데이트 시도 (강제)
-        android.util.Log.i("MainActivity", "최신 데이터 확인을 위해 강제 업데이트 시작...");
-        csvUpdateManager.checkAndUpdateIfNeeded();
-
-        // 5초 후 추가로 강제 업데이트 (확실히 하기 위해)
-        new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-            android.util.Log.i("MainActivity", "=== 추가 강제 업데이트 실행 ===");
-
-            new Thread(() -> {
-                try {
-                    boolean success = csvUpdateManager.forceUpdateCsvFile();
-                    android.util.Log.i("MainActivity", "추가 업데이트 결과: " + (success ? "성공" : "실패"));
-                } catch (Exception e) {
-                    android.util.Log.e("MainActivity", "추가 업데이트 오류", e);
-                }
-            }).start();
-        }, 5000);
+    private void markFirstFrame() {
+        View content = findViewById(android.R.id.content);
+        content.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                content.getViewTreeObserver().removeOnPreDrawListener(this);
+                // 이번 그리기가 끝난 뒤 실행되도록 메시지 큐에 넣음
+                content.post(() -> StartupTimings.mark(StartupTimingReport.Phase.FIRST_FRAME));
+                return true;
+            }
+        });
     }
 
     /**
@@ -357,7 +325,7 @@ public class MainActivity extends AppCompatActivity {
      * Repository 초기화
      */
     private void initializeRepository() {
-        lottoRepository = new LottoRepositoryImpl(this);
+        lottoRepository = AppContainer.get(this).lottoRepository();
     }
 
     /**
@@ -373,229 +341,6 @@ public class MainActivity extends AppCompatActivity {
         }
     }
 
-    /**
-     * CSV 데이터 자동 로딩 (3개월 자동 업데이트 고려)
-     */
-    private void initializeCsvDataIfNeeded() {
-        new Thread(() -> {
-            try {
-                android.util.Log.d("CSV_INIT", "CSV 데이터 초기화 시작...");
-
-                // 3개월 주기가 아닌 경우에만 필요시 최신 데이터 확인
-                boolean shouldCheckGitHub = true;
-
-                // 최근에 자동 업데이트가 있었다면 GitHub 체크 생략
-                long lastAutoUpdate = csvUpdateManager.getLastAutoUpdateTime();
-                if (lastAutoUpdate > 0) {
-                    long timeSinceUpdate = System.currentTimeMillis() - lastAutoUpdate;
-                    long daysSinceUpdate = timeSinceUpdate / (24 * 60 * 60 * 1000L);
-
-                    if (daysSinceUpdate < 7) { // 7일 이내 자동 업데이트가 있었다면
-                        shouldCheckGitHub = false;
-                        android.util.Log.d("CSV_INIT", "최근 자동 업데이트 있음 (" + daysSinceUpdate + "일 전) - GitHub 체크 생략");
-                    }
-                }
-
-                boolean updated = false;
-                if (shouldCheckGitHub) {
-                    // GitHub에서 최신 데이터 확인
-                    android.util.Log.d("CSV_INIT", "GitHub에서 최신 CSV 데이터 확인 시작...");
-                    updated = csvUpdateManager.updateCsvFile();
-
-                    if (updated) {
-                        android.util.Log.d("CSV_INIT", "GitHub에서 최신 데이터 업데이트 완료");
-                    } else {
-                        android.util.Log.d("CSV_INIT", "GitHub 업데이트 실패 또는 불필요");
-                    }
-                }
-
-                // DB 상태 확인
-                int dbTotalCount = lottoRepository.getTotalDrawCount();
-                Integer dbLatestRound = lottoRepository.getLatestDrawNumber();
-
-                // CSV 최신 회차 확인 (업데이트된 파일에서)
-                int csvLatestRound = getCsvLatestRound();
-
-                android.util.Log.d("CSV_INIT", "DB 최신 회차: " + dbLatestRound + ", CSV 최신 회차: " + csvLatestRound);
-
-                boolean needsUpdate = false;
-                String updateReason = "";
-
-                if (dbTotalCount == 0) {
-                    needsUpdate = true;
-                    updateReason = "DB가 비어있음";
-                } else if (dbLatestRound == null || csvLatestRound > dbLatestRound) {
-                    needsUpdate = true;
-                    updateReason = "CSV에 더 최신 데이터 있음 (" + dbLatestRound + " → " + csvLatestRound + ")";
-                }
-
-                if (needsUpdate) {
-                    android.util.Log.d("CSV_INIT", "CSV 로딩 시작: " + updateReason);
-
-                    // 기존 데이터 삭제 후 전체 재로딩
-                    android.util.Log.d("CSV_INIT", "기존 AI 데이터 삭제 중...");
-                    lottoRepository.clearDrawHistory();
-                    lottoRepository.clearNumberStatistics();
-                    lottoRepository.clearNumberPairs();
-
-                    // CSV 데이터 로딩
-                    LottoDataLoader loader = new LottoDataLoader(this, lottoRepository);
-                    boolean success = loader.loadLottoDataSync();
-
-                    if (success) {
-                        android.util.Log.d("CSV_INIT", "CSV 로딩 완료! 새로운 분석 데이터 준비됨");
-
-                        // UI 스레드에서 완료 처리 및 리스너 통지
-                        runOnUiThread(() -> {
-                            android.util.Log.d("CSV_INIT", "분석 탭 데이터 업데이트 완료!");
-
-                            // CSV 업데이트 매니저를 통해 리스너들에게 통지
-                            if (csvUpdateManager != null) {
-                                // 약간의 지연 후 통지 (Fragment들이 완전히 초기화된 후)
-                                new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                                    android.util.Log.i("MainActivity", "=== 자동 통계 업데이트 테스트 시작 ===");
-                                    android.util.Log.i("MainActivity", "앱 시작 후 CSV 데이터 로딩 완료, 리스너들에게 통지");
-                                    csvUpdateManager.notifyUpdateListeners(true);
-
-                                    // 5초 후 추가 테스트 (사용자가 다른 탭으로 이동했을 수도 있음)
-                                    new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                                        android.util.Log.i("MainActivity", "=== 추가 자동 업데이트 테스트 ===");
-                                        csvUpdateManager.notifyUpdateListeners(true);
-
-                                        // 종합 테스트 실행 (10초 후)
-                                        new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                                            android.util.Log.i("MainActivity", "=== 통계 업데이트 시스템 종합 테스트 시작 ===");
-                                            StatisticsUpdateTester.logCsvUpdateManagerStatus(csvUpdateManager);
-                                            StatisticsUpdateTester.runComprehensiveTest(MainActivity.this);
-
-                                            // 강제 CSV 업데이트 실행 (15초 후)
-                                            new android.os.Handler(android.os.Looper.getMainLooper()).postDelayed(() -> {
-                                                android.util.Log.i("MainActivity", "=== 강제 CSV 업데이트 실행 ===");
-                                                android.util.Log.i("MainActivity", "GitHub에서 최신 데이터 가져오는 중...");
-
-                                                new Thread(() -> {
-                                                    try {
-                                                        boolean updateSuccess = csvUpdateManager.forceUpdateCsvFile();
-
-                                                        runOnUiThread(() -> {
-                                                            if (updateSuccess) {
-                                                                android.util.Log.i("MainActivity", "✅ CSV 업데이트 성공! 통계가 자동으로 갱신됩니다.");
-                                                            } else {
-                                                                android.util.Log.e("MainActivity", "❌ CSV 업데이트 실패");
-                                                            }
-                                                        });
-                                                    } catch (Exception e) {
-                                                        android.util.Log.e("MainActivity", "CSV 업데이트 중 오류", e);
-                                                    }
-                                                }).start();
-                                            }, 5000);
-                                        }, 5000);
-                                    }, 5000);
-                                }, 1000); // 1초 지연
-                            }
-                        });
-                    } else {
-                        android.util.Log.e("CSV_INIT", "CSV 로딩 실패");
-                    }
-
-                    loader.shutdown();
-                } else {
-                    android.util.Log.d("CSV_INIT", "최신 상태 유지 - 업데이트 불필요");
-                }
-
-            } catch (Exception e) {
-                android.util.Log.e("CSV_INIT", "CSV 초기화 실패", e);
-            }
-        }).start();
-    }
-
-    /**
-     * CSV 파일의 최신 회차 번호 확인 (GitHub 업데이트된 파일에서)
-     */
-    private int getCsvLatestRound() {
-        try {
-            // GitHub에서 업데이트된 파일 사용
-            File csvFile = csvUpdateManager.getCsvFile();
-            FileInputStream fis = new FileInputStream(csvFile);
-            BufferedReader reader = new BufferedReader(new InputStreamReader(fis, StandardCharsets.UTF_8));
-
-            int maxRound = 0;
-            String line;
-            boolean isFirstLine = true;
-
-            while ((line = reader.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false; // 헤더 스킵
-                    continue;
-                }
-
-                if (line.trim().isEmpty()) {
-                    continue; // 빈 줄 스킵
-                }
-
-                String[] parts = line.split(",");
-                if (parts.length >= 2) {
-                    try {
-                        int round = Integer.parseInt(parts[1].trim());
-                        if (round > maxRound) {
-                            maxRound = round;
-                        }
-                    } catch (NumberFormatException e) {
-                        // 파싱 실패한 라인은 무시
-                    }
-                }
-            }
-
-            reader.close();
-            fis.close();
-
-            android.util.Log.d("CSV_INIT", "CSV 최신 회차 확인 완료: " + maxRound);
-            return maxRound;
-
-        } catch (Exception e) {
-            android.util.Log.e("CSV_INIT", "CSV 최신 회차 확인 실패", e);
-
-            // 실패 시 assets에서 확인 (fallback)
-            try {
-                android.content.res.AssetManager assets = getAssets();
-                java.io.InputStream is = assets.open("draw_kor.csv");
-                java.io.BufferedReader assetReader = new java.io.BufferedReader(new java.io.InputStreamReader(is));
-
-                int maxRound = 0;
-                String line;
-                boolean isFirstLine = true;
-
-                while ((line = assetReader.readLine()) != null) {
-                    if (isFirstLine) {
-                        isFirstLine = false;
-                        continue;
-                    }
-
-                    String[] parts = line.split(",");
-                    if (parts.length >= 2) {
-                        try {
-                            int round = Integer.parseInt(parts[1].trim());
-                            if (round > maxRound) {
-                                maxRound = round;
-                            }
-                        } catch (NumberFormatException ignored) {
-                        }
-                    }
-                }
-
-                assetReader.close();
-                is.close();
-
-                android.util.Log.d("CSV_INIT", "Assets에서 CSV 최신 회차 확인: " + maxRound);
-                return maxRound;
-
-            } catch (Exception fallbackError) {
-                android.util.Log.e("CSV_INIT", "Assets CSV 최신 회차 확인도 실패", fallbackError);
-                return 0;
-            }
-        }
-    }
-
     /**
      * AI 데이터 정리 (한 번만 실행)
      * "[수정]" -> "[AI]" 변경 및 "합계" 형식을 "회차" 형식으로 변경
@@ -16,8 +16,12 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
 import app.grapekim.smartlotto.data.model.LottoDrawData;
 import app.grapekim.smartlotto.data.service.OfficialLottoApiService;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.DataVersionBus;
 import app.grapekim.smartlotto.util.LottoDrawCalculator;
 
 public class CsvUpdateManager {
@@ -30,74 +34,122 @@ public class CsvUpdateManager {
     private static final String KEY_LAST_UPDATE = "csv_last_update";
     private static final long UPDATE_INTERVAL = 1 * 24 * 60 * 60 * 1000L; // 1일 (24시간)
 
+    // 공식 API로 한 번에 보완할 최대 회차 수 (약 1년치)
+    private static final int MAX_BACKFILL_DRAWS = 52;
+
     private Context context;
     private OkHttpClient client;
 
-    // 데이터 업데이트 리스너들
-    private final List<DataUpdateListener> updateListeners = new ArrayList<>();
-
     /**
      * 데이터 업데이트 이벤트를 받기 위한 인터페이스
+     * 앱 범위 DataVersionBus로 전달되므로 어느 인스턴스에 등록해도 모든 데이터 변경을 받습니다.
      */
-    public interface DataUpdateListener {
+    public interface DataUpdateListener extends DataVersionBus.Listener {
         void onDataUpdated(boolean success);
+
+        @Override
+        default void onDataVersionChanged(long version) {
+            onDataUpdated(true);
+        }
     }
 
     public CsvUpdateManager(Context context) {
         this.context = context;
-        this.client = new OkHttpClient.Builder()
+        // 앱 공유 클라이언트에서 파생 (커넥션 풀/디스패처 공유, CSV 요청은 no-store라 캐시되지 않음)
+        this.client = AppContainer.get(context).httpClient().newBuilder()
                 .connectTimeout(15, java.util.concurrent.TimeUnit.SECONDS)
                 .readTimeout(30, java.util.concurrent.TimeUnit.SECONDS)
                 .build();
     }
 
     /**
-     * 데이터 업데이트 리스너 등록
+     * 데이터 업데이트 리스너 등록 (연속된 변경은 한 번으로 합쳐 IO 레인에서 통지)
      */
     public void addUpdateListener(DataUpdateListener listener) {
-        if (!updateListeners.contains(listener)) {
-            updateListeners.add(listener);
-            Log.d(TAG, "Added update listener. Total listeners: " + updateListeners.size());
-        }
+        DataVersionBus.get().subscribe(listener,
+                AppExecutors.get().executor(AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "dataVersion.notify"));
     }
 
     /**
      * 데이터 업데이트 리스너 제거
      */
     public void removeUpdateListener(DataUpdateListener listener) {
-        updateListeners.remove(listener);
-        Log.d(TAG, "Removed update listener. Total listeners: " + updateListeners.size());
+        DataVersionBus.get().unsubscribe(listener);
     }
 
     /**
-     * 등록된 모든 리스너에게 업데이트 이벤트 통지
+     * 업데이트 결과 통지 - 성공이면 데이터 버전 발행 (리스너 통지는 DataVersionBus가 합쳐서 수행)
+     * 실패는 데이터가 그대로이므로 로그만 남깁니다.
      */
     public void notifyUpdateListeners(boolean success) {
-        Log.i(TAG, "========== 데이터 업데이트 이벤트 통지 시작 ==========");
-        Log.i(TAG, "등록된 리스너 수: " + updateListeners.size());
-        Log.i(TAG, "업데이트 성공 여부: " + success);
+        if (success) {
+            DataVersionBus.get().publish("csvUpdate");
+        } else {
+            Log.w(TAG, "데이터 업데이트 실패 - 데이터 버전 유지");
+        }
+    }
 
-        int notifiedCount = 0;
-        int errorCount = 0;
+    /**
+     * GitHub CSV 다운로드 없이 공식 API로 새 회차만 CSV/Room에 반영 (토요일 발표 확인 직후용)
+     * @return 새 회차가 추가되었는지 여부
+     */
+    public boolean appendNewDrawsFromOfficialAPI() {
+        return addMissingDrawsFromOfficialAPI();
+    }
 
-        for (DataUpdateListener listener : updateListeners) {
-            try {
-                Log.d(TAG, "리스너 #" + (notifiedCount + 1) + " 통지 중: " + listener.getClass().getSimpleName());
-                listener.onDataUpdated(success);
-                notifiedCount++;
-                Log.d(TAG, "리스너 #" + notifiedCount + " 통지 완료");
-            } catch (Exception e) {
-                errorCount++;
-                Log.e(TAG, "리스너 통지 중 오류 #" + errorCount + ": " + e.getMessage(), e);
-            }
+    /**
+     * CSV 최신 회차 (CSV가 없으면 내장 CSV 기준)
+     * @return 최신 회차 번호, 오류 시 0
+     */
+    public int getCsvLatestRound() {
+        return getLastDrawNumberFromCsv();
+    }
+
+    /**
+     * Room에는 저장됐지만 CSV에는 없는 회차를 네트워크 없이 CSV 앞에 추가
+     * (발표 확인/회차 조회 경로가 Room에 먼저 저장한 회차를 CSV에 맞춤)
+     *
+     * CSV 최신 회차 다음부터 빠짐없이 이어지는 회차만 추가하며, 중간에 빠진 회차가 있으면 거기서 멈춥니다.
+     * @param toDrawNo Room 최신 회차
+     * @return 추가한 회차 수, CSV 쓰기에 실패하면 -1
+     */
+    public int appendDrawsFromRoom(int toDrawNo) {
+        int lastDrawNo = getLastDrawNumberFromCsv();
+        if (lastDrawNo <= 0 || toDrawNo <= lastDrawNo) {
+            return 0;
         }
 
-        Log.i(TAG, "통지 완료 - 성공: " + notifiedCount + ", 실패: " + errorCount);
-        Log.i(TAG, "========== 데이터 업데이트 이벤트 통지 완료 ==========");
+        // 구간 조회는 최신순이므로 뒤집어서 CSV 다음 회차부터 연속 여부 확인
+        List<LottoDrawHistoryEntity> stored = AppContainer.get(context).lottoRepository()
+                .getDrawHistoryRange(lastDrawNo + 1, toDrawNo);
+        List<LottoDrawData> draws = new ArrayList<>(stored.size());
+        for (int i = stored.size() - 1; i >= 0; i--) {
+            LottoDrawHistoryEntity entity = stored.get(i);
+            if (entity.drawNumber != lastDrawNo + 1 + draws.size()) break;
+            draws.add(new LottoDrawData(Integer.parseInt(entity.drawDate.substring(0, 4)),
+                    entity.drawNumber, entity.drawDate,
+                    entity.number1, entity.number2, entity.number3,
+                    entity.number4, entity.number5, entity.number6, entity.bonusNumber));
+        }
+
+        if (draws.isEmpty()) {
+            Log.w(TAG, String.format("Room에 CSV 다음 회차(%d회차)가 없음 - CSV 유지", lastDrawNo + 1));
+            return 0;
+        }
+        if (!prependDrawsToCsv(draws)) {
+            return -1;
+        }
+
+        Log.i(TAG, String.format("Room 회차 %d개 CSV 반영 (%d~%d회차)",
+                draws.size(), draws.get(0).drawNo, draws.get(draws.size() - 1).drawNo));
+        return draws.size();
     }
 
     /**
      * 공식 API에서 누락된 회차 데이터를 가져와서 CSV에 추가
+     *
+     * CSV 최신 회차 다음부터 날짜 기준 예상 회차까지를 한 번에 동시 조회하고,
+     * 검증된 연속 회차만 CSV 1회 쓰기와 Room 1회 저장(단일 트랜잭션)으로 반영합니다.
      * @return 누락된 데이터가 추가되었는지 여부
      */
     private boolean addMissingDrawsFromOfficialAPI() {
@@ -110,56 +162,38 @@ public class CsvUpdateManager {
                 return false;
             }
 
-            Log.i(TAG, "현재 CSV 최신 회차: " + lastDrawNo);
-
-            // 공식 API 서비스 초기화
-            OfficialLottoApiService apiService = new OfficialLottoApiService();
-
-            // 자동으로 현재 발표된 최신 회차까지 확인
-            int latestAvailableDraw = LottoDrawCalculator.getLatestAvailableDrawNumber();
+            // 날짜로 계산한 예상 회차까지가 조회 구간 (아직 발표 전인 회차는 조회 결과에서 잘림)
+            int expectedDraw = LottoDrawCalculator.getCurrentExpectedDrawNumber();
+            int toDrawNo = Math.min(expectedDraw, lastDrawNo + MAX_BACKFILL_DRAWS);
 
-            Log.i(TAG, String.format("자동 회차 확인 - CSV 최신: %d회차, 발표된 최신: %d회차",
-                lastDrawNo, latestAvailableDraw));
+            Log.i(TAG, String.format("누락 회차 확인 - CSV 최신: %d회차, 예상 최신: %d회차", lastDrawNo, expectedDraw));
 
-            boolean anyAdded = false;
-
-            // 누락된 모든 회차를 자동으로 처리
-            for (int drawNo = lastDrawNo + 1; drawNo <= latestAvailableDraw; drawNo++) {
-                Log.i(TAG, drawNo + "회차가 누락됨, API에서 자동 가져오기 시도...");
+            if (toDrawNo <= lastDrawNo) {
+                Log.d(TAG, "공식 API에서 추가 누락된 회차 없음");
+                return false;
+            }
 
-                // 1. 먼저 공식 API에서 시도
-                LottoDrawData drawData = apiService.getDrawData(drawNo);
+            // CSV 다운로드와 같은 커넥션 풀 사용
+            OfficialLottoApiService apiService = new OfficialLottoApiService(client);
+            List<LottoDrawData> missingDraws = apiService.getDrawRange(
+                    lastDrawNo + 1, toDrawNo, OfficialLottoApiService.DEFAULT_MAX_IN_FLIGHT);
 
-                // 2. 공식 API 실패 시 수동 데이터 시도
-                if (drawData == null) {
-                    Log.w(TAG, drawNo + "회차 공식 API 실패, 수동 데이터 시도...");
-                    drawData = apiService.getManualDrawData(drawNo);
-                }
-
-                // 3. 데이터 획득 성공 시 CSV에 추가
-                if (drawData != null) {
-                    boolean added = appendDrawToCsv(drawData);
-                    if (added) {
-                        Log.i(TAG, "✅ " + drawNo + "회차 데이터 추가 성공!");
-                        anyAdded = true;
-                    } else {
-                        Log.e(TAG, "❌ " + drawNo + "회차 CSV 추가 실패");
-                        break; // 추가 실패하면 중단
-                    }
-                } else {
-                    Log.d(TAG, drawNo + "회차 데이터를 가져올 수 없음 (아직 발표되지 않았거나 API 오류)");
-                    break; // 데이터가 없으면 중단
-                }
+            if (missingDraws.isEmpty()) {
+                Log.d(TAG, "공식 API에서 추가 누락된 회차를 찾지 못함");
+                return false;
             }
 
-            if (anyAdded) {
-                Log.i(TAG, "🎉 누락된 회차들이 자동으로 추가되었습니다!");
-            } else {
-                Log.d(TAG, "공식 API에서 추가 누락된 회차를 찾지 못함");
+            if (!prependDrawsToCsv(missingDraws)) {
+                Log.e(TAG, "❌ 누락 회차 CSV 추가 실패");
+                return false;
             }
 
-            apiService.shutdown();
-            return false;
+            saveDrawsToDatabase(missingDraws);
+
+            Log.i(TAG, String.format("🎉 누락된 회차 %d개 자동 추가 완료 (%d~%d회차)",
+                    missingDraws.size(), missingDraws.get(0).drawNo,
+                    missingDraws.get(missingDraws.size() - 1).drawNo));
+            return true;
 
         } catch (Exception e) {
             Log.e(TAG, "공식 API에서 누락된 회차 추가 중 오류", e);
@@ -201,12 +235,14 @@ public class CsvUpdateManager {
     }
 
     /**
-     * 새로운 회차 데이터를 CSV 파일 맨 위에 추가
-     * @param drawData 추가할 회차 데이터
+     * 새로운 회차 데이터들을 CSV 파일 맨 위에 한 번에 추가
+     * 임시 파일에 쓴 뒤 교체하므로 중간에 실패해도 기존 CSV는 그대로 남습니다.
+     * @param draws 추가할 회차 데이터 (회차 오름차순)
      * @return 추가 성공 여부
      */
-    private boolean appendDrawToCsv(LottoDrawData drawData) {
+    private boolean prependDrawsToCsv(List<LottoDrawData> draws) {
         File csvFile = getCsvFile();
+        File tempFile = new File(csvFile.getParentFile(), CSV_FILE_NAME + ".tmp");
 
         try {
             // 기존 CSV 내용 읽기
@@ -218,21 +254,21 @@ public class CsvUpdateManager {
                 }
             }
 
-            // 새로운 데이터 라인 생성
-            String newDataLine = String.format("%d,%d,%s,%d,%d,%d,%d,%d,%d,%d",
-                    drawData.year, drawData.drawNo, drawData.date,
-                    drawData.n1, drawData.n2, drawData.n3, drawData.n4, drawData.n5, drawData.n6,
-                    drawData.bonus);
-
-            // 새로운 내용으로 파일 다시 쓰기 (헤더 다음에 새 데이터 삽입)
-            try (FileWriter writer = new FileWriter(csvFile)) {
+            // 새로운 내용으로 임시 파일 쓰기 (헤더 다음에 최신 회차부터 삽입)
+            try (FileWriter writer = new FileWriter(tempFile)) {
                 // 헤더 쓰기
                 if (!existingLines.isEmpty()) {
                     writer.write(existingLines.get(0) + "\n");
                 }
 
-                // 새로운 데이터 쓰기
-                writer.write(newDataLine + "\n");
+                // 새로운 데이터 쓰기 (CSV는 최신 회차가 위)
+                for (int i = draws.size() - 1; i >= 0; i--) {
+                    LottoDrawData drawData = draws.get(i);
+                    writer.write(String.format("%d,%d,%s,%d,%d,%d,%d,%d,%d,%d",
+                            drawData.year, drawData.drawNo, drawData.date,
+                            drawData.n1, drawData.n2, drawData.n3, drawData.n4, drawData.n5, drawData.n6,
+                            drawData.bonus) + "\n");
+                }
 
                 // 기존 데이터 쓰기 (헤더 제외)
                 for (int i = 1; i < existingLines.size(); i++) {
@@ -240,15 +276,40 @@ public class CsvUpdateManager {
                 }
             }
 
-            Log.d(TAG, "CSV에 새 회차 데이터 추가: " + newDataLine);
+            if (!tempFile.renameTo(csvFile)) {
+                java.nio.file.Files.move(tempFile.toPath(), csvFile.toPath(),
+                        java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            Log.d(TAG, "CSV에 새 회차 데이터 " + draws.size() + "개 추가");
             return true;
 
         } catch (Exception e) {
             Log.e(TAG, "CSV에 데이터 추가 중 오류", e);
+            tempFile.delete();
             return false;
         }
     }
 
+    /**
+     * 추가된 회차를 Room에 한 번에 저장 (단일 insertAll 트랜잭션)
+     * 실패해도 CSV 반영은 유지되며, 다음 데이터 로드 때 다시 채워집니다.
+     */
+    private void saveDrawsToDatabase(List<LottoDrawData> draws) {
+        try {
+            List<LottoDrawHistoryEntity> entities = new ArrayList<>(draws.size());
+            for (LottoDrawData drawData : draws) {
+                entities.add(new LottoDrawHistoryEntity(drawData.drawNo, drawData.date,
+                        drawData.n1, drawData.n2, drawData.n3, drawData.n4, drawData.n5, drawData.n6,
+                        drawData.bonus));
+            }
+            AppContainer.get(context).lottoRepository().saveLottoDrawHistories(entities);
+            Log.d(TAG, "Room에 새 회차 데이터 " + entities.size() + "개 저장");
+        } catch (Exception e) {
+            Log.e(TAG, "Room에 새 회차 저장 중 오류", e);
+        }
+    }
+
     // ==================== 3개월 자동 업데이트 기능 ====================
 
     /**
@@ -282,7 +343,7 @@ public class CsvUpdateManager {
         Log.d(TAG, "Starting auto-update (weekly interval)");
 
         // 백그라운드 스레드에서 업데이트 실행
-        new Thread(() -> {
+        AppExecutors.get().execute(AppExecutors.Lane.IO, AppExecutors.Priority.BACKGROUND, "csvUpdate.auto", () -> {
             try {
                 boolean success = updateCsvFile();
 
@@ -300,7 +361,7 @@ public class CsvUpdateManager {
             } catch (Exception e) {
                 Log.e(TAG, "Error during auto-update", e);
             }
-        }).start();
+        });
     }
 
     /**
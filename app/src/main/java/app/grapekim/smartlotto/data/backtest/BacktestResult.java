@@ -0,0 +1,74 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import java.util.Locale;
+
+/**
+ * 전략 조합 하나에 대한 백테스트 결과 (등수별 당첨 횟수)
+ */
+public final class BacktestResult {
+
+    private final String label;
+    private final int roundCount;
+    private final long ticketCount;
+    private final long matchedBalls;
+    private final int[] rankCounts;      // [0]=낙첨, [1]~[5]=등수
+    private final int[] matchHistogram;  // [0]~[6]=일치 개수별 게임 수
+
+    BacktestResult(String label, int roundCount, long ticketCount, long matchedBalls,
+                   int[] rankCounts, int[] matchHistogram) {
+        this.label = label;
+        this.roundCount = roundCount;
+        this.ticketCount = ticketCount;
+        this.matchedBalls = matchedBalls;
+        this.rankCounts = rankCounts;
+        this.matchHistogram = matchHistogram;
+    }
+
+    public String getLabel() { return label; }
+    public int getRoundCount() { return roundCount; }
+    public long getTicketCount() { return ticketCount; }
+
+    /**
+     * 등수별 당첨 횟수
+     * @param rank 1~5 등수, 0=낙첨
+     */
+    public int getRankCount(int rank) {
+        return (rank >= 0 && rank < rankCounts.length) ? rankCounts[rank] : 0;
+    }
+
+    /** 등수별 당첨 횟수 배열 (복사본, [0]=낙첨) */
+    public int[] getRankCounts() {
+        return rankCounts.clone();
+    }
+
+    /** 일치 개수별 게임 수 (복사본, [0]~[6]) */
+    public int[] getMatchHistogram() {
+        return matchHistogram.clone();
+    }
+
+    /** 게임당 평균 일치 개수 */
+    public double getMeanMatched() {
+        return ticketCount == 0 ? 0.0 : (double) matchedBalls / ticketCount;
+    }
+
+    /**
+     * 특정 등수 이상 당첨 비율
+     * @param rank 1~5 (예: 5 → 5등 이상 전체)
+     */
+    public double getHitRateAtOrAbove(int rank) {
+        if (ticketCount == 0) return 0.0;
+        int hits = 0;
+        for (int r = 1; r <= Math.min(rank, 5); r++) {
+            hits += rankCounts[r];
+        }
+        return (double) hits / ticketCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.KOREA,
+                "BacktestResult{%s, 회차=%d, 게임=%d, 평균일치=%.3f, 1등=%d, 2등=%d, 3등=%d, 4등=%d, 5등=%d, 낙첨=%d}",
+                label, roundCount, ticketCount, getMeanMatched(),
+                rankCounts[1], rankCounts[2], rankCounts[3], rankCounts[4], rankCounts[5], rankCounts[0]);
+    }
+}
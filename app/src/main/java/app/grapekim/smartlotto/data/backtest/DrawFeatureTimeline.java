@@ -0,0 +1,228 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+/**
+ * 회차별 "직전까지의" 번호 통계 스냅샷 타임라인
+ *
+ * 회차 k의 스냅샷은 k보다 앞선 회차들만으로 계산됩니다 (미래 데이터 누수 없음).
+ * 전체 이력을 한 번만 순회하며 출현 횟수/마지막 출현/최근 10회 창/번호 쌍 카운트를
+ * 증분 갱신하므로, 약 1,200회차 전체 스냅샷 생성 비용은 O(N)입니다.
+ *
+ * 통계 공식은 LottoRepositoryImpl의 number_statistics / number_pairs 계산과 동일합니다.
+ * 생성 후에는 읽기 전용이므로 여러 스레드(전략 조합)에서 공유할 수 있습니다.
+ */
+public final class DrawFeatureTimeline {
+
+    /** 번호 인덱스 슬롯 수 (1~45 사용, 0번 미사용) */
+    static final int SLOTS = LottoTicketCodec.MAX_NUMBER + 1;
+
+    /** 트렌드 점수 계산 창 크기 (최근 N회) */
+    static final int TREND_WINDOW = 10;
+
+    /** 페어분석 전략에서 사용하는 상위 쌍 개수 (numberPairsDao.getTopPairs(20)과 동일) */
+    static final int TOP_PAIR_COUNT = 20;
+
+    final int roundCount;
+    final int[] drawNumbers;
+    final long[] winningMasks;
+    final int[] bonusNumbers;
+
+    // ==================== 회차별 스냅샷 ([round * SLOTS + number]) ====================
+    final int[] appearanceCounts;
+    final double[] popularityScores;
+    final double[] neglectScores;
+    final double[] trendScores;
+
+    // ==================== 회차별 상위 번호 쌍 ([round * TOP_PAIR_COUNT + i]) ====================
+    final int[] topPairFirst;
+    final int[] topPairSecond;
+    final double[] topPairScores;
+    final int[] topPairSizes;
+
+    private DrawFeatureTimeline(int roundCount) {
+        this.roundCount = roundCount;
+        this.drawNumbers = new int[roundCount];
+        this.winningMasks = new long[roundCount];
+        this.bonusNumbers = new int[roundCount];
+        this.appearanceCounts = new int[roundCount * SLOTS];
+        this.popularityScores = new double[roundCount * SLOTS];
+        this.neglectScores = new double[roundCount * SLOTS];
+        this.trendScores = new double[roundCount * SLOTS];
+        this.topPairFirst = new int[roundCount * TOP_PAIR_COUNT];
+        this.topPairSecond = new int[roundCount * TOP_PAIR_COUNT];
+        this.topPairScores = new double[roundCount * TOP_PAIR_COUNT];
+        this.topPairSizes = new int[roundCount];
+    }
+
+    /**
+     * 당첨번호 이력으로부터 타임라인 생성
+     * @param draws 당첨번호 이력 (정렬 순서 무관, 번호가 유효하지 않은 회차는 제외)
+     */
+    public static DrawFeatureTimeline build(List<LottoDrawHistoryEntity> draws) {
+        List<LottoDrawHistoryEntity> sorted = new ArrayList<>();
+        if (draws != null) {
+            for (LottoDrawHistoryEntity draw : draws) {
+                if (draw != null && Long.bitCount(draw.getWinningMask()) == LottoTicketCodec.PICK_COUNT) {
+                    sorted.add(draw);
+                }
+            }
+        }
+        Collections.sort(sorted, (a, b) -> Integer.compare(a.drawNumber, b.drawNumber));
+
+        DrawFeatureTimeline timeline = new DrawFeatureTimeline(sorted.size());
+        for (int k = 0; k < sorted.size(); k++) {
+            LottoDrawHistoryEntity draw = sorted.get(k);
+            timeline.drawNumbers[k] = draw.drawNumber;
+            timeline.winningMasks[k] = draw.getWinningMask();
+            timeline.bonusNumbers[k] = draw.bonusNumber;
+        }
+        timeline.computeSnapshots();
+        return timeline;
+    }
+
+    /**
+     * 한 번의 순회로 모든 회차의 스냅샷을 계산
+     */
+    private void computeSnapshots() {
+        int[] counts = new int[SLOTS];
+        int[] lastDraw = new int[SLOTS];
+        int[] windowCounts = new int[SLOTS];
+        int[] pairCounts = new int[SLOTS * SLOTS];
+        long[] window = new long[TREND_WINDOW];
+        int[] bestCounts = new int[TOP_PAIR_COUNT];
+
+        for (int k = 0; k < roundCount; k++) {
+            // 1) 회차 k 이전 상태로 스냅샷 기록
+            int total = k;
+            int latestDrawNumber = (k > 0) ? drawNumbers[k - 1] : 0;
+            int base = k * SLOTS;
+            for (int n = 1; n < SLOTS; n++) {
+                appearanceCounts[base + n] = counts[n];
+                popularityScores[base + n] = (total == 0) ? 0.0 : (double) counts[n] / total * 100.0;
+                neglectScores[base + n] = Math.max(0, (latestDrawNumber - lastDraw[n]) * 2.0);
+                trendScores[base + n] = (total < TREND_WINDOW)
+                        ? 50.0
+                        : (double) windowCounts[n] / TREND_WINDOW * 100.0;
+            }
+            recordTopPairs(k, pairCounts, total, bestCounts);
+
+            // 2) 회차 k 반영 (증분 갱신)
+            long mask = winningMasks[k];
+            for (long rest = mask; rest != 0L; rest &= rest - 1) {
+                int a = Long.numberOfTrailingZeros(rest);
+                counts[a]++;
+                lastDraw[a] = drawNumbers[k];
+                for (long others = rest & (rest - 1); others != 0L; others &= others - 1) {
+                    pairCounts[a * SLOTS + Long.numberOfTrailingZeros(others)]++;
+                }
+            }
+
+            int slot = k % TREND_WINDOW;
+            if (k >= TREND_WINDOW) {
+                for (long rest = window[slot]; rest != 0L; rest &= rest - 1) {
+                    windowCounts[Long.numberOfTrailingZeros(rest)]--;
+                }
+            }
+            window[slot] = mask;
+            for (long rest = mask; rest != 0L; rest &= rest - 1) {
+                windowCounts[Long.numberOfTrailingZeros(rest)]++;
+            }
+        }
+    }
+
+    /**
+     * 현재 쌍 카운트 기준 상위 TOP_PAIR_COUNT개 쌍 기록 (동점이면 낮은 번호 쌍 우선)
+     */
+    private void recordTopPairs(int round, int[] pairCounts, int total, int[] bestCounts) {
+        int base = round * TOP_PAIR_COUNT;
+        int size = 0;
+
+        for (int a = 1; a < SLOTS; a++) {
+            for (int b = a + 1; b < SLOTS; b++) {
+                int count = pairCounts[a * SLOTS + b];
+                if (count == 0 || (size == TOP_PAIR_COUNT && count <= bestCounts[size - 1])) {
+                    continue;
+                }
+                int pos = (size < TOP_PAIR_COUNT) ? size++ : TOP_PAIR_COUNT - 1;
+                while (pos > 0 && bestCounts[pos - 1] < count) {
+                    bestCounts[pos] = bestCounts[pos - 1];
+                    topPairFirst[base + pos] = topPairFirst[base + pos - 1];
+                    topPairSecond[base + pos] = topPairSecond[base + pos - 1];
+                    pos--;
+                }
+                bestCounts[pos] = count;
+                topPairFirst[base + pos] = a;
+                topPairSecond[base + pos] = b;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            topPairScores[base + i] = (double) bestCounts[i] / total * 100.0;
+        }
+        topPairSizes[round] = size;
+    }
+
+    // ==================== 조회 ====================
+
+    /** 전체 회차 수 */
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    /** 인덱스 k의 회차 번호 */
+    public int getDrawNumber(int round) {
+        return drawNumbers[round];
+    }
+
+    /** 인덱스 k의 당첨번호 마스크 (보너스 제외) */
+    public long getWinningMask(int round) {
+        return winningMasks[round];
+    }
+
+    /** 인덱스 k의 보너스 번호 */
+    public int getBonusNumber(int round) {
+        return bonusNumbers[round];
+    }
+
+    /**
+     * 회차 번호로 인덱스 조회
+     * @return 인덱스, 없으면 -1
+     */
+    public int indexOf(int drawNumber) {
+        int lo = 0;
+        int hi = roundCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (drawNumbers[mid] < drawNumber) lo = mid + 1;
+            else if (drawNumbers[mid] > drawNumber) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /** 회차 k 직전까지의 번호 출현 횟수 */
+    public int getAppearanceCount(int round, int number) {
+        return appearanceCounts[round * SLOTS + number];
+    }
+
+    /** 회차 k 직전까지의 인기도 점수 */
+    public double getPopularityScore(int round, int number) {
+        return popularityScores[round * SLOTS + number];
+    }
+
+    /** 회차 k 직전까지의 소외도 점수 */
+    public double getNeglectScore(int round, int number) {
+        return neglectScores[round * SLOTS + number];
+    }
+
+    /** 회차 k 직전까지의 트렌드 점수 */
+    public double getTrendScore(int round, int number) {
+        return trendScores[round * SLOTS + number];
+    }
+}
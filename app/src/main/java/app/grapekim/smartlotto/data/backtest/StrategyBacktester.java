@@ -0,0 +1,105 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+/**
+ * 전략 조합 워크포워드(walk-forward) 백테스터
+ *
+ * 회차 k마다 k 이전 회차만으로 만든 통계 스냅샷으로 게임을 생성하고,
+ * 실제 k회차 당첨번호와 비트마스크 popcount로 채점합니다.
+ * 스냅샷은 DrawFeatureTimeline이 한 번만 계산하여 모든 전략 조합이 공유하며,
+ * 전략 조합들은 호출자가 넘긴 실행기(AppExecutors CPU 레인)에서 병렬로 실행됩니다.
+ */
+public final class StrategyBacktester {
+
+    /** 통계가 안정되기 전 건너뛸 기본 회차 수 (트렌드 창 크기) */
+    public static final int DEFAULT_WARMUP_ROUNDS = DrawFeatureTimeline.TREND_WINDOW;
+
+    private final DrawFeatureTimeline timeline;
+
+    public StrategyBacktester(DrawFeatureTimeline timeline) {
+        if (timeline == null) {
+            throw new IllegalArgumentException("타임라인이 필요합니다.");
+        }
+        this.timeline = timeline;
+    }
+
+    public DrawFeatureTimeline getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * 전략 조합 하나를 현재 스레드에서 백테스트
+     * @param mix 전략 조합
+     * @param warmupRounds 채점하지 않고 건너뛸 앞쪽 회차 수
+     */
+    public BacktestResult run(StrategyMix mix, int warmupRounds) {
+        return evaluate(mix.getLabel(), StrategyScorer.compile(mix.getStrategies()), mix.weightsView(),
+                mix.getTicketsPerRound(), mix.getSeed(), warmupRounds, new StrategyScorer(timeline));
+    }
+
+    /**
+     * 여러 전략 조합을 주어진 실행기에서 병렬로 백테스트
+     * @param executor 병렬 실행기 (AppExecutors CPU 레인 권장, 종료는 호출자가 담당)
+     * @return 입력 순서와 동일한 순서의 결과
+     */
+    public List<BacktestResult> runAll(List<StrategyMix> mixes, int warmupRounds,
+                                       ExecutorService executor) throws InterruptedException {
+        List<Callable<BacktestResult>> tasks = new ArrayList<>(mixes.size());
+        for (StrategyMix mix : mixes) {
+            tasks.add(() -> run(mix, warmupRounds));
+        }
+        return collect(executor.invokeAll(tasks));
+    }
+
+    /**
+     * 채점 루프 (스코어러 재사용, 게임당 할당 없음)
+     */
+    BacktestResult evaluate(String label, int[] codes, double[] weights, int ticketsPerRound,
+                            long seed, int warmupRounds, StrategyScorer scorer) {
+        Random random = new Random(seed);
+        int[] rankCounts = new int[6];
+        int[] matchHistogram = new int[7];
+        long matchedBalls = 0L;
+        long tickets = 0L;
+
+        int first = Math.max(1, warmupRounds);
+        for (int k = first; k < timeline.roundCount; k++) {
+            long winning = timeline.winningMasks[k];
+            int bonus = timeline.bonusNumbers[k];
+            for (int t = 0; t < ticketsPerRound; t++) {
+                long ticket = scorer.generate(k, codes, weights, random);
+                int matched = Long.bitCount(ticket & winning);
+                matchHistogram[matched]++;
+                matchedBalls += matched;
+                rankCounts[LottoTicketCodec.prizeRank(ticket, winning, bonus)]++;
+                tickets++;
+            }
+        }
+
+        int rounds = Math.max(0, timeline.roundCount - first);
+        return new BacktestResult(label, rounds, tickets, matchedBalls, rankCounts, matchHistogram);
+    }
+
+    static <T> List<T> collect(List<Future<T>> futures) throws InterruptedException {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                throw new IllegalStateException("백테스트 실행 실패", cause);
+            }
+        }
+        return results;
+    }
+}
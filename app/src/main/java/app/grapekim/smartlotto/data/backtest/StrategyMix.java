@@ -0,0 +1,61 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 백테스트할 전략 조합 (전략 목록 + 가중치 + 회차당 게임 수 + 시드)
+ */
+public final class StrategyMix {
+
+    private final String label;
+    private final List<String> strategies;
+    private final double[] weights;
+    private final int ticketsPerRound;
+    private final long seed;
+
+    /**
+     * @param label 결과 표시용 이름
+     * @param strategies 전략 이름 목록 (generateAiNumbers와 동일한 이름)
+     * @param strategyWeights 전략별 가중치 (null이면 균등 가중치)
+     * @param ticketsPerRound 회차당 생성할 게임 수
+     * @param seed 난수 시드 (같은 시드면 같은 결과)
+     */
+    public StrategyMix(String label, List<String> strategies, List<Double> strategyWeights,
+                       int ticketsPerRound, long seed) {
+        if (strategies == null || strategies.isEmpty()) {
+            throw new IllegalArgumentException("최소 하나의 전략을 선택해야 합니다.");
+        }
+        if (strategyWeights != null && strategies.size() != strategyWeights.size()) {
+            throw new IllegalArgumentException("전략과 가중치의 개수가 일치하지 않습니다.");
+        }
+        if (ticketsPerRound <= 0) {
+            throw new IllegalArgumentException("회차당 게임 수는 1 이상이어야 합니다.");
+        }
+
+        this.label = (label != null) ? label : String.join("+", strategies);
+        this.strategies = Collections.unmodifiableList(new ArrayList<>(strategies));
+        this.weights = new double[strategies.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (strategyWeights != null) ? strategyWeights.get(i) : 1.0 / strategies.size();
+        }
+        this.ticketsPerRound = ticketsPerRound;
+        this.seed = seed;
+    }
+
+    public String getLabel() { return label; }
+    public List<String> getStrategies() { return strategies; }
+    public int getTicketsPerRound() { return ticketsPerRound; }
+    public long getSeed() { return seed; }
+
+    /** 전략별 가중치 (복사본) */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /** 내부 가중치 배열 (복사 없이 읽기 전용으로 사용) */
+    double[] weightsView() {
+        return weights;
+    }
+}
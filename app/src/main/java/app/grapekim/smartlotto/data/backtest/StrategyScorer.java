@@ -0,0 +1,430 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 백테스트용 번호 생성기
+ *
+ * LottoRepositoryImpl.applyStrategy / selectFinalNumbers의 점수 공식과 선택 규칙을
+ * 배열 기반으로 옮긴 것으로, DB/HashMap 대신 DrawFeatureTimeline 스냅샷을 읽고
+ * 시각 대신 주입된 Random을 사용하여 결과가 재현 가능합니다.
+ * 인스턴스는 작업 스레드 하나가 재사용하며, 게임 생성 중 객체 할당이 없습니다.
+ */
+final class StrategyScorer {
+
+    // ==================== 전략 코드 ====================
+    static final int POPULAR = 0;            // 인기번호
+    static final int NEGLECTED = 1;          // 소외번호
+    static final int TREND = 2;              // 트렌드
+    static final int PAIR = 3;               // 페어분석
+    static final int ODD_EVEN = 4;           // 홀짝균형
+    static final int ZONE = 5;               // 구간분산
+    static final int LUCKY = 6;              // 행운번호
+    static final int AVOIDANCE = 7;          // 대중기피
+    static final int PURE_STATISTICS = 8;    // 순수통계
+    static final int PURE_HIGH_FREQ = 9;     // 순수고빈도
+    static final int PURE_NEGLECTED = 10;    // 순수소외번호
+    static final int PURE_RECENT = 11;       // 순수최근추세
+    static final int PURE_HIGH_WEIGHT = 12;  // 순수고가중치
+    static final int PURE_BALANCE = 13;      // 순수균형가중치
+    static final int PURE_CYCLIC = 14;       // 순수주기성
+    static final int PURE_CORRELATION = 15;  // 순수상관관계
+    static final int PURE_REGRESSION = 16;   // 순수회귀분석
+    static final int LAST_DIGIT = 17;        // 끝자리다양성 (선택 단계에서만 사용)
+    static final int VISUAL_PATTERN = 18;    // 시각패턴방지
+    static final int AVOID_CONSECUTIVE = 19; // 연속방지 (선택 단계에서만 사용)
+    static final int UNKNOWN = -1;
+
+    /** 시각패턴방지 전략의 패턴 번호 (중복 포함, 원본과 동일) */
+    private static final int[] VISUAL_PATTERN_NUMBERS = {
+            1, 2, 3, 4, 5, 6,
+            7, 14, 21, 28, 35, 42,
+            1, 8, 15, 22, 29, 36
+    };
+
+    private static final int SLOTS = DrawFeatureTimeline.SLOTS;
+
+    private final DrawFeatureTimeline timeline;
+    private final double[] scores = new double[SLOTS];
+    private final int[] order = new int[SLOTS - 1];
+    private final int[] scratchA = new int[SLOTS];
+    private final int[] scratchB = new int[SLOTS];
+    private final int[] zoneBuffer = new int[SLOTS];
+    private final int[] zoneSizes = new int[5];
+
+    StrategyScorer(DrawFeatureTimeline timeline) {
+        this.timeline = timeline;
+    }
+
+    /**
+     * 전략 이름 목록을 코드 배열로 변환
+     */
+    static int[] compile(List<String> strategies) {
+        int[] codes = new int[strategies.size()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = codeOf(strategies.get(i));
+        }
+        return codes;
+    }
+
+    static int codeOf(String strategy) {
+        if (strategy == null) return UNKNOWN;
+        switch (strategy) {
+            case "인기번호": return POPULAR;
+            case "소외번호": return NEGLECTED;
+            case "트렌드": return TREND;
+            case "페어분석": return PAIR;
+            case "홀짝균형": return ODD_EVEN;
+            case "구간분산": return ZONE;
+            case "행운번호": return LUCKY;
+            case "대중기피": return AVOIDANCE;
+            case "순수통계": return PURE_STATISTICS;
+            case "순수고빈도": return PURE_HIGH_FREQ;
+            case "순수소외번호": return PURE_NEGLECTED;
+            case "순수최근추세": return PURE_RECENT;
+            case "순수고가중치": return PURE_HIGH_WEIGHT;
+            case "순수균형가중치": return PURE_BALANCE;
+            case "순수주기성": return PURE_CYCLIC;
+            case "순수상관관계": return PURE_CORRELATION;
+            case "순수회귀분석": return PURE_REGRESSION;
+            case "끝자리다양성": return LAST_DIGIT;
+            case "시각패턴방지": return VISUAL_PATTERN;
+            case "연속방지": return AVOID_CONSECUTIVE;
+            default: return UNKNOWN;
+        }
+    }
+
+    private static boolean contains(int[] codes, int code) {
+        for (int c : codes) {
+            if (c == code) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 회차 round 직전 통계로 게임 하나 생성
+     * @return 선택된 6개 번호 마스크
+     */
+    long generate(int round, int[] codes, double[] weights, Random random) {
+        for (int n = 0; n < SLOTS; n++) {
+            scores[n] = 0.0;
+        }
+
+        for (int i = 0; i < codes.length; i++) {
+            // 각 전략에 약간의 랜덤 변동 추가 (±5% 변동)
+            double adjustedWeight = weights[i] * (0.95 + random.nextDouble() * 0.1);
+            applyStrategy(codes[i], adjustedWeight, round, random);
+        }
+
+        return selectFinalNumbers(codes, random);
+    }
+
+    // ==================== 전략 점수 ====================
+
+    private void applyStrategy(int code, double weight, int round, Random random) {
+        int base = round * SLOTS;
+        int[] appearance = timeline.appearanceCounts;
+        double[] popularity = timeline.popularityScores;
+        double[] neglect = timeline.neglectScores;
+        double[] trend = timeline.trendScores;
+
+        switch (code) {
+            case POPULAR:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += popularity[base + n] * weight * (0.97 + random.nextDouble() * 0.06);
+                }
+                break;
+
+            case NEGLECTED:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += neglect[base + n] * weight * (0.97 + random.nextDouble() * 0.06);
+                }
+                break;
+
+            case TREND:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += trend[base + n] * weight * (0.97 + random.nextDouble() * 0.06);
+                }
+                break;
+
+            case PAIR: {
+                int pairBase = round * DrawFeatureTimeline.TOP_PAIR_COUNT;
+                for (int i = 0; i < timeline.topPairSizes[round]; i++) {
+                    double pairBonus = timeline.topPairScores[pairBase + i] * weight * 0.1;
+                    scores[timeline.topPairFirst[pairBase + i]] += pairBonus;
+                    scores[timeline.topPairSecond[pairBase + i]] += pairBonus;
+                }
+                break;
+            }
+
+            case ODD_EVEN:
+                addToAll(50.0 * weight);
+                break;
+
+            case ZONE:
+                addToAll(30.0 * weight);
+                break;
+
+            case LUCKY:
+                applyLucky(weight, random);
+                break;
+
+            case AVOIDANCE:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += avoidanceScore(n) * weight;
+                }
+                break;
+
+            case PURE_STATISTICS:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += (appearance[base + n] * 0.4
+                            + popularity[base + n] * 0.3
+                            + trend[base + n] * 0.2
+                            + (neglect[base + n] + avoidanceScore(n) / 10.0) * 0.1) * weight;
+                }
+                break;
+
+            case PURE_HIGH_FREQ:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += appearance[base + n] * weight;
+                }
+                break;
+
+            case PURE_NEGLECTED:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += neglect[base + n] * weight;
+                }
+                break;
+
+            case PURE_RECENT:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += trend[base + n] * weight;
+                }
+                break;
+
+            case PURE_HIGH_WEIGHT:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += (appearance[base + n] * 0.7 + popularity[base + n] * 0.3) * weight * 2.0;
+                }
+                break;
+
+            case PURE_BALANCE:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += (appearance[base + n] * 0.25
+                            + popularity[base + n] * 0.25
+                            + trend[base + n] * 0.25
+                            + neglect[base + n] * 0.25) * weight;
+                }
+                break;
+
+            case PURE_CYCLIC:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += Math.abs(appearance[base + n] - neglect[base + n]) * weight;
+                }
+                break;
+
+            case PURE_CORRELATION:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += (popularity[base + n] * trend[base + n]) / 100.0 * weight;
+                }
+                break;
+
+            case PURE_REGRESSION:
+                for (int n = 1; n < SLOTS; n++) {
+                    scores[n] += (appearance[base + n] * 0.6 + (100 - neglect[base + n]) * 0.4) * weight;
+                }
+                break;
+
+            case VISUAL_PATTERN:
+                for (int n : VISUAL_PATTERN_NUMBERS) {
+                    scores[n] -= 20.0 * weight;
+                }
+                break;
+
+            default:
+                // 끝자리다양성/연속방지는 선택 단계에서만 적용, 알 수 없는 전략은 무시
+                break;
+        }
+    }
+
+    private void addToAll(double bonus) {
+        for (int n = 1; n < SLOTS; n++) {
+            scores[n] += bonus;
+        }
+    }
+
+    private void applyLucky(double weight, Random random) {
+        long lucky = 0L;
+        int luckyCount = 12 + random.nextInt(4); // 12~15개
+        for (int i = 0; i < luckyCount; i++) {
+            lucky |= 1L << (random.nextInt(45) + 1);
+        }
+        if (random.nextDouble() < 0.7) lucky |= 1L << 7;
+        if (random.nextDouble() < 0.6) lucky |= 1L << 3;
+        if (random.nextDouble() < 0.6) lucky |= 1L << 8;
+        if (random.nextDouble() < 0.5) lucky |= 1L << 1;
+        if (random.nextDouble() < 0.5) lucky |= 1L << 9;
+        if (random.nextDouble() < 0.4) lucky |= 1L << 21;
+
+        double bonusScore = (60.0 + random.nextDouble() * 20.0) * weight;
+        for (long rest = lucky; rest != 0L; rest &= rest - 1) {
+            scores[Long.numberOfTrailingZeros(rest)] += bonusScore * (0.9 + random.nextDouble() * 0.2);
+        }
+    }
+
+    /** 대중 기피도 점수 (LottoRepositoryImpl.calculateAvoidanceScore와 동일) */
+    static double avoidanceScore(int number) {
+        if (number == 4 || number == 13 || number == 14 || number == 24 || number == 34 || number == 44) {
+            return 80.0;
+        }
+        if (number % 10 == 4 || number % 10 == 0) {
+            return 60.0;
+        }
+        if (number == 7 || number == 3 || number == 8 || number == 1 || number == 9) {
+            return 20.0;
+        }
+        return 50.0;
+    }
+
+    // ==================== 최종 번호 선택 ====================
+
+    private long selectFinalNumbers(int[] codes, Random random) {
+        sortByScoreDesc();
+
+        // 순수 통계 모드: 완전히 결정론적으로 상위 6개 선택
+        if (contains(codes, PURE_STATISTICS)) {
+            long selected = 0L;
+            for (int i = 0; i < 6; i++) {
+                selected |= 1L << order[i];
+            }
+            return selected;
+        }
+
+        boolean avoidConsecutive = contains(codes, AVOID_CONSECUTIVE);
+        boolean diversifyLastDigits = contains(codes, LAST_DIGIT);
+
+        // 상위 12~17개 후보를 섞어서 다양성 확보
+        int topCandidates = Math.min(12 + random.nextInt(6), order.length);
+        for (int i = topCandidates - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+
+        long selected = 0L;
+        for (int i = 0; i < topCandidates && Long.bitCount(selected) < 6; i++) {
+            int number = order[i];
+            if (avoidConsecutive && hasConsecutive(selected, number)) continue;
+            if (diversifyLastDigits && hasTooManySameLastDigit(selected, number)) continue;
+            selected |= 1L << number;
+        }
+
+        int attempts = 0;
+        while (Long.bitCount(selected) < 6 && attempts < 100) {
+            int number = random.nextInt(45) + 1;
+            attempts++;
+            if ((selected & (1L << number)) != 0L) continue;
+            if (avoidConsecutive && hasConsecutive(selected, number)) continue;
+            if (diversifyLastDigits && hasTooManySameLastDigit(selected, number)) continue;
+            selected |= 1L << number;
+        }
+
+        while (Long.bitCount(selected) < 6) {
+            selected |= 1L << (random.nextInt(45) + 1);
+        }
+
+        if (contains(codes, ODD_EVEN)) {
+            selected = adjustOddEvenBalance(selected, random);
+        }
+        if (contains(codes, ZONE)) {
+            selected = adjustZoneDistribution(selected, random);
+        }
+        return selected;
+    }
+
+    /** 점수 내림차순 정렬 (동점이면 낮은 번호 우선, 삽입 정렬) */
+    private void sortByScoreDesc() {
+        for (int i = 0; i < order.length; i++) {
+            int number = i + 1;
+            double score = scores[number];
+            int pos = i;
+            while (pos > 0 && scores[order[pos - 1]] < score) {
+                order[pos] = order[pos - 1];
+                pos--;
+            }
+            order[pos] = number;
+        }
+    }
+
+    private static boolean hasConsecutive(long selected, int number) {
+        return (selected & ((1L << (number - 1)) | (1L << (number + 1)))) != 0L;
+    }
+
+    private boolean hasTooManySameLastDigit(long selected, int number) {
+        int digit = number % 10;
+        int count = 0;
+        for (long rest = selected; rest != 0L; rest &= rest - 1) {
+            if (Long.numberOfTrailingZeros(rest) % 10 == digit) count++;
+        }
+        return count >= 2;
+    }
+
+    private long adjustOddEvenBalance(long selected, Random random) {
+        int oddCount = 0;
+        int evenCount = 0;
+        for (long rest = selected; rest != 0L; rest &= rest - 1) {
+            int n = Long.numberOfTrailingZeros(rest);
+            if (n % 2 == 1) scratchA[oddCount++] = n;
+            else scratchB[evenCount++] = n;
+        }
+        shuffle(scratchA, 0, oddCount, random);
+        shuffle(scratchB, 0, evenCount, random);
+
+        long balanced = 0L;
+        for (int i = 0; i < Math.min(3, oddCount); i++) balanced |= 1L << scratchA[i];
+        for (int i = 0; i < Math.min(3, evenCount); i++) balanced |= 1L << scratchB[i];
+
+        while (Long.bitCount(balanced) < 6) {
+            for (long rest = selected; rest != 0L && Long.bitCount(balanced) < 6; rest &= rest - 1) {
+                balanced |= 1L << Long.numberOfTrailingZeros(rest);
+            }
+            if (Long.bitCount(balanced) < 6) {
+                balanced |= 1L << (random.nextInt(45) + 1);
+            }
+        }
+        return balanced;
+    }
+
+    private long adjustZoneDistribution(long selected, Random random) {
+        for (int z = 0; z < 5; z++) zoneSizes[z] = 0;
+        // 구간별 버퍼: 구간 z는 zoneBuffer[z * 9 ...] 사용 (구간당 최대 9개)
+        for (long rest = selected; rest != 0L; rest &= rest - 1) {
+            int n = Long.numberOfTrailingZeros(rest);
+            int zone = Math.min((n - 1) / 9, 4);
+            zoneBuffer[zone * 9 + zoneSizes[zone]++] = n;
+        }
+
+        long distributed = 0L;
+        for (int z = 0; z < 5; z++) {
+            shuffle(zoneBuffer, z * 9, zoneSizes[z], random);
+            for (int i = 0; i < Math.min(2, zoneSizes[z]) && Long.bitCount(distributed) < 6; i++) {
+                distributed |= 1L << zoneBuffer[z * 9 + i];
+            }
+        }
+        for (long rest = selected; rest != 0L && Long.bitCount(distributed) < 6; rest &= rest - 1) {
+            distributed |= 1L << Long.numberOfTrailingZeros(rest);
+        }
+        return distributed;
+    }
+
+    private static void shuffle(int[] array, int from, int length, Random random) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = array[from + i];
+            array[from + i] = array[from + j];
+            array[from + j] = tmp;
+        }
+    }
+}
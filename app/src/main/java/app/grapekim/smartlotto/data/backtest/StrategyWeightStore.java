@@ -0,0 +1,115 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 전략 집합별 튜닝된 가중치 저장소 (SharedPreferences)
+ *
+ * 키는 전략 이름을 정렬해 만든 정규화 문자열이므로 체크 순서와 무관하게 같은 집합은 같은 가중치를 공유합니다.
+ */
+public final class StrategyWeightStore {
+
+    private static final String TAG = "StrategyWeightStore";
+    private static final String PREF_NAME = "strategy_weights";
+    private static final String SUFFIX_WEIGHTS = ".weights";
+    private static final String SUFFIX_SCORE = ".score";
+    private static final String SUFFIX_ROUND = ".round";
+    private static final String SUFFIX_TUNED_AT = ".tuned_at";
+
+    private final SharedPreferences prefs;
+
+    public StrategyWeightStore(Context context) {
+        this.prefs = context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * 전략 집합의 정규화 키 ("소외번호|인기번호|트렌드")
+     */
+    public static String keyOf(List<String> strategies) {
+        List<String> sorted = new ArrayList<>(strategies);
+        Collections.sort(sorted);
+        return String.join("|", sorted);
+    }
+
+    /**
+     * 튜닝 결과 저장
+     */
+    public void save(StrategyWeightTuner.TuningResult result) {
+        String key = keyOf(result.strategies);
+        List<String> sorted = new ArrayList<>(result.strategies);
+        Collections.sort(sorted);
+
+        StringBuilder sb = new StringBuilder();
+        for (String strategy : sorted) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(String.format(Locale.US, "%.6f", result.weights[result.strategies.indexOf(strategy)]));
+        }
+
+        prefs.edit()
+                .putString(key + SUFFIX_WEIGHTS, sb.toString())
+                .putFloat(key + SUFFIX_SCORE, (float) result.score)
+                .putInt(key + SUFFIX_ROUND, result.lastDrawNumber)
+                .putLong(key + SUFFIX_TUNED_AT, System.currentTimeMillis())
+                .apply();
+
+        Log.i(TAG, "가중치 저장: " + key + " = " + sb);
+    }
+
+    /**
+     * 저장된 가중치 조회 (strategies 순서에 맞춰 반환)
+     * @return 튜닝된 가중치, 없거나 손상되었으면 null
+     */
+    @Nullable
+    public List<Double> getWeights(List<String> strategies) {
+        if (strategies == null || strategies.isEmpty()) return null;
+
+        String stored = prefs.getString(keyOf(strategies) + SUFFIX_WEIGHTS, null);
+        if (stored == null) return null;
+
+        List<String> sorted = new ArrayList<>(strategies);
+        Collections.sort(sorted);
+        String[] parts = stored.split(",");
+        if (parts.length != sorted.size()) return null;
+
+        try {
+            List<Double> weights = new ArrayList<>(strategies.size());
+            for (String strategy : strategies) {
+                weights.add(Double.parseDouble(parts[sorted.indexOf(strategy)]));
+            }
+            return weights;
+        } catch (NumberFormatException e) {
+            Log.w(TAG, "저장된 가중치 파싱 실패: " + stored, e);
+            return null;
+        }
+    }
+
+    /**
+     * 튜닝에 사용된 마지막 회차 (없으면 0)
+     */
+    public int getTunedRound(List<String> strategies) {
+        return prefs.getInt(keyOf(strategies) + SUFFIX_ROUND, 0);
+    }
+
+    /**
+     * 새 회차가 추가되어 재튜닝이 필요한지 확인
+     */
+    public boolean needsTuning(List<String> strategies, int latestDrawNumber) {
+        return getWeights(strategies) == null || getTunedRound(strategies) < latestDrawNumber;
+    }
+
+    /**
+     * 저장된 모든 가중치 삭제
+     */
+    public void clear() {
+        prefs.edit().clear().apply();
+    }
+}
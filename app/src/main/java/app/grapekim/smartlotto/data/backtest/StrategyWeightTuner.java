@@ -0,0 +1,194 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 과거 회차 재현(replay) 기반 전략 가중치 자동 튜너
+ *
+ * 좌표 탐색(coordinate search): 가중치 하나씩 WEIGHT_LEVELS 후보로 바꿔가며
+ * 최근 replayRounds 회차를 워크포워드로 재현하고, 목표 지표가 가장 좋은 값을 채택합니다.
+ * 같은 좌표의 후보들은 병렬로 평가되며, 모든 후보가 하나의 DrawFeatureTimeline 스냅샷과
+ * 같은 시드(공통 난수)를 공유하므로 후보 간 비교가 공정하고 통계 재계산이 없습니다.
+ * 스코어러는 스레드별로 재사용되어 평가 중 객체 할당이 거의 없습니다 (WorkManager 실행용).
+ */
+public final class StrategyWeightTuner {
+
+    /** 최적화 목표 */
+    public enum Objective {
+        /** 게임당 평균 일치 개수 */
+        MEAN_MATCHED,
+        /** 5등 이상 당첨 비율 */
+        PRIZE_HIT_RATE
+    }
+
+    /** 좌표별 가중치 후보 */
+    static final double[] WEIGHT_LEVELS = {0.0, 0.25, 0.5, 1.0, 2.0, 4.0};
+
+    public static final int DEFAULT_REPLAY_ROUNDS = 300;
+    public static final int DEFAULT_TICKETS_PER_ROUND = 5;
+    public static final int DEFAULT_MAX_PASSES = 3;
+
+    /** 튜닝 결과 */
+    public static final class TuningResult {
+        public final List<String> strategies;
+        public final double[] weights;        // 합이 1이 되도록 정규화된 가중치 (strategies 순서)
+        public final double score;            // 최종 가중치의 목표 지표 값
+        public final double baselineScore;    // 균등 가중치의 목표 지표 값
+        public final int evaluations;         // 실제 평가한 후보 수
+        public final int replayRounds;        // 재현한 회차 수
+        public final int lastDrawNumber;      // 튜닝에 사용한 마지막 회차
+
+        TuningResult(List<String> strategies, double[] weights, double score, double baselineScore,
+                     int evaluations, int replayRounds, int lastDrawNumber) {
+            this.strategies = strategies;
+            this.weights = weights;
+            this.score = score;
+            this.baselineScore = baselineScore;
+            this.evaluations = evaluations;
+            this.replayRounds = replayRounds;
+            this.lastDrawNumber = lastDrawNumber;
+        }
+
+        /** 가중치를 List로 반환 (generateAiNumbers 입력 형식) */
+        public List<Double> getWeightList() {
+            List<Double> list = new ArrayList<>(weights.length);
+            for (double w : weights) list.add(w);
+            return list;
+        }
+    }
+
+    private final DrawFeatureTimeline timeline;
+    private final StrategyBacktester backtester;
+    private final ThreadLocal<StrategyScorer> scorers;
+
+    public StrategyWeightTuner(DrawFeatureTimeline timeline) {
+        this.backtester = new StrategyBacktester(timeline);
+        this.timeline = timeline;
+        this.scorers = ThreadLocal.withInitial(() -> new StrategyScorer(timeline));
+    }
+
+    /**
+     * 전략 집합의 가중치 튜닝
+     * @param strategies 전략 이름 목록
+     * @param objective 최적화 목표
+     * @param replayRounds 재현할 최근 회차 수
+     * @param ticketsPerRound 회차당 생성 게임 수
+     * @param maxPasses 좌표 탐색 최대 반복 횟수 (개선이 없으면 조기 종료)
+     * @param seed 난수 시드 (모든 후보 공통)
+     * @param executor 후보 병렬 평가용 실행기
+     */
+    public TuningResult tune(List<String> strategies, Objective objective, int replayRounds,
+                             int ticketsPerRound, int maxPasses, long seed,
+                             ExecutorService executor) throws InterruptedException {
+        if (strategies == null || strategies.isEmpty()) {
+            throw new IllegalArgumentException("최소 하나의 전략을 선택해야 합니다.");
+        }
+
+        int[] codes = StrategyScorer.compile(strategies);
+        int warmup = Math.max(StrategyBacktester.DEFAULT_WARMUP_ROUNDS, timeline.getRoundCount() - replayRounds);
+        int rounds = Math.max(0, timeline.getRoundCount() - warmup);
+        int lastDrawNumber = timeline.getRoundCount() > 0
+                ? timeline.getDrawNumber(timeline.getRoundCount() - 1) : 0;
+
+        double[] current = new double[strategies.size()];
+        Arrays.fill(current, 1.0);
+        Map<String, Double> memo = new HashMap<>();
+
+        double baseline = evaluateAll(Arrays.asList(current), codes, objective, ticketsPerRound,
+                seed, warmup, executor, memo).get(0);
+        double best = baseline;
+
+        // 전략이 하나뿐이면 가중치 스케일은 결과에 영향이 없으므로 탐색 생략
+        for (int pass = 0; pass < maxPasses && strategies.size() > 1; pass++) {
+            boolean improved = false;
+
+            for (int i = 0; i < current.length; i++) {
+                List<double[]> candidates = new ArrayList<>(WEIGHT_LEVELS.length);
+                for (double level : WEIGHT_LEVELS) {
+                    if (level == current[i]) continue;
+                    double[] candidate = current.clone();
+                    candidate[i] = level;
+                    if (!allZero(candidate)) candidates.add(candidate);
+                }
+                if (candidates.isEmpty()) continue;
+
+                List<Double> scores = evaluateAll(candidates, codes, objective, ticketsPerRound,
+                        seed, warmup, executor, memo);
+                for (int c = 0; c < candidates.size(); c++) {
+                    if (scores.get(c) > best) {
+                        best = scores.get(c);
+                        current = candidates.get(c);
+                        improved = true;
+                    }
+                }
+            }
+
+            if (!improved) break;
+        }
+
+        return new TuningResult(strategies, normalize(current), best, baseline,
+                memo.size(), rounds, lastDrawNumber);
+    }
+
+    /**
+     * 후보 가중치들을 병렬 평가 (이미 평가한 후보는 재사용)
+     */
+    private List<Double> evaluateAll(List<double[]> candidates, int[] codes, Objective objective,
+                                     int ticketsPerRound, long seed, int warmup,
+                                     ExecutorService executor, Map<String, Double> memo)
+            throws InterruptedException {
+        List<Callable<Double>> tasks = new ArrayList<>();
+        List<String> pendingKeys = new ArrayList<>();
+        for (double[] weights : candidates) {
+            String key = Arrays.toString(weights);
+            if (memo.containsKey(key) || pendingKeys.contains(key)) continue;
+            pendingKeys.add(key);
+            tasks.add(() -> score(backtester.evaluate(key, codes, weights, ticketsPerRound,
+                    seed, warmup, scorers.get()), objective));
+        }
+
+        List<Double> computed = StrategyBacktester.collect(executor.invokeAll(tasks));
+        for (int i = 0; i < pendingKeys.size(); i++) {
+            memo.put(pendingKeys.get(i), computed.get(i));
+        }
+
+        List<Double> scores = new ArrayList<>(candidates.size());
+        for (double[] weights : candidates) {
+            scores.add(memo.get(Arrays.toString(weights)));
+        }
+        return scores;
+    }
+
+    private static double score(BacktestResult result, Objective objective) {
+        switch (objective) {
+            case PRIZE_HIT_RATE:
+                return result.getHitRateAtOrAbove(5);
+            case MEAN_MATCHED:
+            default:
+                return result.getMeanMatched();
+        }
+    }
+
+    private static boolean allZero(double[] weights) {
+        for (double w : weights) {
+            if (w != 0.0) return false;
+        }
+        return true;
+    }
+
+    private static double[] normalize(double[] weights) {
+        double sum = 0.0;
+        for (double w : weights) sum += w;
+        double[] normalized = new double[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            normalized[i] = (sum > 0) ? weights[i] / sum : 1.0 / weights.length;
+        }
+        return normalized;
+    }
+}
@@ -1,11 +1,19 @@
 package app.grapekim.smartlotto.data.csv;
 
 import android.content.Context;
+import android.os.SystemClock;
 import android.util.Log;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
 import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
 import app.grapekim.smartlotto.data.CsvUpdateManager;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.StartupTimingReport;
+import app.grapekim.smartlotto.util.StartupTimings;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -16,8 +24,8 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * 로또 데이터 로더 (GitHub 자동 업데이트 지원)
@@ -63,7 +71,8 @@ public class LottoDataLoader {
     public LottoDataLoader(Context context, LottoRepository repository) {
         this.context = context.getApplicationContext();
         this.repository = repository;
-        this.executor = Executors.newSingleThreadExecutor();
+        this.executor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.BACKGROUND, "dataLoader");
         this.csvUpdateManager = new CsvUpdateManager(this.context);
     }
 
@@ -202,9 +211,7 @@ public class LottoDataLoader {
         Log.i(TAG, "데이터가 최신 상태입니다. 통계만 재계산합니다.");
 
         try {
-            callback.onProgress(50, "기존 데이터로 AI 통계 계산 중...");
-            repository.recalculateAllAiStatistics();
-            callback.onProgress(100, "AI 통계 계산 완료!");
+            calculateStatistics(callback, 50);
 
             callback.onComplete(true, existingCount,
                     "기존 데이터 " + existingCount + "개로 AI 통계가 업데이트되었습니다.");
@@ -215,16 +222,26 @@ public class LottoDataLoader {
 
     /**
      * AI 통계 계산 (공통 로직)
+     * 번호별 통계와 번호 쌍 분석을 CPU 레인에서 동시에 돌리고 둘 다 끝날 때까지 기다림
+     * @throws ExecutionException 계산 중 하나라도 실패한 경우
      */
-    private void calculateStatistics(LoadingCallback callback, int startProgress) {
-        callback.onProgress(startProgress, "번호별 통계 계산 중...");
-        repository.updateNumberStatistics();
-
-        callback.onProgress(startProgress + 15, "번호 쌍 분석 중...");
-        repository.updateNumberPairs();
-
-        callback.onProgress(100, "AI 통계 계산 완료!");
-        Log.i(TAG, "AI 통계 계산이 완료되었습니다.");
+    private void calculateStatistics(LoadingCallback callback, int startProgress)
+            throws ExecutionException, InterruptedException {
+        long startTime = SystemClock.elapsedRealtime();
+        callback.onProgress(startProgress, "번호별 통계 · 번호 쌍 분석 중...");
+
+        ListenableFuture<Void> numberStatistics = repository.updateNumberStatistics();
+        ListenableFuture<Void> numberPairs = repository.updateNumberPairs();
+        int halfway = startProgress + (100 - startProgress) / 2;
+        numberStatistics.addListener(() -> callback.onProgress(halfway, "번호별 통계 완료"), MoreExecutors.directExecutor());
+        numberPairs.addListener(() -> callback.onProgress(halfway, "번호 쌍 분석 완료"), MoreExecutors.directExecutor());
+
+        Futures.allAsList(numberStatistics, numberPairs).get();
+        StartupTimings.mark(StartupTimingReport.Phase.STATS_READY);
+
+        long duration = SystemClock.elapsedRealtime() - startTime;
+        callback.onProgress(100, "AI 통계 계산 완료! (" + duration + "ms)");
+        Log.i(TAG, "AI 통계 계산이 완료되었습니다. (" + duration + "ms)");
     }
 
     /**
@@ -518,37 +535,54 @@ public class LottoDataLoader {
             // GitHub 업데이트 시도
             csvUpdateManager.updateCsvFile();
 
+            if (ingestCsvSync() < 0) {
+                return false;
+            }
+
+            repository.recalculateAllAiStatistics().get();
+            return true;
+
+        } catch (Exception e) {
+            Log.e(TAG, "동기 데이터 로딩 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * 현재 CSV 파일의 새 회차만 DB에 반영 (다운로드/통계 계산 없음, 동기 방식)
+     * 주의: UI 스레드에서 호출하지 말 것!
+     * @return 저장한 회차 수, CSV를 읽을 수 없거나 저장에 실패하면 -1
+     */
+    public int ingestCsvSync() {
+        try {
             Integer latestDbRound = repository.getLatestDrawNumber();
             Integer latestCsvRound = getLatestRoundFromCsv();
 
             if (latestCsvRound == null) {
-                return false;
+                return -1;
             }
 
             if (latestDbRound == null) {
                 // 전체 로드
                 List<LottoDrawHistoryEntity> drawHistories = parseCsvFile();
                 if (drawHistories.isEmpty()) {
-                    return false;
+                    return -1;
                 }
                 List<Long> savedIds = repository.saveLottoDrawHistories(drawHistories);
-                if (savedIds.isEmpty()) {
-                    return false;
-                }
+                return savedIds.isEmpty() ? -1 : savedIds.size();
             } else if (latestCsvRound > latestDbRound) {
                 // 증분 로드
                 List<LottoDrawHistoryEntity> newData = parseNewCsvData(latestDbRound);
                 if (!newData.isEmpty()) {
                     repository.saveLottoDrawHistories(newData);
                 }
+                return newData.size();
             }
-
-            repository.recalculateAllAiStatistics();
-            return true;
+            return 0;
 
         } catch (Exception e) {
-            Log.e(TAG, "동기 데이터 로딩 실패", e);
-            return false;
+            Log.e(TAG, "CSV 데이터 반영 실패", e);
+            return -1;
         }
     }
 
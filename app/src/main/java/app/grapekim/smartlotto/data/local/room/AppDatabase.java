@@ -2,6 +2,9 @@ package app.grapekim.smartlotto.data.local.room;
 
 import android.content.Context;
 
+import android.database.Cursor;
+import android.util.Log;
+
 import androidx.annotation.NonNull;
 import androidx.room.Database;
 import androidx.room.Room;
@@ -9,16 +12,23 @@ import androidx.room.RoomDatabase;
 import androidx.room.migration.Migration;
 import androidx.sqlite.db.SupportSQLiteDatabase;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import app.grapekim.smartlotto.data.local.room.dao.AiGenerationLogDao;
 import app.grapekim.smartlotto.data.local.room.dao.GeneratedPickDao;
 import app.grapekim.smartlotto.data.local.room.dao.LottoDrawHistoryDao;
 import app.grapekim.smartlotto.data.local.room.dao.NumberPairsDao;
 import app.grapekim.smartlotto.data.local.room.dao.NumberStatisticsDao;
+import app.grapekim.smartlotto.data.local.room.dao.PickResultSummaryDao;
 import app.grapekim.smartlotto.data.local.room.entity.AiGenerationLogEntity;
 import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
 import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberPairsEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberStatisticsEntity;
+import app.grapekim.smartlotto.data.local.room.entity.PickResultSummaryEntity;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+import app.grapekim.smartlotto.util.RoundUtils;
 
 @Database(
         entities = {
@@ -26,10 +36,11 @@ import app.grapekim.smartlotto.data.local.room.entity.NumberStatisticsEntity;
                 LottoDrawHistoryEntity.class,        // AI 기능: 과거 당첨번호
                 NumberStatisticsEntity.class,        // AI 기능: 번호별 통계
                 NumberPairsEntity.class,             // AI 기능: 번호 쌍 분석
-                AiGenerationLogEntity.class          // AI 기능: 생성 기록
+                AiGenerationLogEntity.class,         // AI 기능: 생성 기록
+                PickResultSummaryEntity.class        // 저장 게임 결과 요약 (트리거 갱신)
         },
-        version = 5,                             // 버전 4 → 5로 증가
-        exportSchema = false
+        version = 9,                             // 버전 8 → 9: 대상 회차 없는 기존 게임의 target_round 백필
+        exportSchema = true                      // 미리 채워진 DB 생성 스크립트가 app/schemas의 스키마를 사용
 )
 public abstract class AppDatabase extends RoomDatabase {
 
@@ -42,6 +53,16 @@ public abstract class AppDatabase extends RoomDatabase {
     public abstract NumberPairsDao numberPairsDao();
     public abstract AiGenerationLogDao aiGenerationLogDao();
 
+    // ==================== 결과 요약 DAO ====================
+    public abstract PickResultSummaryDao pickResultSummaryDao();
+
+    private static final String TAG = "AppDatabase";
+
+    private static final String DATABASE_NAME = "lotto.db";
+
+    /** 빌드 시 생성되는 미리 채워진 DB (scripts/build_prepackaged_db.py, 당첨번호/번호 통계/번호 쌍 포함) */
+    private static final String PREPACKAGED_ASSET = "database/lotto.db";
+
     private static volatile AppDatabase INSTANCE;
 
     /** 버전 1 → 2: 결과 확인 기능 필드 추가 */
@@ -226,21 +247,246 @@ public abstract class AppDatabase extends RoomDatabase {
         }
     };
 
+    /** 버전 5 → 6: 번호 조합 순위 키(ticket_rank) 컬럼/인덱스 추가 및 기존 데이터 백필 */
+    private static final Migration MIGRATION_5_6 = new Migration(5, 6) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("ALTER TABLE generated_picks ADD COLUMN ticket_rank INTEGER NOT NULL DEFAULT -1");
+            database.execSQL("ALTER TABLE ai_generation_log ADD COLUMN ticket_rank INTEGER NOT NULL DEFAULT -1");
+            database.execSQL("ALTER TABLE lotto_draw_history ADD COLUMN ticket_rank INTEGER NOT NULL DEFAULT -1");
+
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_generated_picks_ticket_rank` ON `generated_picks` (`ticket_rank`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_ai_generation_log_ticket_rank` ON `ai_generation_log` (`ticket_rank`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_lotto_draw_history_ticket_rank` ON `lotto_draw_history` (`ticket_rank`)");
+
+            // 기존 데이터 백필 (SQLite에는 조합 순위 함수가 없으므로 코덱으로 계산)
+            backfillTextColumn(database, "generated_picks", "numbersCsv");
+            backfillTextColumn(database, "ai_generation_log", "generated_numbers");
+
+            try (Cursor c = database.query("SELECT id, number1, number2, number3, number4, number5, number6 FROM lotto_draw_history")) {
+                while (c.moveToNext()) {
+                    int rank = LottoTicketCodec.rank(c.getInt(1), c.getInt(2), c.getInt(3),
+                            c.getInt(4), c.getInt(5), c.getInt(6));
+                    database.execSQL("UPDATE lotto_draw_history SET ticket_rank = ? WHERE id = ?",
+                            new Object[]{rank, c.getLong(0)});
+                }
+            }
+        }
+
+        private void backfillTextColumn(SupportSQLiteDatabase database, String table, String column) {
+            try (Cursor c = database.query("SELECT id, " + column + " FROM " + table)) {
+                while (c.moveToNext()) {
+                    int rank = LottoTicketCodec.rankOfText(c.isNull(1) ? null : c.getString(1));
+                    if (rank == LottoTicketCodec.INVALID_RANK) continue; // 기본값(-1) 유지
+                    database.execSQL("UPDATE " + table + " SET ticket_rank = ? WHERE id = ?",
+                            new Object[]{rank, c.getLong(0)});
+                }
+            }
+        }
+    };
+
+    /** 버전 6 → 7: 결과 요약 테이블 + 유지 트리거 추가 및 기존 게임으로 초기 집계 */
+    private static final Migration MIGRATION_6_7 = new Migration(6, 7) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `pick_result_summary` (" +
+                    "`method` TEXT NOT NULL, " +
+                    "`source_type` TEXT NOT NULL, " +
+                    "`target_round` INTEGER NOT NULL, " +
+                    "`pick_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`checked_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`rank1_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`rank2_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`rank3_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`rank4_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`rank5_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`miss_count` INTEGER NOT NULL DEFAULT 0, " +
+                    "`match_total` INTEGER NOT NULL DEFAULT 0, " +
+                    "PRIMARY KEY(`method`, `source_type`, `target_round`))");
+
+            database.execSQL("INSERT INTO pick_result_summary " +
+                    "(method, source_type, target_round, pick_count, checked_count, " +
+                    "rank1_count, rank2_count, rank3_count, rank4_count, rank5_count, miss_count, match_total) " +
+                    "SELECT COALESCE(method, ''), COALESCE(source_type, ''), COALESCE(parsed_round, target_round, 0), " +
+                    "COUNT(*), " +
+                    "SUM(result_checked = 1), " +
+                    "SUM(result_checked = 1 AND result_rank = 1), " +
+                    "SUM(result_checked = 1 AND result_rank = 2), " +
+                    "SUM(result_checked = 1 AND result_rank = 3), " +
+                    "SUM(result_checked = 1 AND result_rank = 4), " +
+                    "SUM(result_checked = 1 AND result_rank = 5), " +
+                    "SUM(result_checked = 1 AND result_rank < 0), " +
+                    "SUM(CASE WHEN result_checked = 1 THEN result_match_count ELSE 0 END) " +
+                    "FROM generated_picks " +
+                    "GROUP BY 1, 2, 3");
+
+            createSummaryTriggers(database);
+        }
+    };
+
+    /** 버전 7 → 8: 목록/필터 조회가 전체 스캔하지 않도록 복합 인덱스 추가 (엔티티 @Index와 동일한 이름) */
+    private static final Migration MIGRATION_7_8 = new Migration(7, 8) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_generated_picks_createdAt` ON `generated_picks` (`createdAt`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_generated_picks_favorite_createdAt` ON `generated_picks` (`favorite`, `createdAt`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_generated_picks_method_createdAt` ON `generated_picks` (`method`, `createdAt`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_generated_picks_source_type` ON `generated_picks` (`source_type`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_generated_picks_qr_group_id_game_label` ON `generated_picks` (`qr_group_id`, `game_label`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_generated_picks_result_checked` ON `generated_picks` (`result_checked`)");
+
+            // 버전 3 → 4에서 만든 단일 is_saved 인덱스는 (is_saved, created_at)으로 대체
+            // (created_at 인덱스는 3 → 4를 거친 DB에만 있으므로 함께 보장)
+            database.execSQL("DROP INDEX IF EXISTS `index_ai_generation_log_is_saved`");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_ai_generation_log_created_at` ON `ai_generation_log` (`created_at`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_ai_generation_log_is_saved_created_at` ON `ai_generation_log` (`is_saved`, `created_at`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_ai_generation_log_generation_method_created_at` ON `ai_generation_log` (`generation_method`, `created_at`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_ai_generation_log_quality_score_created_at` ON `ai_generation_log` (`quality_score`, `created_at`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_ai_generation_log_generated_numbers` ON `ai_generation_log` (`generated_numbers`)");
+        }
+    };
+
+    /**
+     * 버전 8 → 9: QR 외 게임은 target_round 없이 저장되어 일괄 채점에서 빠졌으므로
+     * 이력 화면과 같은 기준(생성 시각 이후 첫 토요일 회차)으로 백필 (스키마 변경 없음)
+     */
+    static final Migration MIGRATION_8_9 = new Migration(8, 9) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            try (Cursor c = database.query("SELECT id, createdAt FROM generated_picks " +
+                    "WHERE COALESCE(parsed_round, 0) <= 0 AND COALESCE(target_round, 0) <= 0")) {
+                while (c.moveToNext()) {
+                    // 요약 트리거가 회차 0 행에서 새 회차 행으로 옮겨 집계
+                    database.execSQL("UPDATE generated_picks SET target_round = ? WHERE id = ?",
+                            new Object[]{RoundUtils.roundForTimestamp(c.getLong(1)), c.getLong(0)});
+                }
+            }
+        }
+    };
+
+    /** 전체 마이그레이션 (get()과 마이그레이션 후 실행 계획 테스트가 같은 목록 사용) */
+    static final Migration[] MIGRATIONS = {
+            MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4, MIGRATION_4_5, MIGRATION_5_6,
+            MIGRATION_6_7, MIGRATION_7_8, MIGRATION_8_9
+    };
+
+    // ==================== 결과 요약 트리거 ====================
+
+    /**
+     * generated_picks 변경 시 pick_result_summary를 같은 트랜잭션에서 증감하는 트리거 생성
+     * (updateResult, 일괄 채점, QR 저장, 모든 삭제 경로에 공통 적용)
+     */
+    static void createSummaryTriggers(SupportSQLiteDatabase database) {
+        database.execSQL("CREATE TRIGGER IF NOT EXISTS `trg_pick_summary_insert` " +
+                "AFTER INSERT ON `generated_picks` BEGIN " +
+                summaryEnsureRowSql("NEW") +
+                summaryDeltaSql("NEW", "+") +
+                "END");
+
+        database.execSQL("CREATE TRIGGER IF NOT EXISTS `trg_pick_summary_delete` " +
+                "AFTER DELETE ON `generated_picks` BEGIN " +
+                summaryDeltaSql("OLD", "-") +
+                summaryCleanupSql("OLD") +
+                "END");
+
+        database.execSQL("CREATE TRIGGER IF NOT EXISTS `trg_pick_summary_update` " +
+                "AFTER UPDATE OF method, source_type, target_round, parsed_round, " +
+                "result_checked, result_rank, result_match_count ON `generated_picks` BEGIN " +
+                summaryDeltaSql("OLD", "-") +
+                summaryCleanupSql("OLD") +
+                summaryEnsureRowSql("NEW") +
+                summaryDeltaSql("NEW", "+") +
+                "END");
+    }
+
+    private static String summaryKeyWhere(String row) {
+        return "method = COALESCE(" + row + ".method, '') " +
+                "AND source_type = COALESCE(" + row + ".source_type, '') " +
+                "AND target_round = COALESCE(" + row + ".parsed_round, " + row + ".target_round, 0)";
+    }
+
+    private static String summaryEnsureRowSql(String row) {
+        return "INSERT OR IGNORE INTO pick_result_summary (method, source_type, target_round) VALUES (" +
+                "COALESCE(" + row + ".method, ''), " +
+                "COALESCE(" + row + ".source_type, ''), " +
+                "COALESCE(" + row + ".parsed_round, " + row + ".target_round, 0)); ";
+    }
+
+    private static String summaryDeltaSql(String row, String sign) {
+        String checked = "(" + row + ".result_checked = 1";
+        return "UPDATE pick_result_summary SET " +
+                "pick_count = pick_count " + sign + " 1, " +
+                "checked_count = checked_count " + sign + " " + checked + "), " +
+                "rank1_count = rank1_count " + sign + " " + checked + " AND " + row + ".result_rank = 1), " +
+                "rank2_count = rank2_count " + sign + " " + checked + " AND " + row + ".result_rank = 2), " +
+                "rank3_count = rank3_count " + sign + " " + checked + " AND " + row + ".result_rank = 3), " +
+                "rank4_count = rank4_count " + sign + " " + checked + " AND " + row + ".result_rank = 4), " +
+                "rank5_count = rank5_count " + sign + " " + checked + " AND " + row + ".result_rank = 5), " +
+                "miss_count = miss_count " + sign + " " + checked + " AND " + row + ".result_rank < 0), " +
+                "match_total = match_total " + sign + " (CASE WHEN " + row + ".result_checked = 1 " +
+                "THEN " + row + ".result_match_count ELSE 0 END) " +
+                "WHERE " + summaryKeyWhere(row) + "; ";
+    }
+
+    private static String summaryCleanupSql(String row) {
+        return "DELETE FROM pick_result_summary WHERE pick_count <= 0 AND " + summaryKeyWhere(row) + "; ";
+    }
+
     public static AppDatabase get(Context ctx) {
         if (INSTANCE == null) {
             synchronized (AppDatabase.class) {
                 if (INSTANCE == null) {
-                    INSTANCE = Room.databaseBuilder(
-                                    ctx.getApplicationContext(),
+                    Context appContext = ctx.getApplicationContext();
+                    Builder<AppDatabase> builder = Room.databaseBuilder(
+                                    appContext,
                                     AppDatabase.class,
-                                    "lotto.db")
-                            .addMigrations(MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4, MIGRATION_4_5)  // 새로운 Migration 추가
+                                    DATABASE_NAME)
+                            .addMigrations(MIGRATIONS)  // 새로운 Migration은 MIGRATIONS에 추가
+                            .addCallback(new Callback() {
+                                @Override
+                                public void onOpen(@NonNull SupportSQLiteDatabase db) {
+                                    // Room은 트리거를 만들지 않으므로 열 때마다 보장 (IF NOT EXISTS)
+                                    // 신규/마이그레이션/파괴적 재생성/미리 채워진 DB 모두 테이블이 준비된 뒤 여기를 거침
+                                    createSummaryTriggers(db);
+                                }
+                            })
                             .allowMainThreadQueries()
-                            .fallbackToDestructiveMigration()
-                            .build();
+                            .fallbackToDestructiveMigration();
+
+                    // 첫 설치(DB 파일 없음)에만 의미가 있으므로 그때만 에셋 존재 확인
+                    if (!appContext.getDatabasePath(DATABASE_NAME).exists() && hasPrepackagedAsset(appContext)) {
+                        builder.createFromAsset(PREPACKAGED_ASSET, new PrepackagedDatabaseCallback() {
+                            @Override
+                            public void onOpenPrepackagedDatabase(@NonNull SupportSQLiteDatabase db) {
+                                // 트리거는 onOpen에서, 번호 통계 반영 회차는 STATS 단계가 통계 테이블에서 읽어 기록
+                                Log.i(TAG, "미리 채워진 DB 사용 (" + queryLatestDrawNumber(db) + "회까지 포함)");
+                            }
+                        });
+                    }
+                    INSTANCE = builder.build();
                 }
             }
         }
         return INSTANCE;
     }
-}
\ No newline at end of file
+
+    // ==================== 미리 채워진 DB ====================
+
+    /**
+     * 미리 채워진 DB 에셋 포함 여부 (빌드가 항상 생성하지만, 에셋이 없는 빌드에서도 CSV 초기화로 동작하도록 확인)
+     */
+    private static boolean hasPrepackagedAsset(Context context) {
+        try (InputStream ignored = context.getAssets().open(PREPACKAGED_ASSET)) {
+            return true;
+        } catch (IOException e) {
+            Log.d(TAG, "미리 채워진 DB 없음 - CSV로 초기화");
+            return false;
+        }
+    }
+
+    private static int queryLatestDrawNumber(SupportSQLiteDatabase db) {
+        try (Cursor c = db.query("SELECT MAX(draw_number) FROM lotto_draw_history")) {
+            return c.moveToFirst() && !c.isNull(0) ? c.getInt(0) : 0;
+        }
+    }
+}
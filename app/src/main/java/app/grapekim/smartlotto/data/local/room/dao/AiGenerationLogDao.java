@@ -129,4 +129,10 @@ public interface AiGenerationLogDao {
      */
     @Query("SELECT COUNT(*) FROM ai_generation_log WHERE generated_numbers = :numbersJson")
     int checkDuplicateNumbers(String numbersJson);
-}
\ No newline at end of file
+
+    /**
+     * 특정 번호 조합이 생성된 적이 있는지 확인 (조합 순위 키 기준, 저장 형식 무관)
+     */
+    @Query("SELECT COUNT(*) FROM ai_generation_log WHERE ticket_rank = :ticketRank")
+    int countByTicketRank(int ticketRank);
+}
@@ -1,6 +1,6 @@
 package app.grapekim.smartlotto.data.local.room.dao;
 
-import androidx.lifecycle.LiveData;
+import androidx.paging.PagingSource;
 import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.Query;
@@ -34,19 +34,26 @@ public interface GeneratedPickDao {
     @Query("DELETE FROM generated_picks WHERE favorite = 0")
     void clearAllExceptFavorites();
 
+    // ==================== 이력 목록 (페이지 단위 로드) ====================
+    // 같은 시각에 저장된 게임도 페이지 경계에서 순서가 바뀌지 않도록 id로 한 번 더 정렬
+
     // 정렬: 최신 우선/오래된 우선 (전체)
-    @Query("SELECT * FROM generated_picks ORDER BY createdAt DESC")
-    LiveData<List<GeneratedPickEntity>> observeAllDesc();
+    @Query("SELECT * FROM generated_picks ORDER BY createdAt DESC, id DESC")
+    PagingSource<Integer, GeneratedPickEntity> pageAllDesc();
 
-    @Query("SELECT * FROM generated_picks ORDER BY createdAt ASC")
-    LiveData<List<GeneratedPickEntity>> observeAllAsc();
+    @Query("SELECT * FROM generated_picks ORDER BY createdAt ASC, id ASC")
+    PagingSource<Integer, GeneratedPickEntity> pageAllAsc();
 
     // 즐겨찾기 전용
-    @Query("SELECT * FROM generated_picks WHERE favorite = 1 ORDER BY createdAt DESC")
-    LiveData<List<GeneratedPickEntity>> observeFavoritesDesc();
+    @Query("SELECT * FROM generated_picks WHERE favorite = 1 ORDER BY createdAt DESC, id DESC")
+    PagingSource<Integer, GeneratedPickEntity> pageFavoritesDesc();
+
+    @Query("SELECT * FROM generated_picks WHERE favorite = 1 ORDER BY createdAt ASC, id ASC")
+    PagingSource<Integer, GeneratedPickEntity> pageFavoritesAsc();
 
-    @Query("SELECT * FROM generated_picks WHERE favorite = 1 ORDER BY createdAt ASC")
-    LiveData<List<GeneratedPickEntity>> observeFavoritesAsc();
+    /** 즐겨찾기 게임 번호 전체 (과거 회차 일괄 판정용, 번호 문자열만 로드) */
+    @Query("SELECT numbersCsv FROM generated_picks WHERE favorite = 1 ORDER BY createdAt DESC, id DESC")
+    List<String> getFavoriteNumbersCsv();
 
     // ==================== AI 데이터 정리를 위한 새로운 메서드들 ====================
 
@@ -85,6 +92,27 @@ public interface GeneratedPickDao {
             "WHERE id = :id")
     void updateResult(long id, int rank, int matchCount, int targetRound);
 
+    /**
+     * 결과 미확인 게임 중 대상 회차가 이미 발표된 게임 조회 (일괄 채점용)
+     * 회차는 QR 파싱 회차 → 목표 회차 순으로 사용합니다.
+     * @param latestRound 저장된 최신 회차
+     */
+    @Query("SELECT id, numbersCsv, ticket_rank AS ticketRank, COALESCE(parsed_round, target_round) AS round " +
+            "FROM generated_picks " +
+            "WHERE result_checked = 0 " +
+            "AND COALESCE(parsed_round, target_round) BETWEEN 1 AND :latestRound")
+    List<PendingResultRow> getPendingResults(int latestRound);
+
+    /**
+     * 일괄 채점 대상 행 (필요한 컬럼만)
+     */
+    class PendingResultRow {
+        public long id;
+        public String numbersCsv;
+        public int ticketRank;
+        public int round;
+    }
+
     // ==================== QR 다중 게임 지원 (신규) ====================
 
     /**
@@ -143,8 +171,9 @@ public interface GeneratedPickDao {
 
     /**
      * QR 게임 여부 확인 (method 또는 source_type 기준)
+     * source_type은 LIKE 대신 QR 소스 타입 값과 직접 비교 (GeneratedPickEntity.SOURCE_QR_*)
      */
-    @Query("SELECT COUNT(*) > 0 FROM generated_picks WHERE id = :id AND (method = 'QR' OR source_type LIKE 'QR_%')")
+    @Query("SELECT COUNT(*) > 0 FROM generated_picks WHERE id = :id AND (method = 'QR' OR source_type IN ('QR_STRUCTURED', 'QR_TEXT'))")
     boolean isQrGame(long id);
 
     /**
@@ -184,19 +213,19 @@ public interface GeneratedPickDao {
     // ==================== 향상된 조회 메서드들 ====================
 
     /**
-     * QR 게임만 조회 (최신순)
+     * QR 게임만 조회 (최신순, 페이지 단위)
      */
-    @Query("SELECT * FROM generated_picks WHERE method = 'QR' OR source_type LIKE 'QR_%' ORDER BY createdAt DESC")
-    LiveData<List<GeneratedPickEntity>> observeQrGamesDesc();
+    @Query("SELECT * FROM generated_picks WHERE method = 'QR' OR source_type IN ('QR_STRUCTURED', 'QR_TEXT') ORDER BY createdAt DESC, id DESC")
+    PagingSource<Integer, GeneratedPickEntity> pageQrGamesDesc();
 
     /**
-     * 일반 게임만 조회 (QR 제외, 최신순)
+     * 일반 게임만 조회 (QR 제외, 최신순, 페이지 단위)
      */
-    @Query("SELECT * FROM generated_picks WHERE method != 'QR' AND (source_type IS NULL OR source_type NOT LIKE 'QR_%') ORDER BY createdAt DESC")
-    LiveData<List<GeneratedPickEntity>> observeNonQrGamesDesc();
+    @Query("SELECT * FROM generated_picks WHERE method != 'QR' AND (source_type IS NULL OR source_type NOT IN ('QR_STRUCTURED', 'QR_TEXT')) ORDER BY createdAt DESC, id DESC")
+    PagingSource<Integer, GeneratedPickEntity> pageNonQrGamesDesc();
 
     /**
-     * 전체 조회 (QR 그룹별로 묶어서 정렬)
+     * 전체 조회 (QR 그룹별로 묶어서 정렬, 페이지 단위)
      * QR 그룹은 대표 항목 하나만, 일반 게임은 개별적으로
      */
     @Query("SELECT * FROM generated_picks " +
@@ -206,6 +235,12 @@ public interface GeneratedPickDao {
             "       WHERE qr_group_id IS NOT NULL " +
             "       GROUP BY qr_group_id" +
             "   ) " +
-            "ORDER BY createdAt DESC")
-    LiveData<List<GeneratedPickEntity>> observeGroupedGamesDesc();
-}
\ No newline at end of file
+            "ORDER BY createdAt DESC, id DESC")
+    PagingSource<Integer, GeneratedPickEntity> pageGroupedGamesDesc();
+
+    /**
+     * 같은 번호 조합(조합 순위 키)으로 저장된 게임 조회
+     */
+    @Query("SELECT * FROM generated_picks WHERE ticket_rank = :ticketRank ORDER BY createdAt DESC")
+    List<GeneratedPickEntity> getByTicketRank(int ticketRank);
+}
@@ -63,6 +63,12 @@ public interface LottoDrawHistoryDao {
     @Query("SELECT * FROM lotto_draw_history WHERE draw_number = :drawNumber")
     LottoDrawHistoryEntity getByDrawNumber(int drawNumber);
 
+    /**
+     * 특정 번호 조합(조합 순위 키)이 1등 당첨번호였던 회차들 조회
+     */
+    @Query("SELECT * FROM lotto_draw_history WHERE ticket_rank = :ticketRank ORDER BY draw_number DESC")
+    List<LottoDrawHistoryEntity> getByTicketRank(int ticketRank);
+
     /**
      * 특정 회차 범위 당첨번호 조회
      */
@@ -75,6 +81,12 @@ public interface LottoDrawHistoryDao {
     @Query("SELECT MAX(draw_number) FROM lotto_draw_history")
     Integer getLatestDrawNumber();
 
+    /**
+     * 최신 회차 번호 관찰 (새 회차 저장 시 갱신)
+     */
+    @Query("SELECT MAX(draw_number) FROM lotto_draw_history")
+    LiveData<Integer> observeLatestDrawNumber();
+
     /**
      * 저장된 당첨번호 총 개수
      */
@@ -0,0 +1,102 @@
+package app.grapekim.smartlotto.data.local.room.dao;
+
+import androidx.lifecycle.LiveData;
+import androidx.room.Dao;
+import androidx.room.Query;
+
+import java.util.List;
+import java.util.Locale;
+
+import app.grapekim.smartlotto.data.local.room.entity.PickResultSummaryEntity;
+
+/**
+ * 저장 게임 결과 요약 조회 (갱신은 generated_picks 트리거가 담당)
+ */
+@Dao
+public interface PickResultSummaryDao {
+
+    /**
+     * 전체 요약 행 (회차 최신순)
+     */
+    @Query("SELECT * FROM pick_result_summary ORDER BY target_round DESC, method ASC, source_type ASC")
+    LiveData<List<PickResultSummaryEntity>> observeAll();
+
+    /**
+     * 전체 합계
+     */
+    @Query("SELECT " +
+            "'' AS method, " +
+            "COALESCE(SUM(pick_count), 0) AS pick_count, " +
+            "COALESCE(SUM(checked_count), 0) AS checked_count, " +
+            "COALESCE(SUM(rank1_count), 0) AS rank1_count, " +
+            "COALESCE(SUM(rank2_count), 0) AS rank2_count, " +
+            "COALESCE(SUM(rank3_count), 0) AS rank3_count, " +
+            "COALESCE(SUM(rank4_count), 0) AS rank4_count, " +
+            "COALESCE(SUM(rank5_count), 0) AS rank5_count, " +
+            "COALESCE(SUM(miss_count), 0) AS miss_count, " +
+            "COALESCE(SUM(match_total), 0) AS match_total " +
+            "FROM pick_result_summary")
+    LiveData<ResultTotals> observeTotals();
+
+    /**
+     * 생성 방식별 합계 (AUTO / MANUAL / AI / QR)
+     */
+    @Query("SELECT " +
+            "method, " +
+            "SUM(pick_count) AS pick_count, " +
+            "SUM(checked_count) AS checked_count, " +
+            "SUM(rank1_count) AS rank1_count, " +
+            "SUM(rank2_count) AS rank2_count, " +
+            "SUM(rank3_count) AS rank3_count, " +
+            "SUM(rank4_count) AS rank4_count, " +
+            "SUM(rank5_count) AS rank5_count, " +
+            "SUM(miss_count) AS miss_count, " +
+            "SUM(match_total) AS match_total " +
+            "FROM pick_result_summary " +
+            "GROUP BY method " +
+            "ORDER BY pick_count DESC")
+    LiveData<List<ResultTotals>> observeByMethod();
+
+    /**
+     * 특정 회차 요약 행
+     */
+    @Query("SELECT * FROM pick_result_summary WHERE target_round = :round")
+    List<PickResultSummaryEntity> getByRound(int round);
+
+    /**
+     * 요약 합계 (전체 또는 생성 방식별)
+     */
+    class ResultTotals {
+        public String method;          // 전체 합계면 ""
+        public int pick_count;
+        public int checked_count;
+        public int rank1_count;
+        public int rank2_count;
+        public int rank3_count;
+        public int rank4_count;
+        public int rank5_count;
+        public int miss_count;
+        public int match_total;
+
+        /** 결과 미확인 게임 수 */
+        public int getPendingCount() {
+            return pick_count - checked_count;
+        }
+
+        /** 5등 이상 당첨 게임 수 */
+        public int getWinCount() {
+            return rank1_count + rank2_count + rank3_count + rank4_count + rank5_count;
+        }
+
+        /** 확인된 게임당 평균 맞춘 개수 */
+        public double getMeanMatched() {
+            return checked_count == 0 ? 0.0 : (double) match_total / checked_count;
+        }
+
+        /** 한 줄 요약 (예: "12게임 · 확인 8 · 당첨 1 · 평균 1.6개 일치") */
+        public String summarize() {
+            return String.format(Locale.getDefault(), "%d게임 · 확인 %d · 당첨 %d · 평균 %.1f개 일치",
+                    pick_count, checked_count, getWinCount(), getMeanMatched());
+        }
+    }
+}
@@ -3,12 +3,25 @@ package app.grapekim.smartlotto.data.local.room.entity;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Ignore;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
 /**
  * AI 번호 생성 로그를 저장하는 Entity
  */
-@Entity(tableName = "ai_generation_log")
+@Entity(
+        tableName = "ai_generation_log",
+        indices = {
+                @Index(value = "ticket_rank"),                          // 번호 조합 동등 조인/검색
+                @Index(value = "created_at"),                           // 최신순 조회/기간 조회/오래된 로그 삭제
+                @Index(value = {"is_saved", "created_at"}),             // 저장된 로그 조회
+                @Index(value = {"generation_method", "created_at"}),    // 생성 방법별 조회
+                @Index(value = {"quality_score", "created_at"}),        // 품질 점수 기준 조회
+                @Index(value = "generated_numbers")                     // 중복 번호 확인
+        }
+)
 public class AiGenerationLogEntity {
 
     @PrimaryKey(autoGenerate = true)
@@ -36,6 +49,9 @@ public class AiGenerationLogEntity {
     @ColumnInfo(name = "notes")
     public String notes;
 
+    @ColumnInfo(name = "ticket_rank", defaultValue = "-1")
+    public int ticketRank = LottoTicketCodec.INVALID_RANK; // 번호 조합 순위 키 (-1=미계산)
+
     // 기본 생성자 (Room 필수)
     public AiGenerationLogEntity() {
     }
@@ -52,6 +68,14 @@ public class AiGenerationLogEntity {
         this.createdAt = createdAt;
         this.isSaved = isSaved;
         this.notes = notes;
+        refreshTicketRank();
+    }
+
+    /**
+     * generatedNumbers로부터 번호 조합 키 갱신
+     */
+    public void refreshTicketRank() {
+        this.ticketRank = LottoTicketCodec.rankOfText(generatedNumbers);
     }
 
     // Getter와 Setter
@@ -78,4 +102,7 @@ public class AiGenerationLogEntity {
 
     public String getNotes() { return notes; }
     public void setNotes(String notes) { this.notes = notes; }
+
+    public int getTicketRank() { return ticketRank; }
+    public void setTicketRank(int ticketRank) { this.ticketRank = ticketRank; }
 }
\ No newline at end of file
@@ -2,9 +2,23 @@ package app.grapekim.smartlotto.data.local.room.entity;
 
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
+import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
-@Entity(tableName = "generated_picks")
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+@Entity(
+        tableName = "generated_picks",
+        indices = {
+                @Index(value = "ticket_rank"),                      // 번호 조합 동등 조인/검색
+                @Index(value = "createdAt"),                        // 이력 목록 정렬 (id는 rowid로 함께 정렬됨)
+                @Index(value = {"favorite", "createdAt"}),          // 즐겨찾기 목록/일괄 삭제
+                @Index(value = {"method", "createdAt"}),            // 생성 방식별 조회/일괄 변경
+                @Index(value = "source_type"),                      // QR 게임 구분
+                @Index(value = {"qr_group_id", "game_label"}),      // QR 그룹 조회/대표 게임/그룹 집계
+                @Index(value = "result_checked")                    // 결과 미확인 게임 채점
+        }
+)
 public class GeneratedPickEntity {
     @PrimaryKey(autoGenerate = true)
     public long id;
@@ -64,12 +78,29 @@ public class GeneratedPickEntity {
     @ColumnInfo(name = "parsed_round")
     public Integer parsedRound;
 
+    /** QR 소스 타입 (DAO 쿼리는 인덱스를 타도록 LIKE 대신 이 두 값과 직접 비교) */
+    public static final String SOURCE_QR_STRUCTURED = "QR_STRUCTURED";
+    public static final String SOURCE_QR_TEXT = "QR_TEXT";
+
     /** 데이터 소스 타입 ("GENERATED", "MANUAL", "QR_STRUCTURED", "QR_TEXT") */
     @ColumnInfo(name = "source_type", defaultValue = "GENERATED")
     public String sourceType = "GENERATED";
 
+    // ==================== 번호 조합 키 ====================
+
+    /** 번호 조합 순위 키 (LottoTicketCodec, -1=미계산/유효하지 않음) */
+    @ColumnInfo(name = "ticket_rank", defaultValue = "-1")
+    public int ticketRank = LottoTicketCodec.INVALID_RANK;
+
     // ==================== 편의 메서드들 ====================
 
+    /**
+     * numbersCsv로부터 번호 조합 키 갱신
+     */
+    public void refreshTicketRank() {
+        ticketRank = LottoTicketCodec.rankOfText(numbersCsv);
+    }
+
     /**
      * QR 다중 게임인지 확인
      */
@@ -81,7 +112,7 @@ public class GeneratedPickEntity {
      * QR 게임인지 확인 (단일/다중 무관)
      */
     public boolean isQrGame() {
-        return "QR".equals(method) || (sourceType != null && sourceType.startsWith("QR_"));
+        return "QR".equals(method) || SOURCE_QR_STRUCTURED.equals(sourceType) || SOURCE_QR_TEXT.equals(sourceType);
     }
 
     /**
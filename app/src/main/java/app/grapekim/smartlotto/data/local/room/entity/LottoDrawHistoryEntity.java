@@ -5,6 +5,8 @@ import androidx.room.Entity;
 import androidx.room.Index;
 import androidx.room.PrimaryKey;
 
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -17,7 +19,8 @@ import java.util.stream.Collectors;
         tableName = "lotto_draw_history",
         indices = {
                 @Index(value = "draw_number", unique = true),  // 회차 번호 중복 방지
-                @Index(value = "draw_date")                    // 날짜별 조회 최적화
+                @Index(value = "draw_date"),                   // 날짜별 조회 최적화
+                @Index(value = "ticket_rank")                  // 번호 조합 동등 조인/검색
         }
 )
 public class LottoDrawHistoryEntity {
@@ -65,8 +68,26 @@ public class LottoDrawHistoryEntity {
     @ColumnInfo(name = "created_at", defaultValue = "CURRENT_TIMESTAMP")
     public long createdAt;
 
+    /** 당첨번호 조합 순위 키 (LottoTicketCodec, 보너스 제외, -1=미계산) */
+    @ColumnInfo(name = "ticket_rank", defaultValue = "-1")
+    public int ticketRank = LottoTicketCodec.INVALID_RANK;
+
     // ==================== 편의 메서드들 ====================
 
+    /**
+     * 본번호 6개로부터 번호 조합 키 갱신
+     */
+    public void refreshTicketRank() {
+        ticketRank = LottoTicketCodec.rank(number1, number2, number3, number4, number5, number6);
+    }
+
+    /**
+     * 당첨번호 비트마스크 (비트 n = 번호 n, 보너스 제외)
+     */
+    public long getWinningMask() {
+        return LottoTicketCodec.toMask(number1, number2, number3, number4, number5, number6);
+    }
+
     /**
      * 당첨번호들을 List로 반환 (보너스 번호 제외)
      */
@@ -188,6 +209,7 @@ public class LottoDrawHistoryEntity {
         this.number5 = num5;
         this.number6 = num6;
         this.bonusNumber = bonusNumber;
+        refreshTicketRank();
     }
 
     /**
@@ -0,0 +1,75 @@
+package app.grapekim.smartlotto.data.local.room.entity;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+
+/**
+ * 저장 게임 결과 요약 (생성 방식 × 소스 타입 × 회차별 집계)
+ *
+ * generated_picks의 INSERT/UPDATE/DELETE 트리거가 같은 트랜잭션 안에서 증감하므로
+ * 화면에서는 수천 개의 게임 대신 몇 개의 요약 행만 읽으면 됩니다. (AppDatabase 참조)
+ */
+@Entity(
+        tableName = "pick_result_summary",
+        primaryKeys = {"method", "source_type", "target_round"}
+)
+public class PickResultSummaryEntity {
+
+    /** 생성 방식 ("AUTO" | "MANUAL" | "AI" | "QR", 없으면 "") */
+    @NonNull
+    @ColumnInfo(name = "method")
+    public String method = "";
+
+    /** 데이터 소스 타입 ("GENERATED", "QR_STRUCTURED" 등, 없으면 "") */
+    @NonNull
+    @ColumnInfo(name = "source_type")
+    public String sourceType = "";
+
+    /** 대상 회차 (QR 파싱 회차 우선, 0=회차 미상) */
+    @ColumnInfo(name = "target_round")
+    public int targetRound;
+
+    /** 게임 수 */
+    @ColumnInfo(name = "pick_count", defaultValue = "0")
+    public int pickCount;
+
+    /** 결과 확인된 게임 수 */
+    @ColumnInfo(name = "checked_count", defaultValue = "0")
+    public int checkedCount;
+
+    @ColumnInfo(name = "rank1_count", defaultValue = "0")
+    public int rank1Count;
+
+    @ColumnInfo(name = "rank2_count", defaultValue = "0")
+    public int rank2Count;
+
+    @ColumnInfo(name = "rank3_count", defaultValue = "0")
+    public int rank3Count;
+
+    @ColumnInfo(name = "rank4_count", defaultValue = "0")
+    public int rank4Count;
+
+    @ColumnInfo(name = "rank5_count", defaultValue = "0")
+    public int rank5Count;
+
+    /** 낙첨 게임 수 */
+    @ColumnInfo(name = "miss_count", defaultValue = "0")
+    public int missCount;
+
+    /** 확인된 게임들의 맞춘 번호 개수 합계 */
+    @ColumnInfo(name = "match_total", defaultValue = "0")
+    public int matchTotal;
+
+    // ==================== 편의 메서드들 ====================
+
+    /** 결과 미확인 게임 수 */
+    public int getPendingCount() {
+        return pickCount - checkedCount;
+    }
+
+    /** 5등 이상 당첨 게임 수 */
+    public int getWinCount() {
+        return rank1Count + rank2Count + rank3Count + rank4Count + rank5Count;
+    }
+}
@@ -1,11 +1,24 @@
 package app.grapekim.smartlotto.data.remote;
 
+import android.util.LruCache;
+
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+
+import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
 import app.grapekim.smartlotto.network.SecureOkHttpClient;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
 public final class NetworkProvider {
     private static volatile LottoApi API;
+
+    // 발표된 회차 응답 메모 (drwNo → DTO, 결과가 바뀌지 않으므로 만료 없음)
+    private static final int DRAW_MEMO_SIZE = 256;
+    private static final LruCache<Integer, LottoDrawDto> DRAW_MEMO = new LruCache<>(DRAW_MEMO_SIZE);
+
     private NetworkProvider(){}
 
     public static LottoApi api() {
@@ -25,4 +38,39 @@ public final class NetworkProvider {
         }
         return API;
     }
-}
\ No newline at end of file
+
+    /**
+     * 회차 당첨번호 조회 (메모 → HTTP 디스크 캐시 → 네트워크 순)
+     * @return 발표된 회차의 DTO, 아직 발표 전이거나 응답이 유효하지 않으면 null
+     * @throws IOException 네트워크 오류
+     */
+    @Nullable
+    public static LottoDrawDto fetchDraw(int drawNo) throws IOException {
+        LottoDrawDto cached = DRAW_MEMO.get(drawNo);
+        if (cached != null) return cached;
+
+        Response<LottoDrawDto> res = api().getDraw(drawNo).execute();
+        LottoDrawDto body = res.body();
+        if (!res.isSuccessful() || body == null || !body.isSuccess()) return null;
+
+        memoize(body);
+        return body;
+    }
+
+    /**
+     * 메모에 있는 회차 DTO (없으면 null, 네트워크 조회 없음)
+     */
+    @Nullable
+    public static LottoDrawDto cachedDraw(int drawNo) {
+        return DRAW_MEMO.get(drawNo);
+    }
+
+    /**
+     * 다른 경로로 받은 발표 회차 DTO를 메모에 추가
+     */
+    public static void memoize(@Nullable LottoDrawDto dto) {
+        if (dto != null && dto.isSuccess() && dto.drwNo != null) {
+            DRAW_MEMO.put(dto.drwNo, dto);
+        }
+    }
+}
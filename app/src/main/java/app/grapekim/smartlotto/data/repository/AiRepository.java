@@ -11,6 +11,10 @@ import app.grapekim.smartlotto.data.local.room.dao.NumberStatisticsDao;
 import app.grapekim.smartlotto.data.local.room.entity.AiGenerationLogEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberPairsEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberStatisticsEntity;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.AppExecutors.Lane;
+import app.grapekim.smartlotto.util.AppExecutors.Priority;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,7 +22,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * AI 번호 생성을 위한 데이터 Repository (스레드 안전 처리)
@@ -29,7 +32,9 @@ public class AiRepository {
     private final NumberPairsDao pairsDao;
     private final AiGenerationLogDao logDao;
 
-    // 백그라운드 작업용 ExecutorService
+    // 화면에서 기다리는 조회용 (공용 IO 레인, 사용자 우선순위)
+    private final ExecutorService queryExecutor;
+    // 통계 초기화/갱신, 로그 저장용 (공용 IO 레인, 백그라운드 우선순위)
     private final ExecutorService backgroundExecutor;
     // UI 스레드 Handler
     private final Handler mainHandler;
@@ -41,7 +46,8 @@ public class AiRepository {
         this.logDao = database.aiGenerationLogDao();
 
         // 스레드 관리 초기화
-        this.backgroundExecutor = Executors.newFixedThreadPool(2);
+        this.queryExecutor = AppExecutors.get().newExecutor(Lane.IO, Priority.USER_VISIBLE, "aiRepository.query", 2);
+        this.backgroundExecutor = AppExecutors.get().newExecutor(Lane.IO, Priority.BACKGROUND, "aiRepository.update", 2);
         this.mainHandler = new Handler(Looper.getMainLooper());
     }
 
@@ -135,7 +141,7 @@ public class AiRepository {
      * 인기 번호 조회 (비동기)
      */
     public void getPopularNumbersAsync(int limit, DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<NumberStatisticsEntity> result = statisticsDao.getPopularNumbers(limit);
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -158,7 +164,7 @@ public class AiRepository {
      * 소외 번호 조회 (비동기)
      */
     public void getNeglectedNumbersAsync(int limit, DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<NumberStatisticsEntity> result = statisticsDao.getNeglectedNumbers(limit);
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -181,7 +187,7 @@ public class AiRepository {
      * 트렌드 번호 조회 (비동기)
      */
     public void getTrendNumbersAsync(int limit, DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<NumberStatisticsEntity> result = statisticsDao.getTrendNumbers(limit);
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -204,7 +210,7 @@ public class AiRepository {
      * 홀수 번호 조회 (비동기)
      */
     public void getOddNumbersAsync(int limit, DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<NumberStatisticsEntity> result = statisticsDao.getNumbersByOddEven(true, limit);
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -227,7 +233,7 @@ public class AiRepository {
      * 짝수 번호 조회 (비동기)
      */
     public void getEvenNumbersAsync(int limit, DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<NumberStatisticsEntity> result = statisticsDao.getNumbersByOddEven(false, limit);
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -250,7 +256,7 @@ public class AiRepository {
      * 구간별 번호 조회 (비동기)
      */
     public void getNumbersByZoneAsync(int zone, int limit, DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 int start = (zone - 1) * 9 + 1;
                 int end = Math.min(zone * 9, 45);
@@ -280,7 +286,7 @@ public class AiRepository {
             double popWeight, double neglectWeight,
             double trendWeight, double avoidanceWeight,
             int limit, DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<NumberStatisticsEntity> result = statisticsDao.getNumbersByAiScore(
                         popWeight, neglectWeight, trendWeight, avoidanceWeight, limit);
@@ -309,7 +315,7 @@ public class AiRepository {
      */
     public void getNumbersByPairAnalysisAsync(List<Integer> selectedNumbers, int additionalCount,
                                               DataCallback<List<Integer>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<Integer> recommended = new ArrayList<>();
 
@@ -489,7 +495,7 @@ public class AiRepository {
      * 최근 생성 로그 조회 (비동기)
      */
     public void getRecentLogsAsync(int limit, DataCallback<List<AiGenerationLogEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<AiGenerationLogEntity> result = logDao.getRecentLogs(limit);
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -512,7 +518,7 @@ public class AiRepository {
      * 저장된 로그들 조회 (비동기)
      */
     public void getSavedLogsAsync(DataCallback<List<AiGenerationLogEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
                 List<AiGenerationLogEntity> result = logDao.getSavedLogs();
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -535,10 +541,9 @@ public class AiRepository {
      * 중복 번호 조합 확인 (비동기)
      */
     public void isDuplicateNumbersAsync(List<Integer> numbers, DataCallback<Boolean> callback) {
-        backgroundExecutor.execute(() -> {
+        queryExecutor.execute(() -> {
             try {
-                String numbersJson = convertNumbersToJson(numbers);
-                boolean result = logDao.checkDuplicateNumbers(numbersJson) > 0;
+                boolean result = logDao.countByTicketRank(LottoTicketCodec.rank(numbers)) > 0;
                 mainHandler.post(() -> callback.onSuccess(result));
             } catch (Exception e) {
                 mainHandler.post(() -> callback.onError(e));
@@ -552,8 +557,7 @@ public class AiRepository {
     @Deprecated
     public boolean isDuplicateNumbers(List<Integer> numbers) {
         android.util.Log.w("AiRepository", "동기 메서드 사용 - 백그라운드에서만 호출하세요");
-        String numbersJson = convertNumbersToJson(numbers);
-        return logDao.checkDuplicateNumbers(numbersJson) > 0;
+        return logDao.countByTicketRank(LottoTicketCodec.rank(numbers)) > 0;
     }
 
     // ==================== Helper 메서드들 (동기식 유지) ====================
@@ -666,8 +670,7 @@ public class AiRepository {
     // ==================== 리소스 정리 ====================
 
     public void cleanup() {
-        if (backgroundExecutor != null && !backgroundExecutor.isShutdown()) {
-            backgroundExecutor.shutdown();
-        }
+        queryExecutor.shutdown();
+        backgroundExecutor.shutdown();
     }
 }
\ No newline at end of file
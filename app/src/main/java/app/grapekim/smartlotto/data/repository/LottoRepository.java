@@ -2,12 +2,17 @@ package app.grapekim.smartlotto.data.repository;
 
 import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
+import androidx.paging.PagingData;
 
+import com.google.common.util.concurrent.ListenableFuture;
+
+import app.grapekim.smartlotto.data.local.room.dao.PickResultSummaryDao;
 import app.grapekim.smartlotto.data.local.room.entity.AiGenerationLogEntity;
 import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
 import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberPairsEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberStatisticsEntity;
+import app.grapekim.smartlotto.data.service.TicketSweepEngine;
 
 import java.util.List;
 
@@ -27,7 +32,20 @@ public interface LottoRepository {
                         @Nullable Integer round,
                         @Nullable Long purchaseAt);
 
-    LiveData<List<GeneratedPickEntity>> observeHistory(boolean onlyFav, boolean newestFirst);
+    /**
+     * 저장 게임 이력 (페이지 단위로 Room에서 로드, 테이블이 커져도 불러온 페이지만 메모리에 유지)
+     */
+    LiveData<PagingData<GeneratedPickEntity>> pageHistory(boolean onlyFav, boolean newestFirst);
+
+    /**
+     * 저장 게임 결과 전체 합계 관찰 (요약 테이블 기반, 게임 전체 스캔 없음)
+     */
+    LiveData<PickResultSummaryDao.ResultTotals> observeResultTotals();
+
+    /**
+     * 생성 방식별(AUTO/MANUAL/AI/QR) 결과 합계 관찰
+     */
+    LiveData<List<PickResultSummaryDao.ResultTotals>> observeResultTotalsByMethod();
 
     void setFavorite(long id, boolean fav);
 
@@ -170,6 +188,12 @@ public interface LottoRepository {
      */
     List<Long> saveLottoDrawHistories(List<LottoDrawHistoryEntity> drawHistories);
 
+    /**
+     * 대상 회차가 발표된 결과 미확인 게임 일괄 채점 (당첨번호 저장 후 자동 호출)
+     * @return 채점된 게임 수
+     */
+    int gradePendingResults();
+
     /**
      * 모든 당첨번호 이력 조회
      * @return 당첨번호 이력 목록 (최신순)
@@ -191,6 +215,14 @@ public interface LottoRepository {
     @Nullable
     LottoDrawHistoryEntity getDrawHistory(int drawNumber);
 
+    /**
+     * 회차 구간 당첨번호 조회
+     * @param fromDrawNumber 시작 회차 (포함)
+     * @param toDrawNumber 끝 회차 (포함)
+     * @return 구간 안의 당첨번호 목록 (최신순)
+     */
+    List<LottoDrawHistoryEntity> getDrawHistoryRange(int fromDrawNumber, int toDrawNumber);
+
     /**
      * 최신 회차 번호 조회
      * @return 최신 회차 번호 (저장된 데이터가 없으면 null)
@@ -198,6 +230,12 @@ public interface LottoRepository {
     @Nullable
     Integer getLatestDrawNumber();
 
+    /**
+     * 최신 회차 번호 관찰 (발표 회차 워터마크용)
+     * @return 최신 회차 번호 LiveData (저장된 데이터가 없으면 null 값)
+     */
+    LiveData<Integer> observeLatestDrawNumber();
+
     /**
      * 저장된 당첨번호 총 개수
      * @return 총 회차 수
@@ -270,9 +308,10 @@ public interface LottoRepository {
     List<NumberStatisticsEntity> getNumbersByZone(int zone);
 
     /**
-     * 번호별 통계 업데이트 (당첨번호 이력 기반으로 재계산)
+     * 번호별 통계 업데이트 (당첨번호 이력 기반으로 재계산, 백그라운드)
+     * @return 재계산이 끝나면 완료되는 Future (실패 시 예외 전달)
      */
-    void updateNumberStatistics();
+    ListenableFuture<Void> updateNumberStatistics();
 
     // ********** 번호 쌍 분석 관리 **********
 
@@ -317,9 +356,10 @@ public interface LottoRepository {
     List<NumberPairsEntity> getNonConsecutivePairs();
 
     /**
-     * 번호 쌍 분석 데이터 업데이트 (당첨번호 이력 기반으로 재계산)
+     * 번호 쌍 분석 데이터 업데이트 (당첨번호 이력 기반으로 재계산, 백그라운드)
+     * @return 재계산이 끝나면 완료되는 Future (실패 시 예외 전달)
      */
-    void updateNumberPairs();
+    ListenableFuture<Void> updateNumberPairs();
 
     // ********** AI 번호 생성 **********
 
@@ -342,6 +382,21 @@ public interface LottoRepository {
      */
     List<List<Integer>> generateAiNumbers(List<String> strategies, int count);
 
+    // ********** 과거 회차 일괄 판정 **********
+
+    /**
+     * 게임 목록이 과거 모든 회차에서 몇 등이었을지 일괄 판정 (백그라운드 전용)
+     * @param tickets 게임별 번호 6개
+     * @return 게임별 최고 등수/등수별 횟수/당첨 회차 (입력 순서 유지)
+     */
+    TicketSweepEngine.SweepResult runHistoricalSweep(List<List<Integer>> tickets) throws InterruptedException;
+
+    /**
+     * 즐겨찾기 게임 전체를 과거 모든 회차와 일괄 판정 (백그라운드 전용)
+     * @return 즐겨찾기 최신순 게임별 결과 (번호가 유효하지 않은 게임은 null)
+     */
+    TicketSweepEngine.SweepResult runFavoritesHistoricalSweep() throws InterruptedException;
+
     /**
      * AI 생성 번호 저장 (GeneratedPickEntity로 저장 + 로그 기록)
      * @param numbers 생성된 번호들
@@ -424,7 +479,8 @@ public interface LottoRepository {
     void clearAiGenerationLogs();
 
     /**
-     * AI 통계 데이터 전체 재계산 (당첨번호 이력 기반)
+     * AI 통계 데이터 전체 재계산 (당첨번호 이력 기반, 번호별 통계와 번호 쌍을 동시에 계산)
+     * @return 두 계산이 모두 끝나면 완료되는 Future (하나라도 실패하면 실패)
      */
-    void recalculateAllAiStatistics();
+    ListenableFuture<Void> recalculateAllAiStatistics();
 }
\ No newline at end of file
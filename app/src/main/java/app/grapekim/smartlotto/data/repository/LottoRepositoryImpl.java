@@ -6,22 +6,46 @@ import android.os.Looper;
 
 import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
-
+import androidx.paging.Pager;
+import androidx.paging.PagingConfig;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
+
+import app.grapekim.smartlotto.data.backtest.BacktestResult;
+import app.grapekim.smartlotto.data.backtest.DrawFeatureTimeline;
+import app.grapekim.smartlotto.data.backtest.StrategyBacktester;
+import app.grapekim.smartlotto.data.backtest.StrategyMix;
 import app.grapekim.smartlotto.data.local.room.AppDatabase;
 import app.grapekim.smartlotto.data.local.room.dao.AiGenerationLogDao;
 import app.grapekim.smartlotto.data.local.room.dao.GeneratedPickDao;
 import app.grapekim.smartlotto.data.local.room.dao.LottoDrawHistoryDao;
 import app.grapekim.smartlotto.data.local.room.dao.NumberPairsDao;
 import app.grapekim.smartlotto.data.local.room.dao.NumberStatisticsDao;
+import app.grapekim.smartlotto.data.local.room.dao.PickResultSummaryDao;
 import app.grapekim.smartlotto.data.local.room.entity.AiGenerationLogEntity;
 import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
 import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberPairsEntity;
 import app.grapekim.smartlotto.data.local.room.entity.NumberStatisticsEntity;
 import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.data.service.DrawIndex;
+import app.grapekim.smartlotto.data.service.LatestRoundResolver;
+import app.grapekim.smartlotto.data.service.TicketSweepEngine;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.AppExecutors.Lane;
+import app.grapekim.smartlotto.util.AppExecutors.Priority;
+import app.grapekim.smartlotto.util.DataVersionBus;
+import app.grapekim.smartlotto.util.ExecutorUtils;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
 import app.grapekim.smartlotto.util.RoundUtils;
 import app.grapekim.smartlotto.util.RoundCache;
 import app.grapekim.smartlotto.util.LottoNumberAnalyzer;
+import app.grapekim.smartlotto.util.StartupTimingReport;
+import app.grapekim.smartlotto.util.StartupTimings;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,21 +58,32 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class LottoRepositoryImpl implements LottoRepository {
 
+    // 이력 목록 페이지 크기 / 메모리에 유지할 최대 행 수
+    private static final int HISTORY_PAGE_SIZE = 30;
+    private static final int HISTORY_MAX_LOADED = 200;
+
     // ==================== DAO + 스레드 관리 ====================
     private final GeneratedPickDao dao;
     private final LottoDrawHistoryDao drawHistoryDao;
     private final NumberStatisticsDao numberStatisticsDao;
     private final NumberPairsDao numberPairsDao;
     private final AiGenerationLogDao aiGenerationLogDao;
+    private final PickResultSummaryDao summaryDao;
+    private final PickResultGrader resultGrader;
+    private final DrawIndex drawIndex;
+    private final DataVersionBus dataVersionBus;
+    private final LatestRoundResolver latestRoundResolver;
+
+    // 번호 생성용 통계 스냅샷 (연속 생성 시 DB를 다시 읽지 않음, 재계산/초기화/새 회차 시 다시 로드)
+    private volatile GenerationStats generationStats;
+    private final AtomicInteger generationStatsVersion = new AtomicInteger();
 
-    // 백그라운드 작업용 ExecutorService
-    private final ExecutorService backgroundExecutor;
     // UI 스레드 Handler
     private final Handler mainHandler;
 
@@ -59,9 +94,12 @@ public class LottoRepositoryImpl implements LottoRepository {
         this.numberStatisticsDao = database.numberStatisticsDao();
         this.numberPairsDao = database.numberPairsDao();
         this.aiGenerationLogDao = database.aiGenerationLogDao();
+        this.summaryDao = database.pickResultSummaryDao();
+        this.resultGrader = new PickResultGrader(database);
+        this.drawIndex = DrawIndex.get(context);
+        this.dataVersionBus = DataVersionBus.get();
+        this.latestRoundResolver = LatestRoundResolver.get(context);
 
-        // 스레드 관리 초기화
-        this.backgroundExecutor = Executors.newFixedThreadPool(3);
         this.mainHandler = new Handler(Looper.getMainLooper());
     }
 
@@ -113,6 +151,9 @@ public class LottoRepositoryImpl implements LottoRepository {
         e.favorite = false;
         e.method = method; // "AUTO" / "MANUAL"
         e.title = title;
+        // 대상 회차를 저장해 두어야 일괄 채점(getPendingResults)에 포함됨
+        e.targetRound = (round != null && round > 0) ? round : RoundUtils.roundForTimestamp(when);
+        e.refreshTicketRank();
 
         return dao.insert(e);
     }
@@ -148,7 +189,7 @@ public class LottoRepositoryImpl implements LottoRepository {
 
         if (roundNo == null) {
             try {
-                LottoDrawDto latest = RoundUtils.findLatestRoundSync();
+                LottoDrawDto latest = latestRoundResolver.resolveLatest();
                 roundNo = RoundUtils.computeExpectedRoundForTimestamp(whenMillis, latest);
             } catch (Exception e) {
                 android.util.Log.d("BuildTitle", "RoundUtils 실패: " + e.getMessage());
@@ -159,7 +200,7 @@ public class LottoRepositoryImpl implements LottoRepository {
         // AI의 경우 회차를 더 적극적으로 추정
         if (roundNo == null && ("AI".equals(method) || "수정".equals(method))) {
             try {
-                LottoDrawDto latest = RoundUtils.findLatestRoundSync();
+                LottoDrawDto latest = latestRoundResolver.resolveLatest();
                 if (latest != null && latest.drwNo != null) {
                     roundNo = latest.drwNo + 1;
                 } else {
@@ -188,7 +229,7 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     @Override
     public void updateAiMethodLabels() {
-        backgroundExecutor.execute(() -> {
+        runInBackground(Lane.IO, "repo.updateAiMethodLabels", () -> {
             try {
                 dao.updateMethodFromTo("수정", "AI");
                 refreshAiTitles();
@@ -299,7 +340,8 @@ public class LottoRepositoryImpl implements LottoRepository {
         e.purchaseTime = when;
         e.parsedRound = round;
         e.sourceType = sourceType;
-        e.targetRound = round;
+        e.targetRound = (round != null && round > 0) ? round : RoundUtils.roundForTimestamp(e.createdAt);
+        e.refreshTicketRank();
 
         return dao.insert(e);
     }
@@ -355,12 +397,27 @@ public class LottoRepositoryImpl implements LottoRepository {
     // ==================== 기존 조회/수정/삭제 메서드들 (동기식 유지) ====================
 
     @Override
-    public LiveData<List<GeneratedPickEntity>> observeHistory(boolean onlyFav, boolean newestFirst) {
-        if (onlyFav) {
-            return newestFirst ? dao.observeFavoritesDesc() : dao.observeFavoritesAsc();
-        } else {
-            return newestFirst ? dao.observeAllDesc() : dao.observeAllAsc();
-        }
+    public LiveData<PagingData<GeneratedPickEntity>> pageHistory(boolean onlyFav, boolean newestFirst) {
+        // 불러온 페이지는 최대 HISTORY_MAX_LOADED개 행까지만 유지 (나머지는 자리표시자)
+        PagingConfig config = new PagingConfig(HISTORY_PAGE_SIZE, HISTORY_PAGE_SIZE, true,
+                HISTORY_PAGE_SIZE * 2, HISTORY_MAX_LOADED);
+        return PagingLiveData.getLiveData(new Pager<>(config, () -> {
+            if (onlyFav) {
+                return newestFirst ? dao.pageFavoritesDesc() : dao.pageFavoritesAsc();
+            } else {
+                return newestFirst ? dao.pageAllDesc() : dao.pageAllAsc();
+            }
+        }));
+    }
+
+    @Override
+    public LiveData<PickResultSummaryDao.ResultTotals> observeResultTotals() {
+        return summaryDao.observeTotals();
+    }
+
+    @Override
+    public LiveData<List<PickResultSummaryDao.ResultTotals>> observeResultTotalsByMethod() {
+        return summaryDao.observeByMethod();
     }
 
     @Override
@@ -414,9 +471,14 @@ public class LottoRepositoryImpl implements LottoRepository {
         entity.number6 = numbers.get(5);
         entity.bonusNumber = numbers.get(6);
         entity.createdAt = System.currentTimeMillis();
+        entity.refreshTicketRank();
 
         // 동기 호출 유지 (이미 백그라운드에서 호출됨)
-        return drawHistoryDao.insert(entity);
+        long id = drawHistoryDao.insert(entity);
+        long dataVersion = dataVersionBus.publish(drawNumber + "회 저장");
+        DrawIndex.notifyDrawsSaved(Collections.singletonList(entity), dataVersion);
+        gradePendingResults();
+        return id;
     }
 
     @Override
@@ -424,12 +486,30 @@ public class LottoRepositoryImpl implements LottoRepository {
         if (drawHistories == null || drawHistories.isEmpty()) {
             return Collections.emptyList();
         }
-        return drawHistoryDao.insertAll(drawHistories);
+        for (LottoDrawHistoryEntity entity : drawHistories) {
+            entity.refreshTicketRank();
+        }
+        List<Long> ids = drawHistoryDao.insertAll(drawHistories);
+        long dataVersion = dataVersionBus.publish(drawHistories.size() + "개 회차 저장");
+        DrawIndex.notifyDrawsSaved(drawHistories, dataVersion);
+        gradePendingResults();
+        return ids;
+    }
+
+    @Override
+    public int gradePendingResults() {
+        // 채점 실패가 당첨번호 저장 실패로 번지지 않도록 격리
+        try {
+            return resultGrader.gradePending();
+        } catch (Exception e) {
+            android.util.Log.e("PickResultGrader", "미확인 게임 일괄 채점 실패", e);
+            return 0;
+        }
     }
 
     // 비동기 버전 추가
     public void getAllDrawHistoryAsync(DataCallback<List<LottoDrawHistoryEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        runForUser(Lane.IO, "repo.drawHistory", () -> {
             try {
                 List<LottoDrawHistoryEntity> result = drawHistoryDao.getAll();
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -456,12 +536,22 @@ public class LottoRepositoryImpl implements LottoRepository {
         return drawHistoryDao.getByDrawNumber(drawNumber);
     }
 
+    @Override
+    public List<LottoDrawHistoryEntity> getDrawHistoryRange(int fromDrawNumber, int toDrawNumber) {
+        return drawHistoryDao.getByDrawRange(fromDrawNumber, toDrawNumber);
+    }
+
     @Override
     @Nullable
     public Integer getLatestDrawNumber() {
         return drawHistoryDao.getLatestDrawNumber();
     }
 
+    @Override
+    public LiveData<Integer> observeLatestDrawNumber() {
+        return drawHistoryDao.observeLatestDrawNumber();
+    }
+
     @Override
     public int getTotalDrawCount() {
         return drawHistoryDao.getTotalCount();
@@ -470,7 +560,7 @@ public class LottoRepositoryImpl implements LottoRepository {
     // ********** 번호별 통계 관리 (비동기) **********
 
     public void getAllNumberStatisticsAsync(DataCallback<List<NumberStatisticsEntity>> callback) {
-        backgroundExecutor.execute(() -> {
+        runForUser(Lane.IO, "repo.numberStatistics", () -> {
             try {
                 List<NumberStatisticsEntity> result = numberStatisticsDao.getAllStatistics();
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -541,13 +631,10 @@ public class LottoRepositoryImpl implements LottoRepository {
     }
 
     @Override
-    public void updateNumberStatistics() {
-        backgroundExecutor.execute(() -> {
-            try {
-                updateNumberStatisticsInternal();
-            } catch (Exception e) {
-                android.util.Log.e("LottoRepository", "updateNumberStatistics 실패", e);
-            }
+    public ListenableFuture<Void> updateNumberStatistics() {
+        return submitInBackground(Lane.CPU, "repo.updateNumberStatistics", () -> {
+            updateNumberStatisticsInternal();
+            invalidateGenerationStats();
         });
     }
 
@@ -692,13 +779,10 @@ public class LottoRepositoryImpl implements LottoRepository {
     }
 
     @Override
-    public void updateNumberPairs() {
-        backgroundExecutor.execute(() -> {
-            try {
-                updateNumberPairsInternal();
-            } catch (Exception e) {
-                android.util.Log.e("LottoRepository", "updateNumberPairs 실패", e);
-            }
+    public ListenableFuture<Void> updateNumberPairs() {
+        return submitInBackground(Lane.CPU, "repo.updateNumberPairs", () -> {
+            updateNumberPairsInternal();
+            invalidateGenerationStats();
         });
     }
 
@@ -775,7 +859,7 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     public void generateAiNumbersAsync(List<String> strategies, List<Double> strategyWeights, int count,
                                        DataCallback<List<List<Integer>>> callback) {
-        backgroundExecutor.execute(() -> {
+        runForUser(Lane.CPU, "repo.generateAiNumbers", () -> {
             try {
                 List<List<Integer>> result = generateAiNumbersInternal(strategies, strategyWeights, count);
                 mainHandler.post(() -> callback.onSuccess(result));
@@ -820,6 +904,85 @@ public class LottoRepositoryImpl implements LottoRepository {
         return results;
     }
 
+    // ********** 전략 백테스트 **********
+
+    /**
+     * 저장된 당첨번호 이력으로 전략 조합들을 워크포워드 백테스트 (백그라운드 전용)
+     * 회차 k의 게임은 k 이전 회차 통계만으로 생성되며, 조합들은 공용 CPU 레인에서 병렬로 실행됩니다.
+     * 앱 화면에서는 호출하지 않는 라이브러리 진입점입니다 (가중치 튜닝은 StrategyTuningWorker 담당).
+     * @param mixes 전략 조합 목록
+     * @param warmupRounds 채점하지 않고 건너뛸 앞쪽 회차 수
+     * @return 조합별 등수 집계 (입력 순서 유지)
+     */
+    public List<BacktestResult> runStrategyBacktest(List<StrategyMix> mixes, int warmupRounds)
+            throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        DrawFeatureTimeline timeline = DrawFeatureTimeline.build(drawHistoryDao.getAll());
+
+        ExecutorService executor = AppExecutors.get().newExecutor(
+                Lane.CPU, Priority.BACKGROUND, "repo.strategyBacktest", AppExecutors.cpuParallelism());
+        try {
+            List<BacktestResult> results = new StrategyBacktester(timeline).runAll(mixes, warmupRounds, executor);
+
+            android.util.Log.d("AI_BACKTEST", String.format(Locale.KOREA, "백테스트 완료: %d회차, %d개 조합, %dms",
+                    timeline.getRoundCount(), mixes.size(), System.currentTimeMillis() - startTime));
+            for (BacktestResult result : results) {
+                android.util.Log.d("AI_BACKTEST", result.toString());
+            }
+            return results;
+        } finally {
+            ExecutorUtils.shutdownSafely(executor);
+        }
+    }
+
+    // ********** 과거 회차 일괄 판정 **********
+
+    /**
+     * 게임 목록이 과거 모든 회차에서 몇 등이었을지 일괄 판정 (백그라운드 전용)
+     * @param tickets 게임별 번호 6개 (즐겨찾기 등 수천 개까지)
+     * @return 게임별 최고 등수/등수별 횟수/당첨 회차 (입력 순서 유지)
+     */
+    @Override
+    public TicketSweepEngine.SweepResult runHistoricalSweep(List<List<Integer>> tickets)
+            throws InterruptedException {
+        long[] masks = new long[tickets.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = LottoTicketCodec.toMask(tickets.get(i));
+        }
+        return sweepTickets(masks);
+    }
+
+    /**
+     * 즐겨찾기 게임 전체 과거 회차 일괄 판정 (백그라운드 전용)
+     */
+    @Override
+    public TicketSweepEngine.SweepResult runFavoritesHistoricalSweep() throws InterruptedException {
+        List<String> favorites = dao.getFavoriteNumbersCsv();
+        long[] masks = new long[favorites.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = LottoTicketCodec.parseMask(favorites.get(i));
+        }
+        return sweepTickets(masks);
+    }
+
+    private TicketSweepEngine.SweepResult sweepTickets(long[] masks) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        TicketSweepEngine engine = TicketSweepEngine.fromIndex(drawIndex);
+
+        ExecutorService executor = AppExecutors.get().newExecutor(
+                Lane.CPU, Priority.USER_VISIBLE, "repo.historicalSweep", AppExecutors.cpuParallelism());
+        try {
+            TicketSweepEngine.SweepResult result = engine.sweep(masks, executor);
+            android.util.Log.d("HistoricalSweep", String.format(Locale.KOREA,
+                    "과거 회차 판정 완료: %d게임 x %d회차, 최고 %d등, %dms",
+                    masks.length, result.roundCount, result.getBestRank(),
+                    System.currentTimeMillis() - startTime));
+            return result;
+        } finally {
+            ExecutorUtils.shutdownSafely(executor);
+        }
+    }
+
     /**
      * 단일 AI 번호 조합 생성 (백그라운드에서 실행) - 개선된 랜덤성
      */
@@ -831,12 +994,8 @@ public class LottoRepositoryImpl implements LottoRepository {
         // 각 번호(1-45)에 대한 점수 계산
         Map<Integer, Double> numberScores = new HashMap<>();
 
-        // 모든 번호별 통계 로드
-        List<NumberStatisticsEntity> allStats = numberStatisticsDao.getAllStatistics();
-        Map<Integer, NumberStatisticsEntity> statsMap = new HashMap<>();
-        for (NumberStatisticsEntity stat : allStats) {
-            statsMap.put(stat.number, stat);
-        }
+        // 번호별 통계 (스냅샷 재사용)
+        Map<Integer, NumberStatisticsEntity> statsMap = generationStats().statsMap;
 
         // 초기 점수 설정
         for (int number = 1; number <= 45; number++) {
@@ -1061,7 +1220,7 @@ public class LottoRepositoryImpl implements LottoRepository {
     }
 
     private void applyPairAnalysisStrategy(double weight, Map<Integer, Double> numberScores) {
-        List<NumberPairsEntity> topPairs = numberPairsDao.getTopPairs(20);
+        List<NumberPairsEntity> topPairs = generationStats().topPairs;
 
         for (NumberPairsEntity pair : topPairs) {
             double pairBonus = pair.pairScore * weight * 0.1;
@@ -1437,7 +1596,7 @@ public class LottoRepositoryImpl implements LottoRepository {
         long pickId = saveWithMethod("AI", numbers, currentRound, null);
 
         // AI 생성 기록 로그 저장 (백그라운드에서)
-        backgroundExecutor.execute(() -> {
+        runInBackground(Lane.IO, "repo.saveAiGenerationLog", () -> {
             try {
                 AiGenerationLogEntity log = new AiGenerationLogEntity();
                 log.strategiesUsed = convertStrategiesToString(strategies);
@@ -1447,6 +1606,7 @@ public class LottoRepositoryImpl implements LottoRepository {
                 log.createdAt = System.currentTimeMillis();
                 log.isSaved = false;
                 log.notes = "";
+                log.refreshTicketRank();
 
                 aiGenerationLogDao.insertLog(log);
             } catch (Exception e) {
@@ -1480,6 +1640,7 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     @Override
     public long saveAiGenerationLog(AiGenerationLogEntity log) {
+        log.refreshTicketRank();
         return aiGenerationLogDao.insertLog(log);
     }
 
@@ -1512,12 +1673,15 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     @Override
     public void clearAllAiData() {
-        backgroundExecutor.execute(() -> {
+        runInBackground(Lane.IO, "repo.clearAllAiData", () -> {
             try {
                 drawHistoryDao.deleteAll();
+                dataVersionBus.publish("당첨번호 이력 삭제");
+                DrawIndex.notifyDrawsCleared();
                 numberStatisticsDao.deleteAllStatistics();
                 numberPairsDao.deleteAllPairs();
                 aiGenerationLogDao.deleteAllLogs();
+                invalidateGenerationStats();
             } catch (Exception e) {
                 android.util.Log.e("LottoRepository", "clearAllAiData 실패", e);
             }
@@ -1526,9 +1690,12 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     @Override
     public void clearDrawHistory() {
-        backgroundExecutor.execute(() -> {
+        runInBackground(Lane.IO, "repo.clearDrawHistory", () -> {
             try {
                 drawHistoryDao.deleteAll();
+                dataVersionBus.publish("당첨번호 이력 삭제");
+                DrawIndex.notifyDrawsCleared();
+                invalidateGenerationStats();
             } catch (Exception e) {
                 android.util.Log.e("LottoRepository", "clearDrawHistory 실패", e);
             }
@@ -1537,9 +1704,10 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     @Override
     public void clearNumberStatistics() {
-        backgroundExecutor.execute(() -> {
+        runInBackground(Lane.IO, "repo.clearNumberStatistics", () -> {
             try {
                 numberStatisticsDao.deleteAllStatistics();
+                invalidateGenerationStats();
             } catch (Exception e) {
                 android.util.Log.e("LottoRepository", "clearNumberStatistics 실패", e);
             }
@@ -1548,9 +1716,10 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     @Override
     public void clearNumberPairs() {
-        backgroundExecutor.execute(() -> {
+        runInBackground(Lane.IO, "repo.clearNumberPairs", () -> {
             try {
                 numberPairsDao.deleteAllPairs();
+                invalidateGenerationStats();
             } catch (Exception e) {
                 android.util.Log.e("LottoRepository", "clearNumberPairs 실패", e);
             }
@@ -1559,7 +1728,7 @@ public class LottoRepositoryImpl implements LottoRepository {
 
     @Override
     public void clearAiGenerationLogs() {
-        backgroundExecutor.execute(() -> {
+        runInBackground(Lane.IO, "repo.clearAiGenerationLogs", () -> {
             try {
                 aiGenerationLogDao.deleteAllLogs();
             } catch (Exception e) {
@@ -1569,21 +1738,92 @@ public class LottoRepositoryImpl implements LottoRepository {
     }
 
     @Override
-    public void recalculateAllAiStatistics() {
-        backgroundExecutor.execute(() -> {
-            try {
-                updateNumberStatisticsInternal();
-                updateNumberPairsInternal();
-            } catch (Exception e) {
-                android.util.Log.e("LottoRepository", "recalculateAllAiStatistics 실패", e);
-            }
-        });
+    public ListenableFuture<Void> recalculateAllAiStatistics() {
+        // 번호별 통계와 번호 쌍은 서로 다른 테이블만 쓰므로 CPU 레인에서 동시에 계산
+        ListenableFuture<Void> numberStatistics = updateNumberStatistics();
+        ListenableFuture<Void> numberPairs = updateNumberPairs();
+        return Futures.whenAllSucceed(numberStatistics, numberPairs).call(() -> {
+            StartupTimings.mark(StartupTimingReport.Phase.STATS_READY);
+            return null;
+        }, MoreExecutors.directExecutor());
+    }
+
+    // ********** 번호 생성용 통계 스냅샷 **********
+
+    /**
+     * 번호 생성에 쓰는 통계 묶음 (읽기 전용으로만 사용)
+     */
+    private static final class GenerationStats {
+        final int version;
+        final long dataVersion;
+        final Map<Integer, NumberStatisticsEntity> statsMap;
+        final List<NumberPairsEntity> topPairs;
+
+        GenerationStats(int version, long dataVersion, Map<Integer, NumberStatisticsEntity> statsMap,
+                        List<NumberPairsEntity> topPairs) {
+            this.version = version;
+            this.dataVersion = dataVersion;
+            this.statsMap = statsMap;
+            this.topPairs = topPairs;
+        }
     }
 
-    // ********** 리소스 정리 **********
-    public void cleanup() {
-        if (backgroundExecutor != null && !backgroundExecutor.isShutdown()) {
-            backgroundExecutor.shutdown();
+    /**
+     * 현재 스냅샷 (무효화되었거나 당첨번호 데이터 버전이 바뀌었으면 DB에서 다시 로드)
+     */
+    private GenerationStats generationStats() {
+        int version = generationStatsVersion.get();
+        long dataVersion = dataVersionBus.getVersion();
+        GenerationStats current = generationStats;
+        if (current != null && current.version == version && current.dataVersion == dataVersion) {
+            return current;
+        }
+
+        Map<Integer, NumberStatisticsEntity> statsMap = new HashMap<>();
+        for (NumberStatisticsEntity stat : numberStatisticsDao.getAllStatistics()) {
+            statsMap.put(stat.number, stat);
         }
+        // 로드 중에 무효화되면 이전 버전으로 저장되어 다음 호출에서 다시 로드됨
+        GenerationStats loaded = new GenerationStats(version, dataVersion,
+                Collections.unmodifiableMap(statsMap),
+                Collections.unmodifiableList(numberPairsDao.getTopPairs(20)));
+        generationStats = loaded;
+        return loaded;
+    }
+
+    private void invalidateGenerationStats() {
+        generationStatsVersion.incrementAndGet();
+        generationStats = null;
+    }
+
+    // ********** 작업 실행 **********
+
+    /**
+     * 사용자가 결과를 기다리는 작업 (조회, 번호 생성) - 공용 레인에서 재계산보다 먼저 실행
+     */
+    private static void runForUser(Lane lane, String name, Runnable task) {
+        AppExecutors.get().execute(lane, Priority.USER_VISIBLE, name, task);
+    }
+
+    /**
+     * 통계 재계산, 라벨 갱신, 초기화 등 백그라운드 작업
+     */
+    private static void runInBackground(Lane lane, String name, Runnable task) {
+        AppExecutors.get().execute(lane, Priority.BACKGROUND, name, task);
+    }
+
+    /**
+     * 완료를 기다리거나 조합할 수 있는 백그라운드 작업 (실패는 로그 후 Future로 전달)
+     */
+    private static ListenableFuture<Void> submitInBackground(Lane lane, String name, Runnable task) {
+        return AppExecutors.get().submit(lane, Priority.BACKGROUND, name, () -> {
+            try {
+                task.run();
+                return null;
+            } catch (RuntimeException e) {
+                android.util.Log.e("LottoRepository", name + " 실패", e);
+                throw e;
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package app.grapekim.smartlotto.data.repository;
+
+import android.util.Log;
+
+import java.util.List;
+
+import app.grapekim.smartlotto.data.local.room.AppDatabase;
+import app.grapekim.smartlotto.data.local.room.dao.GeneratedPickDao;
+import app.grapekim.smartlotto.data.local.room.dao.LottoDrawHistoryDao;
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+/**
+ * 결과 미확인 게임 일괄 채점기
+ *
+ * 당첨번호가 저장된 뒤 대상 회차가 발표된 모든 미확인 게임을 한 번에 채점합니다.
+ * 필요한 회차 범위의 당첨번호만 메모리에 올려 비트마스크 popcount로 비교하고,
+ * 결과는 하나의 Room 트랜잭션으로 기록하므로 행별 네트워크 조회가 없습니다.
+ */
+public final class PickResultGrader {
+
+    private static final String TAG = "PickResultGrader";
+
+    private final AppDatabase database;
+    private final GeneratedPickDao pickDao;
+    private final LottoDrawHistoryDao drawHistoryDao;
+
+    public PickResultGrader(AppDatabase database) {
+        this.database = database;
+        this.pickDao = database.generatedPickDao();
+        this.drawHistoryDao = database.lottoDrawHistoryDao();
+    }
+
+    /**
+     * 채점 가능한 모든 미확인 게임 채점 (백그라운드 스레드에서 호출)
+     * @return 채점된 게임 수
+     */
+    public int gradePending() {
+        Integer latestRound = drawHistoryDao.getLatestDrawNumber();
+        if (latestRound == null || latestRound <= 0) return 0;
+
+        List<GeneratedPickDao.PendingResultRow> pending = pickDao.getPendingResults(latestRound);
+        if (pending.isEmpty()) return 0;
+
+        long start = System.currentTimeMillis();
+
+        // 대상 회차 범위의 당첨번호만 배열로 적재 (회차 - firstRound 인덱스)
+        int firstRound = latestRound;
+        for (GeneratedPickDao.PendingResultRow row : pending) {
+            firstRound = Math.min(firstRound, row.round);
+        }
+        int span = latestRound - firstRound + 1;
+        long[] winningMasks = new long[span];
+        int[] bonusNumbers = new int[span];
+        for (LottoDrawHistoryEntity draw : drawHistoryDao.getByDrawRange(firstRound, latestRound)) {
+            winningMasks[draw.drawNumber - firstRound] = draw.getWinningMask();
+            bonusNumbers[draw.drawNumber - firstRound] = draw.bonusNumber;
+        }
+
+        // 채점 (결과는 병렬 배열에 보관)
+        int size = pending.size();
+        int[] ranks = new int[size];
+        int[] matchCounts = new int[size];
+        boolean[] graded = new boolean[size];
+        int gradedCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            GeneratedPickDao.PendingResultRow row = pending.get(i);
+            long winning = winningMasks[row.round - firstRound];
+            if (winning == 0L) continue; // 누락된 회차는 다음 수집 때 다시 시도
+
+            long ticket = (row.ticketRank >= 0)
+                    ? LottoTicketCodec.maskOfRank(row.ticketRank)
+                    : LottoTicketCodec.parseMask(row.numbersCsv);
+            if (ticket == 0L) continue; // 번호가 손상된 게임은 건너뜀
+
+            int rank = LottoTicketCodec.prizeRank(ticket, winning, bonusNumbers[row.round - firstRound]);
+            ranks[i] = (rank == 0) ? -1 : rank; // 낙첨은 -1로 저장 (HistoryFragment와 동일)
+            matchCounts[i] = LottoTicketCodec.matchCount(ticket, winning);
+            graded[i] = true;
+            gradedCount++;
+        }
+
+        if (gradedCount == 0) return 0;
+
+        // 단일 트랜잭션으로 기록
+        database.runInTransaction(() -> {
+            for (int i = 0; i < size; i++) {
+                if (!graded[i]) continue;
+                GeneratedPickDao.PendingResultRow row = pending.get(i);
+                pickDao.updateResult(row.id, ranks[i], matchCounts[i], row.round);
+            }
+        });
+
+        Log.i(TAG, String.format("일괄 채점 완료: %d/%d개 (%d~%d회, %dms)",
+                gradedCount, size, firstRound, latestRound, System.currentTimeMillis() - start));
+        return gradedCount;
+    }
+}
@@ -0,0 +1,116 @@
+package app.grapekim.smartlotto.data.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 토요일 당첨번호 발표 확인 시각 계획 (순수 계산, 저장은 호출 측 담당)
+ *
+ * 최근 관측된 발표 시각(토요일 20:00 기준 경과 분)으로 "발표가 몰리는 구간"을 잡고
+ * - 첫 확인은 구간 시작 시각에
+ * - 구간 안에서는 짧은 간격으로
+ * - 구간을 지나면 구간 간격의 두 배부터 실패할 때마다 간격을 두 배로 늘리고
+ * - 포기 시각이 지나면 그날 확인을 중단합니다.
+ */
+public final class PublishProbePlanner {
+
+    /** 보관할 최근 관측 수 */
+    static final int MAX_HISTORY = 8;
+    /** 관측 기록이 없을 때의 발표 구간 (20:42 ~ 20:55) */
+    static final int DEFAULT_WINDOW_START = 42;
+    static final int DEFAULT_WINDOW_END = 55;
+    /** 추첨(20:35) 이전에는 확인하지 않음 */
+    static final int EARLIEST_OFFSET = 38;
+    /** 이 시각(토요일 24:00)이 지나면 그날 확인 중단 */
+    static final int GIVE_UP_OFFSET = 240;
+    /** 구간 안 확인 간격 / 구간 밖 최대 간격 (분) */
+    static final int IN_WINDOW_INTERVAL = 2;
+    static final int MAX_BACKOFF_INTERVAL = 60;
+    /** 첫 확인에서 이미 발표되어 있었으면 다음 주에는 이만큼 당겨 시작 */
+    static final int EARLY_HIT_SHIFT = 3;
+
+    /** 더 이상 확인하지 않음 */
+    public static final int STOP = -1;
+
+    private final List<Integer> history;   // 오래된 순
+
+    public PublishProbePlanner(List<Integer> observedOffsets) {
+        this.history = new ArrayList<>();
+        if (observedOffsets != null) {
+            for (Integer offset : observedOffsets) {
+                if (offset != null && offset >= EARLIEST_OFFSET && offset < GIVE_UP_OFFSET) {
+                    history.add(offset);
+                }
+            }
+        }
+        while (history.size() > MAX_HISTORY) history.remove(0);
+    }
+
+    /** 발표가 몰리는 구간 시작 (최근 관측 최솟값) */
+    public int getWindowStart() {
+        if (history.isEmpty()) return DEFAULT_WINDOW_START;
+        return Math.max(EARLIEST_OFFSET, Collections.min(history));
+    }
+
+    /** 발표가 몰리는 구간 끝 (최근 관측 최댓값) */
+    public int getWindowEnd() {
+        if (history.isEmpty()) return DEFAULT_WINDOW_END;
+        return Math.max(getWindowStart(), Collections.max(history));
+    }
+
+    /**
+     * 그날 첫 확인 시각 (20:00 기준 분)
+     */
+    public int firstProbeOffset() {
+        return getWindowStart();
+    }
+
+    /**
+     * 확인 실패 후 다음 확인 시각
+     * @param offset 방금 확인한 시각 (20:00 기준 분)
+     * @param misses 그날 누적 실패 횟수 (방금 실패 포함, 1 이상)
+     * @return 다음 확인 시각, 포기 시각이 지났으면 STOP
+     */
+    public int nextProbeOffset(int offset, int misses) {
+        int windowStart = getWindowStart();
+        int windowEnd = getWindowEnd();
+
+        int next;
+        if (offset < windowStart) {
+            next = windowStart;
+        } else if (offset < windowEnd) {
+            next = Math.min(windowEnd, offset + IN_WINDOW_INTERVAL);
+        } else {
+            // 구간을 지난 뒤 n번째 실패면 구간 간격 × 2^n (4, 8, 16, 32분, ... 최대 60분)
+            int missesPastWindow = Math.max(1, misses - inWindowProbeCount() + 1);
+            int interval = IN_WINDOW_INTERVAL << Math.min(missesPastWindow, 5);
+            next = offset + Math.min(MAX_BACKOFF_INTERVAL, interval);
+        }
+        return next >= GIVE_UP_OFFSET ? STOP : next;
+    }
+
+    /**
+     * 발표 확인 성공 기록
+     * @param offset 성공한 확인 시각 (20:00 기준 분)
+     * @param firstProbe 그날 첫 확인에서 바로 성공했는지 (실제 발표는 더 이를 수 있음)
+     * @return 최신 관측 목록 (오래된 순, 저장용)
+     */
+    public List<Integer> record(int offset, boolean firstProbe) {
+        int observed = firstProbe ? offset - EARLY_HIT_SHIFT : offset;
+        observed = Math.max(EARLIEST_OFFSET, Math.min(GIVE_UP_OFFSET - 1, observed));
+        history.add(observed);
+        while (history.size() > MAX_HISTORY) history.remove(0);
+        return getHistory();
+    }
+
+    public List<Integer> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    /** 구간 안에서 확인하는 횟수 (첫 확인 포함) */
+    private int inWindowProbeCount() {
+        int span = getWindowEnd() - getWindowStart();
+        return 1 + (span + IN_WINDOW_INTERVAL - 1) / IN_WINDOW_INTERVAL;
+    }
+}
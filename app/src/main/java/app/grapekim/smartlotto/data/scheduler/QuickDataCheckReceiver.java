@@ -5,229 +5,256 @@ import android.app.PendingIntent;
 import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
+import android.content.SharedPreferences;
 import android.util.Log;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 
-import app.grapekim.smartlotto.data.CsvUpdateManager;
-import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
-import app.grapekim.smartlotto.data.notification.UpdateNotificationManager;
-
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.data.service.DrawFetchCoordinator;
+import app.grapekim.smartlotto.data.service.DrawIndex;
+import app.grapekim.smartlotto.data.work.DataUpdateOrchestrator;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.LottoDrawCalculator;
 
 /**
- * 토요일 20:35~21:10에 1분 간격으로 GitHub CSV를 체크하는 리시버
+ * 토요일 밤 당첨번호 발표 확인 리시버
+ *
+ * 매분 깨어나 GitHub CSV 전체를 받던 방식 대신, 최근 발표 시각 기록(PublishProbePlanner)으로
+ * 발표가 몰리는 구간에 확인을 집중하고, 구간을 지나면 간격을 두 배씩 늘리며, 처음 성공하면 그 주 확인을 멈춥니다.
+ * 확인 한 번은 이번 회차 1건 API 조회(DrawFetchCoordinator 경유)이며, 이미 Room에 있으면 네트워크 없이 끝납니다.
  */
 public class QuickDataCheckReceiver extends BroadcastReceiver {
     private static final String TAG = "QuickDataCheckReceiver";
-    private static final String CSV_URL = "https://raw.githubusercontent.com/stuKim0221/smart-lotto/refs/heads/main/app/src/main/assets/draw_kor.csv";
+
+    private static final int REQUEST_CODE = 1001;
+    private static final int BASE_HOUR = 20;   // 확인 시각 기준 (토요일 20:00)
+
+    private static final String PREF_NAME = "publish_probe";
+    private static final String KEY_OBSERVED = "observed_offsets";    // 최근 발표 관측 시각 (20:00 기준 분, 쉼표 구분)
+    private static final String KEY_NIGHT_ROUND = "night_round";      // 오늘 밤 확인 중인 회차
+    private static final String KEY_NIGHT_MISSES = "night_misses";    // 오늘 밤 누적 실패 횟수
+    private static final String KEY_FOUND_ROUND = "found_round";      // 마지막으로 발표를 확인한 회차
 
     @Override
     public void onReceive(Context context, Intent intent) {
-        Log.i(TAG, "=== 1분 간격 빠른 체크 시작 ===");
+        final Context appContext = context.getApplicationContext();
+        final PendingResult pendingResult = goAsync();
 
         // 백그라운드 스레드에서 실행
-        new Thread(() -> {
+        AppExecutors.get().execute(AppExecutors.Lane.IO, AppExecutors.Priority.BACKGROUND, "quickDataCheck.probe", () -> {
             try {
-                // 현재 시간 확인
-                Calendar now = Calendar.getInstance();
-                int dayOfWeek = now.get(Calendar.DAY_OF_WEEK);
-                int hour = now.get(Calendar.HOUR_OF_DAY);
-                int minute = now.get(Calendar.MINUTE);
-
-                // 토요일 20:35~21:10이 아니면 다음 알람만 설정하고 종료
-                if (dayOfWeek != Calendar.SATURDAY ||
-                    (hour == 20 && minute < 35) ||
-                    (hour == 21 && minute > 10) ||
-                    hour < 20 || hour > 21) {
-                    Log.d(TAG, "발표 시간대가 아님 - 다음 알람 설정 후 종료");
-                    scheduleNext1MinuteCheck(context);
-                    return;
-                }
-
-                Log.i(TAG, String.format("🎯 발표 시간대 체크 (%02d:%02d)", hour, minute));
-
-                // 로컬 DB 최신 회차 확인
-                LottoRepository repository = new LottoRepositoryImpl(context);
-                Integer localLatestRound = repository.getLatestDrawNumber();
-                Log.i(TAG, "로컬 DB 최신 회차: " + (localLatestRound != null ? localLatestRound : "없음"));
-
-                // GitHub CSV 최신 회차 확인
-                Integer githubLatestRound = getLatestRoundFromGitHub();
-                Log.i(TAG, "GitHub CSV 최신 회차: " + (githubLatestRound != null ? githubLatestRound : "확인 실패"));
-
-                if (githubLatestRound == null) {
-                    Log.w(TAG, "GitHub CSV 회차 확인 실패");
-                    scheduleNext1MinuteCheck(context);
-                    return;
-                }
-
-                // 새로운 데이터가 있는지 확인
-                if (localLatestRound == null || githubLatestRound > localLatestRound) {
-                    int newRounds = githubLatestRound - (localLatestRound != null ? localLatestRound : 0);
-                    Log.i(TAG, String.format("🎉 새로운 데이터 발견! %d → %d (%d개 회차)",
-                            localLatestRound, githubLatestRound, newRounds));
-
-                    // 데이터 업데이트 실행
-                    CsvUpdateManager updateManager = new CsvUpdateManager(context);
-                    boolean success = updateManager.updateCsvFile();
-
-                    if (success) {
-                        // 알림 발송: QR 당첨확인 기능 사용 가능 안내
-                        UpdateNotificationManager notificationManager = new UpdateNotificationManager(context);
-                        String message = String.format("🎉 %d회차 로또 당첨 확인이 가능합니다!", githubLatestRound);
-                        notificationManager.showUpdateSuccessNotification(message);
-                        Log.i(TAG, "✅ 자동 업데이트 성공! 알림 발송 완료");
-                    } else {
-                        Log.w(TAG, "⚠️ 업데이트 실패");
-                    }
-                } else {
-                    Log.d(TAG, "새로운 데이터 없음 (GitHub: " + githubLatestRound + ", Local: " + localLatestRound + ")");
-                }
-
+                probeOnce(appContext);
             } catch (Exception e) {
-                Log.e(TAG, "체크 중 오류 발생", e);
+                Log.e(TAG, "발표 확인 중 오류 발생", e);
+                scheduleSaturdayQuickCheck(appContext);
             } finally {
-                // 다음 1분 후 알람 설정
-                scheduleNext1MinuteCheck(context);
+                pendingResult.finish();
             }
-        }).start();
+        });
     }
 
     /**
-     * GitHub CSV에서 최신 회차 번호 가져오기
+     * 발표 여부 1회 확인 후 다음 확인 예약
      */
-    private Integer getLatestRoundFromGitHub() {
-        HttpURLConnection connection = null;
-        BufferedReader reader = null;
+    private void probeOnce(Context context) {
+        SharedPreferences prefs = prefs(context);
+        PublishProbePlanner planner = new PublishProbePlanner(readObserved(prefs));
+        int offset = saturdayOffset(Calendar.getInstance());
+
+        // 토요일 확인 시간대가 아니면 다음 토요일 첫 확인만 예약
+        if (offset < planner.firstProbeOffset() || offset >= PublishProbePlanner.GIVE_UP_OFFSET) {
+            Log.d(TAG, "발표 확인 시간대가 아님 - 다음 확인 예약");
+            scheduleSaturdayQuickCheck(context);
+            return;
+        }
 
-        try {
-            String urlWithTimestamp = CSV_URL + "?t=" + System.currentTimeMillis();
-            URL url = new URL(urlWithTimestamp);
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("GET");
-            connection.setConnectTimeout(10000);
-            connection.setReadTimeout(10000);
-            connection.setRequestProperty("Cache-Control", "no-cache");
-
-            int responseCode = connection.getResponseCode();
-            if (responseCode != HttpURLConnection.HTTP_OK) {
-                Log.w(TAG, "HTTP 응답 코드: " + responseCode);
-                return null;
-            }
+        int targetRound = LottoDrawCalculator.getCurrentExpectedDrawNumber();
+        if (targetRound <= 0 || prefs.getInt(KEY_FOUND_ROUND, 0) >= targetRound) {
+            Log.d(TAG, targetRound + "회 이미 확인됨 - 다음 주 확인 예약");
+            scheduleNextWeek(context, planner);
+            return;
+        }
 
-            reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-            String line;
-            boolean isFirstLine = true;
-
-            while ((line = reader.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue; // 헤더 스킵
-                }
-
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
-
-                // 첫 번째 데이터 라인에서 회차 추출
-                String[] parts = line.split(",");
-                if (parts.length >= 2) {
-                    String drawNoStr = parts[1].trim();
-                    if (!drawNoStr.isEmpty()) {
-                        return Integer.parseInt(drawNoStr);
-                    }
-                }
-                break;
-            }
+        int misses = prefs.getInt(KEY_NIGHT_ROUND, 0) == targetRound ? prefs.getInt(KEY_NIGHT_MISSES, 0) : 0;
 
-        } catch (Exception e) {
-            Log.e(TAG, "GitHub CSV 회차 확인 실패", e);
-        } finally {
-            try {
-                if (reader != null) reader.close();
-                if (connection != null) connection.disconnect();
-            } catch (Exception e) {
-                Log.w(TAG, "리소스 정리 실패", e);
-            }
+        boolean published;
+        if (DrawIndex.get(context).contains(targetRound)) {
+            // 다른 경로(앱 실행 등)로 이미 저장됨
+            published = true;
+        } else {
+            published = probeRound(context, targetRound);
+        }
+
+        if (published) {
+            onPublished(context, prefs, planner, targetRound, offset, misses);
+            return;
         }
 
-        return null;
+        misses++;
+        int next = planner.nextProbeOffset(offset, misses);
+        prefs.edit()
+                .putInt(KEY_NIGHT_ROUND, targetRound)
+                .putInt(KEY_NIGHT_MISSES, misses)
+                .apply();
+
+        if (next == PublishProbePlanner.STOP) {
+            Log.w(TAG, String.format("%d회 발표 확인 포기 (%d회 실패) - 다음 주 확인 예약", targetRound, misses));
+            scheduleNextWeek(context, planner);
+        } else {
+            Log.i(TAG, String.format("%d회 아직 발표 전 (%d회 실패) - %s 다시 확인",
+                    targetRound, misses, formatOffset(next)));
+            scheduleAt(context, saturdayAt(Calendar.getInstance(), next));
+        }
     }
 
     /**
-     * 1분 후 다음 체크 스케줄링
+     * 이번 회차 1건 조회 (발표 전이거나 네트워크 오류면 false)
      */
-    private void scheduleNext1MinuteCheck(Context context) {
+    private boolean probeRound(Context context, int round) {
         try {
-            AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
-            Intent intent = new Intent(context, QuickDataCheckReceiver.class);
-            PendingIntent pendingIntent = PendingIntent.getBroadcast(
-                    context,
-                    1001,
-                    intent,
-                    PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
-            );
-
-            long triggerTime = System.currentTimeMillis() + 60000; // 1분 후
-            alarmManager.setExactAndAllowWhileIdle(AlarmManager.RTC_WAKEUP, triggerTime, pendingIntent);
-
-            Log.d(TAG, "다음 1분 후 체크 스케줄링 완료");
-        } catch (Exception e) {
-            Log.e(TAG, "다음 알람 스케줄링 실패", e);
+            LottoDrawDto dto = DrawFetchCoordinator.get(context).getDraw(round);
+            return dto != null;
+        } catch (IOException e) {
+            Log.w(TAG, round + "회 확인 실패: " + e.getMessage());
+            return false;
         }
     }
 
     /**
-     * 토요일 20:35에 1분 간격 체크 시작
+     * 발표 확인 성공 - 관측 기록, 데이터 갱신 요청 후 다음 주 예약
+     */
+    private void onPublished(Context context, SharedPreferences prefs, PublishProbePlanner planner,
+                             int round, int offset, int misses) {
+        // 실패 뒤 성공했으면 발표 시각을 관측한 것, 첫 확인에 성공했으면 발표가 더 일렀을 수 있음
+        List<Integer> observed = planner.record(offset, misses == 0);
+        prefs.edit()
+                .putString(KEY_OBSERVED, joinObserved(observed))
+                .putInt(KEY_FOUND_ROUND, round)
+                .putInt(KEY_NIGHT_ROUND, round)
+                .putInt(KEY_NIGHT_MISSES, 0)
+                .apply();
+
+        Log.i(TAG, String.format("🎉 %d회 발표 확인 (%s, %d번째 확인) - 다음 주 구간 %s~%s",
+                round, formatOffset(offset), misses + 1,
+                formatOffset(planner.getWindowStart()), formatOffset(planner.getWindowEnd())));
+
+        // CSV 반영, 통계 재계산, 채점, 새 회차 알림은 갱신 체인이 담당
+        DataUpdateOrchestrator.requestUpdate(context, DataUpdateOrchestrator.Trigger.DRAW_PUBLISHED);
+
+        scheduleNextWeek(context, planner);
+    }
+
+    // ==================== 스케줄링 ====================
+
+    /**
+     * 다음 발표 확인 예약 (앱 시작/부팅 시 호출)
+     * 토요일 확인 시간대 안이면 오늘 밤, 아니면 다음 토요일 첫 확인 시각
      */
     public static void scheduleSaturdayQuickCheck(Context context) {
         try {
+            PublishProbePlanner planner = new PublishProbePlanner(readObserved(prefs(context)));
             Calendar now = Calendar.getInstance();
-            Calendar targetTime = Calendar.getInstance();
-
-            // 다음 토요일 20:35 계산
-            int currentDayOfWeek = now.get(Calendar.DAY_OF_WEEK);
-            int daysUntilSaturday = (Calendar.SATURDAY - currentDayOfWeek + 7) % 7;
-
-            // 이미 토요일이고 20:35 이전이면 오늘, 아니면 다음 주
-            if (daysUntilSaturday == 0 &&
-                (now.get(Calendar.HOUR_OF_DAY) < 20 ||
-                 (now.get(Calendar.HOUR_OF_DAY) == 20 && now.get(Calendar.MINUTE) < 35))) {
-                // 오늘 토요일 20:35
-            } else if (daysUntilSaturday == 0) {
-                daysUntilSaturday = 7; // 다음 주 토요일
+            int offset = saturdayOffset(now);
+
+            if (offset >= 0 && offset < PublishProbePlanner.GIVE_UP_OFFSET) {
+                // 오늘 밤: 첫 확인 시각 전이면 그때, 이미 지났으면 1분 뒤
+                long first = saturdayAt(now, planner.firstProbeOffset());
+                scheduleAt(context, Math.max(first, now.getTimeInMillis() + 60_000L));
+            } else {
+                scheduleNextWeek(context, planner);
             }
+        } catch (Exception e) {
+            Log.e(TAG, "토요일 발표 확인 스케줄링 실패", e);
+        }
+    }
 
-            targetTime.add(Calendar.DAY_OF_YEAR, daysUntilSaturday);
-            targetTime.set(Calendar.HOUR_OF_DAY, 20);
-            targetTime.set(Calendar.MINUTE, 35);
-            targetTime.set(Calendar.SECOND, 0);
-            targetTime.set(Calendar.MILLISECOND, 0);
+    private static void scheduleNextWeek(Context context, PublishProbePlanner planner) {
+        Calendar target = Calendar.getInstance();
+        int daysUntilSaturday = (Calendar.SATURDAY - target.get(Calendar.DAY_OF_WEEK) + 7) % 7;
+        if (daysUntilSaturday == 0) daysUntilSaturday = 7;
+        target.add(Calendar.DAY_OF_YEAR, daysUntilSaturday);
+        scheduleAt(context, saturdayAt(target, planner.firstProbeOffset()));
+    }
 
+    private static void scheduleAt(Context context, long triggerTime) {
+        try {
             AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
             Intent intent = new Intent(context, QuickDataCheckReceiver.class);
             PendingIntent pendingIntent = PendingIntent.getBroadcast(
                     context,
-                    1001,
+                    REQUEST_CODE,
                     intent,
                     PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
             );
 
-            alarmManager.setExactAndAllowWhileIdle(
-                    AlarmManager.RTC_WAKEUP,
-                    targetTime.getTimeInMillis(),
-                    pendingIntent
-            );
-
-            Log.i(TAG, "토요일 빠른 체크 스케줄링 완료: " + targetTime.getTime());
+            alarmManager.setExactAndAllowWhileIdle(AlarmManager.RTC_WAKEUP, triggerTime, pendingIntent);
 
+            Calendar at = Calendar.getInstance();
+            at.setTimeInMillis(triggerTime);
+            Log.i(TAG, "다음 발표 확인 예약: " + at.getTime());
         } catch (Exception e) {
-            Log.e(TAG, "토요일 빠른 체크 스케줄링 실패", e);
+            Log.e(TAG, "발표 확인 알람 설정 실패", e);
+        }
+    }
+
+    // ==================== 유틸리티 ====================
+
+    /**
+     * 토요일 20:00 기준 경과 분 (토요일이 아니거나 20시 이전이면 -1)
+     */
+    private static int saturdayOffset(Calendar time) {
+        if (time.get(Calendar.DAY_OF_WEEK) != Calendar.SATURDAY) return -1;
+        int minutes = (time.get(Calendar.HOUR_OF_DAY) - BASE_HOUR) * 60 + time.get(Calendar.MINUTE);
+        return minutes >= 0 ? minutes : -1;
+    }
+
+    /**
+     * day 날짜의 20:00 + offset분 시각 (밀리초)
+     */
+    private static long saturdayAt(Calendar day, int offset) {
+        Calendar target = (Calendar) day.clone();
+        target.set(Calendar.HOUR_OF_DAY, BASE_HOUR);
+        target.set(Calendar.MINUTE, 0);
+        target.set(Calendar.SECOND, 0);
+        target.set(Calendar.MILLISECOND, 0);
+        target.add(Calendar.MINUTE, offset);
+        return target.getTimeInMillis();
+    }
+
+    private static String formatOffset(int offset) {
+        int minutes = BASE_HOUR * 60 + offset;
+        return String.format("%02d:%02d", minutes / 60, minutes % 60);
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+
+    private static List<Integer> readObserved(SharedPreferences prefs) {
+        List<Integer> observed = new ArrayList<>();
+        String stored = prefs.getString(KEY_OBSERVED, "");
+        if (stored == null || stored.isEmpty()) return observed;
+
+        for (String part : stored.split(",")) {
+            try {
+                observed.add(Integer.parseInt(part.trim()));
+            } catch (NumberFormatException ignored) {
+                // 손상된 항목은 건너뜀
+            }
+        }
+        return observed;
+    }
+
+    private static String joinObserved(List<Integer> observed) {
+        StringBuilder sb = new StringBuilder();
+        for (Integer offset : observed) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(offset);
         }
+        return sb.toString();
     }
 }
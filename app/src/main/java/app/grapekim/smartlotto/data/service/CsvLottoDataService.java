@@ -4,6 +4,7 @@ import android.content.Context;
 import android.util.Log;
 
 import app.grapekim.smartlotto.data.model.LottoDrawData;
+import app.grapekim.smartlotto.util.DataVersionBus;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -23,6 +24,7 @@ public class CsvLottoDataService {
 
     private final Context context;
     private List<LottoDrawData> cachedData;
+    private long cachedDataVersion;   // cachedData를 읽은 시점의 DataVersionBus 버전
 
     // 디버깅용 카운터
     private static int debugCount = 0;
@@ -32,11 +34,13 @@ public class CsvLottoDataService {
     }
 
     /**
-     * 전체 로또 데이터를 로드
+     * 전체 로또 데이터를 로드 (데이터 버전이 바뀌었으면 다시 파싱)
      */
     public List<LottoDrawData> loadAllDrawData() {
-        if (cachedData == null) {
+        long dataVersion = DataVersionBus.get().getVersion();
+        if (cachedData == null || cachedDataVersion != dataVersion) {
             cachedData = parseCSVFromAssets();
+            cachedDataVersion = dataVersion;
         }
         return new ArrayList<>(cachedData);
     }
@@ -0,0 +1,329 @@
+package app.grapekim.smartlotto.data.service;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import app.grapekim.smartlotto.data.local.room.AppDatabase;
+import app.grapekim.smartlotto.data.local.room.dao.LottoDrawHistoryDao;
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+import app.grapekim.smartlotto.data.remote.NetworkProvider;
+import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.data.repository.LottoRepository;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.LottoDrawCalculator;
+import app.grapekim.smartlotto.util.RoundCache;
+
+/**
+ * 회차 당첨번호 조회 조정자 (싱글톤)
+ *
+ * 모든 화면의 회차 조회를 한 곳으로 모읍니다.
+ * - Room(DrawIndex)에 있는 회차는 네트워크 없이 바로 반환
+ * - 같은 회차를 동시에 요청하면 진행 중인 하나의 조회 결과를 공유
+ * - 네트워크로 받은 회차는 저장소를 통해 Room에 저장 (인덱스/미확인 게임 채점 반영)
+ * - "최신 회차"는 보유한 값을 먼저 돌려주고, 오래되었으면 백그라운드에서 재확인 (stale-while-revalidate)
+ */
+public final class DrawFetchCoordinator {
+
+    private static final String TAG = "DrawFetchCoordinator";
+
+    // 최신 회차 값이 이 시간보다 오래되면 백그라운드 재확인
+    private static final long LATEST_STALE_MS = 10 * 60 * 1000L;
+
+    private static volatile DrawFetchCoordinator INSTANCE;
+
+    private final Context appContext;
+    private final DrawIndex drawIndex;
+    private final LottoDrawHistoryDao drawHistoryDao;
+    private final LottoRepository repository;
+
+    private final ConcurrentHashMap<Integer, FutureTask<LottoDrawDto>> inFlight = new ConcurrentHashMap<>();
+
+    // 최신 회차 (stale-while-revalidate)
+    private final ExecutorService revalidateExecutor = AppExecutors.get().newSerialExecutor(
+            AppExecutors.Lane.IO, AppExecutors.Priority.BACKGROUND, "drawFetch.revalidate");
+    private final AtomicBoolean revalidating = new AtomicBoolean(false);
+    private final MutableLiveData<LottoDrawDto> latestLiveData = new MutableLiveData<>();
+    private volatile LottoDrawDto latest;
+    private volatile long latestCheckedAt;
+
+    // 지표
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong roomHitCount = new AtomicLong();
+    private final AtomicLong memoHitCount = new AtomicLong();
+    private final AtomicLong joinedCount = new AtomicLong();
+    private final AtomicLong networkCount = new AtomicLong();
+    private final AtomicLong revalidateCount = new AtomicLong();
+
+    /**
+     * 조회 지표 스냅샷
+     */
+    public static final class Stats {
+        public final long requests;         // 회차 조회 요청 수
+        public final long roomHits;         // Room에서 바로 반환
+        public final long memoHits;         // 메모리 메모에서 반환
+        public final long joined;           // 진행 중인 조회에 합류
+        public final long networkFetches;   // 실제 네트워크 조회
+        public final long revalidations;    // 최신 회차 백그라운드 재확인
+
+        Stats(long requests, long roomHits, long memoHits, long joined, long networkFetches, long revalidations) {
+            this.requests = requests;
+            this.roomHits = roomHits;
+            this.memoHits = memoHits;
+            this.joined = joined;
+            this.networkFetches = networkFetches;
+            this.revalidations = revalidations;
+        }
+
+        /** 네트워크 없이 처리된 요청 수 */
+        public long getSavedRequests() {
+            return roomHits + memoHits + joined;
+        }
+
+        /** 캐시 적중률 (0~1, 요청이 없으면 0) */
+        public double getHitRate() {
+            return requests == 0 ? 0.0 : (double) getSavedRequests() / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "요청 %d건, 적중 %.0f%% (Room %d, 메모 %d, 합류 %d), 네트워크 %d건, 재확인 %d회",
+                    requests, getHitRate() * 100, roomHits, memoHits, joined, networkFetches, revalidations);
+        }
+    }
+
+    private DrawFetchCoordinator(Context context) {
+        this.appContext = context;
+        this.drawIndex = DrawIndex.get(context);
+        this.drawHistoryDao = AppDatabase.get(context).lottoDrawHistoryDao();
+        this.repository = AppContainer.get(context).lottoRepository();
+    }
+
+    public static DrawFetchCoordinator get(Context context) {
+        if (INSTANCE == null) {
+            synchronized (DrawFetchCoordinator.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new DrawFetchCoordinator(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== 회차 조회 (백그라운드 스레드) ====================
+
+    /**
+     * 회차 당첨번호 (Room → 메모 → 진행 중인 조회 합류 → 네트워크)
+     * @return 발표된 회차 데이터, 아직 발표 전이면 null
+     * @throws IOException 네트워크 오류
+     */
+    @Nullable
+    public LottoDrawDto getDraw(int round) throws IOException {
+        if (round <= 0) return null;
+        requestCount.incrementAndGet();
+
+        if (drawIndex.contains(round)) {
+            LottoDrawDto local = toDto(drawHistoryDao.getByDrawNumber(round));
+            if (local != null) {
+                roomHitCount.incrementAndGet();
+                return local;
+            }
+        }
+
+        LottoDrawDto memo = NetworkProvider.cachedDraw(round);
+        if (memo != null) {
+            // 다른 경로(CSV 보완 등)로 받은 회차 - Room에도 없으면 저장
+            memoHitCount.incrementAndGet();
+            saveLocally(round, memo);
+            return memo;
+        }
+
+        FutureTask<LottoDrawDto> task = new FutureTask<>(() -> fetchAndSave(round));
+        FutureTask<LottoDrawDto> existing = inFlight.putIfAbsent(round, task);
+        if (existing == null) {
+            try {
+                task.run();
+            } finally {
+                inFlight.remove(round, task);
+            }
+            existing = task;
+        } else {
+            joinedCount.incrementAndGet();
+        }
+
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            Log.w(TAG, round + "회 조회 실패: " + cause);
+            return null;
+        }
+    }
+
+    /**
+     * 최신 발표 회차 (보유한 값을 먼저 반환, 오래되었으면 백그라운드 재확인)
+     * 재확인 결과는 observeLatest()로 전달됩니다.
+     * @return 최신 회차 데이터, 보유한 값도 없고 탐색도 실패하면 null
+     */
+    @Nullable
+    public LottoDrawDto getLatest() {
+        LottoDrawDto current = latest;
+        if (current == null) {
+            int localLatest = drawIndex.getLatestRound();
+            if (localLatest > 0) {
+                current = adoptLocalLatest(toDto(drawHistoryDao.getByDrawNumber(localLatest)));
+            }
+        }
+
+        if (current == null) {
+            // 보여줄 값이 없으면 바로 탐색
+            return refreshLatest();
+        }
+
+        if (System.currentTimeMillis() - latestCheckedAt > LATEST_STALE_MS) {
+            revalidateLatestAsync();
+        }
+        return current;
+    }
+
+    /**
+     * 최신 회차 변경 알림 (백그라운드 재확인 결과 포함)
+     */
+    public LiveData<LottoDrawDto> observeLatest() {
+        return latestLiveData;
+    }
+
+    /**
+     * 최신 회차 백그라운드 재확인 (이미 진행 중이면 무시)
+     */
+    public void revalidateLatestAsync() {
+        if (!revalidating.compareAndSet(false, true)) return;
+        revalidateExecutor.execute(() -> {
+            try {
+                revalidateCount.incrementAndGet();
+                refreshLatest();
+            } catch (Exception e) {
+                Log.w(TAG, "최신 회차 재확인 실패: " + e.getMessage());
+            } finally {
+                revalidating.set(false);
+            }
+        });
+    }
+
+    /**
+     * 조회 지표
+     */
+    public Stats getStats() {
+        return new Stats(requestCount.get(), roomHitCount.get(), memoHitCount.get(),
+                joinedCount.get(), networkCount.get(), revalidateCount.get());
+    }
+
+    // ==================== 내부 구현 ====================
+
+    @Nullable
+    private LottoDrawDto refreshLatest() {
+        LottoDrawDto found = LatestRoundResolver.get(appContext).resolveLatest();
+        if (found != null) {
+            LottoDrawDto previous;
+            synchronized (this) {
+                previous = latest;
+                latest = found;
+                latestCheckedAt = System.currentTimeMillis();
+            }
+            RoundCache.getInstance().offerLatest(found);   // 회차 캐시도 같은 확인 결과로 갱신
+            if (previous == null || !found.drwNo.equals(previous.drwNo)) {
+                latestLiveData.postValue(found);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Room 최신 회차를 보유 값으로 기록 (다음 호출부터 Room 조회 없이 반환)
+     * 날짜상 예상 회차에 이미 도달했으면 더 새 회차가 없으므로 확인된 것으로 보고,
+     * 아니면 확인 시각을 비워 두어 이번 호출에서 백그라운드 재확인이 일어나게 합니다.
+     * @return 보유 값 (그사이 재확인 결과가 먼저 기록됐으면 그 값)
+     */
+    @Nullable
+    private synchronized LottoDrawDto adoptLocalLatest(@Nullable LottoDrawDto local) {
+        if (latest != null || local == null) {
+            return latest != null ? latest : local;
+        }
+        latest = local;
+        if (local.drwNo >= LottoDrawCalculator.getCurrentExpectedDrawNumber()) {
+            latestCheckedAt = System.currentTimeMillis();
+        }
+        latestLiveData.postValue(local);
+        return local;
+    }
+
+    @Nullable
+    private LottoDrawDto fetchAndSave(int round) throws IOException {
+        networkCount.incrementAndGet();
+        LottoDrawDto dto = NetworkProvider.fetchDraw(round);
+        if (dto == null || dto.n1 == null || dto.n2 == null || dto.n3 == null
+                || dto.n4 == null || dto.n5 == null || dto.n6 == null || dto.bonus == null) {
+            Log.d(TAG, round + "회 아직 발표되지 않음");
+            return null;
+        }
+
+        saveLocally(round, dto);
+        Log.d(TAG, round + "회 네트워크 조회 완료 - " + getStats());
+        return dto;
+    }
+
+    /**
+     * 저장소를 통해 Room 저장 (인덱스 갱신, 미확인 게임 채점 포함 - 실패해도 조회 결과는 유지)
+     */
+    private void saveLocally(int round, LottoDrawDto dto) {
+        if (drawIndex.contains(round)) return;
+        try {
+            LottoDrawHistoryEntity entity = new LottoDrawHistoryEntity(round,
+                    dto.date != null ? dto.date : "",
+                    dto.n1, dto.n2, dto.n3, dto.n4, dto.n5, dto.n6, dto.bonus);
+            repository.saveLottoDrawHistories(Collections.singletonList(entity));
+        } catch (Exception e) {
+            Log.w(TAG, round + "회 로컬 저장 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Room 회차 → API DTO 형태 변환
+     */
+    @Nullable
+    static LottoDrawDto toDto(@Nullable LottoDrawHistoryEntity entity) {
+        if (entity == null) return null;
+
+        LottoDrawDto dto = new LottoDrawDto();
+        dto.returnValue = "success";
+        dto.drwNo = entity.drawNumber;
+        dto.date = entity.drawDate;
+        dto.n1 = entity.number1;
+        dto.n2 = entity.number2;
+        dto.n3 = entity.number3;
+        dto.n4 = entity.number4;
+        dto.n5 = entity.number5;
+        dto.n6 = entity.number6;
+        dto.bonus = entity.bonusNumber;
+        return dto;
+    }
+}
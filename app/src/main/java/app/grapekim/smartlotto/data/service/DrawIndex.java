@@ -0,0 +1,201 @@
+package app.grapekim.smartlotto.data.service;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import app.grapekim.smartlotto.data.local.room.AppDatabase;
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+import app.grapekim.smartlotto.util.DataVersionBus;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+/**
+ * 앱 범위 당첨번호 인덱스 (싱글톤)
+ *
+ * 회차 번호를 인덱스로 하는 비트마스크/보너스 배열을 메모리에 유지하여
+ * 회차 조회와 당첨 판정을 할당 없이 O(1)로 처리합니다.
+ * 최초 조회 시 Room에서 한 번만 적재하고, 이후에는 저장소가 새 회차를 저장할 때 갱신됩니다.
+ * 스냅샷은 반영한 DataVersionBus 버전을 함께 기록하며, 저장소 갱신으로 따라잡지 못한 버전이 발행되면
+ * 다음 조회 때 Room에서 다시 적재합니다.
+ * 스냅샷은 불변 배열로 교체(copy-on-write)되므로 조회는 잠금이 없습니다.
+ */
+public final class DrawIndex {
+
+    private static final String TAG = "DrawIndex";
+
+    private static volatile DrawIndex INSTANCE;
+
+    /** 불변 스냅샷 (인덱스 = 회차 번호) */
+    private static final class Snapshot {
+        final long[] winningMasks;
+        final int[] bonusNumbers;
+        final int latestRound;
+        final long dataVersion;
+
+        Snapshot(long[] winningMasks, int[] bonusNumbers, int latestRound, long dataVersion) {
+            this.winningMasks = winningMasks;
+            this.bonusNumbers = bonusNumbers;
+            this.latestRound = latestRound;
+            this.dataVersion = dataVersion;
+        }
+    }
+
+    private static final Snapshot EMPTY = new Snapshot(new long[0], new int[0], 0, -1);
+
+    private final AppDatabase database;
+    private final DataVersionBus dataVersionBus;
+    private volatile Snapshot snapshot;   // null = 아직 적재 전
+
+    private DrawIndex(Context context) {
+        this.database = AppDatabase.get(context);
+        this.dataVersionBus = DataVersionBus.get();
+    }
+
+    public static DrawIndex get(Context context) {
+        if (INSTANCE == null) {
+            synchronized (DrawIndex.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new DrawIndex(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== 조회 (백그라운드 스레드) ====================
+
+    /**
+     * 해당 회차 당첨번호 보유 여부
+     */
+    public boolean contains(int round) {
+        return getWinningMask(round) != 0L;
+    }
+
+    /**
+     * 당첨번호 비트마스크 (없으면 0)
+     */
+    public long getWinningMask(int round) {
+        Snapshot s = ensureLoaded();
+        return (round > 0 && round < s.winningMasks.length) ? s.winningMasks[round] : 0L;
+    }
+
+    /**
+     * 보너스 번호 (없으면 0)
+     */
+    public int getBonusNumber(int round) {
+        Snapshot s = ensureLoaded();
+        return (round > 0 && round < s.bonusNumbers.length) ? s.bonusNumbers[round] : 0;
+    }
+
+    /**
+     * 보유한 최신 회차 (없으면 0)
+     */
+    public int getLatestRound() {
+        return ensureLoaded().latestRound;
+    }
+
+    /**
+     * 회차별 당첨번호 마스크 배열 (읽기 전용으로 사용, 인덱스 = 회차)
+     */
+    long[] winningMasksView() {
+        return ensureLoaded().winningMasks;
+    }
+
+    /**
+     * 회차별 보너스 번호 배열 (읽기 전용으로 사용, 인덱스 = 회차)
+     */
+    int[] bonusNumbersView() {
+        return ensureLoaded().bonusNumbers;
+    }
+
+    // ==================== 갱신 ====================
+
+    /**
+     * 새로 저장된 회차 반영 (아직 적재 전이면 무시 - 첫 조회 때 Room에서 읽음)
+     * @param dataVersion 이 저장으로 발행된 데이터 버전
+     */
+    public void onDrawsSaved(Collection<LottoDrawHistoryEntity> draws, long dataVersion) {
+        if (draws == null || draws.isEmpty()) return;
+        synchronized (this) { // 적재 중이면 적재가 끝난 뒤 반영
+            Snapshot current = snapshot;
+            if (current == null || current.dataVersion >= dataVersion) return; // 저장 이후에 적재됨
+            if (current.dataVersion == dataVersion - 1) {
+                snapshot = merge(current, draws, dataVersion);
+            } else {
+                snapshot = null; // 사이에 다른 변경이 있었음 - 다음 조회 때 재적재
+            }
+        }
+    }
+
+    /**
+     * 당첨번호 이력 삭제 시 인덱스 무효화 (다음 조회 때 재적재)
+     */
+    public void invalidate() {
+        synchronized (this) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * 인스턴스가 생성되어 있으면 새 회차 반영 (저장소 저장 훅)
+     */
+    public static void notifyDrawsSaved(Collection<LottoDrawHistoryEntity> draws, long dataVersion) {
+        DrawIndex index = INSTANCE;
+        if (index != null) index.onDrawsSaved(draws, dataVersion);
+    }
+
+    /**
+     * 인스턴스가 생성되어 있으면 무효화 (저장소 삭제 훅)
+     */
+    public static void notifyDrawsCleared() {
+        DrawIndex index = INSTANCE;
+        if (index != null) index.invalidate();
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private Snapshot ensureLoaded() {
+        Snapshot s = snapshot;
+        if (s != null && s.dataVersion == dataVersionBus.getVersion()) return s;
+
+        synchronized (this) {
+            // 버전을 먼저 읽고 적재하므로 적재 중에 발행된 변경은 다음 조회 때 다시 반영됨
+            long version = dataVersionBus.getVersion();
+            if (snapshot == null || snapshot.dataVersion != version) {
+                long start = System.currentTimeMillis();
+                List<LottoDrawHistoryEntity> all = database.lottoDrawHistoryDao().getAll();
+                snapshot = merge(EMPTY, all, version);
+                Log.d(TAG, String.format("당첨번호 인덱스 적재: %d회차 (최신 %d회, %dms)",
+                        all.size(), snapshot.latestRound, System.currentTimeMillis() - start));
+            }
+            return snapshot;
+        }
+    }
+
+    private static Snapshot merge(Snapshot base, Collection<LottoDrawHistoryEntity> draws, long dataVersion) {
+        int latest = base.latestRound;
+        for (LottoDrawHistoryEntity draw : draws) {
+            if (draw != null) latest = Math.max(latest, draw.drawNumber);
+        }
+
+        int length = Math.max(base.winningMasks.length, latest + 1);
+        long[] masks = Arrays.copyOf(base.winningMasks, length);
+        int[] bonuses = Arrays.copyOf(base.bonusNumbers, length);
+
+        for (LottoDrawHistoryEntity draw : draws) {
+            if (draw == null || draw.drawNumber <= 0) continue;
+            long mask = draw.getWinningMask();
+            if (Long.bitCount(mask) != LottoTicketCodec.PICK_COUNT) continue; // 손상된 회차 제외
+            masks[draw.drawNumber] = mask;
+            bonuses[draw.drawNumber] = draw.bonusNumber;
+        }
+
+        // 최신 회차는 실제 유효한 데이터가 있는 회차 기준
+        int validLatest = length - 1;
+        while (validLatest > 0 && masks[validLatest] == 0L) validLatest--;
+        return new Snapshot(masks, bonuses, validLatest, dataVersion);
+    }
+}
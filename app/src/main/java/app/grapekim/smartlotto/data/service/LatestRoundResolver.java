@@ -0,0 +1,170 @@
+package app.grapekim.smartlotto.data.service;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import app.grapekim.smartlotto.data.local.room.AppDatabase;
+import app.grapekim.smartlotto.data.local.room.dao.LottoDrawHistoryDao;
+import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.util.LottoDrawCalculator;
+
+/**
+ * 최신 발표 회차 탐색 (싱글톤)
+ *
+ * max(로컬 DB 최신 회차, 날짜 기준 예상 회차)에서 시작해 1~2번의 조회로 확인합니다.
+ * 여러 화면(HomeViewModel, RoundCache, HistoryFragment 등)이 동시에 요청하면
+ * 진행 중인 하나의 탐색으로 합쳐져 모두 같은 결과를 받습니다.
+ */
+public final class LatestRoundResolver {
+
+    private static final String TAG = "LatestRoundResolver";
+
+    // 직전 결과 재사용 시간 (앱 시작 직후 연속 요청 흡수)
+    private static final long RESULT_TTL_MS = 60 * 1000L;
+    // 예상 회차가 아직 발표 전일 때 뒤로 확인할 최대 회차 수 (로컬 최신 회차에 닿으면 중단)
+    private static final int MAX_BACKWARD_PROBES = 2;
+    // 로컬 데이터가 예상보다 앞설 때(기기 시간 오차) 앞으로 확인할 최대 회차 수
+    private static final int MAX_FORWARD_PROBES = 2;
+
+    private static volatile LatestRoundResolver INSTANCE;
+
+    private final Context appContext;
+    private final DrawIndex drawIndex;
+    private final LottoDrawHistoryDao drawHistoryDao;
+
+    private final AtomicReference<FutureTask<LottoDrawDto>> inFlight = new AtomicReference<>();
+    private volatile LottoDrawDto lastResult;
+    private volatile long lastResultAt;
+
+    private LatestRoundResolver(Context context) {
+        this.appContext = context;
+        this.drawIndex = DrawIndex.get(context);
+        this.drawHistoryDao = AppDatabase.get(context).lottoDrawHistoryDao();
+    }
+
+    public static LatestRoundResolver get(Context context) {
+        if (INSTANCE == null) {
+            synchronized (LatestRoundResolver.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new LatestRoundResolver(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== 조회 (백그라운드 스레드) ====================
+
+    /**
+     * 최신 발표 회차 (동시 요청은 하나의 탐색으로 합쳐짐)
+     * @return 최신 회차 데이터, 네트워크와 로컬 모두 실패하면 null
+     */
+    @Nullable
+    public LottoDrawDto resolveLatest() {
+        LottoDrawDto recent = lastResult;
+        if (recent != null && System.currentTimeMillis() - lastResultAt < RESULT_TTL_MS) {
+            return recent;
+        }
+
+        FutureTask<LottoDrawDto> task;
+        while (true) {
+            task = inFlight.get();
+            if (task != null) break; // 진행 중인 탐색 결과를 공유
+
+            FutureTask<LottoDrawDto> created = new FutureTask<>(this::discover);
+            if (inFlight.compareAndSet(null, created)) {
+                try {
+                    created.run();
+                } finally {
+                    inFlight.set(null);
+                }
+                task = created;
+                break;
+            }
+        }
+
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            Log.w(TAG, "최신 회차 탐색 실패: " + e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * 최신 발표 회차 번호 (없으면 0)
+     */
+    public int resolveLatestRound() {
+        LottoDrawDto latest = resolveLatest();
+        return (latest != null && latest.drwNo != null) ? latest.drwNo : 0;
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private LottoDrawDto discover() {
+        long start = System.currentTimeMillis();
+        int localLatest = drawIndex.getLatestRound();
+        int expected = LottoDrawCalculator.getCurrentExpectedDrawNumber();
+        int probes = 0;
+        LottoDrawDto found = null;
+
+        if (expected > localLatest) {
+            // 예상 회차부터 뒤로 확인 (보통 1번, 발표 직전이면 2번)
+            int lowest = Math.max(localLatest + 1, expected - MAX_BACKWARD_PROBES + 1);
+            for (int round = expected; round >= lowest && found == null; round--) {
+                found = probe(round);
+                probes++;
+            }
+        } else if (localLatest > 0) {
+            // 로컬이 이미 예상 회차 이상 - 다음 회차가 나왔는지만 확인
+            for (int i = 1; i <= MAX_FORWARD_PROBES; i++) {
+                LottoDrawDto next = probe(localLatest + i);
+                probes++;
+                if (next == null) break;
+                found = next;
+            }
+        }
+
+        if (found == null && localLatest > 0) {
+            found = fromLocal(localLatest);
+        }
+
+        Log.d(TAG, String.format("최신 회차 탐색: %s (로컬 %d, 예상 %d, 조회 %d회, %dms)",
+                found != null ? found.drwNo + "회" : "실패", localLatest, expected, probes,
+                System.currentTimeMillis() - start));
+
+        if (found != null) {
+            lastResult = found;
+            lastResultAt = System.currentTimeMillis();
+        }
+        return found;
+    }
+
+    /**
+     * 회차 발표 여부 확인 (조회 조정자 경유 - 다른 화면의 같은 회차 조회와 합쳐지고 결과는 Room에 저장)
+     */
+    @Nullable
+    private LottoDrawDto probe(int round) {
+        if (round <= 0) return null;
+        try {
+            return DrawFetchCoordinator.get(appContext).getDraw(round);
+        } catch (Exception e) {
+            Log.w(TAG, round + "회 조회 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    @Nullable
+    private LottoDrawDto fromLocal(int round) {
+        return DrawFetchCoordinator.toDto(drawHistoryDao.getByDrawNumber(round));
+    }
+}
@@ -4,14 +4,27 @@ import android.util.Log;
 
 import com.google.gson.Gson;
 
+import androidx.annotation.NonNull;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import app.grapekim.smartlotto.data.model.LottoDrawData;
+import app.grapekim.smartlotto.data.remote.NetworkProvider;
 import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.network.SecureOkHttpClient;
 import app.grapekim.smartlotto.util.LottoDrawCalculator;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -26,11 +39,26 @@ public class OfficialLottoApiService {
     // 공식 동행복권 API URL
     private static final String API_BASE_URL = "https://www.dhlottery.co.kr/common.do?method=getLottoNumber&drwNo=";
 
+    // 회차 구간 일괄 조회 시 동시에 진행할 최대 요청 수
+    public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+    // 회차 구간 일괄 조회 전체 대기 한도
+    private static final long RANGE_TIMEOUT_SECONDS = 45;
+
     private final OkHttpClient client;
     private final Gson gson;
 
+    /**
+     * 앱 공유 HTTP 클라이언트(커넥션 풀/디스크 캐시)를 사용하는 서비스 생성
+     */
     public OfficialLottoApiService() {
-        this.client = new OkHttpClient.Builder()
+        this(SecureOkHttpClient.getInstance());
+    }
+
+    /**
+     * 기존 클라이언트의 커넥션 풀/디스패처/캐시를 공유하는 서비스 생성
+     */
+    public OfficialLottoApiService(OkHttpClient sharedClient) {
+        this.client = sharedClient.newBuilder()
                 .connectTimeout(10, TimeUnit.SECONDS)
                 .readTimeout(20, TimeUnit.SECONDS)
                 .build();
@@ -43,43 +71,17 @@ public class OfficialLottoApiService {
      * @return 로또 추첨 데이터, 실패 시 null
      */
     public LottoDrawData getDrawData(int drawNo) {
+        LottoDrawDto memo = NetworkProvider.cachedDraw(drawNo);
+        if (memo != null) {
+            return toDrawData(memo);
+        }
+
         String url = API_BASE_URL + drawNo;
 
         Log.d(TAG, "공식 API에서 " + drawNo + "회차 데이터 요청: " + url);
 
-        Request request = new Request.Builder()
-                .url(url)
-                .addHeader("User-Agent", "SmartLotto-Android/1.0")
-                .addHeader("Accept", "application/json")
-                .build();
-
-        try (Response response = client.newCall(request).execute()) {
-            if (response.isSuccessful() && response.body() != null) {
-                String jsonResponse = response.body().string();
-                Log.d(TAG, "API 응답 받음: " + jsonResponse.substring(0, Math.min(200, jsonResponse.length())));
-
-                LottoDrawDto dto = gson.fromJson(jsonResponse, LottoDrawDto.class);
-
-                if (dto != null && dto.isSuccess() && dto.drwNo != null) {
-                    // 날짜 형식 변환 (YYYY-MM-DD)
-                    String formattedDate = formatDate(dto.date);
-
-                    LottoDrawData drawData = new LottoDrawData(
-                            2025, // 현재 년도로 고정 (또는 날짜에서 추출)
-                            dto.drwNo,
-                            formattedDate,
-                            dto.n1, dto.n2, dto.n3, dto.n4, dto.n5, dto.n6,
-                            dto.bonus
-                    );
-
-                    Log.i(TAG, "공식 API에서 " + drawNo + "회차 데이터 획득 성공: " + drawData.toString());
-                    return drawData;
-                } else {
-                    Log.w(TAG, "API 응답은 받았지만 데이터가 유효하지 않음");
-                }
-            } else {
-                Log.e(TAG, "API 요청 실패: HTTP " + response.code());
-            }
+        try (Response response = client.newCall(buildRequest(drawNo)).execute()) {
+            return parseResponse(drawNo, response);
         } catch (IOException e) {
             Log.e(TAG, "API 요청 중 네트워크 오류", e);
         } catch (Exception e) {
@@ -89,6 +91,273 @@ public class OfficialLottoApiService {
         return null;
     }
 
+    /**
+     * 회차 구간을 동시에 조회 (하나의 커넥션 풀, 동시 요청 수 제한)
+     *
+     * 요청은 한꺼번에 비동기로 보내고 세마포어로 진행 중인 요청 수만 제한하므로
+     * 몇 주치 누락분도 대략 한 번의 왕복 시간에 받아옵니다.
+     * 응답은 검증 후 회차 순으로 정렬하며, 공식 API에 없는 회차는 수동 데이터로 보완합니다.
+     *
+     * @param fromDrawNo 시작 회차 (포함)
+     * @param toDrawNo 끝 회차 (포함)
+     * @param maxInFlight 동시에 진행할 최대 요청 수
+     * @return fromDrawNo부터 빠짐없이 이어지는 회차 데이터 (오름차순, 첫 누락 회차에서 끊음)
+     */
+    public List<LottoDrawData> getDrawRange(int fromDrawNo, int toDrawNo, int maxInFlight) {
+        int count = toDrawNo - fromDrawNo + 1;
+        if (fromDrawNo <= 0 || count <= 0) {
+            return Collections.emptyList();
+        }
+
+        long start = System.currentTimeMillis();
+        Log.i(TAG, String.format("공식 API 구간 조회 시작: %d~%d회차 (%d건, 동시 %d건)",
+                fromDrawNo, toDrawNo, count, maxInFlight));
+
+        AtomicReferenceArray<LottoDrawData> results = new AtomicReferenceArray<>(count);
+        CountDownLatch done = new CountDownLatch(count);
+        Semaphore permits = new Semaphore(Math.max(1, maxInFlight));
+        List<Call> calls = new ArrayList<>(count);
+        // 제한 시간이 지난 뒤 늦게 도착한 응답은 반영하지 않음 (results 잠금으로 확인과 기록을 묶음)
+        AtomicBoolean closed = new AtomicBoolean(false);
+        // 요청 대기(permit)와 완료 대기 모두 같은 제한 시간 안에서
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(RANGE_TIMEOUT_SECONDS);
+
+        try {
+            boolean timedOut = false;
+            for (int i = 0; i < count; i++) {
+                final int slot = i;
+                final int drawNo = fromDrawNo + i;
+
+                LottoDrawDto memo = NetworkProvider.cachedDraw(drawNo);
+                if (memo != null) {
+                    results.set(slot, toDrawData(memo));
+                    done.countDown();
+                    continue;
+                }
+
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    timedOut = true;
+                    break;
+                }
+                Call call = client.newCall(buildRequest(drawNo));
+                calls.add(call);
+                call.enqueue(new Callback() {
+                    @Override
+                    public void onFailure(@NonNull Call c, @NonNull IOException e) {
+                        if (!c.isCanceled()) {
+                            Log.w(TAG, drawNo + "회차 API 요청 실패: " + e.getMessage());
+                        }
+                        permits.release();
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onResponse(@NonNull Call c, @NonNull Response response) {
+                        try (Response r = response) {
+                            LottoDrawData parsed = parseResponse(drawNo, r);
+                            synchronized (results) {
+                                if (!closed.get()) results.set(slot, parsed);
+                            }
+                        } catch (Exception e) {
+                            Log.w(TAG, drawNo + "회차 API 응답 처리 실패: " + e.getMessage());
+                        } finally {
+                            permits.release();
+                            done.countDown();
+                        }
+                    }
+                });
+            }
+
+            if (timedOut || !done.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                Log.w(TAG, "공식 API 구간 조회 시간 초과 - 완료된 회차만 사용");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.w(TAG, "공식 API 구간 조회 중단 - 완료된 회차만 사용");
+        } finally {
+            synchronized (results) {
+                closed.set(true);
+            }
+            for (Call call : calls) {
+                call.cancel();
+            }
+        }
+
+        // 회차 순으로 이어 붙이고 첫 누락 회차에서 중단 (CSV/DB에 구멍이 생기지 않도록)
+        List<LottoDrawData> draws = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int drawNo = fromDrawNo + i;
+            LottoDrawData drawData = results.get(i);
+            if (drawData == null) {
+                drawData = getManualDrawData(drawNo);
+            }
+            if (drawData == null) {
+                Log.d(TAG, drawNo + "회차는 아직 추첨되지 않았거나 데이터가 없음 - 이후 회차 제외");
+                break;
+            }
+            draws.add(drawData);
+        }
+
+        Log.i(TAG, String.format("공식 API 구간 조회 완료: %d/%d건 (%dms)",
+                draws.size(), count, System.currentTimeMillis() - start));
+        return draws;
+    }
+
+    /**
+     * 최고 발표 회차 조회 결과
+     */
+    public static final class PublishedProbe {
+        public final int drawNo;                // 발표로 확인된 최고 회차 (없으면 0)
+        public final boolean deadlineExpired;   // 제한 시간 안에 답이 정해지지 않았는지
+        public final boolean requestFailed;     // 답보다 높은 후보 중 요청 실패(네트워크/HTTP 오류)가 있었는지
+
+        PublishedProbe(int drawNo, boolean deadlineExpired, boolean requestFailed) {
+            this.drawNo = drawNo;
+            this.deadlineExpired = deadlineExpired;
+            this.requestFailed = requestFailed;
+        }
+
+        /**
+         * 모든 후보가 "미발표"로 응답했는지 (시간 초과/요청 실패 없이 확인된 결과)
+         */
+        public boolean allUnpublished() {
+            return drawNo <= 0 && !deadlineExpired && !requestFailed;
+        }
+    }
+
+    /**
+     * 후보 회차 구간을 동시에 조회하여 발표된 가장 높은 회차 찾기 (전체 제한 시간 내)
+     *
+     * 더 높은 후보들이 모두 "미발표"로 확정되는 순간 답이 정해지므로
+     * 나머지 응답은 기다리지 않고 취소합니다.
+     * 제한 시간이 지나면 더 높은 후보의 응답을 기다리지 않고 그때까지 발표로 확인된 최고 회차를 씁니다.
+     * @param lowDrawNo 가장 낮은 후보 회차 (포함)
+     * @param highDrawNo 가장 높은 후보 회차 (포함)
+     * @param deadlineMs 전체 제한 시간
+     * @return 발표된 최고 회차(시간 초과 시 확인된 최고 회차, 없으면 0)와 시간 초과/요청 실패 여부
+     */
+    public PublishedProbe findHighestPublished(int lowDrawNo, int highDrawNo, long deadlineMs) {
+        int count = highDrawNo - lowDrawNo + 1;
+        if (lowDrawNo <= 0 || count <= 0) {
+            return new PublishedProbe(0, false, false);
+        }
+
+        // 인덱스 0 = highDrawNo, 상태: 0=응답 대기, 1=발표됨, -1=미발표, -2=요청 실패
+        int[] states = new int[count];
+        AtomicInteger answer = new AtomicInteger(0);
+        CountDownLatch decided = new CountDownLatch(1);
+        List<Call> calls = new ArrayList<>(count);
+
+        // 각 요청도 전체 제한 시간을 넘지 않도록
+        OkHttpClient probeClient = client.newBuilder()
+                .callTimeout(deadlineMs, TimeUnit.MILLISECONDS)
+                .build();
+
+        for (int i = 0; i < count; i++) {
+            final int slot = i;
+            final int drawNo = highDrawNo - i;
+
+            if (NetworkProvider.cachedDraw(drawNo) != null) {
+                markProbe(states, slot, 1, highDrawNo, answer, decided);
+                continue;
+            }
+
+            Call call = probeClient.newCall(buildRequest(drawNo));
+            calls.add(call);
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(@NonNull Call c, @NonNull IOException e) {
+                    if (!c.isCanceled()) {
+                        Log.d(TAG, drawNo + "회차 확인 실패: " + e.getMessage());
+                    }
+                    markProbe(states, slot, -2, highDrawNo, answer, decided);
+                }
+
+                @Override
+                public void onResponse(@NonNull Call c, @NonNull Response response) {
+                    int state = -2;
+                    try (Response r = response) {
+                        // 미발표 회차는 HTTP 200에 실패 응답 → 파싱 결과 없음
+                        if (r.isSuccessful()) {
+                            state = parseResponse(drawNo, r) != null ? 1 : -1;
+                        }
+                    } catch (Exception e) {
+                        Log.d(TAG, drawNo + "회차 응답 처리 실패: " + e.getMessage());
+                    } finally {
+                        markProbe(states, slot, state, highDrawNo, answer, decided);
+                    }
+                }
+            });
+        }
+
+        boolean expired = false;
+        try {
+            if (!decided.await(deadlineMs, TimeUnit.MILLISECONDS)) {
+                expired = true;
+                Log.w(TAG, String.format("최신 회차 확인 제한 시간(%dms) 초과: %d~%d회차", deadlineMs, lowDrawNo, highDrawNo));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            expired = true;
+        } finally {
+            for (Call call : calls) {
+                call.cancel();
+            }
+        }
+
+        return settleProbe(states, highDrawNo, answer, decided, expired);
+    }
+
+    /**
+     * 대기 종료 후 결과 확정 - 답이 정해지지 않았으면 발표로 확인된 가장 높은 회차 (없으면 0)
+     * (이후 늦게 도착한 응답은 decided가 닫혀 있어 상태를 바꾸지 않음)
+     */
+    private static PublishedProbe settleProbe(int[] states, int highDrawNo, AtomicInteger answer,
+                                              CountDownLatch decided, boolean expired) {
+        synchronized (states) {
+            if (decided.getCount() > 0) {
+                for (int i = 0; i < states.length; i++) {
+                    if (states[i] == 1) {
+                        answer.set(highDrawNo - i);
+                        Log.i(TAG, "제한 시간 내 확인된 최고 회차 사용: " + answer.get() + "회차");
+                        break;
+                    }
+                }
+                decided.countDown();
+            }
+
+            // 답보다 높은 후보 중 요청이 실패한 것이 있으면 "미발표"로 확인된 것이 아님
+            boolean failed = false;
+            int above = answer.get() > 0 ? highDrawNo - answer.get() : states.length;
+            for (int i = 0; i < above; i++) {
+                if (states[i] == -2) failed = true;
+            }
+            return new PublishedProbe(answer.get(), expired, failed);
+        }
+    }
+
+    /**
+     * 후보 응답 반영 후 답이 확정되었는지 판단
+     * (높은 회차부터 보며 첫 "발표됨"이 답, 그 앞에 "응답 대기"가 있으면 아직 미확정)
+     */
+    private static void markProbe(int[] states, int slot, int state,
+                                  int highDrawNo, AtomicInteger answer, CountDownLatch decided) {
+        synchronized (states) {
+            if (decided.getCount() == 0) return;
+            states[slot] = state;
+
+            for (int i = 0; i < states.length; i++) {
+                if (states[i] == 0) return;
+                if (states[i] == 1) {
+                    answer.set(highDrawNo - i);
+                    decided.countDown();
+                    return;
+                }
+            }
+            decided.countDown(); // 모두 미발표
+        }
+    }
+
     /**
      * 최근 N회차의 누락된 로또 데이터를 가져오기
      * @param lastKnownDrawNo 마지막으로 알려진 회차 번호
@@ -165,6 +434,81 @@ public class OfficialLottoApiService {
         return getManualDrawData(1189);
     }
 
+    private Request buildRequest(int drawNo) {
+        return new Request.Builder()
+                .url(API_BASE_URL + drawNo)
+                .addHeader("User-Agent", "SmartLotto-Android/1.0")
+                .addHeader("Accept", "application/json")
+                .build();
+    }
+
+    /**
+     * API 응답을 검증하여 회차 데이터로 변환
+     * @return 요청한 회차의 유효한 데이터, 아니면 null
+     */
+    private LottoDrawData parseResponse(int drawNo, Response response) throws IOException {
+        if (!response.isSuccessful() || response.body() == null) {
+            Log.e(TAG, "API 요청 실패: HTTP " + response.code());
+            return null;
+        }
+
+        String jsonResponse = response.body().string();
+        Log.d(TAG, "API 응답 받음: " + jsonResponse.substring(0, Math.min(200, jsonResponse.length())));
+
+        LottoDrawDto dto = gson.fromJson(jsonResponse, LottoDrawDto.class);
+        if (!isValid(drawNo, dto)) {
+            Log.w(TAG, "API 응답은 받았지만 데이터가 유효하지 않음");
+            return null;
+        }
+
+        NetworkProvider.memoize(dto);
+        LottoDrawData drawData = toDrawData(dto);
+
+        Log.i(TAG, "공식 API에서 " + drawNo + "회차 데이터 획득 성공: " + drawData.toString());
+        return drawData;
+    }
+
+    private LottoDrawData toDrawData(LottoDrawDto dto) {
+        // 날짜 형식 변환 (YYYY-MM-DD)
+        String formattedDate = formatDate(dto.date);
+
+        return new LottoDrawData(
+                yearOf(formattedDate),
+                dto.drwNo,
+                formattedDate,
+                dto.n1, dto.n2, dto.n3, dto.n4, dto.n5, dto.n6,
+                dto.bonus
+        );
+    }
+
+    /**
+     * 응답 검증: 요청한 회차, 1~45의 서로 다른 번호 6개, 본번호와 겹치지 않는 보너스
+     */
+    private static boolean isValid(int drawNo, LottoDrawDto dto) {
+        if (dto == null || !dto.isSuccess() || dto.drwNo == null || dto.drwNo != drawNo) {
+            return false;
+        }
+        if (dto.n1 == null || dto.n2 == null || dto.n3 == null
+                || dto.n4 == null || dto.n5 == null || dto.n6 == null || dto.bonus == null) {
+            return false;
+        }
+        long mask = LottoTicketCodec.toMask(dto.n1, dto.n2, dto.n3, dto.n4, dto.n5, dto.n6);
+        long bonusBit = LottoTicketCodec.bit(dto.bonus);
+        return Long.bitCount(mask) == LottoTicketCodec.PICK_COUNT
+                && bonusBit != 0L && (mask & bonusBit) == 0L;
+    }
+
+    /**
+     * YYYY-MM-DD 날짜에서 연도 추출 (실패 시 2025)
+     */
+    private static int yearOf(String date) {
+        try {
+            return Integer.parseInt(date.substring(0, 4));
+        } catch (Exception e) {
+            return 2025;
+        }
+    }
+
     /**
      * 날짜 문자열을 YYYY-MM-DD 형식으로 변환
      * @param dateString 원본 날짜 문자열
@@ -186,12 +530,9 @@ public class OfficialLottoApiService {
     }
 
     /**
-     * 리소스 정리
+     * 리소스 정리 (공유 클라이언트를 사용하므로 커넥션 풀/디스패처는 종료하지 않음)
      */
     public void shutdown() {
-        if (client != null) {
-            client.dispatcher().executorService().shutdown();
-            client.connectionPool().evictAll();
-        }
+        // 공유 커넥션 풀은 앱 전체가 재사용
     }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package app.grapekim.smartlotto.data.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+/**
+ * "이 번호였다면 당첨됐을까?" 과거 전 회차 일괄 판정 엔진
+ *
+ * 게임 집합(1개 ~ 즐겨찾기 수천 개)을 모든 과거 회차와 비트마스크 popcount로 비교하여
+ * 게임별 최고 등수, 등수별 횟수, 당첨 회차 목록을 계산합니다.
+ * 당첨번호는 유효한 회차만 연속 배열로 압축해 두고, 게임을 구간으로 나눠 병렬로 처리합니다.
+ */
+public final class TicketSweepEngine {
+
+    /** 한 스레드에 맡길 최소 게임 수 (이보다 적으면 호출 스레드에서 처리) */
+    static final int MIN_TICKETS_PER_TASK = 256;
+
+    // 유효한 회차만 압축 (회차 오름차순)
+    private final int[] rounds;
+    private final long[] winningMasks;
+    private final long[] bonusBits;
+
+    /**
+     * 게임 하나의 전 회차 판정 결과
+     */
+    public static final class TicketResult {
+        public final long ticketMask;
+        private final int[] rankCounts;      // [0]=낙첨, [1]~[5]=등수별 횟수
+        private final int[] prizeRounds;     // 5등 이상 당첨 회차 (오름차순)
+        private final int[] prizeRanks;      // prizeRounds와 같은 순서의 등수
+
+        TicketResult(long ticketMask, int[] rankCounts, int[] prizeRounds, int[] prizeRanks) {
+            this.ticketMask = ticketMask;
+            this.rankCounts = rankCounts;
+            this.prizeRounds = prizeRounds;
+            this.prizeRanks = prizeRanks;
+        }
+
+        /** 최고 등수 (1~5, 당첨 이력이 없으면 0) */
+        public int getBestRank() {
+            for (int rank = 1; rank <= 5; rank++) {
+                if (rankCounts[rank] > 0) return rank;
+            }
+            return 0;
+        }
+
+        /** 등수별 횟수 (1~5, 0=낙첨) */
+        public int getRankCount(int rank) {
+            return (rank >= 0 && rank < rankCounts.length) ? rankCounts[rank] : 0;
+        }
+
+        /** 5등 이상 당첨 회차 (복사본, 오름차순) */
+        public int[] getPrizeRounds() {
+            return prizeRounds.clone();
+        }
+
+        /** 당첨 회차별 등수 (복사본, getPrizeRounds와 같은 순서) */
+        public int[] getPrizeRanks() {
+            return prizeRanks.clone();
+        }
+
+        /** 번호 목록 (오름차순) */
+        public List<Integer> getNumbers() {
+            List<Integer> numbers = new ArrayList<>(LottoTicketCodec.PICK_COUNT);
+            for (int n = 1; n <= LottoTicketCodec.MAX_NUMBER; n++) {
+                if ((ticketMask & LottoTicketCodec.bit(n)) != 0L) numbers.add(n);
+            }
+            return numbers;
+        }
+    }
+
+    /**
+     * 전체 판정 결과
+     */
+    public static final class SweepResult {
+        public final List<TicketResult> tickets;   // 입력 순서 유지 (유효하지 않은 게임은 null)
+        public final int roundCount;               // 비교한 회차 수
+        private final int[] totalRankCounts;
+
+        SweepResult(List<TicketResult> tickets, int roundCount, int[] totalRankCounts) {
+            this.tickets = tickets;
+            this.roundCount = roundCount;
+            this.totalRankCounts = totalRankCounts;
+        }
+
+        /** 전체 게임의 등수별 합계 (1~5, 0=낙첨) */
+        public int getTotalRankCount(int rank) {
+            return (rank >= 0 && rank < totalRankCounts.length) ? totalRankCounts[rank] : 0;
+        }
+
+        /** 전체 게임 중 최고 등수 (없으면 0) */
+        public int getBestRank() {
+            for (int rank = 1; rank <= 5; rank++) {
+                if (totalRankCounts[rank] > 0) return rank;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * @param winningMasksByRound 회차 번호 인덱스의 당첨번호 마스크 (0이면 데이터 없음)
+     * @param bonusNumbersByRound 회차 번호 인덱스의 보너스 번호
+     */
+    public TicketSweepEngine(long[] winningMasksByRound, int[] bonusNumbersByRound) {
+        int count = 0;
+        for (long mask : winningMasksByRound) {
+            if (mask != 0L) count++;
+        }
+
+        rounds = new int[count];
+        winningMasks = new long[count];
+        bonusBits = new long[count];
+        int i = 0;
+        for (int round = 0; round < winningMasksByRound.length; round++) {
+            if (winningMasksByRound[round] == 0L) continue;
+            rounds[i] = round;
+            winningMasks[i] = winningMasksByRound[round];
+            bonusBits[i] = (round < bonusNumbersByRound.length)
+                    ? LottoTicketCodec.bit(bonusNumbersByRound[round]) : 0L;
+            i++;
+        }
+    }
+
+    /**
+     * 앱 범위 당첨번호 인덱스로 엔진 생성 (백그라운드 스레드)
+     */
+    public static TicketSweepEngine fromIndex(DrawIndex index) {
+        return new TicketSweepEngine(index.winningMasksView(), index.bonusNumbersView());
+    }
+
+    public int getRoundCount() {
+        return rounds.length;
+    }
+
+    /**
+     * 게임 목록 판정 (번호 리스트 입력)
+     */
+    public SweepResult sweep(List<List<Integer>> tickets, ExecutorService executor) throws InterruptedException {
+        long[] masks = new long[tickets.size()];
+        for (int i = 0; i < masks.length; i++) {
+            masks[i] = LottoTicketCodec.toMask(tickets.get(i));
+        }
+        return sweep(masks, executor);
+    }
+
+    /**
+     * 게임 목록 판정 (마스크 입력)
+     * @param ticketMasks 게임별 번호 마스크 (번호가 6개가 아니면 결과는 null)
+     * @param executor 병렬 실행기 (null이면 호출 스레드에서 처리)
+     */
+    public SweepResult sweep(long[] ticketMasks, ExecutorService executor) throws InterruptedException {
+        TicketResult[] results = new TicketResult[ticketMasks.length];
+
+        int parallelism = (executor == null) ? 1
+                : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(),
+                        ticketMasks.length / MIN_TICKETS_PER_TASK));
+
+        if (parallelism == 1) {
+            sweepRange(ticketMasks, 0, ticketMasks.length, results);
+        } else {
+            int chunk = (ticketMasks.length + parallelism - 1) / parallelism;
+            List<Callable<Void>> tasks = new ArrayList<>(parallelism);
+            for (int from = 0; from < ticketMasks.length; from += chunk) {
+                final int start = from;
+                final int end = Math.min(ticketMasks.length, from + chunk);
+                tasks.add(() -> {
+                    sweepRange(ticketMasks, start, end, results);
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    throw new IllegalStateException("과거 회차 판정 실패", cause);
+                }
+            }
+        }
+
+        int[] totals = new int[6];
+        for (TicketResult result : results) {
+            if (result == null) continue;
+            for (int rank = 0; rank < totals.length; rank++) {
+                totals[rank] += result.rankCounts[rank];
+            }
+        }
+        return new SweepResult(Arrays.asList(results), rounds.length, totals);
+    }
+
+    /**
+     * 게임 구간 판정 (스레드별 작업 단위, 당첨 회차 버퍼는 구간 내에서 재사용)
+     */
+    private void sweepRange(long[] ticketMasks, int from, int to, TicketResult[] out) {
+        int[] roundBuffer = new int[16];
+        int[] rankBuffer = new int[16];
+
+        for (int t = from; t < to; t++) {
+            long ticket = ticketMasks[t];
+            if (Long.bitCount(ticket) != LottoTicketCodec.PICK_COUNT) continue;
+
+            int[] rankCounts = new int[6];
+            int hits = 0;
+            for (int d = 0; d < winningMasks.length; d++) {
+                int matched = Long.bitCount(ticket & winningMasks[d]);
+                if (matched < 3) continue;
+
+                int rank;
+                if (matched == 6) rank = 1;
+                else if (matched == 5) rank = (ticket & bonusBits[d]) != 0L ? 2 : 3;
+                else if (matched == 4) rank = 4;
+                else rank = 5;
+
+                rankCounts[rank]++;
+                if (hits == roundBuffer.length) {
+                    roundBuffer = Arrays.copyOf(roundBuffer, hits * 2);
+                    rankBuffer = Arrays.copyOf(rankBuffer, hits * 2);
+                }
+                roundBuffer[hits] = rounds[d];
+                rankBuffer[hits] = rank;
+                hits++;
+            }
+            rankCounts[0] = winningMasks.length - hits;
+
+            out[t] = new TicketResult(ticket, rankCounts,
+                    Arrays.copyOf(roundBuffer, hits), Arrays.copyOf(rankBuffer, hits));
+        }
+    }
+}
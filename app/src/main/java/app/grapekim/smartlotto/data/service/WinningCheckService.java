@@ -0,0 +1,141 @@
+package app.grapekim.smartlotto.data.service;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+/**
+ * 경량 당첨 확인 서비스 (싱글톤)
+ *
+ * DrawIndex의 메모리 비트마스크로 "R회차에 대한 N개 게임의 등수"를 즉시 계산합니다.
+ * 로컬에 회차가 없을 때만 DrawFetchCoordinator로 공식 API를 한 번 조회하며, 같은 회차에 대한 동시 요청은
+ * 하나의 조회로 합쳐집니다. 조회된 회차는 저장소를 통해 저장되어 인덱스와 미확인 게임 채점에 반영됩니다.
+ */
+public final class WinningCheckService {
+
+    private static final String TAG = "WinningCheckService";
+
+    private static volatile WinningCheckService INSTANCE;
+
+    private final DrawIndex drawIndex;
+    private final DrawFetchCoordinator fetchCoordinator;
+
+    /**
+     * 한 회차에 대한 게임별 당첨 결과
+     */
+    public static final class RoundResult {
+        public final int drawNumber;
+        public final List<Integer> winningNumbers;   // 오름차순 6개
+        public final int bonusNumber;
+        private final int[] matchCounts;
+        private final int[] ranks;                   // 0=낙첨, 1~5=등수
+        private final boolean[] bonusMatched;
+
+        RoundResult(int drawNumber, List<Integer> winningNumbers, int bonusNumber,
+                    int[] matchCounts, int[] ranks, boolean[] bonusMatched) {
+            this.drawNumber = drawNumber;
+            this.winningNumbers = winningNumbers;
+            this.bonusNumber = bonusNumber;
+            this.matchCounts = matchCounts;
+            this.ranks = ranks;
+            this.bonusMatched = bonusMatched;
+        }
+
+        public int getGameCount() { return ranks.length; }
+        public int getMatchCount(int game) { return matchCounts[game]; }
+        public int getRank(int game) { return ranks[game]; }
+        public boolean isBonusMatched(int game) { return bonusMatched[game]; }
+
+        /** 당첨된 게임이 하나라도 있는지 */
+        public boolean hasWinner() {
+            for (int rank : ranks) {
+                if (rank > 0) return true;
+            }
+            return false;
+        }
+    }
+
+    private WinningCheckService(Context context) {
+        this.drawIndex = DrawIndex.get(context);
+        this.fetchCoordinator = DrawFetchCoordinator.get(context);
+    }
+
+    public static WinningCheckService get(Context context) {
+        if (INSTANCE == null) {
+            synchronized (WinningCheckService.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new WinningCheckService(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== 당첨 확인 ====================
+
+    /**
+     * 로컬 인덱스만으로 당첨 확인 (백그라운드 스레드)
+     * @param round 회차
+     * @param games 게임별 번호 6개
+     * @return 결과, 회차 데이터가 없으면 null
+     */
+    @Nullable
+    public RoundResult check(int round, List<List<Integer>> games) {
+        long winning = drawIndex.getWinningMask(round);
+        if (winning == 0L) return null;
+
+        int bonus = drawIndex.getBonusNumber(round);
+        long bonusBit = LottoTicketCodec.bit(bonus);
+        int size = games.size();
+        int[] matchCounts = new int[size];
+        int[] ranks = new int[size];
+        boolean[] bonusMatched = new boolean[size];
+
+        for (int i = 0; i < size; i++) {
+            List<Integer> numbers = games.get(i);
+            long ticket = (numbers != null) ? LottoTicketCodec.toMask(numbers) : 0L;
+            if (Long.bitCount(ticket) != LottoTicketCodec.PICK_COUNT) continue; // 불완전한 게임은 낙첨 처리
+
+            matchCounts[i] = LottoTicketCodec.matchCount(ticket, winning);
+            ranks[i] = LottoTicketCodec.prizeRank(ticket, winning, bonus);
+            bonusMatched[i] = (ticket & bonusBit) != 0L;
+        }
+
+        return new RoundResult(round, numbersOf(winning), bonus, matchCounts, ranks, bonusMatched);
+    }
+
+    /**
+     * 당첨 확인 (로컬에 회차가 없으면 공식 API 1회 조회 후 재확인)
+     * @return 결과, 아직 발표 전이거나 조회 실패 시 null
+     */
+    @Nullable
+    public RoundResult checkOrFetch(int round, List<List<Integer>> games) {
+        if (round <= 0) return null;
+
+        RoundResult result = check(round, games);
+        if (result != null) return result;
+
+        Log.d(TAG, round + "회 로컬 데이터 없음 - 공식 API 조회");
+        try {
+            // 조회된 회차는 조정자가 Room/인덱스에 저장
+            return fetchCoordinator.getDraw(round) != null ? check(round, games) : null;
+        } catch (Exception e) {
+            Log.w(TAG, round + "회 조회 실패: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<Integer> numbersOf(long mask) {
+        List<Integer> numbers = new ArrayList<>(LottoTicketCodec.PICK_COUNT);
+        for (int n = 1; n <= LottoTicketCodec.MAX_NUMBER; n++) {
+            if ((mask & LottoTicketCodec.bit(n)) != 0L) numbers.add(n);
+        }
+        return numbers;
+    }
+}
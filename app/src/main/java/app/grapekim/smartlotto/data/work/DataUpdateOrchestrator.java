@@ -0,0 +1,233 @@
+package app.grapekim.smartlotto.data.work;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.Data;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkInfo;
+import androidx.work.WorkManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 당첨번호 데이터 갱신 조정자
+ *
+ * 앱 시작, 정기 확인, 토요일 발표 확인 등 모든 갱신 요청을 하나의 고유 WorkManager 체인
+ * (fetch → ingest → stats → grade → notify)으로 모읍니다.
+ * 체인이 대기/실행 중이면 새 요청은 그 체인에 합쳐지므로 다운로드와 통계 재계산이 겹치지 않습니다.
+ * 단계별 소요 시간은 마지막 실행 기록으로 남습니다.
+ */
+public final class DataUpdateOrchestrator {
+
+    private static final String TAG = "DataUpdateOrchestrator";
+
+    public static final String UNIQUE_WORK_NAME = "data_update_chain";
+    private static final String PERIODIC_WORK_NAME = "data_update_periodic";
+    static final String TAG_NOTIFY_STAGE = "data_update_notify";
+
+    // 정기 확인 주기 (발표 직후는 QuickDataCheckReceiver가 요청)
+    private static final long PERIODIC_INTERVAL_HOURS = 24;
+
+    // 이전 버전에서 예약한 중복 갱신 작업 (정리 대상)
+    private static final String[] LEGACY_UNIQUE_WORK = {
+            "csv_saturday_update_work", "saturday_draw_update_unique", "auto_data_update_periodic", "seed_init_unique"
+    };
+    private static final String[] LEGACY_TAGS = {"csv_immediate_update", "manual_update"};
+
+    // 단계 간 전달 데이터 키
+    static final String KEY_TRIGGER = "trigger";
+    static final String KEY_REQUESTED_AT = "requested_at";
+    static final String KEY_ROUND_BEFORE = "round_before";
+    static final String KEY_ROUND_AFTER = "round_after";
+    static final String KEY_FETCH_MODE = "fetch_mode";
+    static final String KEY_INGESTED = "ingested";
+    static final String KEY_STATS_UPDATED = "stats_updated";
+    static final String KEY_GRADED = "graded";
+    static final String KEY_NEW_ROUNDS = "new_rounds";
+    // 마지막 단계 출력 전용 (이어 붙인 다음 체인의 입력을 덮어쓰지 않도록 별도 키)
+    static final String KEY_RUN_REQUESTED_AT = "run_requested_at";
+    static final String KEY_DURATION_PREFIX = "duration_";
+
+    private static final String PREF_NAME = "data_update";
+    private static final String PREF_LAST_RUN_AT = "last_run_at";
+    private static final String PREF_LAST_SUMMARY = "last_summary";
+    private static final String PREF_STATISTICS_ROUND = "statistics_round";
+
+    /**
+     * 갱신 요청 출처
+     */
+    public enum Trigger {
+        APP_START,        // 앱 화면 시작
+        PERIODIC,         // 하루 1회 정기 확인
+        DRAW_PUBLISHED    // 토요일 발표 확인 직후 (새 회차 알림 발송)
+    }
+
+    private DataUpdateOrchestrator() {
+    }
+
+    // ==================== 요청 ====================
+
+    /**
+     * 갱신 요청 (체인이 이미 대기/실행 중이면 합쳐짐)
+     * 발표 확인 요청만은 진행 중인 체인 뒤에 한 번 더 이어 붙여 새 회차를 놓치지 않습니다.
+     */
+    public static void requestUpdate(Context context, Trigger trigger) {
+        try {
+            Data input = new Data.Builder()
+                    .putString(KEY_TRIGGER, trigger.name())
+                    .putLong(KEY_REQUESTED_AT, System.currentTimeMillis())
+                    .build();
+
+            ExistingWorkPolicy policy = trigger == Trigger.DRAW_PUBLISHED
+                    ? ExistingWorkPolicy.APPEND_OR_REPLACE
+                    : ExistingWorkPolicy.KEEP;
+
+            WorkManager.getInstance(context)
+                    .beginUniqueWork(UNIQUE_WORK_NAME, policy,
+                            stage(DataUpdateStageWorker.Stage.FETCH, input))
+                    .then(stage(DataUpdateStageWorker.Stage.INGEST, null))
+                    .then(stage(DataUpdateStageWorker.Stage.STATS, null))
+                    .then(stage(DataUpdateStageWorker.Stage.GRADE, null))
+                    .then(stage(DataUpdateStageWorker.Stage.NOTIFY, null))
+                    .enqueue();
+
+            Log.d(TAG, "데이터 갱신 요청: " + trigger);
+        } catch (Exception e) {
+            Log.e(TAG, "데이터 갱신 요청 실패: " + trigger, e);
+        }
+    }
+
+    /**
+     * 하루 1회 정기 확인 예약 + 이전 버전의 중복 갱신 작업 정리 (앱 시작 시 호출)
+     */
+    public static void schedulePeriodic(Context context) {
+        try {
+            WorkManager workManager = WorkManager.getInstance(context);
+            for (String name : LEGACY_UNIQUE_WORK) {
+                workManager.cancelUniqueWork(name);
+            }
+            for (String tag : LEGACY_TAGS) {
+                workManager.cancelAllWorkByTag(tag);
+            }
+
+            PeriodicWorkRequest periodic = new PeriodicWorkRequest.Builder(
+                    DataUpdateStageWorker.class, PERIODIC_INTERVAL_HOURS, TimeUnit.HOURS)
+                    .setInputData(new Data.Builder()
+                            .putString(DataUpdateStageWorker.KEY_STAGE, DataUpdateStageWorker.Stage.TRIGGER.name())
+                            .build())
+                    .setConstraints(new Constraints.Builder()
+                            .setRequiredNetworkType(NetworkType.CONNECTED)
+                            .setRequiresBatteryNotLow(true)
+                            .build())
+                    .build();
+
+            workManager.enqueueUniquePeriodicWork(PERIODIC_WORK_NAME, ExistingPeriodicWorkPolicy.KEEP, periodic);
+            Log.i(TAG, "⏰ 정기 데이터 확인 예약 완료 (" + PERIODIC_INTERVAL_HOURS + "시간 주기)");
+        } catch (Exception e) {
+            Log.e(TAG, "정기 데이터 확인 예약 실패", e);
+        }
+    }
+
+    // ==================== 결과 ====================
+
+    /**
+     * 체인 상태 목록에서 새 회차나 통계 재계산을 반영하고 끝난 실행의 요청 시각 (없으면 0)
+     * (WorkManager.getWorkInfosForUniqueWorkLiveData(UNIQUE_WORK_NAME) 관찰용)
+     */
+    public static long findCompletedRunWithChanges(List<WorkInfo> infos) {
+        long latest = 0;
+        if (infos == null) return latest;
+        for (WorkInfo info : infos) {
+            if (info.getState() != WorkInfo.State.SUCCEEDED || !info.getTags().contains(TAG_NOTIFY_STAGE)) {
+                continue;
+            }
+            Data output = info.getOutputData();
+            if (output.getInt(KEY_NEW_ROUNDS, 0) > 0 || output.getBoolean(KEY_STATS_UPDATED, false)) {
+                latest = Math.max(latest, output.getLong(KEY_RUN_REQUESTED_AT, 0));
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * 마지막 실행 기록 (단계별 소요 시간 포함, 없으면 null)
+     */
+    public static String getLastRunSummary(Context context) {
+        return prefs(context).getString(PREF_LAST_SUMMARY, null);
+    }
+
+    public static long getLastRunAt(Context context) {
+        return prefs(context).getLong(PREF_LAST_RUN_AT, 0);
+    }
+
+    /**
+     * 번호 통계가 마지막으로 반영한 회차 (없으면 0)
+     */
+    static int getStatisticsRound(Context context) {
+        return prefs(context).getInt(PREF_STATISTICS_ROUND, 0);
+    }
+
+    public static void setStatisticsRound(Context context, int round) {
+        prefs(context).edit().putInt(PREF_STATISTICS_ROUND, round).apply();
+    }
+
+    /**
+     * 체인 마지막 단계에서 실행 기록 저장
+     */
+    static String recordRun(Context context, Data data) {
+        StringBuilder stages = new StringBuilder();
+        long total = 0;
+        for (DataUpdateStageWorker.Stage stage : DataUpdateStageWorker.Stage.values()) {
+            if (stage == DataUpdateStageWorker.Stage.TRIGGER) continue;
+            long duration = data.getLong(KEY_DURATION_PREFIX + stage.name(), -1);
+            if (duration < 0) continue;
+            if (stages.length() > 0) stages.append(", ");
+            stages.append(stage.name().toLowerCase(Locale.US)).append(' ').append(duration).append("ms");
+            total += duration;
+        }
+
+        String summary = String.format(Locale.US,
+                "%s: %d→%d회 (새 회차 %d, 조회 %s, CSV 반영 %d, 통계 %s, 채점 %d) - %s, 합계 %dms",
+                data.getString(KEY_TRIGGER), data.getInt(KEY_ROUND_BEFORE, 0), data.getInt(KEY_ROUND_AFTER, 0),
+                data.getInt(KEY_NEW_ROUNDS, 0), data.getString(KEY_FETCH_MODE), data.getInt(KEY_INGESTED, 0),
+                data.getBoolean(KEY_STATS_UPDATED, false) ? "재계산" : "유지", data.getInt(KEY_GRADED, 0),
+                stages, total);
+
+        prefs(context).edit()
+                .putLong(PREF_LAST_RUN_AT, System.currentTimeMillis())
+                .putString(PREF_LAST_SUMMARY, summary)
+                .apply();
+        return summary;
+    }
+
+    // ==================== 내부 구현 ====================
+
+    @NonNull
+    private static OneTimeWorkRequest stage(DataUpdateStageWorker.Stage stage, Data extraInput) {
+        Data.Builder input = new Data.Builder();
+        if (extraInput != null) input.putAll(extraInput);
+        input.putString(DataUpdateStageWorker.KEY_STAGE, stage.name());
+
+        OneTimeWorkRequest.Builder builder = new OneTimeWorkRequest.Builder(DataUpdateStageWorker.class)
+                .setInputData(input.build())
+                .addTag(UNIQUE_WORK_NAME);
+        if (stage == DataUpdateStageWorker.Stage.NOTIFY) {
+            builder.addTag(TAG_NOTIFY_STAGE);
+        }
+        return builder.build();
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+}
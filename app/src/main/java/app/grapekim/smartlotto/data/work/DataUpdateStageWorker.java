@@ -0,0 +1,271 @@
+package app.grapekim.smartlotto.data.work;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Data;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import app.grapekim.smartlotto.data.CsvUpdateManager;
+import app.grapekim.smartlotto.data.csv.LottoDataLoader;
+import app.grapekim.smartlotto.data.local.room.entity.NumberStatisticsEntity;
+import app.grapekim.smartlotto.data.notification.UpdateNotificationManager;
+import app.grapekim.smartlotto.data.repository.LottoRepository;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.data.service.DrawIndex;
+import app.grapekim.smartlotto.util.LottoDrawCalculator;
+import app.grapekim.smartlotto.util.StartupTimingReport;
+import app.grapekim.smartlotto.util.StartupTimings;
+
+/**
+ * 데이터 갱신 체인의 단계 워커 (DataUpdateOrchestrator가 단계별로 예약)
+ *
+ * 각 단계는 앞 단계의 출력을 그대로 넘겨받아 자기 결과와 소요 시간을 덧붙입니다.
+ * 할 일이 없는 단계(새 회차 없음 등)는 네트워크나 재계산 없이 바로 끝납니다.
+ * 실패한 단계는 몇 번 재시도한 뒤 실패로 끝나며, 이후 단계는 실행되지 않습니다(다음 요청이 다시 시작).
+ */
+public class DataUpdateStageWorker extends Worker {
+
+    private static final String TAG = "DataUpdateStageWorker";
+
+    static final String KEY_STAGE = "stage";
+
+    // 예상 회차와의 차이가 이 이하면 공식 API로 해당 회차만 조회, 넘으면 GitHub CSV 전체 다운로드
+    private static final int API_FETCH_MAX_GAP = 8;
+
+    // 단계 실행 시도 횟수 제한 (넘으면 체인 실패로 종료)
+    private static final int MAX_STAGE_ATTEMPTS = 3;
+
+    static final String FETCH_NONE = "none";
+    static final String FETCH_API = "api";
+    static final String FETCH_CSV = "csv";
+
+    enum Stage {
+        TRIGGER,   // 정기 작업: 체인 요청만 수행
+        FETCH,     // 새 회차 다운로드 (필요할 때만)
+        INGEST,    // CSV → Room 반영
+        STATS,     // 번호 통계/쌍 재계산 (통계에 없는 회차가 있을 때만)
+        GRADE,     // 결과 미확인 게임 채점
+        NOTIFY     // 실행 기록, 새 회차 알림
+    }
+
+    public DataUpdateStageWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Stage stage;
+        try {
+            stage = Stage.valueOf(getInputData().getString(KEY_STAGE));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            Log.w(TAG, "알 수 없는 단계: " + getInputData().getString(KEY_STAGE));
+            return Result.failure();
+        }
+
+        if (stage == Stage.TRIGGER) {
+            DataUpdateOrchestrator.requestUpdate(getApplicationContext(), DataUpdateOrchestrator.Trigger.PERIODIC);
+            return Result.success();
+        }
+
+        long start = System.currentTimeMillis();
+        Data.Builder output = stage == Stage.FETCH ? new Data.Builder() : passThrough(getInputData());
+        try {
+            switch (stage) {
+                case FETCH:
+                    fetch(output);
+                    break;
+                case INGEST:
+                    ingest(output);
+                    break;
+                case STATS:
+                    recalculateStatistics(output);
+                    break;
+                case GRADE:
+                    grade(output);
+                    break;
+                case NOTIFY:
+                    return Result.success(notifyCompletion());
+            }
+        } catch (Exception e) {
+            // 실패를 성공으로 넘기면 다음 단계가 빠진 데이터로 진행하므로 재시도 후 체인 실패로 종료
+            boolean retry = getRunAttemptCount() + 1 < MAX_STAGE_ATTEMPTS;
+            Log.e(TAG, stage + " 단계 실패 (" + (getRunAttemptCount() + 1) + "번째"
+                    + (retry ? ", 재시도" : ", 중단") + ")", e);
+            return retry ? Result.retry() : Result.failure();
+        }
+
+        long duration = System.currentTimeMillis() - start;
+        output.putLong(DataUpdateOrchestrator.KEY_DURATION_PREFIX + stage.name(), duration);
+        Log.d(TAG, stage + " 단계 완료 (" + duration + "ms)");
+        return Result.success(output.build());
+    }
+
+    // ==================== 단계 ====================
+
+    /**
+     * 새 회차 다운로드: CSV와 Room이 모두 예상 회차를 가지고 있으면 네트워크 없음
+     *
+     * 발표 확인/회차 조회 경로는 Room에만 먼저 저장하므로, CSV가 Room보다 뒤처져 있으면
+     * Room의 회차를 CSV에 먼저 옮긴 뒤 둘 중 뒤처진 쪽 기준으로 다운로드 여부를 정합니다.
+     */
+    private void fetch(Data.Builder output) throws IOException {
+        Context context = getApplicationContext();
+        Data input = getInputData();
+        output.putString(DataUpdateOrchestrator.KEY_TRIGGER, input.getString(DataUpdateOrchestrator.KEY_TRIGGER));
+        output.putLong(DataUpdateOrchestrator.KEY_REQUESTED_AT, input.getLong(DataUpdateOrchestrator.KEY_REQUESTED_AT, 0));
+
+        int before = DrawIndex.get(context).getLatestRound();
+        int expected = LottoDrawCalculator.getCurrentExpectedDrawNumber();
+        output.putInt(DataUpdateOrchestrator.KEY_ROUND_BEFORE, before);
+
+        CsvUpdateManager csvManager = new CsvUpdateManager(context);
+        int csvRound = csvManager.getCsvLatestRound();
+        if (before > csvRound && csvRound > 0) {
+            if (csvManager.appendDrawsFromRoom(before) < 0) {
+                throw new IOException("Room 회차 CSV 반영 실패 (" + csvRound + " → " + before + "회)");
+            }
+            csvRound = csvManager.getCsvLatestRound();
+        }
+        int local = Math.min(before, csvRound);
+
+        String mode;
+        if (local > 0 && local >= expected) {
+            mode = FETCH_NONE;
+        } else if (local > 0 && expected - local <= API_FETCH_MAX_GAP) {
+            // 빠진 회차만 공식 API로 조회 (CSV 앞에 추가 + Room 저장)
+            // 예상 회차는 추첨 시각 기준이라 발표 전이면 찾지 못하는 것이 정상 (발표 확인이 다시 요청)
+            csvManager.appendNewDrawsFromOfficialAPI();
+            mode = FETCH_API;
+        } else {
+            // 첫 실행이거나 오래 비어 있으면 CSV 전체
+            if (!csvManager.updateCsvFile()) {
+                throw new IOException("GitHub CSV 다운로드 실패");
+            }
+            mode = FETCH_CSV;
+        }
+        output.putString(DataUpdateOrchestrator.KEY_FETCH_MODE, mode);
+        Log.i(TAG, String.format("새 회차 조회: %s (Room %d, CSV %d, 예상 %d)", mode, before, csvRound, expected));
+    }
+
+    /**
+     * CSV에만 있는 회차를 Room에 반영하고 새 회차 수 계산
+     */
+    private void ingest(Data.Builder output) throws IOException {
+        Context context = getApplicationContext();
+        LottoDataLoader loader = new LottoDataLoader(context, AppContainer.get(context).lottoRepository());
+        try {
+            int ingested = loader.ingestCsvSync();
+            if (ingested < 0) {
+                throw new IOException("CSV → Room 반영 실패");
+            }
+            output.putInt(DataUpdateOrchestrator.KEY_INGESTED, ingested);
+        } finally {
+            loader.shutdown();
+        }
+
+        int before = getInputData().getInt(DataUpdateOrchestrator.KEY_ROUND_BEFORE, 0);
+        int after = DrawIndex.get(context).getLatestRound();
+        output.putInt(DataUpdateOrchestrator.KEY_ROUND_AFTER, after);
+        output.putInt(DataUpdateOrchestrator.KEY_NEW_ROUNDS, Math.max(0, after - before));
+        StartupTimings.mark(StartupTimingReport.Phase.DATA_READY);
+    }
+
+    /**
+     * 통계가 반영한 회차보다 새 회차가 있거나 통계가 비어 있을 때만 재계산
+     * (발표 확인/회차 조회 경로로 체인 밖에서 저장된 회차도 포함)
+     */
+    private void recalculateStatistics(Data.Builder output) throws ExecutionException, InterruptedException {
+        Context context = getApplicationContext();
+        LottoRepository repository = AppContainer.get(context).lottoRepository();
+        int latest = getInputData().getInt(DataUpdateOrchestrator.KEY_ROUND_AFTER, 0);
+
+        List<NumberStatisticsEntity> statistics = repository.getAllNumberStatistics();
+        int statisticsRound = DataUpdateOrchestrator.getStatisticsRound(context);
+        if (statisticsRound == 0 && !statistics.isEmpty()) {
+            // 기록은 없는데 통계가 있으면(미리 채워진 DB) 번호별 마지막 출현 회차의 최댓값이 반영 회차
+            statisticsRound = coveredRound(statistics);
+            if (statisticsRound > 0) {
+                DataUpdateOrchestrator.setStatisticsRound(context, statisticsRound);
+                Log.i(TAG, "기존 번호 통계 반영 회차 기록: " + statisticsRound + "회");
+            }
+        }
+
+        boolean recalculate = latest > statisticsRound || statistics.isEmpty();
+        if (recalculate) {
+            // 재계산이 실제로 끝난 뒤에만 반영 회차 기록 (실패하면 다음 체인에서 다시 계산)
+            // 통계 준비 시각은 재계산이 끝날 때 저장소가 기록
+            repository.recalculateAllAiStatistics().get();
+            DataUpdateOrchestrator.setStatisticsRound(context, latest);
+        } else {
+            StartupTimings.mark(StartupTimingReport.Phase.STATS_READY);
+        }
+        output.putBoolean(DataUpdateOrchestrator.KEY_STATS_UPDATED, recalculate);
+    }
+
+    /**
+     * 통계가 반영한 마지막 회차 (매 회차 6개 번호가 나오므로 번호별 마지막 출현 회차의 최댓값)
+     */
+    private static int coveredRound(List<NumberStatisticsEntity> statistics) {
+        int round = 0;
+        for (NumberStatisticsEntity stats : statistics) {
+            round = Math.max(round, stats.lastDrawNumber);
+        }
+        return round;
+    }
+
+    private void grade(Data.Builder output) {
+        LottoRepository repository = AppContainer.get(getApplicationContext()).lottoRepository();
+        output.putInt(DataUpdateOrchestrator.KEY_GRADED, repository.gradePendingResults());
+    }
+
+    /**
+     * 실행 기록 저장, 발표 직후 요청이면 새 회차 알림
+     * @return 체인 결과 (다음에 이어 붙는 체인의 입력을 덮어쓰지 않도록 전용 키만 출력)
+     */
+    private Data notifyCompletion() {
+        Context context = getApplicationContext();
+        Data input = getInputData();
+        int newRounds = input.getInt(DataUpdateOrchestrator.KEY_NEW_ROUNDS, 0);
+
+        String summary = DataUpdateOrchestrator.recordRun(context, input);
+        Log.i(TAG, "데이터 갱신 완료 - " + summary);
+
+        boolean published = DataUpdateOrchestrator.Trigger.DRAW_PUBLISHED.name()
+                .equals(input.getString(DataUpdateOrchestrator.KEY_TRIGGER));
+        int latest = input.getInt(DataUpdateOrchestrator.KEY_ROUND_AFTER, 0);
+        if (published && latest > 0) {
+            // 알림 발송: QR 당첨확인 기능 사용 가능 안내
+            new UpdateNotificationManager(context).showUpdateSuccessNotification(
+                    String.format("🎉 %d회차 로또 당첨 확인이 가능합니다!", latest));
+        }
+
+        return new Data.Builder()
+                .putInt(DataUpdateOrchestrator.KEY_NEW_ROUNDS, newRounds)
+                .putBoolean(DataUpdateOrchestrator.KEY_STATS_UPDATED,
+                        input.getBoolean(DataUpdateOrchestrator.KEY_STATS_UPDATED, false))
+                .putLong(DataUpdateOrchestrator.KEY_RUN_REQUESTED_AT,
+                        input.getLong(DataUpdateOrchestrator.KEY_REQUESTED_AT, 0))
+                .build();
+    }
+
+    // ==================== 유틸리티 ====================
+
+    /**
+     * 앞 단계 출력 복사 (단계 키 제외)
+     */
+    private static Data.Builder passThrough(Data input) {
+        Map<String, Object> values = new HashMap<>(input.getKeyValueMap());
+        values.remove(KEY_STAGE);
+        return new Data.Builder().putAll(values);
+    }
+}
@@ -0,0 +1,130 @@
+package app.grapekim.smartlotto.data.work;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.Data;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import app.grapekim.smartlotto.data.backtest.DrawFeatureTimeline;
+import app.grapekim.smartlotto.data.backtest.StrategyBacktester;
+import app.grapekim.smartlotto.data.backtest.StrategyWeightStore;
+import app.grapekim.smartlotto.data.backtest.StrategyWeightTuner;
+import app.grapekim.smartlotto.data.local.room.AppDatabase;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.ExecutorUtils;
+
+/**
+ * 선택된 전략 집합의 가중치를 과거 회차 재현으로 튜닝하는 백그라운드 워커
+ * 결과는 StrategyWeightStore에 저장되어 다음 AI 번호 생성부터 사용됩니다.
+ */
+public class StrategyTuningWorker extends Worker {
+
+    private static final String TAG = "StrategyTuningWorker";
+
+    public static final String KEY_STRATEGIES = "strategies";
+    public static final String KEY_OBJECTIVE = "objective";
+
+    private static final String WORK_NAME_PREFIX = "strategy_tuning_";
+    private static final long TUNING_SEED = 20021207L; // 1회차 추첨일
+
+    public StrategyTuningWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        String[] strategyArray = getInputData().getStringArray(KEY_STRATEGIES);
+        if (strategyArray == null || strategyArray.length == 0) {
+            Log.w(TAG, "튜닝할 전략이 없음");
+            return Result.failure();
+        }
+        List<String> strategies = Arrays.asList(strategyArray);
+
+        StrategyWeightTuner.Objective objective;
+        try {
+            objective = StrategyWeightTuner.Objective.valueOf(getInputData().getString(KEY_OBJECTIVE));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            objective = StrategyWeightTuner.Objective.MEAN_MATCHED;
+        }
+
+        // 공용 CPU 레인에서 백그라운드 우선순위로 실행 (사용자 번호 생성이 대기열 앞으로 감)
+        ExecutorService executor = AppExecutors.get().newExecutor(
+                AppExecutors.Lane.CPU, AppExecutors.Priority.BACKGROUND, "strategyTuning",
+                AppExecutors.cpuParallelism());
+        try {
+            long start = System.currentTimeMillis();
+            DrawFeatureTimeline timeline = DrawFeatureTimeline.build(
+                    AppDatabase.get(getApplicationContext()).lottoDrawHistoryDao().getAll());
+
+            if (timeline.getRoundCount() <= StrategyBacktester.DEFAULT_WARMUP_ROUNDS) {
+                Log.w(TAG, "튜닝에 필요한 회차 데이터 부족: " + timeline.getRoundCount());
+                return Result.retry();
+            }
+
+            StrategyWeightTuner.TuningResult result = new StrategyWeightTuner(timeline).tune(
+                    strategies, objective,
+                    StrategyWeightTuner.DEFAULT_REPLAY_ROUNDS,
+                    StrategyWeightTuner.DEFAULT_TICKETS_PER_ROUND,
+                    StrategyWeightTuner.DEFAULT_MAX_PASSES,
+                    TUNING_SEED, executor);
+
+            new StrategyWeightStore(getApplicationContext()).save(result);
+
+            Log.i(TAG, String.format("튜닝 완료: %s, %.4f → %.4f (후보 %d개, %d회차, %dms)",
+                    strategies, result.baselineScore, result.score, result.evaluations,
+                    result.replayRounds, System.currentTimeMillis() - start));
+            return Result.success();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Log.w(TAG, "튜닝 중단됨");
+            return Result.retry();
+        } catch (Exception e) {
+            Log.e(TAG, "전략 가중치 튜닝 실패", e);
+            return Result.failure();
+        } finally {
+            ExecutorUtils.shutdownSafely(executor);
+        }
+    }
+
+    /**
+     * 전략 집합 튜닝 예약 (같은 집합이 이미 대기/실행 중이면 유지)
+     */
+    public static void enqueue(Context context, List<String> strategies,
+                               StrategyWeightTuner.Objective objective) {
+        try {
+            Data input = new Data.Builder()
+                    .putStringArray(KEY_STRATEGIES, strategies.toArray(new String[0]))
+                    .putString(KEY_OBJECTIVE, objective.name())
+                    .build();
+
+            OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(StrategyTuningWorker.class)
+                    .setInputData(input)
+                    .setConstraints(new Constraints.Builder()
+                            .setRequiresBatteryNotLow(true)
+                            .build())
+                    .build();
+
+            WorkManager.getInstance(context).enqueueUniqueWork(
+                    WORK_NAME_PREFIX + StrategyWeightStore.keyOf(strategies),
+                    ExistingWorkPolicy.KEEP,
+                    request);
+
+            Log.d(TAG, "전략 가중치 튜닝 예약: " + strategies);
+        } catch (Exception e) {
+            Log.e(TAG, "전략 가중치 튜닝 예약 실패", e);
+        }
+    }
+}
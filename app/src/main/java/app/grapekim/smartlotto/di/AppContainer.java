@@ -0,0 +1,159 @@
+package app.grapekim.smartlotto.di;
+
+import android.content.Context;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import app.grapekim.smartlotto.data.local.room.AppDatabase;
+import app.grapekim.smartlotto.data.repository.AiRepository;
+import app.grapekim.smartlotto.data.repository.LottoDrawRepository;
+import app.grapekim.smartlotto.data.repository.LottoRepository;
+import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.network.SecureOkHttpClient;
+import okhttp3.OkHttpClient;
+
+/**
+ * 앱 범위 서비스 컨테이너
+ *
+ * 데이터베이스, HTTP 클라이언트, 리포지토리를 처음 요청될 때 한 번만 만들고 앱 전체가 공유합니다.
+ * (화면/리시버마다 리포지토리를 새로 만들면 그때마다 스레드 풀이 생기고 정리되지 않음)
+ * 생성 이후의 조회는 volatile 읽기 한 번으로 끝나며 잠금을 잡지 않습니다.
+ */
+public final class AppContainer {
+
+    private static volatile AppContainer INSTANCE;
+
+    private final Lazy<AppDatabase> database;
+    private final Lazy<OkHttpClient> httpClient;
+    private final Lazy<LottoRepository> lottoRepository;
+    private final Lazy<LottoDrawRepository> lottoDrawRepository;
+    private final Lazy<AiRepository> aiRepository;
+
+    private AppContainer(Context appContext) {
+        this.database = new Lazy<>(() -> AppDatabase.get(appContext));
+        this.httpClient = new Lazy<>(SecureOkHttpClient::getInstance);
+        this.lottoRepository = new Lazy<>(() -> new LottoRepositoryImpl(appContext));
+        this.lottoDrawRepository = new Lazy<>(() -> new LottoDrawRepository(appContext));
+        this.aiRepository = new Lazy<>(() -> new AiRepository(appContext));
+    }
+
+    public static AppContainer get(Context context) {
+        if (INSTANCE == null) {
+            synchronized (AppContainer.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new AppContainer(context.getApplicationContext());
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== 서비스 ====================
+
+    public AppDatabase database() {
+        return database.get();
+    }
+
+    public OkHttpClient httpClient() {
+        return httpClient.get();
+    }
+
+    /**
+     * 공유 리포지토리 (호출부에서 종료하지 말 것)
+     */
+    public LottoRepository lottoRepository() {
+        return lottoRepository.get();
+    }
+
+    public LottoDrawRepository lottoDrawRepository() {
+        return lottoDrawRepository.get();
+    }
+
+    public AiRepository aiRepository() {
+        return aiRepository.get();
+    }
+
+    // ==================== 지표 ====================
+
+    /**
+     * 컨테이너 생성 서비스 수와 현재 프로세스의 살아 있는 스레드/스레드 풀 수
+     */
+    public Metrics getMetrics() {
+        int created = 0;
+        for (Lazy<?> service : new Lazy<?>[]{database, httpClient, lottoRepository, lottoDrawRepository, aiRepository}) {
+            if (service.isCreated()) created++;
+        }
+
+        ThreadGroup root = Thread.currentThread().getThreadGroup();
+        while (root != null && root.getParent() != null) {
+            root = root.getParent();
+        }
+        Thread[] threads = new Thread[(root != null ? root.activeCount() : 0) + 16];
+        int liveThreads = root != null ? root.enumerate(threads, true) : 0;
+
+        // Executors 기본 스레드 이름 "pool-N-thread-M"의 N으로 살아 있는 풀 구분
+        Set<String> pools = new HashSet<>();
+        for (int i = 0; i < liveThreads; i++) {
+            String name = threads[i].getName();
+            if (name.startsWith("pool-")) {
+                int end = name.indexOf("-thread-");
+                if (end > 0) pools.add(name.substring(0, end));
+            }
+        }
+        return new Metrics(created, liveThreads, pools.size());
+    }
+
+    public static final class Metrics {
+        public final int createdServices;
+        public final int liveThreads;
+        public final int threadPools;
+
+        Metrics(int createdServices, int liveThreads, int threadPools) {
+            this.createdServices = createdServices;
+            this.liveThreads = liveThreads;
+            this.threadPools = threadPools;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.getDefault(), "서비스 %d개 생성, 스레드 %d개, 스레드 풀 %d개",
+                    createdServices, liveThreads, threadPools);
+        }
+    }
+
+    // ==================== 내부 구현 ====================
+
+    /**
+     * 처음 get()에서 한 번만 생성 (생성 중에만 잠금, 이후는 volatile 읽기)
+     */
+    private static final class Lazy<T> {
+        private Supplier<T> factory;
+        private volatile T value;
+
+        Lazy(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        T get() {
+            T result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = factory.get();
+                        value = result;
+                        factory = null;   // 생성 후에는 참조 해제
+                    }
+                }
+            }
+            return result;
+        }
+
+        boolean isCreated() {
+            return value != null;
+        }
+    }
+}
@@ -1,23 +1,85 @@
 package app.grapekim.smartlotto.network;
 
+import android.content.Context;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import okhttp3.Cache;
 import okhttp3.CertificatePinner;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.logging.HttpLoggingInterceptor;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.GzipSource;
+import okio.Okio;
 
 /**
  * Certificate Pinning이 적용된 보안 강화 OkHttp 클라이언트
+ *
+ * 앱 전체가 이 클라이언트 하나(커넥션 풀 1개)를 공유합니다.
+ * 타임아웃이 다른 호출부는 newBuilder()로 파생해 같은 풀/디스패처/캐시를 사용합니다.
+ * init(Context) 이후에는 디스크 HTTP 캐시가 붙으며, 발표된 회차의 당첨번호 응답은
+ * 바뀌지 않으므로 무기한 캐시됩니다.
  */
 public class SecureOkHttpClient {
-    private static OkHttpClient instance;
+    private static final String TAG = "SecureOkHttpClient";
+
+    private static final String CACHE_DIR_NAME = "http_cache";
+    private static final long CACHE_SIZE_BYTES = 10L * 1024 * 1024; // 10MB
+
+    // 발표된 회차 응답 캐시 정책 (1년 + immutable)
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final Pattern SUCCESS_PATTERN = Pattern.compile("\"returnValue\"\\s*:\\s*\"success\"");
+    private static final long PEEK_LIMIT_BYTES = 16 * 1024;
+
+    private static volatile OkHttpClient instance;
 
-    public static synchronized OkHttpClient getInstance() {
-        if (instance == null) {
-            instance = createSecureClient();
+    /**
+     * 공유 클라이언트 (생성 이후에는 잠금 없이 반환)
+     */
+    public static OkHttpClient getInstance() {
+        OkHttpClient client = instance;
+        if (client == null) {
+            synchronized (SecureOkHttpClient.class) {
+                client = instance;
+                if (client == null) {
+                    client = createSecureClient(null);
+                    instance = client;
+                }
+            }
         }
-        return instance;
+        return client;
     }
 
-    private static OkHttpClient createSecureClient() {
+    /**
+     * 디스크 캐시를 붙여 공유 클라이언트 초기화 (Application.onCreate에서 1회)
+     * init 전에 getInstance()로 캐시 없는 클라이언트가 먼저 만들어졌으면 newBuilder()로 캐시를 붙여 교체합니다
+     * (커넥션 풀/디스패처는 그대로 공유, 그 전에 받아 둔 클라이언트에는 캐시가 없음).
+     */
+    public static synchronized void init(Context context) {
+        OkHttpClient current = instance;
+        if (current != null && current.cache() != null) {
+            return;
+        }
+        File cacheDir = new File(context.getApplicationContext().getCacheDir(), CACHE_DIR_NAME);
+        Cache cache = new Cache(cacheDir, CACHE_SIZE_BYTES);
+        if (current == null) {
+            instance = createSecureClient(cache);
+            Log.d(TAG, "공유 HTTP 클라이언트 초기화 (디스크 캐시: " + cacheDir.getAbsolutePath() + ")");
+        } else {
+            instance = current.newBuilder().cache(cache).build();
+            Log.w(TAG, "init 전에 생성된 클라이언트에 디스크 캐시 연결 (" + cacheDir.getAbsolutePath()
+                    + ") - 그 전에 받아 둔 클라이언트는 캐시 없이 동작");
+        }
+    }
+
+    private static OkHttpClient createSecureClient(Cache cache) {
         // Certificate Pinning 설정
         CertificatePinner certificatePinner = new CertificatePinner.Builder()
                 // 동행복권 API - 서버 인증서 (주 핀)
@@ -38,9 +100,10 @@ public class SecureOkHttpClient {
         HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
         loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.NONE);
 
-        return new OkHttpClient.Builder()
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
                 .certificatePinner(certificatePinner)
                 .addInterceptor(loggingInterceptor)
+                .addNetworkInterceptor(new DrawResponseCacheInterceptor())
 
                 // 타임아웃 설정
                 .connectTimeout(30, java.util.concurrent.TimeUnit.SECONDS)
@@ -48,8 +111,60 @@ public class SecureOkHttpClient {
                 .writeTimeout(30, java.util.concurrent.TimeUnit.SECONDS)
 
                 // 재시도 정책
-                .retryOnConnectionFailure(true)
+                .retryOnConnectionFailure(true);
 
-                .build();
+        if (cache != null) {
+            builder.cache(cache);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 당첨번호 응답 캐시 정책 재작성
+     * - returnValue=success (발표된 회차): 결과가 바뀌지 않으므로 무기한 캐시
+     * - 그 외 (미발표 회차 등): 저장하지 않음 - 발표 후 바로 다시 조회되어야 함
+     * 네트워크 인터셉터라 OkHttp가 요청한 gzip 압축이 아직 풀리지 않은 본문을 보므로 직접 풀어서 확인
+     */
+    static final class DrawResponseCacheInterceptor implements Interceptor {
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            Response response = chain.proceed(request);
+
+            if (!"getLottoNumber".equals(request.url().queryParameter("method"))
+                    || !response.isSuccessful()) {
+                return response;
+            }
+
+            boolean published = isPublished(response);
+            return response.newBuilder()
+                    .removeHeader("Pragma")
+                    .removeHeader("Expires")
+                    .header("Cache-Control", published ? IMMUTABLE_CACHE_CONTROL : "no-store")
+                    .build();
+        }
+
+        /**
+         * 본문 앞부분을 소비하지 않고 읽어 발표 여부 확인 (gzip이면 압축 해제 후)
+         */
+        private static boolean isPublished(Response response) throws IOException {
+            BufferedSource source = response.body().source().peek();
+            if ("gzip".equalsIgnoreCase(response.header("Content-Encoding"))) {
+                source = Okio.buffer(new GzipSource(source));
+            }
+            Buffer text = new Buffer();
+            try {
+                while (text.size() < PEEK_LIMIT_BYTES
+                        && source.read(text, PEEK_LIMIT_BYTES - text.size()) != -1) {
+                    // 응답은 수백 바이트이므로 보통 한두 번에 끝남
+                }
+            } catch (IOException e) {
+                // 압축이 깨졌거나 잘린 본문 - 캐시하지 않음
+                Log.w(TAG, "당첨번호 응답 본문 확인 실패: " + e.getMessage());
+                return false;
+            }
+            return SUCCESS_PATTERN.matcher(text.readUtf8()).find();
+        }
     }
-}
\ No newline at end of file
+}
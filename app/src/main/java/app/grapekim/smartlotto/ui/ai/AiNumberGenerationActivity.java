@@ -18,10 +18,16 @@ import android.widget.Toast;
 import androidx.annotation.NonNull;
 
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.core.content.ContextCompat;
 
 import app.grapekim.smartlotto.R;
+import app.grapekim.smartlotto.data.backtest.StrategyWeightStore;
+import app.grapekim.smartlotto.data.backtest.StrategyWeightTuner;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.data.work.StrategyTuningWorker;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.LatestWinsChannel;
 import app.grapekim.smartlotto.util.LottoNumberAnalyzer;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
@@ -57,6 +63,7 @@ public class AiNumberGenerationActivity extends AppCompatActivity {
 
     // Repository
     private LottoRepository lottoRepository;
+    private StrategyWeightStore strategyWeightStore;
 
     // UI 요소들
     private ImageButton btnBack;
@@ -99,6 +106,9 @@ public class AiNumberGenerationActivity extends AppCompatActivity {
     private RewardedAd rewardedAd;
     private boolean isAdLoading = false;
     private boolean isGenerating = false;
+
+    // 번호 생성 요청 채널 (최신 요청 우선)
+    private LatestWinsChannel<List<String>, List<Integer>> generationChannel;
     private int adLoadRetryCount = 0;
     private static final int MAX_AD_RETRY = 3; // 최대 3회 재시도
 
@@ -114,8 +124,35 @@ public class AiNumberGenerationActivity extends AppCompatActivity {
         initializeAdMob();
     }
 
+    @Override
+    protected void onDestroy() {
+        // 화면이 닫히면 대기/실행 중인 생성 결과는 버림
+        if (generationChannel != null) {
+            generationChannel.cancel();
+        }
+        super.onDestroy();
+    }
+
     private void initializeRepository() {
-        lottoRepository = new LottoRepositoryImpl(this);
+        lottoRepository = AppContainer.get(this).lottoRepository();
+        strategyWeightStore = new StrategyWeightStore(this);
+        generationChannel = new LatestWinsChannel<>(
+                AppExecutors.get().executor(AppExecutors.Lane.CPU, AppExecutors.Priority.USER_VISIBLE, "aiGeneration.generate"),
+                ContextCompat.getMainExecutor(this),
+                this::runGeneration,
+                new LatestWinsChannel.Listener<List<String>, List<Integer>>() {
+                    @Override
+                    public void onResult(List<String> strategies, List<Integer> numbers) {
+                        onGenerationResult(strategies, numbers);
+                    }
+
+                    @Override
+                    public void onError(List<String> strategies, Exception error) {
+                        Log.e(TAG, "AI 번호 생성 중 오류: " + error.getMessage(), error);
+                        if (isFinishing() || isDestroyed()) return;
+                        handleGenerationError(error, strategies);
+                    }
+                });
     }
 
     private void initializeViews() {
@@ -488,45 +525,57 @@ public class AiNumberGenerationActivity extends AppCompatActivity {
             strategies.add("트렌드");
         }
 
-        // 백그라운드에서 AI 번호 생성 (비동기)
-        new Thread(() -> {
-            try {
-                // Repository의 AI 번호 생성 메서드 호출
-                List<List<Integer>> generatedNumbersList = lottoRepository.generateAiNumbers(strategies, 1);
+        // 최신 요청만 결과로 표시 (연타 시 이전 요청은 합쳐지거나 중간에 그만둠)
+        generationChannel.submit(new ArrayList<>(strategies));
+    }
 
-                if (generatedNumbersList == null || generatedNumbersList.isEmpty()) {
-                    throw new RuntimeException("Repository에서 번호 생성 실패");
-                }
+    /**
+     * 생성 채널 작업 (CPU 레인): 가중치 조회 → 번호 생성, 단계마다 새 요청에 밀렸는지 확인
+     */
+    private List<Integer> runGeneration(List<String> strategies, LatestWinsChannel.Ticket ticket) {
+        // 튜닝된 가중치가 있으면 사용하고, 없거나 새 회차가 추가되었으면 백그라운드 튜닝 예약
+        List<Double> tunedWeights = strategyWeightStore.getWeights(strategies);
+        Integer latestDraw = lottoRepository.getLatestDrawNumber();
+        if (latestDraw != null && strategyWeightStore.needsTuning(strategies, latestDraw)) {
+            StrategyTuningWorker.enqueue(getApplicationContext(), strategies,
+                    StrategyWeightTuner.Objective.MEAN_MATCHED);
+        }
+        ticket.throwIfSuperseded();
 
-                List<Integer> generatedNumbers = generatedNumbersList.get(0);
-                Log.d(TAG, "생성된 번호: " + generatedNumbers);
+        // Repository의 AI 번호 생성 메서드 호출 (통계는 저장소의 스냅샷 재사용)
+        List<List<Integer>> generatedNumbersList = (tunedWeights != null)
+                ? lottoRepository.generateAiNumbers(strategies, tunedWeights, 1)
+                : lottoRepository.generateAiNumbers(strategies, 1);
 
-                // UI 스레드에서 결과 처리
-                runOnUiThread(() -> {
-                    try {
-                        currentGeneratedNumbers.clear();
-                        currentGeneratedNumbers.addAll(generatedNumbers);
+        if (generatedNumbersList == null || generatedNumbersList.isEmpty()) {
+            throw new RuntimeException("Repository에서 번호 생성 실패");
+        }
 
-                        // UI에 결과 표시
-                        showResultInUI(currentGeneratedNumbers, strategies);
+        List<Integer> generatedNumbers = generatedNumbersList.get(0);
+        Log.d(TAG, "생성된 번호: " + generatedNumbers);
+        return generatedNumbers;
+    }
 
-                        isGenerating = false;
-                        showProgress(false);
-                        Log.d(TAG, "=== AI 번호 생성 완료 ===");
+    /**
+     * 최신 요청의 생성 결과 표시 (메인 스레드)
+     */
+    private void onGenerationResult(List<String> strategies, List<Integer> generatedNumbers) {
+        if (isFinishing() || isDestroyed()) return;
+        try {
+            currentGeneratedNumbers.clear();
+            currentGeneratedNumbers.addAll(generatedNumbers);
 
-                    } catch (Exception uiError) {
-                        Log.e(TAG, "UI 업데이트 중 오류: " + uiError.getMessage(), uiError);
-                        handleGenerationError(uiError, strategies);
-                    }
-                });
+            // UI에 결과 표시
+            showResultInUI(currentGeneratedNumbers, strategies);
 
-            } catch (Exception e) {
-                Log.e(TAG, "AI 번호 생성 중 오류: " + e.getMessage(), e);
+            isGenerating = false;
+            showProgress(false);
+            Log.d(TAG, "=== AI 번호 생성 완료 ===");
 
-                // UI 스레드에서 오류 처리
-                runOnUiThread(() -> handleGenerationError(e, strategies));
-            }
-        }).start();
+        } catch (Exception uiError) {
+            Log.e(TAG, "UI 업데이트 중 오류: " + uiError.getMessage(), uiError);
+            handleGenerationError(uiError, strategies);
+        }
     }
 
     /**
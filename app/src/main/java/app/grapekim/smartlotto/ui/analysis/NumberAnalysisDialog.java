@@ -15,6 +15,7 @@ import androidx.fragment.app.DialogFragment;
 
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
+import app.grapekim.smartlotto.util.AppExecutors;
 import app.grapekim.smartlotto.util.LottoNumberAnalyzer;
 
 import java.io.BufferedReader;
@@ -28,7 +29,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class NumberAnalysisDialog extends DialogFragment {
 
@@ -60,7 +60,8 @@ public class NumberAnalysisDialog extends DialogFragment {
     @Override
     public void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        executorService = Executors.newSingleThreadExecutor();
+        executorService = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.CPU, AppExecutors.Priority.USER_VISIBLE, "numberAnalysis");
     }
 
     @NonNull
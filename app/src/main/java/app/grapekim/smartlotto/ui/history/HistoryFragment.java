@@ -1,7 +1,9 @@
 package app.grapekim.smartlotto.ui.history;
 
 import app.grapekim.smartlotto.ui.qr.QrResultActivity;
+import app.grapekim.smartlotto.util.AppExecutors;
 import app.grapekim.smartlotto.util.ExecutorUtils;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
 
 import android.app.Activity;
 import android.app.AlertDialog;
@@ -21,7 +23,12 @@ import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
+import androidx.lifecycle.Lifecycle;
 import androidx.lifecycle.LiveData;
+import androidx.lifecycle.ViewModelProvider;
+import androidx.paging.LoadState;
+import androidx.paging.PagingData;
+import androidx.paging.PagingDataTransforms;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import app.grapekim.smartlotto.BuildConfig;
@@ -29,10 +36,12 @@ import app.grapekim.smartlotto.BuildConfig;
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
 import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
-import app.grapekim.smartlotto.data.remote.NetworkProvider;
 import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.data.service.DrawFetchCoordinator;
+import app.grapekim.smartlotto.data.service.LatestRoundResolver;
+import app.grapekim.smartlotto.data.service.TicketSweepEngine;
 import app.grapekim.smartlotto.ui.qr.ZxingScanActivity;
 import app.grapekim.smartlotto.ui.analysis.NumberAnalysisDialog;
 import com.google.android.material.button.MaterialButton;
@@ -59,13 +68,11 @@ import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Locale;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
-import retrofit2.Response;
+import kotlin.Unit;
 
 public class HistoryFragment extends Fragment {
 
@@ -76,22 +83,35 @@ public class HistoryFragment extends Fragment {
     private MaterialSwitch swOnlyFav;
     private MaterialButtonToggleGroup tgSort;
     private TextView tvEmpty;
+    private TextView tvResultSummary;
     private RecyclerView rv;
     private FloatingActionButton fabQrScan;
     private MaterialButton btnClearAll;
+    private MaterialButton btnHistoricalSweep;
     private HistoryAdapter adapter;
 
     private LottoRepository repo;
+    private DrawFetchCoordinator drawFetcher;
+    private HistoryViewModel viewModel;
 
     private boolean onlyFav = false;
     private boolean newestFirst = true;
 
-    private LiveData<List<GeneratedPickEntity>> liveData;
+    private LiveData<PagingData<GeneratedPickEntity>> liveData;
     private ActivityResultLauncher<Intent> qrScanLauncher;
 
-    private final ExecutorService io = Executors.newSingleThreadExecutor();
+    private final ExecutorService io = AppExecutors.get().newSerialExecutor(
+            AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "history");
+    // 페이지로 불러온 게임을 표시용 행으로 변환 (메인 스레드 밖에서 한 번만)
+    private final Executor rowMapper = AppExecutors.get().executor(
+            AppExecutors.Lane.CPU, AppExecutors.Priority.USER_VISIBLE, "history.rows");
     private final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
 
+    // 발표 회차 워터마크 (Room 최신 회차, 0=미확인) - 발표 전 판정은 행마다 O(1) 비교
+    private volatile int announcedWatermark = 0;
+    // 워터마크 백그라운드 갱신 시 확인할 최대 미저장 회차 수
+    private static final int MAX_WATERMARK_PROBES = 2;
+
     // AdMob 전면광고
     private InterstitialAd mInterstitialAd;
     private GeneratedPickEntity pendingAnalysisRow; // 분석 대기 중인 데이터
@@ -116,19 +136,25 @@ public class HistoryFragment extends Fragment {
         setupChangeListeners();
         initializeAdMob();
         subscribe();
+        subscribeAnnouncedWatermark();
+        subscribeResultSummary();
     }
 
     private void initializeRepository() {
-        repo = new LottoRepositoryImpl(requireContext().getApplicationContext());
+        repo = AppContainer.get(requireContext()).lottoRepository();
+        drawFetcher = DrawFetchCoordinator.get(requireContext());
+        viewModel = new ViewModelProvider(this).get(HistoryViewModel.class);
     }
 
     private void initializeViews(@NonNull View v) {
         swOnlyFav = v.findViewById(R.id.swOnlyFav);
         tgSort = v.findViewById(R.id.tgSort);
         tvEmpty = v.findViewById(R.id.tvEmpty);
+        tvResultSummary = v.findViewById(R.id.tvResultSummary);
         rv = v.findViewById(R.id.rvHistory);
         fabQrScan = v.findViewById(R.id.fabQrScan);
         btnClearAll = v.findViewById(R.id.btnClearAll);
+        btnHistoricalSweep = v.findViewById(R.id.btnHistoricalSweep);
     }
 
     // ==================== AdMob 관련 메서드들 ====================
@@ -253,6 +279,15 @@ public class HistoryFragment extends Fragment {
                 this::onAnalyzeClicked      // 번호 분석 (광고 연동)
         );
         rv.setAdapter(adapter);
+
+        // 첫 페이지 로드가 끝난 뒤 빈 목록 표시
+        adapter.addLoadStateListener(states -> {
+            if (states.getRefresh() instanceof LoadState.NotLoading) {
+                tvEmpty.setVisibility(adapter.getItemCount() == 0 ? View.VISIBLE : View.GONE);
+            }
+            return Unit.INSTANCE;
+        });
+        applyAnnouncedWatermark();
     }
 
     private void setupClickListeners() {
@@ -261,6 +296,9 @@ public class HistoryFragment extends Fragment {
 
         // 모두 지우기 버튼 클릭 리스너
         btnClearAll.setOnClickListener(view -> showClearAllConfirmDialog());
+
+        // 즐겨찾기 과거 회차 일괄 판정 버튼 클릭 리스너
+        btnHistoricalSweep.setOnClickListener(view -> showFavoritesHistoricalSweep());
     }
 
     private void setupChangeListeners() {
@@ -432,6 +470,84 @@ public class HistoryFragment extends Fragment {
                 .show();
     }
 
+    /**
+     * 즐겨찾기 게임 전체를 과거 모든 회차와 일괄 판정하여 "그때 샀다면" 결과 표시
+     */
+    private void showFavoritesHistoricalSweep() {
+        if (!isAdded() || getContext() == null) return;
+
+        final AlertDialog dialog = new AlertDialog.Builder(getContext())
+                .setTitle("즐겨찾기 역대 판정")
+                .setMessage(getString(R.string.checking))
+                .setPositiveButton(android.R.string.ok, null)
+                .create();
+        dialog.show();
+
+        io.execute(() -> {
+            try {
+                TicketSweepEngine.SweepResult result = repo.runFavoritesHistoricalSweep();
+                String message = formatSweepResult(result);
+                if (isAdded() && getActivity() != null) {
+                    requireActivity().runOnUiThread(() -> {
+                        if (isAdded()) {
+                            dialog.setMessage(message);
+                        }
+                    });
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                Log.e(TAG, "즐겨찾기 과거 회차 판정 실패", e);
+                postError(dialog);
+            }
+        });
+    }
+
+    /**
+     * 일괄 판정 결과 요약 (등수별 합계 + 최고 성적 게임)
+     */
+    private String formatSweepResult(TicketSweepEngine.SweepResult result) {
+        TicketSweepEngine.TicketResult best = null;
+        int games = 0;
+        for (TicketSweepEngine.TicketResult ticket : result.tickets) {
+            if (ticket == null) continue;
+            games++;
+            int rank = ticket.getBestRank();
+            if (rank == 0) continue;
+            if (best == null || rank < best.getBestRank()
+                    || (rank == best.getBestRank() && ticket.getRankCount(rank) > best.getRankCount(rank))) {
+                best = ticket;
+            }
+        }
+
+        if (games == 0) {
+            return "즐겨찾기한 게임이 없습니다.";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.KOREA, "즐겨찾기 %d게임 × 과거 %d회차\n\n", games, result.roundCount));
+        for (int rank = 1; rank <= 5; rank++) {
+            sb.append(String.format(Locale.KOREA, "%s %d회\n", rankLabel(rank), result.getTotalRankCount(rank)));
+        }
+        if (best == null) {
+            sb.append("\n과거 회차에서 당첨된 게임이 없습니다.");
+        } else {
+            int rank = best.getBestRank();
+            int[] rounds = best.getPrizeRounds();
+            int[] ranks = best.getPrizeRanks();
+            int firstRound = 0;
+            for (int i = 0; i < rounds.length; i++) {
+                if (ranks[i] == rank) {
+                    firstRound = rounds[i];
+                    break;
+                }
+            }
+            sb.append(String.format(Locale.KOREA, "\n최고 성적: %s\n%s %d회 (첫 %d회차)",
+                    TextUtils.join(", ", best.getNumbers()), rankLabel(rank), best.getRankCount(rank), firstRound));
+        }
+        return sb.toString();
+    }
+
     /**
      * QR 스캔 시작 (기존 유지)
      */
@@ -470,58 +586,76 @@ public class HistoryFragment extends Fragment {
 
     // ==================== 기존 기능들 모두 유지 ====================
 
+    /**
+     * 이력 구독 (Room 페이지 단위 로드, 행 변환과 목록 비교는 메인 스레드 밖에서)
+     * 페이지 캐시는 ViewModel이 필터/정렬 조합별로 보관하므로 이전 스트림은 관찰만 해제합니다.
+     */
     private void subscribe() {
         if (liveData != null) liveData.removeObservers(getViewLifecycleOwner());
-        liveData = repo.observeHistory(onlyFav, newestFirst);
-        liveData.observe(getViewLifecycleOwner(), list -> {
-            tvEmpty.setVisibility((list == null || list.isEmpty()) ? View.VISIBLE : View.GONE);
-            adapter.submit(list);
-
-            // ▼ 하이브리드 방식으로 '발표 전' 항목들을 미리 표시
-            if (list != null && !list.isEmpty()) {
-                io.execute(() -> precomputePreAnnounce(list));
-            } else {
-                adapter.setPreAnnounce(null);
-            }
-        });
+        Lifecycle viewLifecycle = getViewLifecycleOwner().getLifecycle();
+        liveData = viewModel.pageHistory(onlyFav, newestFirst);
+        liveData.observe(getViewLifecycleOwner(), page ->
+                adapter.submitData(viewLifecycle, PagingDataTransforms.map(page, rowMapper, HistoryRow::from)));
     }
 
     /**
-     * 하이브리드 방식 발표 전 판단 (로컬 DB 우선, 네트워크 API 보조)
+     * 결과 요약 구독 (트리거가 유지하는 요약 테이블 합계 - 게임 목록을 다시 집계하지 않음)
      */
-    private void precomputePreAnnounce(List<GeneratedPickEntity> list) {
-        Set<Long> preIds = new HashSet<>();
+    private void subscribeResultSummary() {
+        repo.observeResultTotals().observe(getViewLifecycleOwner(), totals -> {
+            boolean hasPicks = totals != null && totals.pick_count > 0;
+            tvResultSummary.setVisibility(hasPicks ? View.VISIBLE : View.GONE);
+            if (hasPicks) tvResultSummary.setText("결과 요약: " + totals.summarize());
+        });
+    }
 
-        try {
-            for (GeneratedPickEntity row : list) {
-                try {
-                    int targetRound = determineTargetRound(row);
+    /**
+     * 발표 회차 워터마크 구독 (Room 최신 회차) + 미저장 회차 백그라운드 확인
+     */
+    private void subscribeAnnouncedWatermark() {
+        repo.observeLatestDrawNumber().observe(getViewLifecycleOwner(), latest -> {
+            int watermark = (latest != null) ? latest : 0;
+            if (watermark == announcedWatermark) return;
+
+            Log.d(TAG, "발표 회차 워터마크 갱신: " + announcedWatermark + " → " + watermark);
+            announcedWatermark = watermark;
+            applyAnnouncedWatermark();
+        });
 
-                    // 하이브리드 방식으로 발표 여부 확인
-                    if (!isDrawAnnounced(targetRound)) {
-                        preIds.add(row.id);
-                        Log.d(TAG, "발표 전 판정: ID=" + row.id + ", 목표회차=" + targetRound);
-                    } else {
-                        Log.d(TAG, "발표 완료 판정: ID=" + row.id + ", 목표회차=" + targetRound);
-                    }
+        io.execute(this::refreshAnnouncedWatermark);
+    }
 
-                } catch (Exception e) {
-                    Log.e(TAG, "회차 계산 오류, 안전하게 발표 전으로 처리: ID=" + row.id, e);
-                    preIds.add(row.id);
+    /**
+     * 날짜상 발표되었지만 아직 저장되지 않은 회차만 네트워크로 확인하여 저장
+     * 저장되면 Room 워터마크가 갱신되고 미확인 게임이 일괄 채점됩니다.
+     */
+    private void refreshAnnouncedWatermark() {
+        try {
+            Integer latest = repo.getLatestDrawNumber();
+            if (latest == null || latest <= 0) return; // 초기 데이터 적재는 DataUpdateOrchestrator가 담당
+
+            int expectedRound = calculateCurrentRoundByDate();
+            int lastProbe = Math.min(expectedRound, latest + MAX_WATERMARK_PROBES);
+            for (int round = latest + 1; round <= lastProbe; round++) {
+                // 조회된 회차는 조정자가 로컬 DB에 저장
+                LottoDrawDto draw = drawFetcher.getDraw(round);
+                if (draw == null) {
+                    break;
                 }
+                Log.i(TAG, round + "회 발표 확인 - 로컬 DB에 저장");
             }
-
         } catch (Exception e) {
-            Log.e(TAG, "발표 전 판단 전체 오류, 안전하게 모두 발표 전으로 처리", e);
-            // 오류 시 안전하게 모든 항목을 발표 전으로 처리
-            for (GeneratedPickEntity row : list) {
-                preIds.add(row.id);
-            }
+            Log.w(TAG, "발표 회차 워터마크 갱신 실패: " + e.getMessage());
         }
+    }
 
-        if (isAdded() && getActivity() != null) {
-            requireActivity().runOnUiThread(() -> adapter.setPreAnnounce(preIds));
-        }
+    /**
+     * 워터마크 기반 발표 전 표시 (행마다 미리 계산된 대상 회차와 O(1) 비교, 상태가 바뀐 행만 갱신)
+     */
+    private void applyAnnouncedWatermark() {
+        // 저장된 당첨번호가 없으면 날짜 기준 이론적 최신 회차로 대체
+        int watermark = (announcedWatermark > 0) ? announcedWatermark : calculateCurrentRoundByDate();
+        adapter.setAnnouncedWatermark(watermark);
     }
 
     /**
@@ -538,19 +672,11 @@ public class HistoryFragment extends Fragment {
 
             // 2. 네트워크 API로 실시간 확인 (신뢰도 높음)
             try {
-                Response<LottoDrawDto> response = NetworkProvider.api().getDraw(targetRound).execute();
-                boolean apiAvailable = response.isSuccessful() && response.body() != null && response.body().isSuccess();
+                LottoDrawDto draw = drawFetcher.getDraw(targetRound);
+                boolean apiAvailable = draw != null;
                 Log.d(TAG, "네트워크 API " + targetRound + "회 확인 결과: " + apiAvailable);
 
-                // 네트워크에서 데이터를 찾으면 즉시 로컬 DB에 저장
-                if (apiAvailable) {
-                    try {
-                        saveDrawDataToLocalDB(response.body(), targetRound);
-                    } catch (Exception saveError) {
-                        Log.w(TAG, "DB 저장 실패하지만 당첨확인은 계속: " + saveError.getMessage());
-                    }
-                }
-
+                // 네트워크에서 찾은 데이터는 조정자가 즉시 로컬 DB에 저장
                 return apiAvailable;
             } catch (Exception e) {
                 Log.w(TAG, "네트워크 API 확인 실패: " + e.getMessage());
@@ -573,76 +699,6 @@ public class HistoryFragment extends Fragment {
         }
     }
 
-    /**
-     * 네트워크에서 가져온 당첨번호 데이터를 로컬 DB에 저장
-     */
-    private void saveDrawDataToLocalDB(LottoDrawDto drawDto, int targetRound) {
-        if (drawDto == null || !drawDto.isSuccess()) {
-            return;
-        }
-
-        try {
-            // DTO를 Entity로 변환
-            LottoDrawHistoryEntity entity = new LottoDrawHistoryEntity();
-            entity.drawNumber = targetRound;
-            entity.drawDate = drawDto.date != null ? drawDto.date : "";
-
-            // 당첨번호 설정 (올바른 필드명 사용)
-            entity.number1 = drawDto.n1 != null ? drawDto.n1 : 0;
-            entity.number2 = drawDto.n2 != null ? drawDto.n2 : 0;
-            entity.number3 = drawDto.n3 != null ? drawDto.n3 : 0;
-            entity.number4 = drawDto.n4 != null ? drawDto.n4 : 0;
-            entity.number5 = drawDto.n5 != null ? drawDto.n5 : 0;
-            entity.number6 = drawDto.n6 != null ? drawDto.n6 : 0;
-            entity.bonusNumber = drawDto.bonus != null ? drawDto.bonus : 0;
-
-            // 백그라운드에서 DB에 저장
-            io.execute(() -> {
-                try {
-                    // 단일 항목을 리스트로 변환하여 저장
-                    java.util.List<LottoDrawHistoryEntity> entities = java.util.Arrays.asList(entity);
-                    repo.saveLottoDrawHistories(entities);
-                    Log.d(TAG, "네트워크 데이터 로컬 DB 저장 완료: " + targetRound + "회");
-                } catch (Exception e) {
-                    Log.e(TAG, "DB 저장 실패: " + e.getMessage());
-                }
-            });
-
-        } catch (Exception e) {
-            Log.e(TAG, "DTO→Entity 변환 실패: " + e.getMessage());
-        }
-    }
-
-    /**
-     * 대상 회차 결정 (QR 데이터 우선 사용)
-     */
-    private int determineTargetRound(GeneratedPickEntity row) {
-        // 1. QR에서 파싱된 회차 정보가 있으면 우선 사용
-        if (row.parsedRound != null && row.parsedRound > 0) {
-            Log.d(TAG, "QR 파싱 회차 사용: ID=" + row.id + ", 회차=" + row.parsedRound);
-            return row.parsedRound;
-        }
-
-        // 2. targetRound 정보가 있으면 사용
-        if (row.targetRound != null && row.targetRound > 0) {
-            Log.d(TAG, "타겟 회차 사용: ID=" + row.id + ", 회차=" + row.targetRound);
-            return row.targetRound;
-        }
-
-        // 3. 기존 로직: 생성 시각 기준 계산
-        LocalDate createdDate = Instant.ofEpochMilli(row.createdAt)
-                .atZone(SEOUL).toLocalDate();
-        LocalDate targetSat = createdDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
-
-        // 1회차 기준일부터 주차 계산 (2002-12-07이 1회차)
-        LocalDate firstDrawDate = LocalDate.of(2002, 12, 7);
-        long weeks = ChronoUnit.WEEKS.between(firstDrawDate, targetSat);
-        int calculatedRound = (int) (weeks + 1);
-
-        Log.d(TAG, "계산된 회차 사용: ID=" + row.id + ", 회차=" + calculatedRound);
-        return calculatedRound;
-    }
-
     /**
      * 현재 날짜 기준으로 이론적 최신 회차 계산
      * (실제 발표와 무관하게 시간만으로 계산) - 참고용으로 보존
@@ -758,7 +814,7 @@ public class HistoryFragment extends Fragment {
 
         io.execute(() -> {
             try {
-                int targetRound = determineTargetRound(row);
+                int targetRound = HistoryRow.resolveTargetRound(row);
                 Log.d(TAG, "결과 확인 시작: ID=" + row.id + ", 목표회차=" + targetRound);
 
                 // 1단계: 로컬 DB에서 당첨번호 조회 시도
@@ -786,14 +842,13 @@ public class HistoryFragment extends Fragment {
 
                 // 3단계: 네트워크에서 당첨번호 조회
                 Log.d(TAG, "네트워크 API에서 " + targetRound + "회 당첨번호 조회");
-                Response<LottoDrawDto> roundRes = NetworkProvider.api().getDraw(targetRound).execute();
-                if (!roundRes.isSuccessful() || roundRes.body() == null || !roundRes.body().isSuccess()) {
+                LottoDrawDto networkDraw = drawFetcher.getDraw(targetRound);
+                if (networkDraw == null) {
                     Log.e(TAG, "네트워크 API에서 " + targetRound + "회 조회 실패");
                     postError(dialog);
                     return;
                 }
 
-                LottoDrawDto networkDraw = roundRes.body();
                 Log.i(TAG, "네트워크 API에서 " + targetRound + "회 당첨번호 조회 성공");
                 evaluateWithNetworkData(row, networkDraw, dialog, targetRound);
 
@@ -865,37 +920,10 @@ public class HistoryFragment extends Fragment {
 
     // ====================== 기존 결과 확인 로직들 (참고용으로 보존) ======================
 
-    /** 최신 회차 찾기: 간단 상향 탐색 (참고용 보존) */
-    private LottoDrawDto findLatestRound() {
-        int cur = 1000;
-        LottoDrawDto lastOk = null;
-
-        int step = 128;
-        while (step > 0) {
-            LottoDrawDto ok = probe(cur);
-            if (ok != null) {
-                lastOk = ok;
-                cur += step;
-            } else {
-                cur -= step;
-                step /= 2;
-            }
-        }
-        for (int i = 0; i < 16; i++) {
-            LottoDrawDto ok = probe(cur + i);
-            if (ok == null) break;
-            lastOk = ok;
-        }
-        return lastOk;
-    }
-
+    /** 최신 회차 찾기 (공용 탐색기에 위임 - 동시 요청은 하나로 합쳐짐, 참고용 보존) */
     @Nullable
-    private LottoDrawDto probe(int round) {
-        try {
-            Response<LottoDrawDto> res = NetworkProvider.api().getDraw(round).execute();
-            if (res.isSuccessful() && res.body() != null && res.body().isSuccess()) return res.body();
-        } catch (Exception ignore) {}
-        return null;
+    private LottoDrawDto findLatestRound() {
+        return LatestRoundResolver.get(requireContext()).resolveLatest();
     }
 
     /**
@@ -923,28 +951,16 @@ public class HistoryFragment extends Fragment {
         RoundCalc(boolean pre, int no) { preAnnounce = pre; roundNo = no; }
     }
 
-    /** 등수 평가 (공통 사용) */
+    /** 등수 평가 (공통 사용, 일괄 채점과 같은 LottoTicketCodec 비트마스크 판정) */
     private Result evaluate(GeneratedPickEntity row, LottoDrawDto off) {
-        Set<Integer> mine = parseNumbers(row.numbersCsv);
-        Set<Integer> official = new HashSet<>(Arrays.asList(off.n1, off.n2, off.n3, off.n4, off.n5, off.n6));
-        int match = 0;
-        for (Integer n : mine) if (official.contains(n)) match++;
-
-        int rank;
-        if (match == 6) {
-            rank = 1;
-        } else if (match == 5 && mine.contains(off.bonus)) {
-            rank = 2;
-        } else if (match == 5) {
-            rank = 3;
-        } else if (match == 4) {
-            rank = 4;
-        } else if (match == 3) {
-            rank = 5;
-        } else {
-            rank = 0;
-        }
-        return new Result(match, rank);
+        long mine = (row.ticketRank >= 0)
+                ? LottoTicketCodec.maskOfRank(row.ticketRank)
+                : LottoTicketCodec.parseMask(row.numbersCsv);
+        long official = LottoTicketCodec.toMask(Arrays.asList(off.n1, off.n2, off.n3, off.n4, off.n5, off.n6));
+        int bonus = (off.bonus != null) ? off.bonus : 0;
+
+        return new Result(LottoTicketCodec.matchCount(mine, official),
+                LottoTicketCodec.prizeRank(mine, official, bonus));
     }
 
     private String rankLabel(int rank) {
@@ -958,17 +974,6 @@ public class HistoryFragment extends Fragment {
         }
     }
 
-    private Set<Integer> parseNumbers(String csv) {
-        Set<Integer> s = new HashSet<>();
-        if (csv == null) return s;
-        for (String token : csv.split(",")) {
-            String t = token.trim();
-            if (TextUtils.isEmpty(t)) continue;
-            try { s.add(Integer.parseInt(t)); } catch (NumberFormatException ignore) {}
-        }
-        return s;
-    }
-
     private static class Result {
         final int matchCount;
         final int rank;
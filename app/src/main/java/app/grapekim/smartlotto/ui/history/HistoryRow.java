@@ -0,0 +1,166 @@
+package app.grapekim.smartlotto.ui.history;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+
+import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
+import app.grapekim.smartlotto.util.RoundUtils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 이력 목록 한 행의 표시용 값 (불변)
+ *
+ * 페이지를 불러올 때 백그라운드에서 한 번만 만들어 두므로 바인딩은 값 대입만 합니다.
+ * 발표 전 여부는 발표 회차 워터마크에 따라 바뀌므로 대상 회차만 들고 있고 어댑터가 비교합니다.
+ */
+final class HistoryRow {
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm", Locale.getDefault()).withZone(ZoneId.systemDefault());
+
+    /** 클릭 콜백에 넘길 원본 (읽기 전용으로 사용) */
+    final GeneratedPickEntity entity;
+    final long id;
+    final String dateText;
+    final String title;
+    final String numbersText;
+    final boolean favorite;
+    final boolean resultChecked;
+    /** 결과 확인 완료 시 등수 문구, 아니면 null */
+    final String rankText;
+    /** 결과를 확인할 회차 (QR 파싱 회차 → 목표 회차 → 생성 시각 기준 계산) */
+    final int targetRound;
+
+    private HistoryRow(GeneratedPickEntity e) {
+        this.entity = e;
+        this.id = e.id;
+        this.dateText = DATE_FORMAT.format(Instant.ofEpochMilli(e.createdAt));
+        this.title = displayTitle(e);
+        this.numbersText = e.numbersCsv != null ? e.numbersCsv : "";
+        this.favorite = e.favorite;
+        this.resultChecked = e.resultChecked;
+        this.rankText = e.resultChecked ? rankText(e.resultRank, e.resultMatchCount) : null;
+        this.targetRound = resolveTargetRound(e);
+    }
+
+    /**
+     * 페이지 변환용 (백그라운드 스레드)
+     */
+    static HistoryRow from(GeneratedPickEntity e) {
+        return new HistoryRow(e);
+    }
+
+    /**
+     * 워터마크 기준 발표 전 여부 (결과 확인된 항목은 해당 없음)
+     */
+    boolean isPreAnnounce(int announcedWatermark) {
+        return !resultChecked && targetRound > announcedWatermark;
+    }
+
+    // ==================== 회차/문구 계산 ====================
+
+    /**
+     * 대상 회차 결정 (QR 데이터 우선 사용)
+     */
+    static int resolveTargetRound(GeneratedPickEntity row) {
+        // 1. QR에서 파싱된 회차 정보가 있으면 우선 사용
+        if (row.parsedRound != null && row.parsedRound > 0) {
+            return row.parsedRound;
+        }
+
+        // 2. targetRound 정보가 있으면 사용
+        if (row.targetRound != null && row.targetRound > 0) {
+            return row.targetRound;
+        }
+
+        // 3. 생성 시각 기준 계산 (생성일 이후 첫 토요일 회차, 버전 9 이전에 저장된 게임)
+        return RoundUtils.roundForTimestamp(row.createdAt);
+    }
+
+    /**
+     * 안전한 제목 생성
+     */
+    private static String displayTitle(GeneratedPickEntity e) {
+        // 1. title이 있으면 그대로 사용
+        if (e.title != null && !e.title.trim().isEmpty()) {
+            return e.title;
+        }
+
+        // 2. title이 없으면 method 기반으로 생성
+        if (e.method != null) {
+            String prefix;
+            switch (e.method) {
+                case "AUTO":
+                    prefix = "[자동]";
+                    break;
+                case "MANUAL":
+                    prefix = "[수동]";
+                    break;
+                case "AI":
+                    prefix = "[AI]";
+                    break;
+                case "QR":
+                    prefix = "[QR]";
+                    break;
+                default:
+                    prefix = "[" + e.method + "]";
+                    break;
+            }
+
+            // 간단한 제목 생성 (회차 정보가 있으면 사용, 없으면 기본)
+            if (e.targetRound != null && e.targetRound > 0) {
+                return prefix + " " + e.targetRound + "회차 예상 로또번호";
+            } else {
+                return prefix + " 로또번호";
+            }
+        }
+
+        // 3. 최후의 fallback
+        return "로또번호";
+    }
+
+    /**
+     * 등수에 따른 표시 텍스트
+     * @param rank 등수 (1~5=등수, -1=낙첨, 0=미확인)
+     */
+    private static String rankText(int rank, int matchCount) {
+        if (rank >= 1 && rank <= 5) {
+            return rank + "등 (" + matchCount + "개)";
+        } else if (rank == -1) {
+            return "낙첨 (" + matchCount + "개)";
+        }
+        return "결과 확인"; // 예외 상황
+    }
+
+    // ==================== 비교 (DiffUtil) ====================
+
+    private boolean sameContent(HistoryRow other) {
+        return favorite == other.favorite
+                && resultChecked == other.resultChecked
+                && targetRound == other.targetRound
+                && dateText.equals(other.dateText)
+                && title.equals(other.title)
+                && numbersText.equals(other.numbersText)
+                && Objects.equals(rankText, other.rankText);
+    }
+
+    /**
+     * 같은 게임은 id로 식별하고, 표시 값이 같으면 다시 바인딩하지 않음
+     */
+    static final DiffUtil.ItemCallback<HistoryRow> DIFF = new DiffUtil.ItemCallback<HistoryRow>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull HistoryRow oldItem, @NonNull HistoryRow newItem) {
+            return oldItem.id == newItem.id;
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull HistoryRow oldItem, @NonNull HistoryRow newItem) {
+            return oldItem.sameContent(newItem);
+        }
+    };
+}
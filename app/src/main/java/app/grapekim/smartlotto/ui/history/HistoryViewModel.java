@@ -0,0 +1,50 @@
+package app.grapekim.smartlotto.ui.history;
+
+import android.app.Application;
+
+import androidx.annotation.NonNull;
+import androidx.lifecycle.AndroidViewModel;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.ViewModelKt;
+import androidx.paging.PagingData;
+import androidx.paging.PagingLiveData;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
+import app.grapekim.smartlotto.data.repository.LottoRepository;
+import app.grapekim.smartlotto.di.AppContainer;
+
+/**
+ * HistoryFragment를 위한 ViewModel
+ *
+ * 이력 페이지 스트림을 필터/정렬 조합별로 ViewModel 범위에 한 번만 캐시합니다.
+ * 화면을 다시 만들거나 필터를 바꿔도 새 캐시 범위가 쌓이지 않고, 조합은 4개뿐이라 캐시 수도 고정입니다.
+ */
+public class HistoryViewModel extends AndroidViewModel {
+
+    private final LottoRepository repository;
+
+    // (즐겨찾기만, 최신순) 조합별 캐시된 페이지 스트림
+    private final Map<Integer, LiveData<PagingData<GeneratedPickEntity>>> pages = new HashMap<>();
+
+    public HistoryViewModel(@NonNull Application application) {
+        super(application);
+        repository = AppContainer.get(application).lottoRepository();
+    }
+
+    /**
+     * 이력 페이지 (같은 조합이면 이미 캐시된 스트림을 그대로 반환)
+     */
+    public LiveData<PagingData<GeneratedPickEntity>> pageHistory(boolean onlyFav, boolean newestFirst) {
+        int key = (onlyFav ? 2 : 0) | (newestFirst ? 1 : 0);
+        LiveData<PagingData<GeneratedPickEntity>> page = pages.get(key);
+        if (page == null) {
+            page = PagingLiveData.cachedIn(repository.pageHistory(onlyFav, newestFirst),
+                    ViewModelKt.getViewModelScope(this));
+            pages.put(key, page);
+        }
+        return page;
+    }
+}
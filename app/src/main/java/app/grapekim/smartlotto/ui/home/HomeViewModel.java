@@ -6,19 +6,21 @@ import androidx.annotation.NonNull;
 import androidx.lifecycle.AndroidViewModel;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
+import androidx.lifecycle.Observer;
 
 import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
 import app.grapekim.smartlotto.data.repository.LottoDrawRepository;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.di.RepositoryModule;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.util.AppExecutors;
 import app.grapekim.smartlotto.util.ExecutorUtils;
+import app.grapekim.smartlotto.util.LatestWinsChannel;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * HomeFragment를 위한 ViewModel (DI 적용)
@@ -32,6 +34,12 @@ public class HomeViewModel extends AndroidViewModel {
 
     // 백그라운드 작업용
     private final ExecutorService backgroundExecutor;
+    // 자동 번호 생성 요청 채널 (최신 요청 우선)
+    private final LatestWinsChannel<Void, List<Integer>> autoGenerationChannel;
+
+    // 최신 회차 백그라운드 재확인 결과 반영
+    private final LiveData<LottoDrawDto> revalidatedLatest;
+    private final Observer<LottoDrawDto> revalidatedLatestObserver;
 
     // LiveData들 - UI 상태 관리
     private final MutableLiveData<LottoDrawDto> latestDraw = new MutableLiveData<>();
@@ -43,12 +51,46 @@ public class HomeViewModel extends AndroidViewModel {
     public HomeViewModel(@NonNull Application application) {
         super(application);
 
-        // DI를 통한 Repository 주입
-        lottoRepository = RepositoryModule.provideLottoRepository(application);
-        drawRepository = RepositoryModule.provideLottoDrawRepository(application);
+        // 앱 범위 컨테이너의 공유 Repository 사용
+        AppContainer container = AppContainer.get(application);
+        lottoRepository = container.lottoRepository();
+        drawRepository = container.lottoDrawRepository();
 
         // ExecutorService 초기화
-        backgroundExecutor = Executors.newSingleThreadExecutor();
+        backgroundExecutor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "home");
+        autoGenerationChannel = new LatestWinsChannel<>(
+                AppExecutors.get().executor(AppExecutors.Lane.CPU, AppExecutors.Priority.USER_VISIBLE, "home.generate"),
+                Runnable::run,   // LiveData.postValue로 전달하므로 작업 스레드에서 바로 처리
+                (request, ticket) -> generateRandomNumbers(),
+                new LatestWinsChannel.Listener<Void, List<Integer>>() {
+                    @Override
+                    public void onResult(Void request, List<Integer> numbers) {
+                        generatedNumbers.postValue(numbers);
+
+                        // 에러 클리어 (성공 시)
+                        errorMessage.postValue(null);
+                    }
+
+                    @Override
+                    public void onError(Void request, Exception e) {
+                        String errorMsg = "번호 생성 중 오류가 발생했습니다";
+                        if (e.getMessage() != null && !e.getMessage().trim().isEmpty()) {
+                            errorMsg += ": " + e.getMessage();
+                        }
+                        errorMessage.postValue(errorMsg);
+                    }
+                });
+
+        // 보유한 최신 회차를 먼저 표시하고, 재확인 결과가 오면 갱신
+        revalidatedLatestObserver = latest -> {
+            if (latest != null) {
+                latestDraw.setValue(latest);
+                drawRepository.cacheLatest(latest);
+            }
+        };
+        revalidatedLatest = drawRepository.observeLatest();
+        revalidatedLatest.observeForever(revalidatedLatestObserver);
 
         // 초기 데이터 로드
         loadInitialData();
@@ -136,21 +178,8 @@ public class HomeViewModel extends AndroidViewModel {
      * 자동 번호 생성
      */
     public void generateAutoNumbers() {
-        backgroundExecutor.execute(() -> {
-            try {
-                List<Integer> numbers = generateRandomNumbers();
-                generatedNumbers.postValue(numbers);
-
-                // 에러 클리어 (성공 시)
-                errorMessage.postValue(null);
-            } catch (Exception e) {
-                String errorMsg = "번호 생성 중 오류가 발생했습니다";
-                if (e.getMessage() != null && !e.getMessage().trim().isEmpty()) {
-                    errorMsg += ": " + e.getMessage();
-                }
-                errorMessage.postValue(errorMsg);
-            }
-        });
+        // 연타는 하나로 합쳐지고 마지막 요청의 결과만 반영
+        autoGenerationChannel.submit(null);
     }
 
     /**
@@ -253,6 +282,8 @@ public class HomeViewModel extends AndroidViewModel {
     @Override
     protected void onCleared() {
         super.onCleared();
+        revalidatedLatest.removeObserver(revalidatedLatestObserver);
+        autoGenerationChannel.cancel();
         // ExecutorService 안전하게 종료
         ExecutorUtils.shutdownSafely(backgroundExecutor);
     }
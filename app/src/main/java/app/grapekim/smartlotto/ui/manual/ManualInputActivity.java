@@ -16,7 +16,8 @@ import androidx.core.content.ContextCompat;
 
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.util.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 
 import java.util.ArrayList;
@@ -25,7 +26,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * 수동 번호 입력 액티비티
@@ -71,8 +71,9 @@ public class ManualInputActivity extends AppCompatActivity {
      * 컴포넌트 초기화
      */
     private void initializeComponents() {
-        repository = new LottoRepositoryImpl(getApplicationContext());
-        executor = Executors.newSingleThreadExecutor();
+        repository = AppContainer.get(this).lottoRepository();
+        executor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "manualInput.save");
 
         // 색상 초기화
         colorValid = ContextCompat.getColor(this, R.color.blue_500);
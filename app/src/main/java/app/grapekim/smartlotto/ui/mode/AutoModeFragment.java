@@ -23,7 +23,8 @@ import androidx.fragment.app.Fragment;
 
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.util.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 
@@ -32,7 +33,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -58,8 +58,9 @@ public class AutoModeFragment extends Fragment {
     public void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         Context appContext = requireContext().getApplicationContext();
-        repository = new LottoRepositoryImpl(appContext);
-        backgroundExecutor = Executors.newSingleThreadExecutor();
+        repository = AppContainer.get(appContext).lottoRepository();
+        backgroundExecutor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "autoMode.save");
         mainHandler = new Handler(Looper.getMainLooper());
     }
 
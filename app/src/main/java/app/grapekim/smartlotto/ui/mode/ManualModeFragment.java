@@ -20,8 +20,9 @@ import androidx.fragment.app.Fragment;
 
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.di.AppContainer;
 import app.grapekim.smartlotto.ui.period.PeriodBottomSheet;
+import app.grapekim.smartlotto.util.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.card.MaterialCardView;
 import com.google.android.material.textview.MaterialTextView;
@@ -31,7 +32,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -58,8 +58,9 @@ public class ManualModeFragment extends Fragment implements PeriodBottomSheet.Pe
     public void onCreate(@Nullable Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         Context appContext = requireContext().getApplicationContext();
-        repository = new LottoRepositoryImpl(appContext);
-        backgroundExecutor = Executors.newSingleThreadExecutor();
+        repository = AppContainer.get(appContext).lottoRepository();
+        backgroundExecutor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "manualMode.save");
         mainHandler = new Handler(Looper.getMainLooper());
     }
 
@@ -20,16 +20,16 @@ import com.google.android.material.card.MaterialCardView;
 import app.grapekim.smartlotto.MainActivity;
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.repository.LottoRepository;
-import app.grapekim.smartlotto.data.repository.LottoRepositoryImpl;
+import app.grapekim.smartlotto.di.AppContainer;
 import app.grapekim.smartlotto.data.csv.LottoDataLoader;
+import app.grapekim.smartlotto.data.service.WinningCheckService;
+import app.grapekim.smartlotto.util.AppExecutors;
 import app.grapekim.smartlotto.util.QrLottoParser;
-import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class QrResultActivity extends AppCompatActivity {
 
@@ -47,6 +47,7 @@ public class QrResultActivity extends AppCompatActivity {
     private String rawQrData;
     private boolean isWinningCheck;
     private LottoRepository repository;
+    private WinningCheckService winningCheckService;
     private ExecutorService executor;
     private List<Long> savedGameIds;
 
@@ -75,8 +76,10 @@ public class QrResultActivity extends AppCompatActivity {
     }
 
     private void initializeServices() {
-        repository = new LottoRepositoryImpl(getApplicationContext());
-        executor = Executors.newSingleThreadExecutor();
+        repository = AppContainer.get(this).lottoRepository();
+        winningCheckService = WinningCheckService.get(getApplicationContext());
+        executor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "qrResult.check");
         savedGameIds = new ArrayList<>();
     }
 
@@ -402,7 +405,7 @@ public class QrResultActivity extends AppCompatActivity {
         llGamesContainer.removeAllViews();
 
         TextView loadingView = new TextView(this);
-        loadingView.setText("GitHub에서 최신 당첨번호 데이터를 가져오는 중...\n잠시만 기다려주세요.");
+        loadingView.setText("당첨번호를 확인하는 중...\n잠시만 기다려주세요.");
         loadingView.setTextSize(16f);
         loadingView.setTextColor(ContextCompat.getColor(this, R.color.blue_600));
         loadingView.setPadding(16, 32, 16, 32);
@@ -414,10 +417,9 @@ public class QrResultActivity extends AppCompatActivity {
     }
 
     /**
-     * 당첨 번호 확인 - QR에서 파싱된 회차 조회 (GitHub CSV 우선)
+     * 당첨 번호 확인 - QR에서 파싱된 회차를 메모리 인덱스로 판정 (없으면 해당 회차만 조회)
      */
     private void checkWinningNumbers(QrLottoParser.Result parseResult) {
-        LottoDataLoader loader = null;
         try {
             // Activity가 종료되었는지 확인
             if (isFinishing() || isDestroyed()) {
@@ -425,16 +427,11 @@ public class QrResultActivity extends AppCompatActivity {
                 return;
             }
 
-            // GitHub CSV에서 최신 데이터 업데이트 시도
-            Log.d(TAG, "GitHub CSV 데이터 업데이트 시도");
-            loader = new LottoDataLoader(getApplicationContext(), repository);
-            boolean updated = loader.loadLottoDataSync();
+            int targetRound = (parseResult.round != null && parseResult.round > 0) ? parseResult.round : 0;
+            Log.d(TAG, "QR 회차 정보 사용: " + targetRound + "회");
 
-            if (updated) {
-                Log.d(TAG, "GitHub CSV 데이터 업데이트 성공");
-            } else {
-                Log.d(TAG, "GitHub CSV 업데이트 실패, 기존 로컬 데이터 사용");
-            }
+            WinningCheckService.RoundResult roundResult =
+                    winningCheckService.checkOrFetch(targetRound, parseResult.allGames);
 
             // Activity 종료 체크
             if (isFinishing() || isDestroyed()) {
@@ -442,18 +439,8 @@ public class QrResultActivity extends AppCompatActivity {
                 return;
             }
 
-            LottoDrawHistoryEntity targetDraw = null;
-            int targetRound = 0;
-
-            // QR에서 회차 정보가 파싱된 경우 해당 회차의 당첨번호 사용
-            if (parseResult.round != null && parseResult.round > 0) {
-                targetRound = parseResult.round;
-                targetDraw = repository.getDrawHistory(targetRound);
-                Log.d(TAG, "QR 회차 정보 사용: " + targetRound + "회");
-            }
-
             // 해당 회차 데이터가 없으면 데이터 업데이트 후 재시도 제안
-            if (targetDraw == null) {
+            if (roundResult == null) {
                 Log.d(TAG, "해당 회차(" + targetRound + ") 데이터 없음");
 
                 final int missingRound = targetRound;
@@ -465,23 +452,13 @@ public class QrResultActivity extends AppCompatActivity {
                 return;
             }
 
-            // 당첨 번호 추출
-            List<Integer> winningNumbers = new ArrayList<>();
-            winningNumbers.add(targetDraw.number1);
-            winningNumbers.add(targetDraw.number2);
-            winningNumbers.add(targetDraw.number3);
-            winningNumbers.add(targetDraw.number4);
-            winningNumbers.add(targetDraw.number5);
-            winningNumbers.add(targetDraw.number6);
-            int bonusNumber = targetDraw.bonusNumber;
-
-            Log.d(TAG, String.format("%d회 당첨번호로 비교: %s + %d", targetRound, winningNumbers.toString(), bonusNumber));
+            Log.d(TAG, String.format("%d회 당첨번호로 비교: %s + %d",
+                    targetRound, roundResult.winningNumbers, roundResult.bonusNumber));
 
             // UI 스레드에서 당첨 결과 표시
-            final int finalRound = targetRound;
             runOnUiThread(() -> {
                 if (!isFinishing() && !isDestroyed()) {
-                    displayWinningResults(parseResult.allGames, winningNumbers, bonusNumber, finalRound);
+                    displayWinningResults(parseResult.allGames, roundResult);
                 }
             });
 
@@ -492,23 +469,21 @@ public class QrResultActivity extends AppCompatActivity {
                     showWinningError("당첨 확인 중 오류가 발생했습니다.");
                 }
             });
-        } finally {
-            // LottoDataLoader의 ExecutorService 정리
-            if (loader != null) {
-                loader.shutdown();
-            }
         }
     }
 
     /**
      * 당첨 결과 표시
      */
-    private void displayWinningResults(List<List<Integer>> userGames, List<Integer> winningNumbers, int bonusNumber, int drawNo) {
+    private void displayWinningResults(List<List<Integer>> userGames, WinningCheckService.RoundResult roundResult) {
         llGamesContainer.removeAllViews();
 
+        List<Integer> winningNumbers = roundResult.winningNumbers;
+        int bonusNumber = roundResult.bonusNumber;
+        int drawNo = roundResult.drawNumber;
+
         // 당첨 번호 표시
         TextView winningView = new TextView(this);
-        Collections.sort(winningNumbers);
         String winningText = String.format("당첨번호 (%d회): %s + %02d",
                 drawNo, formatNumbers(winningNumbers), bonusNumber);
         winningView.setText(winningText);
@@ -535,8 +510,8 @@ public class QrResultActivity extends AppCompatActivity {
                 continue;
             }
 
-            // 당첨 확인
-            WinningResult result = checkWinning(userNumbers, winningNumbers, bonusNumber);
+            // 당첨 확인 (서비스에서 비트마스크로 계산된 결과 사용)
+            WinningResult result = new WinningResult(roundResult.getMatchCount(i), roundResult.isBonusMatched(i));
             View gameView = createMaterialGameView(gameLabel, userNumbers, result, winningNumbers, bonusNumber);
             llGamesContainer.addView(gameView);
 
@@ -603,24 +578,6 @@ public class QrResultActivity extends AppCompatActivity {
         }
     }
 
-    /**
-     * 당첨 여부 확인
-     */
-    private WinningResult checkWinning(List<Integer> userNumbers, List<Integer> winningNumbers, int bonusNumber) {
-        int matchCount = 0;
-        boolean hasBonus = false;
-
-        for (int userNumber : userNumbers) {
-            if (winningNumbers.contains(userNumber)) {
-                matchCount++;
-            } else if (userNumber == bonusNumber) {
-                hasBonus = true;
-            }
-        }
-
-        return new WinningResult(matchCount, hasBonus);
-    }
-
     /**
      * 당첨 결과 게임 뷰 생성
      */
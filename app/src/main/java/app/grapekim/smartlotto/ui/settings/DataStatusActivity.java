@@ -1,6 +1,8 @@
 package app.grapekim.smartlotto.ui.settings;
 
+import android.content.Intent;
 import android.os.Bundle;
+import android.text.TextUtils;
 import android.view.MenuItem;
 import android.widget.TextView;
 import android.widget.Toast;
@@ -10,6 +12,15 @@ import androidx.appcompat.widget.Toolbar;
 
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.CsvUpdateManager;
+import app.grapekim.smartlotto.data.local.room.dao.PickResultSummaryDao;
+import app.grapekim.smartlotto.data.service.DrawFetchCoordinator;
+import app.grapekim.smartlotto.data.work.DataUpdateOrchestrator;
+import app.grapekim.smartlotto.di.AppContainer;
+import app.grapekim.smartlotto.util.AppExecutors;
+import app.grapekim.smartlotto.util.DataVersionBus;
+import app.grapekim.smartlotto.util.LottoDrawCalculator;
+import app.grapekim.smartlotto.util.StartupTimingReport;
+import app.grapekim.smartlotto.util.StartupTimings;
 import com.google.android.material.button.MaterialButton;
 
 import java.io.BufferedReader;
@@ -19,6 +30,7 @@ import java.io.InputStreamReader;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 
 public class DataStatusActivity extends AppCompatActivity {
@@ -28,6 +40,13 @@ public class DataStatusActivity extends AppCompatActivity {
     private TextView tvTotalRecords, tvDataPeriod, tvAnalysisStatus, tvLastChecked;
     private MaterialButton btnRefreshData;
 
+    // 저장 게임 결과 요약
+    private TextView tvResultSummary;
+
+    // 앱 시작 시간 관련 뷰들
+    private TextView tvStartupTimings;
+    private MaterialButton btnExportStartupTimings;
+
     // GitHub CSV 업데이트 매니저
     private CsvUpdateManager csvUpdateManager;
 
@@ -41,6 +60,8 @@ public class DataStatusActivity extends AppCompatActivity {
         initializeCsvUpdateManager();
         setupClickListeners();
         loadDataStatus();
+        observeResultSummary();
+        showStartupTimings();
     }
 
     private void setupToolbar() {
@@ -63,6 +84,9 @@ public class DataStatusActivity extends AppCompatActivity {
         tvAnalysisStatus = findViewById(R.id.tvAnalysisStatus);
         tvLastChecked = findViewById(R.id.tvLastChecked);
         btnRefreshData = findViewById(R.id.btnRefreshData);
+        tvResultSummary = findViewById(R.id.tvResultSummary);
+        tvStartupTimings = findViewById(R.id.tvStartupTimings);
+        btnExportStartupTimings = findViewById(R.id.btnExportStartupTimings);
     }
 
     /**
@@ -81,6 +105,10 @@ public class DataStatusActivity extends AppCompatActivity {
                 refreshDataFromGitHub();
             });
         }
+
+        if (btnExportStartupTimings != null) {
+            btnExportStartupTimings.setOnClickListener(view -> exportStartupTimings());
+        }
     }
 
     @Override
@@ -96,7 +124,7 @@ public class DataStatusActivity extends AppCompatActivity {
      * GitHub에서 데이터 새로고침 후 상태 업데이트
      */
     private void refreshDataFromGitHub() {
-        new Thread(() -> {
+        AppExecutors.get().execute(AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "dataStatus.refresh", () -> {
             try {
                 android.util.Log.d("DataStatusActivity", "GitHub에서 데이터 새로고침 시작...");
 
@@ -128,7 +156,7 @@ public class DataStatusActivity extends AppCompatActivity {
                     Toast.makeText(this, "데이터 새로고침 실패: " + e.getMessage(), Toast.LENGTH_LONG).show();
                 });
             }
-        }).start();
+        });
     }
 
     /**
@@ -321,8 +349,6 @@ public class DataStatusActivity extends AppCompatActivity {
      * 데이터 상태 인디케이터 업데이트 (수정된 로직)
      */
     private void updateDataStatusIndicator(Date csvLatestDate, int daysUntilNextDraw, int latestRound) {
-        String statusText;
-
         // 현재 시점 기준으로 상태 판단
         Calendar now = Calendar.getInstance();
         Calendar csvDate = Calendar.getInstance();
@@ -356,9 +382,27 @@ public class DataStatusActivity extends AppCompatActivity {
                 ", 현재: " + now.getTime() + ", 일수 차이: " + daysDiff +
                 ", 다음 추첨까지: " + daysUntilNextDraw + "일");
 
+        // 실제 발표된 최신 회차는 네트워크 확인이 필요하므로 백그라운드에서 조회
+        tvDataStatus.setText("🔍 최신 회차 확인 중...");
+        final long elapsedDays = daysDiff;
+        AppExecutors.get().execute(AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "dataStatus.latestRound", () -> {
+            int availableLatestRound = LottoDrawCalculator.getLatestAvailableDrawNumber();
+            runOnUiThread(() -> {
+                if (isFinishing() || isDestroyed()) return;
+                applyDataStatus(latestRound, availableLatestRound, elapsedDays, daysUntilNextDraw);
+                showLatestDrawProbe();
+            });
+        });
+    }
+
+    /**
+     * 발표된 최신 회차와 CSV 최신 회차를 비교하여 상태 표시
+     */
+    private void applyDataStatus(int latestRound, int availableLatestRound, long daysDiff, int daysUntilNextDraw) {
+        String statusText;
+
         // 현재 시점에서 예상되는 최신 회차와 CSV의 최신 회차 비교
-        int expectedLatestRound = app.grapekim.smartlotto.util.LottoDrawCalculator.getCurrentExpectedDrawNumber();
-        int availableLatestRound = app.grapekim.smartlotto.util.LottoDrawCalculator.getLatestAvailableDrawNumber();
+        int expectedLatestRound = LottoDrawCalculator.getCurrentExpectedDrawNumber();
 
         if (latestRound >= availableLatestRound && daysDiff <= 3) {
             // CSV가 실제 발표된 최신 회차와 동일하거나 최신
@@ -393,6 +437,78 @@ public class DataStatusActivity extends AppCompatActivity {
                 " (CSV: " + latestRound + "회, 예상: " + expectedLatestRound + "회, 실제최신: " + availableLatestRound + "회, 경과: " + daysDiff + "일)");
     }
 
+    /**
+     * 최신 회차 확인 소요 시간 및 회차 조회 캐시 지표 표시
+     */
+    private void showLatestDrawProbe() {
+        LottoDrawCalculator.LatestDrawProbe probe = LottoDrawCalculator.getLastLatestDrawProbe();
+        if (probe != null) {
+            tvLastChecked.append("\n최신 회차 확인: 제 " + probe.drawNo + "회 (" + probe.latencyMs + "ms"
+                    + (probe.timeFallback ? ", 시간 기준 추정" : "") + ")");
+        }
+
+        DrawFetchCoordinator.Stats stats = DrawFetchCoordinator.get(this).getStats();
+        if (stats.requests > 0) {
+            tvLastChecked.append(String.format(Locale.getDefault(),
+                    "\n회차 조회: %d건 중 %d건 캐시 처리 (적중률 %.0f%%)",
+                    stats.requests, stats.getSavedRequests(), stats.getHitRate() * 100));
+        }
+
+        tvLastChecked.append("\n앱 서비스: " + AppContainer.get(this).getMetrics());
+        tvLastChecked.append("\n작업 실행 (작업별 대기/실행 시간):\n" + AppExecutors.get().describe(8));
+        tvLastChecked.append("\n데이터 변경 이벤트: " + DataVersionBus.get().describe());
+
+        String lastRun = DataUpdateOrchestrator.getLastRunSummary(this);
+        if (lastRun != null) {
+            tvLastChecked.append("\n마지막 자동 갱신: " + lastRun);
+        }
+    }
+
+    /**
+     * 저장 게임 결과 요약 표시 (요약 테이블의 생성 방식별 합계, 게임 저장/채점 시 자동 갱신)
+     */
+    private void observeResultSummary() {
+        if (tvResultSummary == null) return;
+        AppContainer.get(this).lottoRepository().observeResultTotalsByMethod().observe(this, rows -> {
+            if (rows == null || rows.isEmpty()) {
+                tvResultSummary.setText("저장된 게임 없음");
+                return;
+            }
+            StringBuilder text = new StringBuilder();
+            for (PickResultSummaryDao.ResultTotals row : rows) {
+                if (text.length() > 0) text.append('\n');
+                String method = TextUtils.isEmpty(row.method) ? "기타" : row.method;
+                text.append(method).append(": ").append(row.summarize());
+            }
+            tvResultSummary.setText(text);
+        });
+    }
+
+    /**
+     * 최근 실행들의 시작 단계별 소요 시간 백분위수 표시
+     */
+    private void showStartupTimings() {
+        if (tvStartupTimings == null) return;
+        tvStartupTimings.setText(StartupTimingReport.summarize(StartupTimings.loadLaunches(this)));
+    }
+
+    /**
+     * 시작 시간 기록을 CSV 텍스트로 공유 (오프라인 분석용)
+     */
+    private void exportStartupTimings() {
+        List<StartupTimingReport.Launch> launches = StartupTimings.loadLaunches(this);
+        if (launches.isEmpty()) {
+            Toast.makeText(this, "내보낼 시작 시간 기록이 없습니다", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        Intent send = new Intent(Intent.ACTION_SEND);
+        send.setType("text/plain");
+        send.putExtra(Intent.EXTRA_SUBJECT, "Smart Lotto 시작 시간 기록");
+        send.putExtra(Intent.EXTRA_TEXT, StartupTimingReport.toCsv(launches));
+        startActivity(Intent.createChooser(send, "시작 시간 기록 내보내기"));
+    }
+
     /**
      * 데이터 오류 표시
      */
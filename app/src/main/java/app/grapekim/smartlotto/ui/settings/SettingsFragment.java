@@ -33,6 +33,7 @@ import androidx.fragment.app.Fragment;
 import app.grapekim.smartlotto.R;
 import app.grapekim.smartlotto.data.CsvUpdateManager;
 import app.grapekim.smartlotto.notify.ReminderScheduler;
+import app.grapekim.smartlotto.util.AppExecutors;
 import com.google.android.material.button.MaterialButton;
 import com.google.android.material.materialswitch.MaterialSwitch;
 
@@ -474,7 +475,7 @@ public class SettingsFragment extends Fragment {
         btnManualUpdate.setText("업데이트 중...");
 
         // 백그라운드에서 업데이트 실행
-        new Thread(() -> {
+        AppExecutors.get().execute(AppExecutors.Lane.IO, AppExecutors.Priority.USER_VISIBLE, "settings.manualUpdate", () -> {
             try {
                 boolean success = csvUpdateManager.forceUpdateCsvFile();
 
@@ -497,7 +498,7 @@ public class SettingsFragment extends Fragment {
                     Toast.makeText(requireContext(), "업데이트 실패: " + e.getMessage(), Toast.LENGTH_SHORT).show();
                 });
             }
-        }).start();
+        });
     }
 
 
@@ -0,0 +1,371 @@
+package app.grapekim.smartlotto.util;
+
+import android.os.Process;
+import android.util.Log;
+
+import com.google.common.util.concurrent.ExecutionList;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 앱 공용 작업 실행 계층
+ *
+ * 화면/리포지토리마다 따로 만들던 스레드 풀 대신 두 개의 공유 레인만 사용합니다.
+ * - IO 레인: DB/네트워크/파일 작업 (스레드 IO_THREADS개 고정)
+ * - CPU 레인: 번호 생성, 통계 계산, 과거 회차 스윕 (코어 수만큼)
+ * 각 레인의 대기열은 우선순위 큐라서 사용자가 기다리는 작업(당첨 확인, 번호 생성)이
+ * 통계 재계산 같은 백그라운드 작업보다 먼저 꺼내집니다. 같은 우선순위는 제출 순서(FIFO)를 지킵니다.
+ *
+ * 작업 이름별로 대기 시간(제출 → 시작)과 실행 시간 히스토그램을 기록하며 데이터 상태 화면에서 볼 수 있습니다.
+ * CPU 레인 작업 안에서 같은 CPU 레인 작업의 완료를 기다리지 말 것 (레인 스레드가 모두 막힐 수 있음).
+ */
+public final class AppExecutors {
+
+    private static final String TAG = "AppExecutors";
+
+    public enum Lane { IO, CPU }
+
+    /** 선언 순서 = 우선순위 (앞쪽이 먼저 실행) */
+    public enum Priority { USER_VISIBLE, BACKGROUND }
+
+    /** IO 레인 스레드 수 (SQLite 쓰기는 어차피 직렬이므로 크게 늘리지 않음) */
+    private static final int IO_THREADS = 4;
+    private static final int CPU_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    /** 유휴 스레드 유지 시간 (이후 종료, 다음 작업 때 다시 생성) */
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static volatile AppExecutors INSTANCE;
+
+    private final ThreadPoolExecutor ioLane;
+    private final ThreadPoolExecutor cpuLane;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, TaskStats> taskStats = new ConcurrentHashMap<>();
+
+    private AppExecutors() {
+        this.ioLane = newLane("io", IO_THREADS);
+        this.cpuLane = newLane("cpu", CPU_THREADS);
+    }
+
+    public static AppExecutors get() {
+        if (INSTANCE == null) {
+            synchronized (AppExecutors.class) {
+                if (INSTANCE == null) {
+                    INSTANCE = new AppExecutors();
+                }
+            }
+        }
+        return INSTANCE;
+    }
+
+    // ==================== 작업 제출 ====================
+
+    /**
+     * 결과가 필요 없는 작업 실행 (예외는 로그로 남김)
+     * @param name 지표 집계용 작업 이름
+     */
+    public void execute(Lane lane, Priority priority, String name, Runnable task) {
+        lane(lane).execute(new PrioritizedTask<Void>(priority, name, lane, task, null, true));
+    }
+
+    /**
+     * 결과/예외를 Future로 받는 작업 제출 (완료 리스너를 붙이거나 Futures로 조합 가능)
+     */
+    public <T> ListenableFuture<T> submit(Lane lane, Priority priority, String name, Callable<T> task) {
+        PrioritizedTask<T> prioritized = new PrioritizedTask<>(priority, name, lane, task, false);
+        lane(lane).execute(prioritized);
+        return prioritized;
+    }
+
+    /**
+     * 공유 레인 위의 ExecutorService 보기(view)
+     *
+     * 동시 실행 수를 maxConcurrency로 제한하며 1이면 제출 순서대로 하나씩 실행됩니다
+     * (기존 newSingleThreadExecutor 대체). shutdown/awaitTermination은 이 보기에만 적용되고
+     * 공유 스레드는 종료되지 않으므로 기존 ExecutorUtils.shutdownSafely 호출을 그대로 둘 수 있습니다.
+     * shutdownNow는 대기 중인 작업을 버리고 이 보기의 실행 중인 작업만 인터럽트합니다.
+     */
+    public ExecutorService newExecutor(Lane lane, Priority priority, String name, int maxConcurrency) {
+        return new LaneExecutor(lane, priority, name, Math.max(1, maxConcurrency));
+    }
+
+    public ExecutorService newSerialExecutor(Lane lane, Priority priority, String name) {
+        return newExecutor(lane, priority, name, 1);
+    }
+
+    /**
+     * 레인/우선순위/이름이 고정된 Executor (종료 개념이 없는 호출부용, 예: LatestWinsChannel)
+     */
+    public Executor executor(Lane lane, Priority priority, String name) {
+        return task -> execute(lane, priority, name, task);
+    }
+
+    /** CPU 레인 스레드 수 (병렬 스윕 분할 기준) */
+    public static int cpuParallelism() {
+        return CPU_THREADS;
+    }
+
+    // ==================== 지표 ====================
+
+    /**
+     * 화면 표시용 요약: 레인별 실행/대기 수 + 작업별 대기·실행 시간 (실행 횟수 많은 순 상위 limit개)
+     */
+    public String describe(int limit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(describeLane("IO", ioLane)).append('\n').append(describeLane("CPU", cpuLane));
+
+        List<TaskStats> stats = new ArrayList<>(taskStats.values());
+        Collections.sort(stats, (a, b) -> Long.compare(b.run.getCount(), a.run.getCount()));
+        for (int i = 0; i < Math.min(limit, stats.size()); i++) {
+            TaskStats s = stats.get(i);
+            sb.append('\n').append(String.format(Locale.getDefault(),
+                    "%s [%s] %d회 · 대기 p50 %dms p95 %dms · 실행 p50 %dms p95 %dms 최대 %dms",
+                    s.name, s.lane, s.run.getCount(),
+                    s.wait.percentile(50), s.wait.percentile(95),
+                    s.run.percentile(50), s.run.percentile(95), s.run.getMax()));
+        }
+        if (stats.isEmpty()) {
+            sb.append("\n실행된 작업 없음");
+        }
+        return sb.toString();
+    }
+
+    private static String describeLane(String label, ThreadPoolExecutor lane) {
+        return String.format(Locale.getDefault(), "%s 레인: 실행 %d/%d, 대기 %d, 완료 %d",
+                label, lane.getActiveCount(), lane.getMaximumPoolSize(),
+                lane.getQueue().size(), lane.getCompletedTaskCount());
+    }
+
+    private void record(String name, Lane lane, long waitMs, long runMs) {
+        TaskStats stats = taskStats.get(name);
+        if (stats == null) {
+            TaskStats created = new TaskStats(name, lane);
+            stats = taskStats.putIfAbsent(name, created);
+            if (stats == null) stats = created;
+        }
+        stats.wait.record(waitMs);
+        stats.run.record(runMs);
+    }
+
+    private static final class TaskStats {
+        final String name;
+        final Lane lane;
+        final LatencyHistogram wait = new LatencyHistogram();
+        final LatencyHistogram run = new LatencyHistogram();
+
+        TaskStats(String name, Lane lane) {
+            this.name = name;
+            this.lane = lane;
+        }
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private ThreadPoolExecutor lane(Lane lane) {
+        return lane == Lane.IO ? ioLane : cpuLane;
+    }
+
+    /**
+     * 스레드 이름 "pool-<레인>-thread-N" (AppContainer 지표의 풀 구분 규칙과 같음)
+     */
+    private static ThreadPoolExecutor newLane(String name, int threads) {
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+                runnable -> new Thread(runnable, "pool-" + name + "-thread-" + count.incrementAndGet()));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 우선순위 → 제출 순서로 정렬되는 작업 (실행 시 스레드 우선순위 설정 + 시간 기록)
+     */
+    private final class PrioritizedTask<T> extends FutureTask<T>
+            implements ListenableFuture<T>, Comparable<PrioritizedTask<?>> {
+        private final Priority priority;
+        private final String name;
+        private final Lane lane;
+        private final long seq = sequence.getAndIncrement();
+        private final long enqueuedAt = System.nanoTime();
+        private final boolean logFailure;
+        private final ExecutionList listeners = new ExecutionList();
+
+        PrioritizedTask(Priority priority, String name, Lane lane, Callable<T> callable, boolean logFailure) {
+            super(callable);
+            this.priority = priority;
+            this.name = name;
+            this.lane = lane;
+            this.logFailure = logFailure;
+        }
+
+        PrioritizedTask(Priority priority, String name, Lane lane, Runnable runnable, T result, boolean logFailure) {
+            super(runnable, result);
+            this.priority = priority;
+            this.name = name;
+            this.lane = lane;
+            this.logFailure = logFailure;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            try {
+                Process.setThreadPriority(priority == Priority.USER_VISIBLE
+                        ? Process.THREAD_PRIORITY_DEFAULT : Process.THREAD_PRIORITY_BACKGROUND);
+            } catch (RuntimeException ignored) {
+                // 우선순위 설정 실패는 실행에 영향 없음
+            }
+            try {
+                super.run();
+            } finally {
+                long finishedAt = System.nanoTime();
+                record(name, lane,
+                        TimeUnit.NANOSECONDS.toMillis(startedAt - enqueuedAt),
+                        TimeUnit.NANOSECONDS.toMillis(finishedAt - startedAt));
+            }
+        }
+
+        @Override
+        public void addListener(Runnable listener, Executor executor) {
+            listeners.add(listener, executor);
+        }
+
+        @Override
+        protected void done() {
+            listeners.execute();
+            if (!logFailure || isCancelled()) return;
+            try {
+                get();
+            } catch (ExecutionException e) {
+                Log.e(TAG, name + " 작업 실패", e.getCause());
+            } catch (InterruptedException | CancellationException ignored) {
+                // done()에서는 발생하지 않음
+            }
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(seq, other.seq);
+        }
+    }
+
+    /**
+     * 동시 실행 수가 제한된 공유 레인 보기 (남는 작업은 자체 FIFO 대기열에서 기다림)
+     */
+    private final class LaneExecutor extends AbstractExecutorService {
+        private final Lane lane;
+        private final Priority priority;
+        private final String name;
+        private final int maxConcurrency;
+        private final ArrayDeque<Runnable> pending = new ArrayDeque<>();
+        private final Set<Thread> activeThreads = new HashSet<>();
+        private int running;
+        private boolean shutdown;
+
+        LaneExecutor(Lane lane, Priority priority, String name, int maxConcurrency) {
+            this.lane = lane;
+            this.priority = priority;
+            this.name = name;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public synchronized void execute(Runnable command) {
+            if (shutdown) {
+                throw new RejectedExecutionException(name + " 실행기가 종료됨");
+            }
+            if (running < maxConcurrency) {
+                running++;
+                dispatch(command);
+            } else {
+                pending.add(command);
+            }
+        }
+
+        private void dispatch(Runnable command) {
+            AppExecutors.this.execute(lane, priority, name, () -> {
+                synchronized (this) {
+                    activeThreads.add(Thread.currentThread());
+                }
+                try {
+                    command.run();
+                } finally {
+                    onTaskFinished();
+                }
+            });
+        }
+
+        private synchronized void onTaskFinished() {
+            activeThreads.remove(Thread.currentThread());
+            Thread.interrupted();   // 이 보기의 인터럽트가 다음 공유 작업으로 새지 않게 지움
+            Runnable next = pending.poll();
+            if (next != null) {
+                dispatch(next);   // 슬롯을 그대로 다음 작업에 넘김
+            } else {
+                running--;
+                if (shutdown && running == 0) notifyAll();
+            }
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            shutdown = true;
+            if (running == 0) notifyAll();
+        }
+
+        @Override
+        public synchronized List<Runnable> shutdownNow() {
+            shutdown = true;
+            List<Runnable> dropped = new ArrayList<>(pending);
+            pending.clear();
+            for (Thread thread : activeThreads) {
+                thread.interrupt();   // 잠금 안에서만 인터럽트하므로 다른 작업을 실행 중인 스레드는 건드리지 않음
+            }
+            if (running == 0) notifyAll();
+            return dropped;
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown && running == 0;
+        }
+
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!(shutdown && running == 0)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) return false;
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+}
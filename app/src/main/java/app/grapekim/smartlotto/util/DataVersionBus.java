@@ -0,0 +1,208 @@
+package app.grapekim.smartlotto.util;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 당첨번호 데이터 버전 이벤트 버스 (앱 범위 싱글톤)
+ *
+ * 당첨번호 데이터가 바뀔 때마다(회차 저장/삭제, CSV 갱신) 버전을 하나 올립니다.
+ * - 버전은 publish 즉시 올라가므로 캐시는 getVersion()을 키로 삼아 다음 조회 때 스스로 갱신
+ * - 리스너 통지는 몰아서 한 번: 마지막 이벤트 후 조용한 시간(debounce)이 지나면,
+ *   이벤트가 계속 이어져도 최대 대기 시간이 지나면 그때까지의 최신 버전으로 한 번 통지
+ * - 리스너마다 지정한 실행기에서 통지하며, 이미 받은 버전 이하는 다시 보내지 않음
+ * 따라서 여러 회차를 연달아 보완해도 통계 재계산 같은 무거운 반응은 한 번만 일어납니다.
+ */
+public final class DataVersionBus {
+
+    private static final String TAG = "DataVersionBus";
+
+    public static final long DEFAULT_DEBOUNCE_MS = 500;
+    public static final long DEFAULT_MAX_WAIT_MS = 3000;
+
+    private static volatile DataVersionBus instance;
+
+    /**
+     * 데이터 버전 변경 수신 (등록 시 지정한 실행기에서 호출)
+     */
+    public interface Listener {
+        void onDataVersionChanged(long version);
+    }
+
+    /**
+     * 지연 실행 (기본은 메인 Looper - 통지 예약만 하고 실제 통지는 리스너 실행기에서)
+     */
+    public interface Scheduler {
+        void schedule(Runnable task, long delayMs);
+    }
+
+    private static final class Subscription {
+        final Listener listener;
+        final Executor executor;
+        final AtomicLong deliveredVersion;
+
+        Subscription(Listener listener, Executor executor, long currentVersion) {
+            this.listener = listener;
+            this.executor = executor;
+            this.deliveredVersion = new AtomicLong(currentVersion);
+        }
+    }
+
+    private final Scheduler scheduler;
+    private final LongSupplier clock;
+    private final long debounceMs;
+    private final long maxWaitMs;
+
+    private final AtomicLong version = new AtomicLong();
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong publishCount = new AtomicLong();
+    private final AtomicLong dispatchCount = new AtomicLong();
+
+    // lock으로 보호
+    private final Object lock = new Object();
+    private boolean flushScheduled;
+    private long firstPendingAt;
+    private long lastPublishAt;
+
+    /**
+     * @param scheduler 지연 실행기 (기본은 메인 Handler.postDelayed)
+     * @param clock 대기 시간 측정용 시계, scheduler와 같은 기준이어야 함
+     *              (기본은 SystemClock.uptimeMillis, 테스트는 가짜 시계를 주입)
+     */
+    public DataVersionBus(Scheduler scheduler, LongSupplier clock, long debounceMs, long maxWaitMs) {
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.debounceMs = debounceMs;
+        this.maxWaitMs = Math.max(debounceMs, maxWaitMs);
+    }
+
+    public static DataVersionBus get() {
+        if (instance == null) {
+            synchronized (DataVersionBus.class) {
+                if (instance == null) {
+                    // postDelayed와 같은 uptime 시계 사용 (벽시계가 바뀌어도 대기 시간이 틀어지지 않음)
+                    Handler mainHandler = new Handler(Looper.getMainLooper());
+                    instance = new DataVersionBus(mainHandler::postDelayed, SystemClock::uptimeMillis,
+                            DEFAULT_DEBOUNCE_MS, DEFAULT_MAX_WAIT_MS);
+                }
+            }
+        }
+        return instance;
+    }
+
+    // ==================== 발행 ====================
+
+    /**
+     * 현재 데이터 버전 (캐시 키용, 프로세스 시작 시 0)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 데이터 변경 발행 - 버전은 즉시 올리고 통지는 예약
+     * @param reason 로그용 변경 원인
+     * @return 새 버전
+     */
+    public long publish(String reason) {
+        long newVersion = version.incrementAndGet();
+        publishCount.incrementAndGet();
+        long now = clock.getAsLong();
+
+        boolean schedule;
+        synchronized (lock) {
+            lastPublishAt = now;
+            schedule = !flushScheduled;
+            if (schedule) {
+                flushScheduled = true;
+                firstPendingAt = now;
+            }
+        }
+        if (schedule) scheduler.schedule(this::flush, debounceMs);
+
+        Log.d(TAG, "데이터 버전 " + newVersion + " (" + reason + ")");
+        return newVersion;
+    }
+
+    // ==================== 구독 ====================
+
+    /**
+     * 리스너 등록 (등록 이후의 변경만 통지, 같은 리스너는 한 번만 등록)
+     */
+    public void subscribe(Listener listener, Executor executor) {
+        synchronized (subscriptions) {
+            for (Subscription s : subscriptions) {
+                if (s.listener == listener) return;
+            }
+            subscriptions.add(new Subscription(listener, executor, version.get()));
+        }
+        Log.d(TAG, "리스너 등록: " + listener.getClass().getSimpleName() + " (총 " + subscriptions.size() + ")");
+    }
+
+    public void unsubscribe(Listener listener) {
+        synchronized (subscriptions) {
+            for (Subscription s : subscriptions) {
+                if (s.listener == listener) subscriptions.remove(s);
+            }
+        }
+    }
+
+    public int getListenerCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * 통지 통계 (발행 수 대비 실제 통지 횟수)
+     */
+    public String describe() {
+        return String.format("버전 %d, 발행 %d회 → 통지 %d회, 리스너 %d개",
+                version.get(), publishCount.get(), dispatchCount.get(), subscriptions.size());
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private void flush() {
+        long now = clock.getAsLong();
+        long remaining;
+        synchronized (lock) {
+            long quietFor = now - lastPublishAt;
+            long waited = now - firstPendingAt;
+            // 아직 이벤트가 이어지는 중이면 조용해질 때까지 (최대 대기 시간 안에서) 미룸
+            remaining = Math.min(debounceMs - quietFor, maxWaitMs - waited);
+            if (remaining <= 0) flushScheduled = false;
+        }
+        if (remaining > 0) {
+            scheduler.schedule(this::flush, remaining);
+            return;
+        }
+
+        long current = version.get();
+        dispatchCount.incrementAndGet();
+        for (Subscription s : subscriptions) {
+            s.executor.execute(() -> deliver(s, current));
+        }
+    }
+
+    private void deliver(Subscription s, long target) {
+        // 구독 해제됐거나, 더 새로운 버전을 이미 받았으면 생략
+        if (!subscriptions.contains(s)) return;
+        long delivered;
+        do {
+            delivered = s.deliveredVersion.get();
+            if (delivered >= target) return;
+        } while (!s.deliveredVersion.compareAndSet(delivered, target));
+
+        try {
+            s.listener.onDataVersionChanged(target);
+        } catch (Exception e) {
+            Log.e(TAG, "리스너 통지 중 오류: " + s.listener.getClass().getSimpleName(), e);
+        }
+    }
+}
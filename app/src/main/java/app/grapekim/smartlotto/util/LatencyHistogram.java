@@ -0,0 +1,77 @@
+package app.grapekim.smartlotto.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 지연 시간 히스토그램 (ms, 2의 거듭제곱 구간)
+ *
+ * 구간 i는 [2^(i-1), 2^i) ms이며 구간 0은 1ms 미만, 마지막 구간은 그 이상 전부입니다.
+ * 백분위수는 해당 구간의 상한으로 근사합니다 (실제 값보다 최대 2배 크게 나올 수 있음).
+ */
+public final class LatencyHistogram {
+
+    /** 구간 수 (마지막 구간 하한 = 2^(BUCKETS-2) ms ≈ 32초) */
+    static final int BUCKETS = 17;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long millis) {
+        long value = Math.max(0, millis);
+        counts.incrementAndGet(bucketOf(value));
+        total.incrementAndGet();
+        sum.addAndGet(value);
+
+        long currentMax;
+        while (value > (currentMax = max.get())) {
+            if (max.compareAndSet(currentMax, value)) break;
+        }
+    }
+
+    public long getCount() {
+        return total.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public double getMean() {
+        long count = total.get();
+        return count == 0 ? 0 : (double) sum.get() / count;
+    }
+
+    /**
+     * 백분위수 근사값 (구간 상한, 최댓값을 넘지 않음)
+     * @param percent 0~100
+     * @return 기록이 없으면 0
+     */
+    public long percentile(double percent) {
+        long count = total.get();
+        if (count == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int bucketOf(long millis) {
+        if (millis <= 0) return 0;
+        int bucket = 64 - Long.numberOfLeadingZeros(millis);   // 1 → 1, 2~3 → 2, 4~7 → 3 ...
+        return Math.min(BUCKETS - 1, bucket);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket >= BUCKETS - 1) return Long.MAX_VALUE;
+        return (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,179 @@
+package app.grapekim.smartlotto.util;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 최신 요청 우선(latest-wins) 작업 채널 (화면마다 하나)
+ *
+ * - 한 번에 하나만 실행하고, 실행 중 들어온 요청은 마지막 것 하나만 남겨 두었다가 이어서 실행 (연타 합치기)
+ * - 새 요청이 들어오면 실행 중인 작업은 Ticket으로 이를 알 수 있어 중간에 그만둘 수 있음 (협조적 취소)
+ * - 결과는 전달 시점에도 가장 최근 요청의 것일 때만 리스너에 전달
+ * 따라서 입력을 아무리 빨리 바꿔도 실행 중 1개 + 대기 1개를 넘는 작업이 쌓이지 않습니다.
+ */
+public final class LatestWinsChannel<I, R> {
+
+    /**
+     * 채널에서 실행할 작업 (작업 스레드에서 호출)
+     */
+    public interface Work<I, R> {
+        R run(I input, Ticket ticket) throws Exception;
+    }
+
+    /**
+     * 결과 수신 (전달 실행기에서 호출, 최신 요청의 결과만)
+     */
+    public interface Listener<I, R> {
+        void onResult(I input, R result);
+
+        void onError(I input, Exception error);
+    }
+
+    /**
+     * 실행 중인 요청이 새 요청에 밀려났는지 확인하는 표
+     */
+    public static final class Ticket {
+        private final AtomicLong latestSeq;
+        private final long seq;
+
+        private Ticket(AtomicLong latestSeq, long seq) {
+            this.latestSeq = latestSeq;
+            this.seq = seq;
+        }
+
+        public boolean isSuperseded() {
+            return seq != latestSeq.get();
+        }
+
+        /**
+         * 밀려났으면 CancellationException (작업 단계 사이에서 호출)
+         */
+        public void throwIfSuperseded() {
+            if (isSuperseded()) throw new CancellationException("새 요청으로 대체됨");
+        }
+    }
+
+    private final Executor worker;
+    private final Executor delivery;
+    private final Work<I, R> work;
+    private final Listener<I, R> listener;
+
+    private final AtomicLong latestSeq = new AtomicLong();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // lock으로 보호
+    private final Object lock = new Object();
+    private I pendingInput;
+    private long pendingSeq;
+    private boolean hasPending;
+    private boolean running;
+
+    /**
+     * @param worker 작업 실행기 (채널이 직렬로 사용하므로 병렬 실행기여도 됨)
+     * @param delivery 결과 전달 실행기 (보통 메인 스레드)
+     */
+    public LatestWinsChannel(Executor worker, Executor delivery, Work<I, R> work, Listener<I, R> listener) {
+        this.worker = worker;
+        this.delivery = delivery;
+        this.work = work;
+        this.listener = listener;
+    }
+
+    // ==================== 요청 ====================
+
+    /**
+     * 새 요청 (대기 중인 이전 요청은 버리고, 실행 중인 요청은 밀려난 것으로 표시)
+     */
+    public void submit(I input) {
+        synchronized (lock) {
+            if (hasPending) droppedCount.incrementAndGet();   // 실행되기 전에 합쳐진 요청
+            pendingInput = input;
+            pendingSeq = latestSeq.incrementAndGet();
+            hasPending = true;
+            if (running) return;
+            running = true;
+        }
+        worker.execute(this::runNext);
+    }
+
+    /**
+     * 대기/실행 중인 요청 모두 취소 (화면 종료 시), 이후 결과는 전달되지 않음
+     */
+    public void cancel() {
+        synchronized (lock) {
+            latestSeq.incrementAndGet();
+            if (hasPending) droppedCount.incrementAndGet();
+            hasPending = false;
+            pendingInput = null;
+        }
+    }
+
+    public boolean isBusy() {
+        synchronized (lock) {
+            return running;
+        }
+    }
+
+    /** 실제로 실행된 작업 수 */
+    public long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    /** 합쳐지거나 밀려나 결과가 버려진 요청 수 */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private void runNext() {
+        I input;
+        long seq;
+        synchronized (lock) {
+            if (!hasPending) {
+                running = false;
+                return;
+            }
+            input = pendingInput;
+            seq = pendingSeq;
+            pendingInput = null;
+            hasPending = false;
+        }
+
+        Ticket ticket = new Ticket(latestSeq, seq);
+        try {
+            executedCount.incrementAndGet();
+            R result = work.run(input, ticket);
+            deliver(ticket, () -> listener.onResult(input, result));
+        } catch (CancellationException e) {
+            droppedCount.incrementAndGet();
+        } catch (Exception e) {
+            deliver(ticket, () -> listener.onError(input, e));
+        } finally {
+            boolean more;
+            synchronized (lock) {
+                more = hasPending;
+                if (!more) running = false;
+            }
+            // 대기 요청은 다시 실행기에 넣어 다른 작업과 공평하게 순서를 받음
+            if (more) worker.execute(this::runNext);
+        }
+    }
+
+    private void deliver(Ticket ticket, Runnable callback) {
+        if (ticket.isSuperseded()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        delivery.execute(() -> {
+            // 전달 대기 중에 새 요청이 들어왔으면 곧 새 결과가 오므로 버림
+            if (ticket.isSuperseded()) {
+                droppedCount.incrementAndGet();
+            } else {
+                callback.run();
+            }
+        });
+    }
+}
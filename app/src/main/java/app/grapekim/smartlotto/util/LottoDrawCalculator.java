@@ -3,7 +3,6 @@ package app.grapekim.smartlotto.util;
 import android.util.Log;
 import java.util.Calendar;
 import app.grapekim.smartlotto.data.service.OfficialLottoApiService;
-import app.grapekim.smartlotto.data.model.LottoDrawData;
 
 /**
  * 로또 회차 번호를 자동으로 계산하는 유틸리티 클래스
@@ -18,6 +17,10 @@ public class LottoDrawCalculator {
     private static final int START_DAY = 7;
     private static final int FIRST_DRAW_NO = 1;
 
+    // 최신 회차 API 확인: 동시에 조회할 후보 수(예상 회차부터 역순)와 전체 제한 시간
+    private static final int PROBE_CANDIDATES = 4;
+    private static final long PROBE_DEADLINE_MS = 5000;
+
     /**
      * 현재 날짜를 기준으로 예상되는 최신 회차 번호 계산
      * @return 현재 날짜 기준 예상 최신 회차 번호
@@ -111,63 +114,76 @@ public class LottoDrawCalculator {
         return available;
     }
 
+    /**
+     * 최신 회차 확인 결과 (데이터 상태 화면 표시용)
+     */
+    public static final class LatestDrawProbe {
+        public final int drawNo;
+        public final long latencyMs;         // 최신 회차 확정까지 걸린 시간
+        public final boolean timeFallback;   // API로 확정하지 못해 시간 기준 추정을 사용했는지
+        public final long checkedAt;
+
+        LatestDrawProbe(int drawNo, long latencyMs, boolean timeFallback, long checkedAt) {
+            this.drawNo = drawNo;
+            this.latencyMs = latencyMs;
+            this.timeFallback = timeFallback;
+            this.checkedAt = checkedAt;
+        }
+    }
+
+    private static volatile LatestDrawProbe lastProbe;
+
+    /**
+     * 마지막 최신 회차 확인 결과 (아직 확인한 적 없으면 null)
+     */
+    public static LatestDrawProbe getLastLatestDrawProbe() {
+        return lastProbe;
+    }
+
     /**
      * 현재 시점에서 결과가 발표된 최신 회차 번호를 API로 정확하게 확인
      * 공휴일, 지연, 시간차 등을 모두 고려한 정확한 추적
+     *
+     * 예상 회차부터 최대 3회차 전까지를 동시에 조회하고 전체 제한 시간 안에 발표된 최고 회차를 확정합니다.
+     * API로 확정하지 못한 경우에만 시간 기반 추정으로 전환합니다.
      * @return 실제 발표된 최신 회차 번호
      */
     public static int getLatestAvailableDrawNumber() {
+        long start = System.nanoTime();
         int expectedDraw = getCurrentExpectedDrawNumber();
 
         Log.i(TAG, "API 기반 최신 회차 확인 시작 - 예상 회차: " + expectedDraw);
 
-        OfficialLottoApiService apiService = null;
+        int searchStart = expectedDraw;
+        int searchEnd = Math.max(expectedDraw - (PROBE_CANDIDATES - 1), FIRST_DRAW_NO);
 
+        OfficialLottoApiService.PublishedProbe probe = null;
         try {
-            apiService = new OfficialLottoApiService();
-
-            // 예상 회차부터 최대 3회차 뒤까지 역순으로 실제 API에서 확인
-            int searchStart = expectedDraw;
-            int searchEnd = Math.max(expectedDraw - 3, FIRST_DRAW_NO);
-
-            for (int drawNo = searchStart; drawNo >= searchEnd; drawNo--) {
-                Log.d(TAG, drawNo + "회차 API 확인 중...");
-
-                try {
-                    LottoDrawData result = apiService.getDrawData(drawNo);
-
-                    if (result != null && result.drawNo == drawNo) {
-                        Log.i(TAG, "✅ API 확인: " + drawNo + "회차 실제 발표됨 - " + result.date);
-                        return drawNo;
-                    } else {
-                        Log.d(TAG, "❌ " + drawNo + "회차 API 응답 없음 또는 무효");
-                    }
-
-                    // API 호출 간 짧은 대기 (과부하 방지)
-                    Thread.sleep(200);
-
-                } catch (Exception e) {
-                    Log.w(TAG, drawNo + "회차 API 호출 중 오류: " + e.getMessage());
-                    continue; // 다음 회차 확인
-                }
-            }
-
-            // API로 확인 실패 시 시간 기반 fallback
-            Log.w(TAG, "API 확인 실패, 시간 기반 fallback으로 전환");
-            return getLatestAvailableDrawNumberByTime();
-
+            probe = new OfficialLottoApiService().findHighestPublished(searchEnd, searchStart, PROBE_DEADLINE_MS);
         } catch (Exception e) {
-            Log.e(TAG, "API 서비스 초기화 실패", e);
-            return getLatestAvailableDrawNumberByTime();
-        } finally {
-            if (apiService != null) {
-                try {
-                    apiService.shutdown();
-                } catch (Exception e) {
-                    Log.e(TAG, "API 서비스 종료 중 오류", e);
-                }
-            }
+            Log.e(TAG, "API 회차 확인 중 오류", e);
         }
+
+        int found;
+        boolean fallback = false;
+        if (probe != null && probe.drawNo > 0) {
+            found = probe.drawNo;
+        } else if (probe != null && probe.allUnpublished()) {
+            // 후보가 모두 "미발표"로 응답 - 시간 추정이 아니라 후보 바로 아래 회차가 최신
+            found = Math.max(searchEnd - 1, FIRST_DRAW_NO);
+            Log.w(TAG, String.format("후보 %d~%d회차 모두 미발표 - %d회차 사용", searchEnd, searchStart, found));
+        } else {
+            // 제한 시간 초과나 요청 실패로 확인하지 못한 경우에만 시간 기준 추정
+            fallback = true;
+            Log.w(TAG, "API 확인 실패(" + (probe == null ? "오류" : probe.deadlineExpired ? "시간 초과" : "요청 실패")
+                    + "), 시간 기반 fallback으로 전환");
+            found = getLatestAvailableDrawNumberByTime();
+        }
+
+        long latencyMs = (System.nanoTime() - start) / 1_000_000L;
+        lastProbe = new LatestDrawProbe(found, latencyMs, fallback, System.currentTimeMillis());
+        Log.i(TAG, String.format("%s 최신 회차 확인: %d회차 (%dms)", fallback ? "⚠️ 시간 기준" : "✅ API", found, latencyMs));
+        return found;
     }
 
     /**
@@ -0,0 +1,241 @@
+package app.grapekim.smartlotto.util;
+
+import java.util.List;
+
+/**
+ * 로또 티켓(6/45) ↔ 정수 키 변환 코덱
+ *
+ * 조합수 체계(combinatorial number system)를 사용하여 정렬된 6개 번호 조합을
+ * 0 ~ C(45,6)-1 (= 8,145,059, 23비트) 범위의 고유한 정수로 변환합니다.
+ * 이항계수는 미리 계산된 테이블을 사용하므로 변환 과정에서 객체 할당이 없습니다.
+ *
+ * 번호 집합은 45비트 마스크(비트 n = 번호 n)로도 다룰 수 있어,
+ * 일치 개수 계산은 {@code Long.bitCount(a & b)} 한 번으로 끝납니다.
+ */
+public final class LottoTicketCodec {
+
+    /** 번호 범위 (1~45) */
+    public static final int MAX_NUMBER = 45;
+
+    /** 한 게임의 번호 개수 */
+    public static final int PICK_COUNT = 6;
+
+    /** 전체 조합 수 C(45,6) */
+    public static final int TICKET_COUNT = 8_145_060;
+
+    /** 유효하지 않은 티켓(번호 개수/범위/중복 오류)을 나타내는 값 */
+    public static final int INVALID_RANK = -1;
+
+    /** 1~45 번호 비트 전체 */
+    private static final long ALL_NUMBERS_MASK = ((1L << (MAX_NUMBER + 1)) - 1) & ~1L;
+
+    /** BINOMIAL[n][k] = C(n, k), n = 0..45, k = 0..6 */
+    private static final int[][] BINOMIAL = new int[MAX_NUMBER + 1][PICK_COUNT + 1];
+
+    static {
+        for (int n = 0; n <= MAX_NUMBER; n++) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= PICK_COUNT; k++) {
+                BINOMIAL[n][k] = (n == 0) ? 0 : BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+    }
+
+    private LottoTicketCodec() {
+        // 유틸리티 클래스이므로 인스턴스 생성 방지
+    }
+
+    // ==================== 비트마스크 ====================
+
+    /**
+     * 번호 하나를 마스크 비트로 변환 (범위 밖이면 0)
+     */
+    public static long bit(int number) {
+        return (number >= 1 && number <= MAX_NUMBER) ? (1L << number) : 0L;
+    }
+
+    /**
+     * 번호 배열을 마스크로 변환 (순서 무관)
+     */
+    public static long toMask(int... numbers) {
+        long mask = 0L;
+        if (numbers == null) return mask;
+        for (int n : numbers) {
+            mask |= bit(n);
+        }
+        return mask;
+    }
+
+    /**
+     * 번호 리스트를 마스크로 변환 (순서 무관, null 항목 무시)
+     */
+    public static long toMask(List<Integer> numbers) {
+        long mask = 0L;
+        if (numbers == null) return mask;
+        for (Integer n : numbers) {
+            if (n != null) mask |= bit(n);
+        }
+        return mask;
+    }
+
+    /**
+     * 두 번호 집합의 일치 개수
+     */
+    public static int matchCount(long maskA, long maskB) {
+        return Long.bitCount(maskA & maskB);
+    }
+
+    /**
+     * 당첨 등수 계산 (비트마스크 popcount 기반)
+     * @param ticketMask 구매 번호 마스크
+     * @param winningMask 당첨번호 마스크 (보너스 제외)
+     * @param bonusNumber 보너스 번호
+     * @return 1~5 등수, 낙첨이면 0
+     */
+    public static int prizeRank(long ticketMask, long winningMask, int bonusNumber) {
+        switch (Long.bitCount(ticketMask & winningMask)) {
+            case 6: return 1;
+            case 5: return (ticketMask & bit(bonusNumber)) != 0L ? 2 : 3;
+            case 4: return 4;
+            case 3: return 5;
+            default: return 0;
+        }
+    }
+
+    // ==================== 순위(rank) 변환 ====================
+
+    /**
+     * 마스크를 조합 순위로 변환
+     * @return 0 ~ TICKET_COUNT-1, 번호가 정확히 6개가 아니면 INVALID_RANK
+     */
+    public static int rankOfMask(long mask) {
+        if ((mask & ~ALL_NUMBERS_MASK) != 0L || Long.bitCount(mask) != PICK_COUNT) {
+            return INVALID_RANK;
+        }
+        int rank = 0;
+        int k = 1;
+        long rest = mask;
+        while (rest != 0L) {
+            int number = Long.numberOfTrailingZeros(rest);   // 오름차순으로 순회
+            rank += BINOMIAL[number - 1][k++];
+            rest &= rest - 1;
+        }
+        return rank;
+    }
+
+    /**
+     * 번호 6개를 조합 순위로 변환 (정렬 여부 무관)
+     * @return 0 ~ TICKET_COUNT-1, 유효하지 않으면 INVALID_RANK
+     */
+    public static int rank(int n1, int n2, int n3, int n4, int n5, int n6) {
+        long mask = bit(n1) | bit(n2) | bit(n3) | bit(n4) | bit(n5) | bit(n6);
+        return rankOfMask(mask);
+    }
+
+    /**
+     * 번호 배열을 조합 순위로 변환
+     */
+    public static int rank(int[] numbers) {
+        if (numbers == null || numbers.length != PICK_COUNT) return INVALID_RANK;
+        return rankOfMask(toMask(numbers));
+    }
+
+    /**
+     * 번호 리스트를 조합 순위로 변환
+     */
+    public static int rank(List<Integer> numbers) {
+        if (numbers == null || numbers.size() != PICK_COUNT) return INVALID_RANK;
+        return rankOfMask(toMask(numbers));
+    }
+
+    /**
+     * 저장된 번호 문자열을 조합 순위로 변환
+     * "1, 7, 15, 23, 34, 41" / "1,7,15,23,34,41" / "[1,7,15,23,34,41]" 형식을 모두 지원합니다.
+     */
+    public static int rankOfText(String text) {
+        return rankOfMask(parseMask(text));
+    }
+
+    /**
+     * 번호 문자열을 마스크로 파싱 (객체 할당 없음)
+     * 숫자가 아닌 문자는 모두 구분자로 취급하며, 범위 밖 번호나 중복이 있으면 0을 반환합니다.
+     */
+    public static long parseMask(String text) {
+        if (text == null) return 0L;
+        long mask = 0L;
+        int current = -1;
+        for (int i = 0, len = text.length(); i <= len; i++) {
+            char c = (i < len) ? text.charAt(i) : ',';
+            if (c >= '0' && c <= '9') {
+                current = (current < 0 ? 0 : current * 10) + (c - '0');
+                if (current > MAX_NUMBER) return 0L;
+            } else if (current >= 0) {
+                long b = bit(current);
+                if (b == 0L || (mask & b) != 0L) return 0L;
+                mask |= b;
+                current = -1;
+            }
+        }
+        return mask;
+    }
+
+    // ==================== 역변환(unrank) ====================
+
+    /**
+     * 조합 순위를 정렬된 번호 배열로 복원 (out 배열 재사용, 할당 없음)
+     * @param rank 0 ~ TICKET_COUNT-1
+     * @param out 길이 6 이상의 배열 (오름차순으로 채워짐)
+     * @return 성공 여부
+     */
+    public static boolean unrank(int rank, int[] out) {
+        if (rank < 0 || rank >= TICKET_COUNT || out == null || out.length < PICK_COUNT) {
+            return false;
+        }
+        int remaining = rank;
+        int candidate = MAX_NUMBER;
+        for (int k = PICK_COUNT; k >= 1; k--) {
+            // C(candidate-1, k) <= remaining 을 만족하는 가장 큰 번호 탐색
+            while (BINOMIAL[candidate - 1][k] > remaining) {
+                candidate--;
+            }
+            out[k - 1] = candidate;
+            remaining -= BINOMIAL[candidate - 1][k];
+            candidate--;
+        }
+        return true;
+    }
+
+    /**
+     * 조합 순위를 마스크로 복원
+     * @return 번호 마스크, 범위 밖이면 0
+     */
+    public static long maskOfRank(int rank) {
+        if (rank < 0 || rank >= TICKET_COUNT) return 0L;
+        long mask = 0L;
+        int remaining = rank;
+        int candidate = MAX_NUMBER;
+        for (int k = PICK_COUNT; k >= 1; k--) {
+            while (BINOMIAL[candidate - 1][k] > remaining) {
+                candidate--;
+            }
+            mask |= 1L << candidate;
+            remaining -= BINOMIAL[candidate - 1][k];
+            candidate--;
+        }
+        return mask;
+    }
+
+    /**
+     * 조합 순위를 저장 형식 문자열("1, 7, 15, 23, 34, 41")로 복원
+     */
+    public static String toCsv(int rank) {
+        int[] numbers = new int[PICK_COUNT];
+        if (!unrank(rank, numbers)) return "";
+        StringBuilder sb = new StringBuilder(20);
+        for (int i = 0; i < PICK_COUNT; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(numbers[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -2,42 +2,65 @@ package app.grapekim.smartlotto.util;
 
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.util.AtomicFile;
 import android.util.Log;
 
 import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.data.service.LatestRoundResolver;
 
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 로또 회차 정보 캐시 관리 클래스 (싱글톤)
- * 앱 시작 시 최신 회차를 백그라운드에서 조회하여 캐시하고,
- * AI 번호 생성 시 빠르게 회차 정보를 제공합니다.
+ *
+ * 최신 회차와 확인 시각을 불변 스냅샷(RoundCacheSnapshot) 하나로 들고 있으며
+ * AtomicReference 교체로만 갱신하므로 어느 스레드에서 읽어도 안전합니다.
+ * 조회는 항상 보유한 값을 바로 돌려주고, 유효 시간이 지났으면 백그라운드에서 재확인합니다
+ * (stale-while-revalidate, 재확인은 동시에 하나만).
+ * 스냅샷은 작은 바이너리 파일 하나로 IO 레인에서 저장됩니다 (호출 스레드는 파일을 건드리지 않음).
+ * 회차별 당첨번호는 DrawFetchCoordinator가 담당합니다.
  */
 public class RoundCache {
 
     private static final String TAG = "RoundCache";
-    private static final String PREF_NAME = "round_cache";
-    private static final String KEY_LATEST_ROUND = "latest_round";
-    private static final String KEY_LAST_UPDATE = "last_update";
+    private static final String CACHE_FILE_NAME = "round_cache.bin";
     private static final long CACHE_VALID_DURATION = 24 * 60 * 60 * 1000L; // 24시간
 
-    private static RoundCache instance;
-    private final ExecutorService executor;
-    private SharedPreferences prefs;
+    // 이전 버전의 SharedPreferences 저장소 (첫 로드 시 파일로 옮기고 비움)
+    private static final String LEGACY_PREF_NAME = "round_cache";
+    private static final String LEGACY_KEY_LATEST_ROUND = "latest_round";
+    private static final String LEGACY_KEY_LAST_UPDATE = "last_update";
+
+    private static volatile RoundCache instance;
 
-    // 캐시된 데이터
-    private Integer cachedLatestRound;
-    private long lastUpdateTime;
-    private boolean isLoading = false;
+    private final ExecutorService executor;
+    private final ExecutorService persistExecutor;
+    private final AtomicBoolean persistPending = new AtomicBoolean(false);
+    private final AtomicReference<RoundCacheSnapshot> snapshot = new AtomicReference<>(RoundCacheSnapshot.EMPTY);
+    private final AtomicBoolean isLoading = new AtomicBoolean(false);
+    private final Object fileLock = new Object();
+    private volatile Context appContext;
 
     private RoundCache() {
-        executor = Executors.newSingleThreadExecutor();
+        executor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.BACKGROUND, "roundCache.refresh");
+        persistExecutor = AppExecutors.get().newSerialExecutor(
+                AppExecutors.Lane.IO, AppExecutors.Priority.BACKGROUND, "roundCache.persist");
     }
 
-    public static synchronized RoundCache getInstance() {
+    public static RoundCache getInstance() {
         if (instance == null) {
-            instance = new RoundCache();
+            synchronized (RoundCache.class) {
+                if (instance == null) {
+                    instance = new RoundCache();
+                }
+            }
         }
         return instance;
     }
@@ -46,102 +69,99 @@ public class RoundCache {
      * 초기화 (앱 시작 시 호출)
      */
     public void initialize(Context context) {
-        if (prefs == null) {
-            prefs = context.getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
-            loadFromPrefs();
+        if (appContext == null) {
+            synchronized (this) {
+                if (appContext == null) {
+                    Context app = context.getApplicationContext();
+                    RoundCacheSnapshot loaded = loadFromFile(app);
+                    // 초기화 전에 들어온 값이 있으면 더 새로운 쪽 유지
+                    snapshot.accumulateAndGet(loaded, (current, stored) ->
+                            current.latestRound >= stored.latestRound && current != RoundCacheSnapshot.EMPTY
+                                    ? current : stored);
+                    appContext = app;
+                    Log.d(TAG, "캐시에서 로드: " + getCacheInfo());
+                }
+            }
         }
 
         // 캐시가 없거나 오래되었으면 업데이트
-        if (shouldUpdateCache()) {
-            updateCacheInBackground();
-        }
+        refreshIfStale(snapshot.get());
     }
 
+    // ==================== 조회 (메인 스레드에서 안전하게 호출 가능) ====================
+
     /**
-     * SharedPreferences에서 캐시 로드
+     * 캐시된 최신 회차 조회 (오래되었으면 백그라운드 재확인)
+     * @return 최신 회차 번호, 캐시가 없으면 null
      */
-    private void loadFromPrefs() {
-        cachedLatestRound = prefs.getInt(KEY_LATEST_ROUND, -1);
-        lastUpdateTime = prefs.getLong(KEY_LAST_UPDATE, 0);
-
-        if (cachedLatestRound == -1) {
-            cachedLatestRound = null;
-        }
-
-        Log.d(TAG, "캐시에서 로드: round=" + cachedLatestRound + ", lastUpdate=" + lastUpdateTime);
+    public Integer getLatestRound() {
+        RoundCacheSnapshot current = snapshot.get();
+        refreshIfStale(current);
+        return current.latestRound > 0 ? current.latestRound : null;
     }
 
     /**
-     * SharedPreferences에 캐시 저장
+     * 다음 회차 번호 조회 (AI 생성용)
+     * @return 다음 회차 번호, 캐시가 없으면 대략적인 추정값
      */
-    private void saveToPrefs() {
-        if (prefs != null && cachedLatestRound != null) {
-            prefs.edit()
-                    .putInt(KEY_LATEST_ROUND, cachedLatestRound)
-                    .putLong(KEY_LAST_UPDATE, lastUpdateTime)
-                    .apply();
-            Log.d(TAG, "캐시 저장: round=" + cachedLatestRound);
+    public Integer getNextRound() {
+        Integer latest = getLatestRound();
+        if (latest != null) {
+            return latest + 1;
         }
+
+        // 캐시가 없으면 날짜 기반 추정
+        return estimateRoundByDate();
     }
 
     /**
-     * 캐시 업데이트가 필요한지 확인
+     * 다른 경로(회차 조회 조정자 등)에서 확인한 최신 회차 반영 (메모리는 즉시, 파일은 IO 레인에서)
      */
-    private boolean shouldUpdateCache() {
-        return cachedLatestRound == null ||
-                (System.currentTimeMillis() - lastUpdateTime) > CACHE_VALID_DURATION;
+    public void offerLatest(LottoDrawDto latest) {
+        snapshot.updateAndGet(current -> current.withLatest(latest, System.currentTimeMillis()));
+        persistAsync();
     }
 
+    // ==================== 갱신 ====================
+
     /**
-     * 백그라운드에서 캐시 업데이트
+     * 백그라운드에서 캐시 업데이트 (이미 진행 중이면 무시)
      */
     public void updateCacheInBackground() {
-        if (isLoading) {
+        if (appContext == null) {
+            Log.w(TAG, "초기화 전이라 업데이트를 건너뜁니다.");
+            return;
+        }
+        if (!isLoading.compareAndSet(false, true)) {
             Log.d(TAG, "이미 업데이트 중입니다.");
             return;
         }
 
-        isLoading = true;
         Log.d(TAG, "백그라운드에서 회차 정보 업데이트 시작");
 
         executor.execute(() -> {
             try {
-                LottoDrawDto latest = RoundUtils.findLatestRoundSync();
+                // 다른 화면의 동시 탐색과 합쳐짐
+                LottoDrawDto latest = LatestRoundResolver.get(appContext).resolveLatest();
                 if (latest != null && latest.drwNo != null) {
-                    cachedLatestRound = latest.drwNo;
-                    lastUpdateTime = System.currentTimeMillis();
-                    saveToPrefs();
-                    Log.d(TAG, "회차 업데이트 성공: " + cachedLatestRound);
+                    offerLatest(latest);
+                    Log.d(TAG, "회차 업데이트 성공: " + latest.drwNo);
                 } else {
                     Log.w(TAG, "회차 업데이트 실패: latest가 null");
                 }
             } catch (Exception e) {
                 Log.e(TAG, "회차 업데이트 중 오류", e);
             } finally {
-                isLoading = false;
+                isLoading.set(false);
             }
         });
     }
 
-    /**
-     * 캐시된 최신 회차 조회 (메인 스레드에서 안전하게 호출 가능)
-     * @return 최신 회차 번호, 캐시가 없으면 null
-     */
-    public Integer getLatestRound() {
-        return cachedLatestRound;
-    }
-
-    /**
-     * 다음 회차 번호 조회 (AI 생성용)
-     * @return 다음 회차 번호, 캐시가 없으면 대략적인 추정값
-     */
-    public Integer getNextRound() {
-        if (cachedLatestRound != null) {
-            return cachedLatestRound + 1;
+    private void refreshIfStale(RoundCacheSnapshot current) {
+        if (appContext != null && !isLoading.get()
+                && current.isStale(System.currentTimeMillis(), CACHE_VALID_DURATION)) {
+            updateCacheInBackground();
         }
-
-        // 캐시가 없으면 날짜 기반 추정
-        return estimateRoundByDate();
     }
 
     /**
@@ -162,19 +182,81 @@ public class RoundCache {
         }
     }
 
+    // ==================== 저장 ====================
+
+    private RoundCacheSnapshot loadFromFile(Context context) {
+        AtomicFile file = new AtomicFile(new File(context.getFilesDir(), CACHE_FILE_NAME));
+        try {
+            RoundCacheSnapshot stored = RoundCacheSnapshot.decode(file.readFully());
+            if (stored != null) return stored;
+            Log.w(TAG, "캐시 파일 손상 - 무시");
+        } catch (FileNotFoundException e) {
+            return migrateLegacyPrefs(context);
+        } catch (IOException e) {
+            Log.w(TAG, "캐시 파일 읽기 실패: " + e.getMessage());
+        }
+        return RoundCacheSnapshot.EMPTY;
+    }
+
+    /**
+     * 이전 버전의 SharedPreferences 값을 스냅샷으로 옮기고 비움
+     */
+    private RoundCacheSnapshot migrateLegacyPrefs(Context context) {
+        SharedPreferences prefs = context.getSharedPreferences(LEGACY_PREF_NAME, Context.MODE_PRIVATE);
+        RoundCacheSnapshot migrated = RoundCacheSnapshot.ofRound(
+                prefs.getInt(LEGACY_KEY_LATEST_ROUND, -1), prefs.getLong(LEGACY_KEY_LAST_UPDATE, 0));
+        if (!prefs.getAll().isEmpty()) {
+            prefs.edit().clear().apply();
+            writeFile(context, migrated);
+        }
+        return migrated;
+    }
+
+    /**
+     * 현재 스냅샷 저장 예약 (연달아 불리면 한 번으로 합쳐지고, 쓸 때 가장 새로운 스냅샷을 기록)
+     */
+    private void persistAsync() {
+        if (appContext == null) return;
+        if (!persistPending.compareAndSet(false, true)) return;
+        persistExecutor.execute(() -> {
+            // 쓰기 전에 해제해야 쓰는 도중 들어온 변경이 다음 저장으로 이어짐
+            persistPending.set(false);
+            Context context = appContext;
+            if (context == null) return;
+            synchronized (fileLock) {
+                writeFile(context, snapshot.get());
+            }
+        });
+    }
+
+    private void writeFile(Context context, RoundCacheSnapshot value) {
+        AtomicFile file = new AtomicFile(new File(context.getFilesDir(), CACHE_FILE_NAME));
+        FileOutputStream out = null;
+        try {
+            out = file.startWrite();
+            out.write(value.encode());
+            file.finishWrite(out);
+        } catch (IOException e) {
+            if (out != null) file.failWrite(out);
+            Log.w(TAG, "캐시 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // ==================== 개발/테스트용 ====================
+
     /**
      * 캐시 상태 정보
      */
     public String getCacheInfo() {
+        RoundCacheSnapshot current = snapshot.get();
         return String.format("Round: %s, LastUpdate: %d, IsLoading: %b",
-                cachedLatestRound, lastUpdateTime, isLoading);
+                current.latestRound > 0 ? current.latestRound : null, current.fetchedAt, isLoading.get());
     }
 
     /**
      * 강제 캐시 업데이트 (개발/테스트용)
      */
     public void forceUpdate() {
-        isLoading = false; // 로딩 상태 리셋
         updateCacheInBackground();
     }
 
@@ -182,11 +264,13 @@ public class RoundCache {
      * 캐시 클리어 (개발/테스트용)
      */
     public void clearCache() {
-        cachedLatestRound = null;
-        lastUpdateTime = 0;
-        if (prefs != null) {
-            prefs.edit().clear().apply();
+        snapshot.set(RoundCacheSnapshot.EMPTY);
+        Context context = appContext;
+        if (context != null) {
+            synchronized (fileLock) {
+                new AtomicFile(new File(context.getFilesDir(), CACHE_FILE_NAME)).delete();
+            }
         }
         Log.d(TAG, "캐시 클리어 완료");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package app.grapekim.smartlotto.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+
+/**
+ * RoundCache의 불변 스냅샷 (최신 회차 + 확인 시각)
+ *
+ * 변경은 항상 새 인스턴스를 만들어 AtomicReference로 교체하므로 어느 스레드에서 읽어도 안전합니다.
+ * 회차별 당첨번호는 DrawFetchCoordinator(Room/네트워크)가 맡으므로 여기에는 두지 않습니다.
+ * 저장 형식은 작은 바이너리(버전, 최신 회차, 조회 시각)이며 손상되었거나 형식이 다르면 null로 버립니다.
+ */
+public final class RoundCacheSnapshot {
+
+    // 2: 최근 회차 당첨번호 목록 제거 (1 형식은 버리고 다시 확인)
+    private static final int FORMAT_VERSION = 2;
+
+    public static final RoundCacheSnapshot EMPTY = new RoundCacheSnapshot(0, 0L);
+
+    /** 최신 발표 회차 (0 = 모름) */
+    public final int latestRound;
+    /** 최신 회차를 마지막으로 확인한 시각 (ms, 0 = 확인 안 함) */
+    public final long fetchedAt;
+
+    private RoundCacheSnapshot(int latestRound, long fetchedAt) {
+        this.latestRound = latestRound;
+        this.fetchedAt = fetchedAt;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 다시 확인할 때가 되었는지 (값이 없거나, ttl이 지났거나, 시계가 거꾸로 간 경우)
+     */
+    public boolean isStale(long now, long ttlMs) {
+        return latestRound <= 0 || now < fetchedAt || now - fetchedAt > ttlMs;
+    }
+
+    // ==================== 변경 (새 인스턴스 반환) ====================
+
+    /**
+     * 최신 회차 확인 결과 반영 (조회 시각 갱신, 회차는 뒤로 가지 않음)
+     */
+    public RoundCacheSnapshot withLatest(LottoDrawDto draw, long checkedAt) {
+        if (draw == null || draw.drwNo == null || draw.drwNo <= 0) return this;
+        return new RoundCacheSnapshot(Math.max(latestRound, draw.drwNo), checkedAt);
+    }
+
+    /**
+     * 최신 회차 번호만 아는 경우 (이전 저장 형식 이전용)
+     */
+    public static RoundCacheSnapshot ofRound(int latestRound, long fetchedAt) {
+        return latestRound > 0 ? new RoundCacheSnapshot(latestRound, fetchedAt) : EMPTY;
+    }
+
+    // ==================== 저장 형식 ====================
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(13);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(latestRound);
+            out.writeLong(fetchedAt);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);   // 메모리 스트림이라 발생하지 않음
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return 손상되었거나 형식 버전이 다르면 null
+     */
+    public static RoundCacheSnapshot decode(byte[] stored) {
+        if (stored == null || stored.length == 0) return null;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(stored))) {
+            if (in.readUnsignedByte() != FORMAT_VERSION) return null;
+            int latestRound = in.readInt();
+            long fetchedAt = in.readLong();
+            if (latestRound < 0 || in.available() > 0) return null;
+            return latestRound > 0 ? new RoundCacheSnapshot(latestRound, fetchedAt) : EMPTY;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -1,60 +1,36 @@
 package app.grapekim.smartlotto.util;
 
+import android.content.Context;
+
 import androidx.annotation.Nullable;
 
-import app.grapekim.smartlotto.data.remote.NetworkProvider;
 import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.data.service.LatestRoundResolver;
 
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 
-import retrofit2.Response;
-
 /**
  * 로또 회차 계산 및 최신 회차 탐색 유틸.
  */
 public final class RoundUtils {
 
     private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDate FIRST_DRAW_DATE = LocalDate.of(2002, 12, 7); // 1회차
 
     private RoundUtils() {}
 
-    /** 동기 호출: 최신 회차(가장 최근에 발표된 회차) 정보를 찾는다. 실패 시 null */
-    @Nullable
-    public static LottoDrawDto findLatestRoundSync() {
-        int cur = 1000;
-        LottoDrawDto lastOk = null;
-
-        int step = 128;
-        while (step > 0) {
-            LottoDrawDto ok = probe(cur);
-            if (ok != null) {
-                lastOk = ok;
-                cur += step;   // 더 앞쪽으로
-            } else {
-                cur -= step;   // 한 스텝 뒤로
-                step /= 2;     // 반으로 줄임
-            }
-        }
-        // 마지막으로 조금만 앞으로 스캔
-        for (int i = 0; i < 16; i++) {
-            LottoDrawDto ok = probe(cur + i);
-            if (ok == null) break;
-            lastOk = ok;
-        }
-        return lastOk;
-    }
-
+    /**
+     * 동기 호출: 최신 회차(가장 최근에 발표된 회차) 정보를 찾는다. 실패 시 null
+     * 로컬 최신 회차/날짜 기준 예상 회차에서 시작하며 동시 호출은 하나의 탐색으로 합쳐진다. (LatestRoundResolver)
+     */
     @Nullable
-    private static LottoDrawDto probe(int round) {
-        try {
-            Response<LottoDrawDto> res = NetworkProvider.api().getDraw(round).execute();
-            if (res.isSuccessful() && res.body() != null && res.body().isSuccess()) return res.body();
-        } catch (Exception ignore) {}
-        return null;
+    public static LottoDrawDto findLatestRoundSync(Context context) {
+        return LatestRoundResolver.get(context).resolveLatest();
     }
 
     /**
@@ -75,10 +51,21 @@ public final class RoundUtils {
         LocalDate createdDate = Instant.ofEpochMilli(createdAtMillis).atZone(SEOUL).toLocalDate();
         LocalDate targetSat   = createdDate.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
 
-        long diffWeeks = java.time.temporal.ChronoUnit.WEEKS.between(latestSat, targetSat);
+        long diffWeeks = ChronoUnit.WEEKS.between(latestSat, targetSat);
         // latestSat → targetSat (미래면 양수, 과거면 음수)
         // 회차 = latest.drwNo + diffWeeks
         long round = latest.drwNo + diffWeeks;
         return (round < 1) ? 1 : (int) round;
     }
+
+    /**
+     * 생성/구매 시각 기준 대상 회차 (그 시각 이후 첫 토요일 = 다음 또는 같은 토요일의 회차)
+     * 네트워크 없이 1회차 추첨일로부터 주 수로 계산하며, 저장 시 target_round 기본값으로 사용한다.
+     */
+    public static int roundForTimestamp(long millis) {
+        LocalDate date = Instant.ofEpochMilli(millis).atZone(SEOUL).toLocalDate();
+        LocalDate targetSat = date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY));
+        long round = ChronoUnit.WEEKS.between(FIRST_DRAW_DATE, targetSat) + 1;
+        return (round < 1) ? 1 : (int) round;
+    }
 }
@@ -0,0 +1,157 @@
+package app.grapekim.smartlotto.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 앱 시작 단계별 소요 시간 기록 형식과 통계 (순수 계산, 저장/측정은 StartupTimings 담당)
+ *
+ * 한 번의 실행은 "시작 시각(벽시계);단계1,단계2,..." 문자열로 저장되며,
+ * 각 단계 값은 프로세스 시작 기준 경과 ms(기록 안 된 단계는 -1)입니다.
+ */
+public final class StartupTimingReport {
+
+    /** 기록 안 된 단계 */
+    public static final long MISSING = -1L;
+
+    /**
+     * 측정 단계 (순서 = 저장 순서, 뒤에만 추가할 것)
+     */
+    public enum Phase {
+        PROCESS_START("프로세스 시작"),
+        APP_CREATE("App.onCreate"),
+        FIRST_FRAME("첫 프레임"),
+        REPOSITORY_READY("저장소 준비"),
+        DATA_READY("데이터 준비"),
+        STATS_READY("통계 준비");
+
+        public final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * 실행 1회 기록
+     */
+    public static final class Launch {
+        public final long startedAt;    // 프로세스 시작 벽시계 시각 (ms)
+        private final long[] offsets;   // 단계별 프로세스 시작 기준 경과 ms
+
+        public Launch(long startedAt, long[] offsets) {
+            this.startedAt = startedAt;
+            this.offsets = new long[Phase.values().length];
+            for (int i = 0; i < this.offsets.length; i++) {
+                this.offsets[i] = (offsets != null && i < offsets.length) ? offsets[i] : MISSING;
+            }
+        }
+
+        public long get(Phase phase) {
+            return offsets[phase.ordinal()];
+        }
+    }
+
+    private StartupTimingReport() {
+    }
+
+    // ==================== 저장 형식 ====================
+
+    public static String encode(Launch launch) {
+        StringBuilder sb = new StringBuilder().append(launch.startedAt).append(';');
+        for (int i = 0; i < launch.offsets.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(launch.offsets[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return 손상된 기록이면 null
+     */
+    public static Launch decode(String stored) {
+        if (stored == null) return null;
+        int separator = stored.indexOf(';');
+        if (separator <= 0) return null;
+        try {
+            long startedAt = Long.parseLong(stored.substring(0, separator));
+            String[] parts = stored.substring(separator + 1).split(",");
+            long[] offsets = new long[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                offsets[i] = Long.parseLong(parts[i].trim());
+            }
+            return new Launch(startedAt, offsets);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ==================== 통계 ====================
+
+    /**
+     * 최근접 순위(nearest-rank) 백분위수
+     * @param sortedValues 오름차순 정렬된 값
+     * @param percent 0~100
+     */
+    public static long percentile(List<Long> sortedValues, double percent) {
+        if (sortedValues.isEmpty()) return MISSING;
+        int rank = (int) Math.ceil(percent / 100.0 * sortedValues.size());
+        return sortedValues.get(Math.max(0, Math.min(sortedValues.size() - 1, rank - 1)));
+    }
+
+    /**
+     * 단계별 기록값 (기록된 실행만, 오름차순)
+     */
+    public static List<Long> valuesOf(List<Launch> launches, Phase phase) {
+        List<Long> values = new ArrayList<>();
+        for (Launch launch : launches) {
+            long value = launch.get(phase);
+            if (value >= 0) values.add(value);
+        }
+        Collections.sort(values);
+        return values;
+    }
+
+    /**
+     * 화면 표시용 요약 (단계마다 한 줄: p50 / p90 / 최대, 프로세스 시작 기준)
+     */
+    public static String summarize(List<Launch> launches) {
+        if (launches.isEmpty()) return "기록 없음";
+
+        StringBuilder sb = new StringBuilder(String.format(Locale.getDefault(), "최근 %d회 실행 (프로세스 시작 기준)", launches.size()));
+        for (Phase phase : Phase.values()) {
+            if (phase == Phase.PROCESS_START) continue;
+            List<Long> values = valuesOf(launches, phase);
+            sb.append('\n').append(phase.label).append(": ");
+            if (values.isEmpty()) {
+                sb.append('-');
+            } else {
+                sb.append(String.format(Locale.getDefault(), "p50 %dms · p90 %dms · 최대 %dms (%d회)",
+                        percentile(values, 50), percentile(values, 90),
+                        values.get(values.size() - 1), values.size()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 오프라인 분석용 CSV (헤더 + 실행마다 한 줄, 기록 안 된 단계는 빈 칸)
+     */
+    public static String toCsv(List<Launch> launches) {
+        StringBuilder sb = new StringBuilder("started_at");
+        for (Phase phase : Phase.values()) {
+            sb.append(',').append(phase.name().toLowerCase(Locale.US)).append("_ms");
+        }
+        for (Launch launch : launches) {
+            sb.append('\n').append(launch.startedAt);
+            for (Phase phase : Phase.values()) {
+                sb.append(',');
+                long value = launch.get(phase);
+                if (value >= 0) sb.append(value);
+            }
+        }
+        return sb.append('\n').toString();
+    }
+}
@@ -0,0 +1,122 @@
+package app.grapekim.smartlotto.util;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import app.grapekim.smartlotto.util.StartupTimingReport.Launch;
+import app.grapekim.smartlotto.util.StartupTimingReport.Phase;
+
+/**
+ * 앱 시작 단계 시각 기록기 (항상 켜져 있음, 단계마다 elapsedRealtime 1회 기록)
+ *
+ * 단계는 프로세스당 처음 한 번만 기록되며, 최근 MAX_LAUNCHES회 실행을 SharedPreferences 링 버퍼에 보관합니다.
+ * 화면 없이 시작된 프로세스(WorkManager, 알람 등)는 첫 프레임이 늦거나 없으므로 저장하지 않습니다.
+ */
+public final class StartupTimings {
+
+    private static final String TAG = "StartupTimings";
+
+    /** 보관할 최근 실행 수 */
+    public static final int MAX_LAUNCHES = 20;
+
+    /** 첫 프레임이 프로세스 시작 후 이보다 늦으면 백그라운드에서 시작된 프로세스로 보고 버림 */
+    private static final long MAX_COLD_START_MS = 30_000L;
+
+    private static final String PREF_NAME = "startup_timings";
+    private static final String KEY_LAUNCH_COUNT = "launch_count";   // 누적 저장 횟수 (다음 칸 = count % MAX_LAUNCHES)
+    private static final String KEY_SLOT_PREFIX = "launch_";
+
+    private static final long[] marks = new long[Phase.values().length];   // elapsedRealtime, 0 = 미기록
+    private static long startedAt;          // 프로세스 시작 벽시계 시각
+    private static Context appContext;
+    private static int slot = -1;           // 이번 실행이 저장되는 칸 (-1 = 아직 저장 안 함)
+    private static boolean discarded;       // 백그라운드 시작 프로세스
+
+    private StartupTimings() {
+    }
+
+    /**
+     * App.onCreate 시작에서 호출 (프로세스 시작 시각과 함께 기록)
+     */
+    public static synchronized void onAppCreate(Context context) {
+        appContext = context.getApplicationContext();
+        long now = SystemClock.elapsedRealtime();
+        long processStart = Process.getStartElapsedRealtime();
+        marks[Phase.PROCESS_START.ordinal()] = processStart;
+        startedAt = System.currentTimeMillis() - (now - processStart);
+        mark(Phase.APP_CREATE);
+    }
+
+    /**
+     * 단계 도달 기록 (이번 프로세스에서 처음 도달했을 때만)
+     */
+    public static synchronized void mark(Phase phase) {
+        if (marks[phase.ordinal()] != 0 || discarded) return;
+        marks[phase.ordinal()] = SystemClock.elapsedRealtime();
+
+        if (phase == Phase.FIRST_FRAME) {
+            long firstFrame = offsetOf(Phase.FIRST_FRAME);
+            if (firstFrame < 0 || firstFrame > MAX_COLD_START_MS) {
+                discarded = true;
+                Log.d(TAG, "백그라운드에서 시작된 프로세스 - 시작 시간 기록 안 함");
+                return;
+            }
+            Log.i(TAG, "첫 프레임: 프로세스 시작 후 " + firstFrame + "ms");
+        }
+        if (phase == Phase.FIRST_FRAME || slot >= 0) {
+            persist();
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 저장된 최근 실행 기록 (오래된 순)
+     */
+    public static List<Launch> loadLaunches(Context context) {
+        SharedPreferences prefs = prefs(context);
+        List<Launch> launches = new ArrayList<>();
+        for (int i = 0; i < MAX_LAUNCHES; i++) {
+            Launch launch = StartupTimingReport.decode(prefs.getString(KEY_SLOT_PREFIX + i, null));
+            if (launch != null) launches.add(launch);
+        }
+        Collections.sort(launches, (a, b) -> Long.compare(a.startedAt, b.startedAt));
+        return launches;
+    }
+
+    // ==================== 내부 구현 ====================
+
+    private static long offsetOf(Phase phase) {
+        long value = marks[phase.ordinal()];
+        long processStart = marks[Phase.PROCESS_START.ordinal()];
+        return (value == 0 || processStart == 0) ? StartupTimingReport.MISSING : value - processStart;
+    }
+
+    private static void persist() {
+        if (appContext == null) return;
+        SharedPreferences prefs = prefs(appContext);
+        SharedPreferences.Editor editor = prefs.edit();
+        if (slot < 0) {
+            int count = prefs.getInt(KEY_LAUNCH_COUNT, 0);
+            slot = count % MAX_LAUNCHES;
+            editor.putInt(KEY_LAUNCH_COUNT, count + 1);
+        }
+
+        long[] offsets = new long[marks.length];
+        for (Phase phase : Phase.values()) {
+            offsets[phase.ordinal()] = offsetOf(phase);
+        }
+        editor.putString(KEY_SLOT_PREFIX + slot, StartupTimingReport.encode(new Launch(startedAt, offsets))).apply();
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getApplicationContext().getSharedPreferences(PREF_NAME, Context.MODE_PRIVATE);
+    }
+}
@@ -0,0 +1,136 @@
+package app.grapekim.smartlotto;
+
+import android.app.Application;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import app.grapekim.smartlotto.util.DataVersionBus;
+
+import static org.junit.Assert.*;
+
+/**
+ * DataVersionBus 이벤트 합치기/최대 대기/중복 통지 방지 테스트
+ *
+ * 시계와 스케줄러는 가짜를 주입하므로 SystemClock/Looper에 의존하지 않습니다.
+ * (Robolectric은 버스가 남기는 android.util.Log 호출용)
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class DataVersionBusTest {
+
+    private static final long DEBOUNCE = 100;
+    private static final long MAX_WAIT = 300;
+
+    /** 시계를 직접 옮겨 가며 예약 작업을 실행하는 스케줄러 */
+    private static final class ManualScheduler implements DataVersionBus.Scheduler {
+        long now;
+        final List<long[]> dueTimes = new ArrayList<>();
+        final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void schedule(Runnable task, long delayMs) {
+            dueTimes.add(new long[]{now + delayMs});
+            tasks.add(task);
+        }
+
+        void advanceTo(long time) {
+            now = time;
+            boolean ran = true;
+            while (ran) {
+                ran = false;
+                for (int i = 0; i < tasks.size(); i++) {
+                    if (dueTimes.get(i)[0] <= now) {
+                        Runnable task = tasks.remove(i);
+                        dueTimes.remove(i);
+                        task.run();
+                        ran = true;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private final ManualScheduler scheduler = new ManualScheduler();
+    private final DataVersionBus bus = new DataVersionBus(scheduler, () -> scheduler.now, DEBOUNCE, MAX_WAIT);
+    private final List<Long> received = new ArrayList<>();
+
+    @Test
+    public void testBurstIsDeliveredOnceAfterQuietPeriod() {
+        bus.subscribe(received::add, Runnable::run);
+
+        bus.publish("a");
+        scheduler.advanceTo(50);
+        bus.publish("b");
+        scheduler.advanceTo(120);   // 마지막 이벤트 후 아직 100ms가 안 됨
+        assertTrue(received.isEmpty());
+        assertEquals(2, bus.getVersion());
+
+        scheduler.advanceTo(150);
+        assertEquals(1, received.size());
+        assertEquals(Long.valueOf(2), received.get(0));
+    }
+
+    @Test
+    public void testContinuousEventsAreFlushedAtMaxWait() {
+        bus.subscribe(received::add, Runnable::run);
+
+        for (long t = 0; t <= 400; t += 50) {
+            scheduler.advanceTo(t);
+            bus.publish("backfill");
+        }
+
+        assertFalse(received.isEmpty());
+        assertTrue(received.size() <= 2);
+        assertTrue(received.get(0) < bus.getVersion());   // 최대 대기 시간에 중간 버전으로 한 번 통지
+    }
+
+    @Test
+    public void testOlderVersionIsNotRedeliveredAndUnsubscribeStops() {
+        List<Runnable> queued = new ArrayList<>();
+        bus.subscribe(received::add, queued::add);
+
+        bus.publish("a");
+        scheduler.advanceTo(DEBOUNCE);
+        bus.publish("b");
+        scheduler.advanceTo(DEBOUNCE * 3);
+        assertEquals(2, queued.size());
+
+        // 늦게 실행된 이전 통지는 이미 받은 더 새로운 버전 때문에 생략
+        queued.get(1).run();
+        queued.get(0).run();
+        assertEquals(1, received.size());
+        assertEquals(Long.valueOf(2), received.get(0));
+
+        bus.unsubscribe(received::add);   // 다른 인스턴스는 해제되지 않음
+        assertEquals(1, bus.getListenerCount());
+    }
+
+    @Test
+    public void testListenerOnlySeesChangesAfterSubscribe() {
+        bus.publish("before");
+        DataVersionBus.Listener listener = received::add;
+        bus.subscribe(listener, Runnable::run);
+        bus.subscribe(listener, Runnable::run);   // 중복 등록 무시
+        assertEquals(1, bus.getListenerCount());
+
+        scheduler.advanceTo(DEBOUNCE);
+        assertTrue(received.isEmpty());
+
+        bus.publish("after");
+        scheduler.advanceTo(DEBOUNCE * 3);
+        assertEquals(1, received.size());
+
+        bus.unsubscribe(listener);
+        bus.publish("removed");
+        scheduler.advanceTo(DEBOUNCE * 6);
+        assertEquals(1, received.size());
+        assertEquals(0, bus.getListenerCount());
+    }
+}
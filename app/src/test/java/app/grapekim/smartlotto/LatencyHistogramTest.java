@@ -0,0 +1,46 @@
+package app.grapekim.smartlotto;
+
+import org.junit.Test;
+
+import app.grapekim.smartlotto.util.LatencyHistogram;
+
+import static org.junit.Assert.*;
+
+/**
+ * LatencyHistogram 구간/백분위수 근사 테스트
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean(), 0.0);
+    }
+
+    @Test
+    public void testPercentileIsBucketUpperBoundCappedByMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) histogram.record(3);     // 구간 [2, 4)
+        for (int i = 0; i < 10; i++) histogram.record(100);   // 구간 [64, 128)
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(3, histogram.percentile(50));
+        assertEquals(3, histogram.percentile(90));
+        assertEquals(100, histogram.percentile(95));   // 상한 127이지만 최댓값 100을 넘지 않음
+        assertEquals(100, histogram.getMax());
+        assertEquals(12.7, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    public void testNegativeAndHugeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);          // 시계 역행은 0으로 기록
+        histogram.record(10_000_000);  // 마지막 구간
+
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(10_000_000, histogram.percentile(100));
+    }
+}
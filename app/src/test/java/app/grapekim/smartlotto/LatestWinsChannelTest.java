@@ -0,0 +1,129 @@
+package app.grapekim.smartlotto;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import app.grapekim.smartlotto.util.LatestWinsChannel;
+
+import static org.junit.Assert.*;
+
+/**
+ * LatestWinsChannel 요청 합치기/협조적 취소/최신 결과 전달 테스트
+ */
+public class LatestWinsChannelTest {
+
+    /** 직접 돌려야 실행되는 실행기 */
+    private static final class ManualExecutor implements Executor {
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) task.run();
+        }
+    }
+
+    private final List<String> delivered = new ArrayList<>();
+
+    private LatestWinsChannel.Listener<Integer, String> recorder() {
+        return new LatestWinsChannel.Listener<Integer, String>() {
+            @Override
+            public void onResult(Integer input, String result) {
+                delivered.add(result);
+            }
+
+            @Override
+            public void onError(Integer input, Exception error) {
+                delivered.add("error:" + input);
+            }
+        };
+    }
+
+    @Test
+    public void testBurstIsCoalescedIntoLatestInput() {
+        ManualExecutor worker = new ManualExecutor();
+        List<Integer> executed = new ArrayList<>();
+        LatestWinsChannel<Integer, String> channel = new LatestWinsChannel<>(worker, Runnable::run,
+                (input, ticket) -> {
+                    executed.add(input);
+                    return "r" + input;
+                }, recorder());
+
+        channel.submit(1);
+        channel.submit(2);
+        channel.submit(3);
+        assertTrue(channel.isBusy());
+        worker.runAll();
+
+        assertEquals(1, executed.size());
+        assertEquals(Integer.valueOf(3), executed.get(0));
+        assertEquals(1, delivered.size());
+        assertEquals("r3", delivered.get(0));
+        assertEquals(2, channel.getDroppedCount());
+        assertFalse(channel.isBusy());
+    }
+
+    @Test
+    public void testSupersededRunIsDroppedAndLatestRuns() {
+        ManualExecutor worker = new ManualExecutor();
+        List<LatestWinsChannel<Integer, String>> holder = new ArrayList<>();
+        LatestWinsChannel<Integer, String> channel = new LatestWinsChannel<>(worker, Runnable::run,
+                (input, ticket) -> {
+                    if (input == 1) {
+                        holder.get(0).submit(2);   // 실행 중에 새 요청 도착
+                        ticket.throwIfSuperseded();
+                        fail("밀려난 요청은 여기까지 오지 않아야 함");
+                    }
+                    return "r" + input;
+                }, recorder());
+        holder.add(channel);
+
+        channel.submit(1);
+        worker.runAll();
+
+        assertEquals(1, delivered.size());
+        assertEquals("r2", delivered.get(0));
+        assertEquals(2, channel.getExecutedCount());
+    }
+
+    @Test
+    public void testResultIsDroppedWhenNewerRequestArrivesBeforeDelivery() {
+        ManualExecutor worker = new ManualExecutor();
+        ManualExecutor delivery = new ManualExecutor();
+        LatestWinsChannel<Integer, String> channel = new LatestWinsChannel<>(worker, delivery,
+                (input, ticket) -> "r" + input, recorder());
+
+        channel.submit(1);
+        worker.runAll();
+        channel.submit(2);     // 결과 1이 전달되기 전에 새 요청
+        worker.runAll();
+        delivery.runAll();
+
+        assertEquals(1, delivered.size());
+        assertEquals("r2", delivered.get(0));
+    }
+
+    @Test
+    public void testCancelSuppressesPendingResults() {
+        ManualExecutor worker = new ManualExecutor();
+        LatestWinsChannel<Integer, String> channel = new LatestWinsChannel<>(worker, Runnable::run,
+                (input, ticket) -> {
+                    throw new IllegalStateException("실행되면 안 됨");
+                }, recorder());
+
+        channel.submit(1);
+        channel.cancel();
+        worker.runAll();
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(0, channel.getExecutedCount());
+    }
+}
@@ -0,0 +1,82 @@
+package app.grapekim.smartlotto;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+import static org.junit.Assert.*;
+
+/**
+ * LottoTicketCodec 조합 순위 변환 테스트
+ */
+public class LottoTicketCodecTest {
+
+    @Test
+    public void testRankBoundaries() {
+        assertEquals(0, LottoTicketCodec.rank(1, 2, 3, 4, 5, 6));
+        assertEquals(LottoTicketCodec.TICKET_COUNT - 1, LottoTicketCodec.rank(40, 41, 42, 43, 44, 45));
+    }
+
+    @Test
+    public void testRankIsOrderIndependent() {
+        int sorted = LottoTicketCodec.rank(1, 7, 15, 23, 34, 41);
+        assertEquals(sorted, LottoTicketCodec.rank(41, 34, 23, 15, 7, 1));
+        assertEquals(sorted, LottoTicketCodec.rank(Arrays.asList(15, 1, 41, 7, 34, 23)));
+    }
+
+    @Test
+    public void testRankOfTextSupportsStoredFormats() {
+        int expected = LottoTicketCodec.rank(1, 7, 15, 23, 34, 41);
+        assertEquals(expected, LottoTicketCodec.rankOfText("1, 7, 15, 23, 34, 41"));
+        assertEquals(expected, LottoTicketCodec.rankOfText("1,7,15,23,34,41"));
+        assertEquals(expected, LottoTicketCodec.rankOfText("[1,7,15,23,34,41]"));
+    }
+
+    @Test
+    public void testInvalidTickets() {
+        assertEquals(LottoTicketCodec.INVALID_RANK, LottoTicketCodec.rankOfText(null));
+        assertEquals(LottoTicketCodec.INVALID_RANK, LottoTicketCodec.rankOfText("1,2,3,4,5"));
+        assertEquals(LottoTicketCodec.INVALID_RANK, LottoTicketCodec.rankOfText("1,2,3,4,5,46"));
+        assertEquals(LottoTicketCodec.INVALID_RANK, LottoTicketCodec.rankOfText("1,1,2,3,4,5"));
+        assertEquals(LottoTicketCodec.INVALID_RANK, LottoTicketCodec.rank(0, 2, 3, 4, 5, 6));
+        assertFalse(LottoTicketCodec.unrank(LottoTicketCodec.TICKET_COUNT, new int[6]));
+    }
+
+    @Test
+    public void testRoundTripAllTickets() {
+        BitSet seen = new BitSet(LottoTicketCodec.TICKET_COUNT);
+        int[] out = new int[6];
+        int count = 0;
+
+        for (int a = 1; a <= 40; a++)
+            for (int b = a + 1; b <= 41; b++)
+                for (int c = b + 1; c <= 42; c++)
+                    for (int d = c + 1; d <= 43; d++)
+                        for (int e = d + 1; e <= 44; e++)
+                            for (int f = e + 1; f <= 45; f++) {
+                                int rank = LottoTicketCodec.rank(a, b, c, d, e, f);
+                                assertTrue(rank >= 0 && rank < LottoTicketCodec.TICKET_COUNT);
+                                assertFalse("순위 중복: " + rank, seen.get(rank));
+                                seen.set(rank);
+
+                                assertTrue(LottoTicketCodec.unrank(rank, out));
+                                assertTrue(out[0] == a && out[1] == b && out[2] == c
+                                        && out[3] == d && out[4] == e && out[5] == f);
+                                count++;
+                            }
+
+        assertEquals(LottoTicketCodec.TICKET_COUNT, count);
+    }
+
+    @Test
+    public void testMaskAndMatchCount() {
+        int rank = LottoTicketCodec.rank(3, 11, 19, 27, 35, 43);
+        long mask = LottoTicketCodec.maskOfRank(rank);
+        assertEquals(LottoTicketCodec.toMask(3, 11, 19, 27, 35, 43), mask);
+        assertEquals(3, LottoTicketCodec.matchCount(mask, LottoTicketCodec.toMask(3, 11, 19, 1, 2, 4)));
+        assertEquals("3, 11, 19, 27, 35, 43", LottoTicketCodec.toCsv(rank));
+    }
+}
@@ -0,0 +1,128 @@
+package app.grapekim.smartlotto;
+
+import android.app.Application;
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import app.grapekim.smartlotto.data.local.room.AppDatabase;
+
+import static org.junit.Assert.*;
+
+/**
+ * 미리 채워진 DB(assets/database/lotto.db) 검증 테스트
+ *
+ * 생성 스크립트는 room_master_table을 만들지 않으므로, Room은 복사 직후 테이블/인덱스를
+ * 엔티티와 대조(마이그레이션 후와 같은 onValidateSchema)하고 통과해야 DB를 엽니다.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class PrepackagedDatabaseTest {
+
+    private static final String ASSET = "database/lotto.db";
+    private static final File SCRIPT = new File("../scripts/build_prepackaged_db.py");
+    private static final File SCHEMA_DIR = new File("schemas/app.grapekim.smartlotto.data.local.room.AppDatabase");
+    private static final File CSV = new File("src/main/assets/draw_kor.csv");
+
+    @Rule
+    public final TemporaryFolder tmp = new TemporaryFolder();
+
+    @Test
+    public void testBundledAssetOpensWithCreateFromAsset() throws IOException {
+        Context context = ApplicationProvider.getApplicationContext();
+        try (InputStream ignored = context.getAssets().open(ASSET)) {
+            // 빌드가 generate<Variant>PrepackagedDatabase로 에셋을 만들어야 함
+        }
+
+        AppDatabase db = Room.databaseBuilder(context, AppDatabase.class, "prepackaged_asset_test.db")
+                .createFromAsset(ASSET)
+                .allowMainThreadQueries()
+                .build();
+        try {
+            assertPrepackagedContents(db);
+        } finally {
+            db.close();
+        }
+    }
+
+    @Test
+    public void testScriptOutputPassesRoomValidation() throws IOException, InterruptedException {
+        File out = new File(tmp.newFolder("db"), "lotto.db");
+        Process process = new ProcessBuilder("python3", SCRIPT.getPath(),
+                "--schema-dir", SCHEMA_DIR.getPath(),
+                "--csv", CSV.getPath(),
+                "--out", out.getPath())
+                .redirectErrorStream(true)
+                .start();
+        String log = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals("생성 스크립트 실패:\n" + log, 0, process.waitFor());
+
+        AppDatabase db = Room.databaseBuilder(ApplicationProvider.getApplicationContext(),
+                        AppDatabase.class, "prepackaged_script_test.db")
+                .createFromFile(out)
+                .allowMainThreadQueries()
+                .build();
+        try {
+            assertPrepackagedContents(db);
+            assertEquals(csvRoundCount(), db.lottoDrawHistoryDao().getTotalCount());
+        } finally {
+            db.close();
+        }
+    }
+
+    // ==================== 헬퍼 ====================
+
+    /**
+     * 열기(스키마 검증 포함)에 성공하고 당첨번호/통계/번호 쌍이 채워져 있는지 확인
+     */
+    private static void assertPrepackagedContents(AppDatabase db) {
+        SupportSQLiteDatabase sqlite = db.getOpenHelper().getWritableDatabase();
+
+        assertEquals(9, sqlite.getVersion());
+        assertNotNull("Room이 검증 후 identity hash를 기록해야 함",
+                queryString(sqlite, "SELECT identity_hash FROM room_master_table WHERE id = 42"));
+
+        Integer latest = db.lottoDrawHistoryDao().getLatestDrawNumber();
+        assertNotNull(latest);
+        assertTrue(latest > 1000);
+        assertEquals(45, queryInt(sqlite, "SELECT COUNT(*) FROM number_statistics"));
+        assertTrue(queryInt(sqlite, "SELECT COUNT(*) FROM number_pairs") > 900);
+        assertEquals(0, queryInt(sqlite, "SELECT COUNT(*) FROM lotto_draw_history WHERE ticket_rank < 0"));
+    }
+
+    private static int csvRoundCount() throws IOException {
+        // 헤더 제외, 빈 줄 제외
+        return (int) Files.readAllLines(CSV.toPath(), StandardCharsets.UTF_8).stream()
+                .skip(1)
+                .filter(line -> !line.trim().isEmpty())
+                .count();
+    }
+
+    private static int queryInt(SupportSQLiteDatabase db, String sql) {
+        try (Cursor c = db.query(sql)) {
+            return c.moveToFirst() ? c.getInt(0) : -1;
+        }
+    }
+
+    private static String queryString(SupportSQLiteDatabase db, String sql) {
+        try (Cursor c = db.query(sql)) {
+            return c.moveToFirst() ? c.getString(0) : null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package app.grapekim.smartlotto;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import app.grapekim.smartlotto.data.scheduler.PublishProbePlanner;
+
+import static org.junit.Assert.*;
+
+/**
+ * PublishProbePlanner 토요일 발표 확인 시각 계획 테스트
+ */
+public class PublishProbePlannerTest {
+
+    @Test
+    public void testDefaultWindowWithoutHistory() {
+        PublishProbePlanner planner = new PublishProbePlanner(null);
+        assertEquals(42, planner.firstProbeOffset());
+        assertEquals(55, planner.getWindowEnd());
+    }
+
+    @Test
+    public void testDenseInsideWindowThenExponentialBackoff() {
+        PublishProbePlanner planner = new PublishProbePlanner(null);
+        int offset = planner.firstProbeOffset();
+        int misses = 0;
+        StringBuilder schedule = new StringBuilder();
+        while (offset != PublishProbePlanner.STOP) {
+            schedule.append(offset).append(' ');
+            misses++;
+            offset = planner.nextProbeOffset(offset, misses);
+        }
+
+        assertEquals("42 44 46 48 50 52 54 55 59 67 83 115 175 235 ", schedule.toString());
+    }
+
+    @Test
+    public void testWindowFollowsObservedHistory() {
+        PublishProbePlanner planner = new PublishProbePlanner(Arrays.asList(47, 49, 48));
+        assertEquals(47, planner.firstProbeOffset());
+        assertEquals(49, planner.getWindowEnd());
+        assertEquals(49, planner.nextProbeOffset(47, 1));
+        assertEquals(53, planner.nextProbeOffset(49, 2));
+    }
+
+    @Test
+    public void testFirstProbeHitPullsWindowEarlier() {
+        PublishProbePlanner planner = new PublishProbePlanner(Arrays.asList(47, 48));
+        List<Integer> history = planner.record(47, true);
+        assertEquals(Integer.valueOf(44), history.get(history.size() - 1));
+        assertEquals(44, planner.firstProbeOffset());
+    }
+
+    @Test
+    public void testHistoryIsBoundedAndSanitized() {
+        PublishProbePlanner planner = new PublishProbePlanner(Arrays.asList(-5, 10, 500, 50));
+        assertEquals(Arrays.asList(50), planner.getHistory());
+
+        for (int i = 0; i < 20; i++) planner.record(60 + i, false);
+        assertEquals(8, planner.getHistory().size());
+        assertEquals(72, planner.firstProbeOffset());
+    }
+}
@@ -0,0 +1,82 @@
+package app.grapekim.smartlotto;
+
+import org.junit.Test;
+
+import app.grapekim.smartlotto.data.remote.dto.LottoDrawDto;
+import app.grapekim.smartlotto.util.RoundCacheSnapshot;
+
+import static org.junit.Assert.*;
+
+/**
+ * RoundCacheSnapshot 갱신 규칙/저장 형식 테스트
+ */
+public class RoundCacheSnapshotTest {
+
+    private static LottoDrawDto draw(int round) {
+        LottoDrawDto dto = new LottoDrawDto();
+        dto.returnValue = "success";
+        dto.drwNo = round;
+        dto.date = "2025-01-0" + (round % 9 + 1);
+        dto.n1 = 1;
+        dto.n2 = 2;
+        dto.n3 = 3;
+        dto.n4 = 4;
+        dto.n5 = 5;
+        dto.n6 = 45;
+        dto.bonus = round % 40 + 6;
+        return dto;
+    }
+
+    @Test
+    public void testEncodeDecodeRoundTrip() {
+        RoundCacheSnapshot snapshot = RoundCacheSnapshot.EMPTY.withLatest(draw(1190), 1000L);
+
+        RoundCacheSnapshot decoded = RoundCacheSnapshot.decode(snapshot.encode());
+
+        assertNotNull(decoded);
+        assertEquals(1190, decoded.latestRound);
+        assertEquals(1000L, decoded.fetchedAt);
+        assertSame(RoundCacheSnapshot.EMPTY, RoundCacheSnapshot.decode(RoundCacheSnapshot.EMPTY.encode()));
+    }
+
+    @Test
+    public void testCorruptDataDecodesToNull() {
+        byte[] encoded = RoundCacheSnapshot.EMPTY.withLatest(draw(1190), 1000L).encode();
+        byte[] truncated = new byte[encoded.length - 3];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        byte[] trailing = new byte[encoded.length + 1];
+        System.arraycopy(encoded, 0, trailing, 0, encoded.length);
+        byte[] oldFormat = encoded.clone();
+        oldFormat[0] = 1;   // 당첨번호 목록을 담던 이전 형식
+
+        assertNull(RoundCacheSnapshot.decode(truncated));
+        assertNull(RoundCacheSnapshot.decode(trailing));
+        assertNull(RoundCacheSnapshot.decode(oldFormat));
+        assertNull(RoundCacheSnapshot.decode(new byte[0]));
+    }
+
+    @Test
+    public void testLatestNeverGoesBackwards() {
+        RoundCacheSnapshot snapshot = RoundCacheSnapshot.EMPTY;
+        for (int round = 1180; round <= 1190; round++) {
+            snapshot = snapshot.withLatest(draw(round), round);
+        }
+        snapshot = snapshot.withLatest(draw(1185), 5000L);   // 늦게 도착한 이전 결과
+        assertEquals(1190, snapshot.latestRound);
+        assertEquals(5000L, snapshot.fetchedAt);             // 확인 시각은 갱신
+
+        assertSame(snapshot, snapshot.withLatest(new LottoDrawDto(), 6000L));   // 회차 없는 응답 무시
+    }
+
+    @Test
+    public void testStaleness() {
+        long ttl = 1000L;
+        RoundCacheSnapshot fresh = RoundCacheSnapshot.ofRound(1190, 10_000L);
+
+        assertTrue(RoundCacheSnapshot.EMPTY.isStale(10_000L, ttl));
+        assertFalse(fresh.isStale(10_500L, ttl));
+        assertTrue(fresh.isStale(11_001L, ttl));
+        assertTrue(fresh.isStale(9_000L, ttl));   // 시계가 거꾸로 간 경우
+        assertSame(RoundCacheSnapshot.EMPTY, RoundCacheSnapshot.ofRound(-1, 0L));
+    }
+}
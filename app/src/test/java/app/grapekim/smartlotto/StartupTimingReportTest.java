@@ -0,0 +1,67 @@
+package app.grapekim.smartlotto;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import app.grapekim.smartlotto.util.StartupTimingReport;
+import app.grapekim.smartlotto.util.StartupTimingReport.Launch;
+import app.grapekim.smartlotto.util.StartupTimingReport.Phase;
+
+import static org.junit.Assert.*;
+
+/**
+ * StartupTimingReport 시작 시간 기록 형식/백분위수 테스트
+ */
+public class StartupTimingReportTest {
+
+    @Test
+    public void testEncodeDecodeRoundTrip() {
+        Launch launch = new Launch(1_700_000_000_000L, new long[]{0, 120, 480, 510, 900, -1});
+        Launch decoded = StartupTimingReport.decode(StartupTimingReport.encode(launch));
+
+        assertNotNull(decoded);
+        assertEquals(launch.startedAt, decoded.startedAt);
+        assertEquals(480, decoded.get(Phase.FIRST_FRAME));
+        assertEquals(StartupTimingReport.MISSING, decoded.get(Phase.STATS_READY));
+    }
+
+    @Test
+    public void testDecodeToleratesOlderFormatAndCorruption() {
+        // 단계가 적게 저장된 기록은 나머지를 미기록으로 처리
+        Launch older = StartupTimingReport.decode("100;0,50");
+        assertNotNull(older);
+        assertEquals(50, older.get(Phase.APP_CREATE));
+        assertEquals(StartupTimingReport.MISSING, older.get(Phase.DATA_READY));
+
+        assertNull(StartupTimingReport.decode(null));
+        assertNull(StartupTimingReport.decode("broken"));
+        assertNull(StartupTimingReport.decode("100;0,x"));
+    }
+
+    @Test
+    public void testNearestRankPercentile() {
+        List<Long> values = Arrays.asList(10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L, 100L);
+        assertEquals(50, StartupTimingReport.percentile(values, 50));
+        assertEquals(90, StartupTimingReport.percentile(values, 90));
+        assertEquals(100, StartupTimingReport.percentile(values, 100));
+        assertEquals(10, StartupTimingReport.percentile(Collections.singletonList(10L), 90));
+        assertEquals(StartupTimingReport.MISSING, StartupTimingReport.percentile(Collections.emptyList(), 50));
+    }
+
+    @Test
+    public void testValuesSkipMissingPhases() {
+        List<Launch> launches = Arrays.asList(
+                new Launch(1, new long[]{0, 100, 700, 720, -1, -1}),
+                new Launch(2, new long[]{0, 80, 500, 510, 1500, 1600}));
+
+        assertEquals(Arrays.asList(500L, 700L), StartupTimingReport.valuesOf(launches, Phase.FIRST_FRAME));
+        assertEquals(Collections.singletonList(1500L), StartupTimingReport.valuesOf(launches, Phase.DATA_READY));
+
+        String csv = StartupTimingReport.toCsv(launches);
+        assertTrue(csv.startsWith("started_at,process_start_ms,app_create_ms,first_frame_ms"));
+        assertTrue(csv.contains("\n1,0,100,700,720,,\n"));
+    }
+}
@@ -0,0 +1,186 @@
+package app.grapekim.smartlotto;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import app.grapekim.smartlotto.data.service.TicketSweepEngine;
+import app.grapekim.smartlotto.util.LottoTicketCodec;
+
+import static org.junit.Assert.*;
+
+/**
+ * TicketSweepEngine 과거 회차 일괄 판정 테스트
+ *
+ * HashSet으로 번호를 비교하는 단순 채점기 및 LottoTicketCodec.prizeRank와 결과를 비교합니다.
+ */
+public class TicketSweepEngineTest {
+
+    private static final int LATEST_ROUND = 1200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testMatchesNaiveGrader() throws InterruptedException {
+        Random random = new Random(42L);
+        long[] winning = new long[LATEST_ROUND + 1];
+        int[] bonus = new int[LATEST_ROUND + 1];
+        fillHistory(random, winning, bonus);
+        winning[500] = 0L;  // 데이터 없는 회차는 건너뜀
+
+        List<Long> tickets = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) tickets.add(randomTicket(random));
+        // 모든 등수가 나오도록 특정 회차 기준으로 만든 게임 추가
+        for (int round = 1; round <= 20; round++) {
+            long w = winning[round];
+            long b = LottoTicketCodec.bit(bonus[round]);
+            tickets.add(w);                                             // 1등
+            tickets.add(dropLowest(w) | b);                             // 2등 (5개 + 보너스)
+            tickets.add(dropLowest(w) | outside(random, w | b));        // 3등
+            tickets.add(keep(w, 4) | outside(random, w | b, 2));        // 4등
+            tickets.add(keep(w, 3) | outside(random, w | b, 3));        // 5등
+        }
+        tickets.add(LottoTicketCodec.toMask(1, 2, 3, 4, 5));            // 유효하지 않은 게임
+
+        long[] masks = new long[tickets.size()];
+        for (int i = 0; i < masks.length; i++) masks[i] = tickets.get(i);
+
+        TicketSweepEngine engine = new TicketSweepEngine(winning, bonus);
+        assertEquals(LATEST_ROUND - 1, engine.getRoundCount());
+
+        TicketSweepEngine.SweepResult parallel = engine.sweep(masks, executor);
+        TicketSweepEngine.SweepResult serial = engine.sweep(masks, null);
+        assertEquals(LATEST_ROUND - 1, parallel.roundCount);
+        assertNull(parallel.tickets.get(masks.length - 1));
+
+        int[] expectedTotals = new int[6];
+        for (int t = 0; t < masks.length - 1; t++) {
+            Set<Integer> mine = toSet(masks[t]);
+            int[] rankCounts = new int[6];
+            List<Integer> prizeRounds = new ArrayList<>();
+            List<Integer> prizeRanks = new ArrayList<>();
+
+            for (int round = 1; round <= LATEST_ROUND; round++) {
+                if (winning[round] == 0L) continue;
+                int rank = naiveRank(mine, toSet(winning[round]), bonus[round]);
+                assertEquals(rank, LottoTicketCodec.prizeRank(masks[t], winning[round], bonus[round]));
+                rankCounts[rank]++;
+                if (rank > 0) {
+                    prizeRounds.add(round);
+                    prizeRanks.add(rank);
+                }
+            }
+
+            TicketSweepEngine.TicketResult result = parallel.tickets.get(t);
+            assertEquals(masks[t], result.ticketMask);
+            for (int rank = 0; rank <= 5; rank++) {
+                assertEquals("게임 " + t + ", " + rank + "등", rankCounts[rank], result.getRankCount(rank));
+                expectedTotals[rank] += rankCounts[rank];
+            }
+            assertArrayEquals(toArray(prizeRounds), result.getPrizeRounds());
+            assertArrayEquals(toArray(prizeRanks), result.getPrizeRanks());
+            assertArrayEquals(result.getPrizeRounds(), serial.tickets.get(t).getPrizeRounds());
+        }
+
+        for (int rank = 0; rank <= 5; rank++) {
+            assertEquals(expectedTotals[rank], parallel.getTotalRankCount(rank));
+            assertTrue(rank + "등 사례 없음", expectedTotals[rank] > 0);
+        }
+        assertEquals(1, parallel.getBestRank());
+    }
+
+    @Test
+    public void testTenThousandTicketsWellUnderOneSecond() throws InterruptedException {
+        Random random = new Random(7L);
+        long[] winning = new long[LATEST_ROUND + 1];
+        int[] bonus = new int[LATEST_ROUND + 1];
+        fillHistory(random, winning, bonus);
+
+        long[] masks = new long[10_000];
+        for (int i = 0; i < masks.length; i++) masks[i] = randomTicket(random);
+
+        TicketSweepEngine engine = new TicketSweepEngine(winning, bonus);
+        engine.sweep(masks, executor);  // JIT 예열
+
+        long start = System.nanoTime();
+        TicketSweepEngine.SweepResult result = engine.sweep(masks, executor);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        assertEquals(masks.length, result.tickets.size());
+        assertTrue("10,000게임 x 1,200회차 판정 " + elapsedMs + "ms", elapsedMs < 1000L);
+    }
+
+    // ==================== 헬퍼 ====================
+
+    /** HashSet 기반 단순 채점 (기존 HistoryFragment 방식) */
+    private static int naiveRank(Set<Integer> mine, Set<Integer> official, int bonusNumber) {
+        int match = 0;
+        for (Integer n : mine) if (official.contains(n)) match++;
+        if (match == 6) return 1;
+        if (match == 5 && mine.contains(bonusNumber)) return 2;
+        if (match == 5) return 3;
+        if (match == 4) return 4;
+        if (match == 3) return 5;
+        return 0;
+    }
+
+    private static void fillHistory(Random random, long[] winning, int[] bonus) {
+        for (int round = 1; round < winning.length; round++) {
+            winning[round] = randomTicket(random);
+            bonus[round] = Long.numberOfTrailingZeros(outside(random, winning[round]));
+        }
+    }
+
+    private static long randomTicket(Random random) {
+        return outside(random, 0L, 6);
+    }
+
+    private static long outside(Random random, long exclude) {
+        return outside(random, exclude, 1);
+    }
+
+    /** exclude에 없는 번호 count개 마스크 */
+    private static long outside(Random random, long exclude, int count) {
+        long mask = 0L;
+        while (Long.bitCount(mask) < count) {
+            long b = LottoTicketCodec.bit(random.nextInt(45) + 1);
+            if ((exclude & b) == 0L) mask |= b;
+        }
+        return mask;
+    }
+
+    private static long dropLowest(long mask) {
+        return mask & (mask - 1);
+    }
+
+    private static long keep(long mask, int count) {
+        while (Long.bitCount(mask) > count) mask = dropLowest(mask);
+        return mask;
+    }
+
+    private static Set<Integer> toSet(long mask) {
+        Set<Integer> set = new HashSet<>();
+        for (long rest = mask; rest != 0L; rest &= rest - 1) {
+            set.add(Long.numberOfTrailingZeros(rest));
+        }
+        return set;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) array[i] = values.get(i);
+        return array;
+    }
+}
@@ -0,0 +1,111 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+
+import static org.junit.Assert.*;
+
+/**
+ * DrawFeatureTimeline 증분 스냅샷 테스트
+ *
+ * 회차 k 스냅샷이 [0, k) 회차만 다시 세는 단순 계산과 일치하는지 확인합니다.
+ */
+public class DrawFeatureTimelineTest {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void testSnapshotsMatchBruteForceRecount() {
+        List<LottoDrawHistoryEntity> draws = SyntheticHistory.random(80, 42L);
+        // 회차 번호 건너뜀(소외도 계산용) + 입력 순서 무관 확인
+        for (int i = 0; i < draws.size(); i++) {
+            draws.get(i).drawNumber = i * 2 + (i % 3 == 0 ? 1 : 0) + 1;
+        }
+        List<LottoDrawHistoryEntity> shuffled = new ArrayList<>(draws);
+        Collections.shuffle(shuffled, new Random(7L));
+
+        DrawFeatureTimeline timeline = DrawFeatureTimeline.build(shuffled);
+        assertEquals(draws.size(), timeline.getRoundCount());
+
+        for (int k = 0; k < draws.size(); k++) {
+            assertEquals(draws.get(k).drawNumber, timeline.getDrawNumber(k));
+            assertEquals(draws.get(k).getWinningMask(), timeline.getWinningMask(k));
+            assertEquals(draws.get(k).bonusNumber, timeline.getBonusNumber(k));
+            assertSnapshot(draws, timeline, k);
+            assertTopPairs(draws, timeline, k);
+        }
+    }
+
+    @Test
+    public void testInvalidDrawsAreSkipped() {
+        List<LottoDrawHistoryEntity> draws = SyntheticHistory.random(5, 1L);
+        draws.add(new LottoDrawHistoryEntity(6, "2025-01-01", 1, 2, 3, 4, 5, 5, 7));  // 중복 번호
+        draws.add(null);
+
+        DrawFeatureTimeline timeline = DrawFeatureTimeline.build(draws);
+
+        assertEquals(5, timeline.getRoundCount());
+        assertEquals(-1, timeline.indexOf(6));
+        assertEquals(4, timeline.indexOf(5));
+    }
+
+    // ==================== 단순 재계산 ====================
+
+    private static void assertSnapshot(List<LottoDrawHistoryEntity> draws, DrawFeatureTimeline timeline, int k) {
+        int latest = (k > 0) ? draws.get(k - 1).drawNumber : 0;
+        for (int n = 1; n <= 45; n++) {
+            int count = 0;
+            int lastDraw = 0;
+            int windowCount = 0;
+            for (int j = 0; j < k; j++) {
+                if (draws.get(j).containsNumber(n)) {
+                    count++;
+                    lastDraw = draws.get(j).drawNumber;
+                    if (j >= k - DrawFeatureTimeline.TREND_WINDOW) windowCount++;
+                }
+            }
+
+            String at = "회차 " + k + ", 번호 " + n;
+            assertEquals(at, count, timeline.getAppearanceCount(k, n));
+            assertEquals(at, k == 0 ? 0.0 : count * 100.0 / k, timeline.getPopularityScore(k, n), EPS);
+            assertEquals(at, Math.max(0, (latest - lastDraw) * 2.0), timeline.getNeglectScore(k, n), EPS);
+            assertEquals(at, k < DrawFeatureTimeline.TREND_WINDOW
+                            ? 50.0 : windowCount * 100.0 / DrawFeatureTimeline.TREND_WINDOW,
+                    timeline.getTrendScore(k, n), EPS);
+        }
+    }
+
+    private static void assertTopPairs(List<LottoDrawHistoryEntity> draws, DrawFeatureTimeline timeline, int k) {
+        // 모든 쌍을 세고 (횟수 내림차순, 낮은 번호 쌍 우선) 정렬
+        List<int[]> pairs = new ArrayList<>();
+        for (int a = 1; a <= 45; a++) {
+            for (int b = a + 1; b <= 45; b++) {
+                int count = 0;
+                for (int j = 0; j < k; j++) {
+                    if (draws.get(j).containsNumber(a) && draws.get(j).containsNumber(b)) count++;
+                }
+                if (count > 0) pairs.add(new int[]{a, b, count});
+            }
+        }
+        Collections.sort(pairs, (x, y) -> x[2] != y[2] ? Integer.compare(y[2], x[2])
+                : x[0] != y[0] ? Integer.compare(x[0], y[0]) : Integer.compare(x[1], y[1]));
+
+        int expectedSize = Math.min(DrawFeatureTimeline.TOP_PAIR_COUNT, pairs.size());
+        assertEquals("회차 " + k + " 상위 쌍 개수", expectedSize, timeline.topPairSizes[k]);
+
+        int base = k * DrawFeatureTimeline.TOP_PAIR_COUNT;
+        for (int i = 0; i < expectedSize; i++) {
+            int[] pair = pairs.get(i);
+            String at = "회차 " + k + ", 상위 쌍 " + i;
+            assertEquals(at, pair[0], timeline.topPairFirst[base + i]);
+            assertEquals(at, pair[1], timeline.topPairSecond[base + i]);
+            assertEquals(at, pair[2] * 100.0 / k, timeline.topPairScores[base + i], EPS);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+
+import static org.junit.Assert.*;
+
+/**
+ * StrategyScorer 미래 데이터 누수 방지 테스트
+ *
+ * 앞 K회차가 같고 이후가 다른 두 이력에서, 회차 k ≤ K의 게임은
+ * 같은 시드로 생성하면 항상 같아야 합니다 (회차 k 이후 당첨번호를 읽지 않음).
+ */
+public class StrategyScorerTest {
+
+    private static final int SHARED_ROUNDS = 40;
+
+    private static final List<List<String>> MIXES = Arrays.asList(
+            Arrays.asList("인기번호", "소외번호", "트렌드", "페어분석"),
+            Arrays.asList("홀짝균형", "구간분산", "행운번호", "대중기피", "끝자리다양성", "연속방지"),
+            Arrays.asList("순수통계", "순수고빈도", "순수소외번호", "순수최근추세"),
+            Arrays.asList("순수고가중치", "순수균형가중치", "순수주기성", "순수상관관계", "순수회귀분석", "시각패턴방지"));
+
+    @Test
+    public void testRoundKNeverReadsDrawKOrLater() {
+        List<LottoDrawHistoryEntity> shared = SyntheticHistory.random(SHARED_ROUNDS, 11L);
+        DrawFeatureTimeline a = DrawFeatureTimeline.build(withTail(shared, SyntheticHistory.random(30, 100L)));
+        DrawFeatureTimeline b = DrawFeatureTimeline.build(withTail(shared, SyntheticHistory.biased(30, 200L)));
+        assertNotEquals(a.getWinningMask(SHARED_ROUNDS), b.getWinningMask(SHARED_ROUNDS));
+
+        StrategyScorer scorerA = new StrategyScorer(a);
+        StrategyScorer scorerB = new StrategyScorer(b);
+        for (List<String> mix : MIXES) {
+            int[] codes = StrategyScorer.compile(mix);
+            double[] weights = new double[codes.length];
+            Arrays.fill(weights, 1.0);
+
+            // 회차 SHARED_ROUNDS도 포함: 그 회차 자체의 당첨번호는 서로 다름
+            for (int k = 0; k <= SHARED_ROUNDS; k++) {
+                Random randomA = new Random(k * 31L);
+                Random randomB = new Random(k * 31L);
+                for (int t = 0; t < 20; t++) {
+                    assertEquals(mix + " 회차 " + k,
+                            scorerA.generate(k, codes, weights, randomA),
+                            scorerB.generate(k, codes, weights, randomB));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratedTicketsHaveSixNumbers() {
+        DrawFeatureTimeline timeline = DrawFeatureTimeline.build(SyntheticHistory.random(30, 5L));
+        StrategyScorer scorer = new StrategyScorer(timeline);
+        Random random = new Random(1L);
+        for (List<String> mix : MIXES) {
+            int[] codes = StrategyScorer.compile(mix);
+            double[] weights = new double[codes.length];
+            Arrays.fill(weights, 1.0);
+            for (int k = 0; k < timeline.getRoundCount(); k++) {
+                long ticket = scorer.generate(k, codes, weights, random);
+                assertEquals(6, Long.bitCount(ticket));
+                assertEquals(0L, ticket & ~((1L << 46) - 2));  // 1~45만 사용
+            }
+        }
+    }
+
+    /**
+     * 공통 앞부분 뒤에 회차 번호를 이어 붙인 이력
+     */
+    private static List<LottoDrawHistoryEntity> withTail(List<LottoDrawHistoryEntity> shared,
+                                                         List<LottoDrawHistoryEntity> tail) {
+        List<LottoDrawHistoryEntity> draws = new ArrayList<>(shared);
+        for (LottoDrawHistoryEntity draw : tail) {
+            draw.drawNumber += shared.size();
+            draws.add(draw);
+        }
+        return draws;
+    }
+}
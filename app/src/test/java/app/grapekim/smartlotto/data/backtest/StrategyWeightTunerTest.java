@@ -0,0 +1,77 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * StrategyWeightTuner 재현성/최적 조합 테스트
+ *
+ * 1~6번이 자주 나오는 합성 이력에서는 인기번호 단독이 최적이고
+ * 소외번호(최근에 나온 번호를 피함)를 섞을수록 나빠집니다.
+ */
+public class StrategyWeightTunerTest {
+
+    private static final List<String> STRATEGIES = Arrays.asList("인기번호", "소외번호");
+    private static final int REPLAY_ROUNDS = 40;
+    private static final int TICKETS_PER_ROUND = 5;
+    private static final long SEED = 1234L;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTuningIsDeterministic() throws InterruptedException {
+        DrawFeatureTimeline timeline = DrawFeatureTimeline.build(SyntheticHistory.biased(80, 3L));
+
+        StrategyWeightTuner.TuningResult first = tune(timeline);
+        StrategyWeightTuner.TuningResult second = tune(timeline);
+
+        assertArrayEquals(first.weights, second.weights, 0.0);
+        assertEquals(first.score, second.score, 0.0);
+        assertEquals(first.baselineScore, second.baselineScore, 0.0);
+        assertEquals(first.evaluations, second.evaluations);
+    }
+
+    @Test
+    public void testTuningFindsBestMix() throws InterruptedException {
+        DrawFeatureTimeline timeline = DrawFeatureTimeline.build(SyntheticHistory.biased(80, 3L));
+        StrategyWeightTuner.TuningResult result = tune(timeline);
+
+        // 가중치 후보 전체를 같은 조건으로 직접 평가한 최고 점수
+        int warmup = timeline.getRoundCount() - REPLAY_ROUNDS;
+        int[] codes = StrategyScorer.compile(STRATEGIES);
+        StrategyBacktester backtester = new StrategyBacktester(timeline);
+        double best = Double.NEGATIVE_INFINITY;
+        for (double popular : StrategyWeightTuner.WEIGHT_LEVELS) {
+            for (double neglected : StrategyWeightTuner.WEIGHT_LEVELS) {
+                if (popular == 0.0 && neglected == 0.0) continue;
+                BacktestResult candidate = backtester.evaluate("grid", codes,
+                        new double[]{popular, neglected}, TICKETS_PER_ROUND, SEED, warmup,
+                        new StrategyScorer(timeline));
+                best = Math.max(best, candidate.getMeanMatched());
+            }
+        }
+
+        assertEquals(best, result.score, 0.0);
+        assertTrue(result.score > result.baselineScore);
+        assertArrayEquals(new double[]{1.0, 0.0}, result.weights, 0.0);
+        assertEquals(REPLAY_ROUNDS, result.replayRounds);
+        assertEquals(80, result.lastDrawNumber);
+    }
+
+    private StrategyWeightTuner.TuningResult tune(DrawFeatureTimeline timeline) throws InterruptedException {
+        return new StrategyWeightTuner(timeline).tune(STRATEGIES, StrategyWeightTuner.Objective.MEAN_MATCHED,
+                REPLAY_ROUNDS, TICKETS_PER_ROUND, StrategyWeightTuner.DEFAULT_MAX_PASSES, SEED, executor);
+    }
+}
@@ -0,0 +1,68 @@
+package app.grapekim.smartlotto.data.backtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+
+/**
+ * 백테스트 테스트용 합성 당첨번호 이력
+ */
+final class SyntheticHistory {
+
+    private SyntheticHistory() {}
+
+    /**
+     * 무작위 당첨번호 이력 (회차 번호는 1부터 순서대로)
+     */
+    static List<LottoDrawHistoryEntity> random(int rounds, long seed) {
+        Random random = new Random(seed);
+        List<LottoDrawHistoryEntity> draws = new ArrayList<>(rounds);
+        for (int round = 1; round <= rounds; round++) {
+            draws.add(draw(round, pick(random, 1, 45, 6, 0L)));
+        }
+        return draws;
+    }
+
+    /**
+     * 매 회차 1~6 중 4개 + 나머지 번호 2개가 나오는 편향된 이력 (인기번호 전략이 유리)
+     */
+    static List<LottoDrawHistoryEntity> biased(int rounds, long seed) {
+        Random random = new Random(seed);
+        List<LottoDrawHistoryEntity> draws = new ArrayList<>(rounds);
+        for (int round = 1; round <= rounds; round++) {
+            long hot = pick(random, 1, 6, 4, 0L);
+            draws.add(draw(round, pick(random, 7, 45, 2, hot)));
+        }
+        return draws;
+    }
+
+    /**
+     * 번호 마스크로 당첨 회차 생성 (보너스는 당첨번호가 아닌 가장 작은 번호)
+     */
+    static LottoDrawHistoryEntity draw(int round, long mask) {
+        int[] n = new int[6];
+        int i = 0;
+        for (long rest = mask; rest != 0L; rest &= rest - 1) {
+            n[i++] = Long.numberOfTrailingZeros(rest);
+        }
+        int bonus = Long.numberOfTrailingZeros(~mask & ~1L);
+        return new LottoDrawHistoryEntity(round, "2025-01-01", n[0], n[1], n[2], n[3], n[4], n[5], bonus);
+    }
+
+    /**
+     * [from, to] 범위에서 count개를 골라 base 마스크에 추가
+     */
+    private static long pick(Random random, int from, int to, int count, long base) {
+        List<Integer> pool = new ArrayList<>();
+        for (int n = from; n <= to; n++) pool.add(n);
+        Collections.shuffle(pool, random);
+        long mask = base;
+        for (int i = 0; i < count; i++) {
+            mask |= 1L << pool.get(i);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,149 @@
+package app.grapekim.smartlotto.data.local.room;
+
+import android.app.Application;
+import android.database.Cursor;
+
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import app.grapekim.smartlotto.data.local.room.dao.GeneratedPickDao;
+import app.grapekim.smartlotto.data.local.room.entity.GeneratedPickEntity;
+import app.grapekim.smartlotto.data.local.room.entity.LottoDrawHistoryEntity;
+import app.grapekim.smartlotto.data.repository.PickResultGrader;
+import app.grapekim.smartlotto.util.RoundUtils;
+
+import static org.junit.Assert.*;
+
+/**
+ * 일괄 채점 대상(getPendingResults) 회차 결정 테스트
+ *
+ * 저장 시 target_round가 채워진 게임과 버전 8 → 9 백필을 거친 기존 게임이
+ * PickResultGrader로 채점되는지 확인합니다.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class PendingResultsTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    /** 1203회 추첨일(2025-12-20 토) 오후 - 같은 날 추첨 대상 */
+    private static final long SAT_1203 = millis(2025, 12, 20, 15);
+    /** 추첨 다음날(일요일) - 1204회 대상 */
+    private static final long SUN_AFTER_1203 = millis(2025, 12, 21, 10);
+
+    private AppDatabase db;
+    private GeneratedPickDao dao;
+
+    @Before
+    public void setUp() {
+        db = Room.inMemoryDatabaseBuilder(ApplicationProvider.getApplicationContext(), AppDatabase.class)
+                .allowMainThreadQueries()
+                .build();
+        dao = db.generatedPickDao();
+        db.lottoDrawHistoryDao().insert(new LottoDrawHistoryEntity(1203, "2025-12-20", 3, 6, 18, 29, 35, 39, 24));
+        db.lottoDrawHistoryDao().insert(new LottoDrawHistoryEntity(1204, "2025-12-27", 1, 2, 3, 4, 5, 6, 7));
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void testRoundForTimestampMatchesDrawCalendar() {
+        assertEquals(1, RoundUtils.roundForTimestamp(millis(2002, 12, 7, 12)));
+        assertEquals(1203, RoundUtils.roundForTimestamp(SAT_1203));
+        assertEquals(1204, RoundUtils.roundForTimestamp(SUN_AFTER_1203));
+    }
+
+    @Test
+    public void testPickSavedWithTargetRoundIsGraded() {
+        // LottoRepositoryImpl.saveWithMethod와 같이 저장 시 대상 회차 기록
+        long id = insertPick("AUTO", "3, 6, 18, 29, 35, 1", SAT_1203,
+                RoundUtils.roundForTimestamp(SAT_1203), null);
+
+        List<GeneratedPickDao.PendingResultRow> pending = dao.getPendingResults(1204);
+        assertEquals(1, pending.size());
+        assertEquals(1203, pending.get(0).round);
+
+        assertEquals(1, new PickResultGrader(db).gradePending());
+        assertResult(id, 3, 5, 1203);
+        assertTrue(dao.getPendingResults(1204).isEmpty());
+    }
+
+    @Test
+    public void testMigrationBackfillsLegacyPicks() {
+        long legacyAuto = insertPick("AUTO", "1, 2, 3, 4, 5, 6", SUN_AFTER_1203, null, null);
+        long legacyManual = insertPick("MANUAL", "3, 6, 18, 40, 41, 42", SAT_1203, 0, null);
+        long qr = insertPick("QR", "1, 2, 3, 10, 11, 12", SUN_AFTER_1203, null, 1203);
+        long future = insertPick("AI", "7, 8, 9, 10, 11, 12", SAT_1203, 1300, null);
+
+        // 버전 8까지는 target_round 없는 게임이 일괄 채점에서 빠짐
+        assertEquals(1, dao.getPendingResults(1204).size());
+
+        SupportSQLiteDatabase sqlite = db.getOpenHelper().getWritableDatabase();
+        AppDatabase.MIGRATION_8_9.migrate(sqlite);
+
+        assertEquals(Integer.valueOf(1204), targetRound(legacyAuto));
+        assertEquals(Integer.valueOf(1203), targetRound(legacyManual));
+        assertNull("QR 파싱 회차가 있으면 그대로 둠", targetRound(qr));
+        assertEquals(Integer.valueOf(1300), targetRound(future));
+
+        assertEquals(3, dao.getPendingResults(1204).size());
+        assertEquals(3, new PickResultGrader(db).gradePending());
+        assertResult(legacyAuto, 1, 6, 1204);
+        assertResult(legacyManual, 5, 3, 1203);
+        assertResult(qr, -1, 1, 1203);
+        assertTrue(dao.getPendingResults(1204).isEmpty()); // 1300회는 미발표라 대상 아님
+        assertEquals(Integer.valueOf(1300), targetRound(future));
+    }
+
+    // ==================== 헬퍼 ====================
+
+    private long insertPick(String method, String csv, long createdAt,
+                            Integer targetRound, Integer parsedRound) {
+        GeneratedPickEntity e = new GeneratedPickEntity();
+        e.numbersCsv = csv;
+        e.createdAt = createdAt;
+        e.method = method;
+        e.title = method;
+        e.targetRound = targetRound;
+        e.parsedRound = parsedRound;
+        e.refreshTicketRank();
+        return dao.insert(e);
+    }
+
+    private Integer targetRound(long id) {
+        try (Cursor c = db.query("SELECT target_round FROM generated_picks WHERE id = ?", new Object[]{id})) {
+            assertTrue(c.moveToFirst());
+            return c.isNull(0) ? null : c.getInt(0);
+        }
+    }
+
+    private void assertResult(long id, int rank, int matchCount, int round) {
+        try (Cursor c = db.query("SELECT result_checked, result_rank, result_match_count, target_round " +
+                "FROM generated_picks WHERE id = ?", new Object[]{id})) {
+            assertTrue(c.moveToFirst());
+            assertEquals(1, c.getInt(0));
+            assertEquals(rank, c.getInt(1));
+            assertEquals(matchCount, c.getInt(2));
+            assertEquals(round, c.getInt(3));
+        }
+    }
+
+    private static long millis(int year, int month, int day, int hour) {
+        return LocalDateTime.of(year, month, day, hour, 0).atZone(SEOUL).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,200 @@
+package app.grapekim.smartlotto.data.local.room;
+
+import android.app.Application;
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * 마이그레이션된 DB의 쿼리 실행 계획 테스트
+ *
+ * 버전 7 DB(3 → 4에서 만든 ai_generation_log 인덱스 포함)를 실제 마이그레이션으로 최신 버전까지 올리고
+ * (Room 스키마 검증 통과), 목록/채점 경로의 DAO 쿼리가 기대한 인덱스를 쓰는지 EXPLAIN QUERY PLAN으로 확인합니다.
+ * SQL은 DAO의 @Query와 같은 문자열이며, :param은 ? 로 바꿔 NULL로 바인딩합니다.
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class QueryPlanTest {
+
+    private static final String DB_NAME = "query_plan_test.db";
+
+    /** 버전 7 → 8에서 추가된 인덱스 (버전 7 DB를 만들 때 제거) */
+    private static final List<String> V8_INDEXES = Arrays.asList(
+            "index_generated_picks_createdAt",
+            "index_generated_picks_favorite_createdAt",
+            "index_generated_picks_method_createdAt",
+            "index_generated_picks_source_type",
+            "index_generated_picks_qr_group_id_game_label",
+            "index_generated_picks_result_checked",
+            "index_ai_generation_log_created_at",
+            "index_ai_generation_log_is_saved_created_at",
+            "index_ai_generation_log_generation_method_created_at",
+            "index_ai_generation_log_quality_score_created_at",
+            "index_ai_generation_log_generated_numbers");
+
+    /** DAO 쿼리와 기대 인덱스 */
+    private static final String[][] QUERIES = {
+            // GeneratedPickDao - 이력 목록/일괄 채점/QR 그룹
+            {"GeneratedPickDao.pageAllDesc",
+                    "SELECT * FROM generated_picks ORDER BY createdAt DESC, id DESC",
+                    "index_generated_picks_createdAt"},
+            {"GeneratedPickDao.pageAllAsc",
+                    "SELECT * FROM generated_picks ORDER BY createdAt ASC, id ASC",
+                    "index_generated_picks_createdAt"},
+            {"GeneratedPickDao.pageFavoritesDesc",
+                    "SELECT * FROM generated_picks WHERE favorite = 1 ORDER BY createdAt DESC, id DESC",
+                    "index_generated_picks_favorite_createdAt"},
+            {"GeneratedPickDao.getFavoriteNumbersCsv",
+                    "SELECT numbersCsv FROM generated_picks WHERE favorite = 1 ORDER BY createdAt DESC, id DESC",
+                    "index_generated_picks_favorite_createdAt"},
+            {"GeneratedPickDao.getByMethod",
+                    "SELECT * FROM generated_picks WHERE method = ? ORDER BY createdAt DESC",
+                    "index_generated_picks_method_createdAt"},
+            {"GeneratedPickDao.pageQrGamesDesc",
+                    "SELECT * FROM generated_picks WHERE method = 'QR' OR source_type IN ('QR_STRUCTURED', 'QR_TEXT') " +
+                            "ORDER BY createdAt DESC, id DESC",
+                    "index_generated_picks_source_type"},
+            {"GeneratedPickDao.pageGroupedGamesDesc",
+                    "SELECT * FROM generated_picks WHERE qr_group_id IS NULL OR id IN (" +
+                            "SELECT MIN(id) FROM generated_picks WHERE qr_group_id IS NOT NULL GROUP BY qr_group_id) " +
+                            "ORDER BY createdAt DESC, id DESC",
+                    "index_generated_picks_qr_group_id_game_label"},
+            {"GeneratedPickDao.getPendingResults",
+                    "SELECT id, numbersCsv, ticket_rank AS ticketRank, COALESCE(parsed_round, target_round) AS round " +
+                            "FROM generated_picks WHERE result_checked = 0 " +
+                            "AND COALESCE(parsed_round, target_round) BETWEEN 1 AND ?",
+                    "index_generated_picks_result_checked"},
+            {"GeneratedPickDao.getByQrGroupId",
+                    "SELECT * FROM generated_picks WHERE qr_group_id = ? ORDER BY game_label ASC",
+                    "index_generated_picks_qr_group_id_game_label"},
+            {"GeneratedPickDao.getByTicketRank",
+                    "SELECT * FROM generated_picks WHERE ticket_rank = ? ORDER BY createdAt DESC",
+                    "index_generated_picks_ticket_rank"},
+
+            // AiGenerationLogDao - 생성 기록 화면/중복 확인
+            {"AiGenerationLogDao.getRecentLogs",
+                    "SELECT * FROM ai_generation_log ORDER BY created_at DESC LIMIT ?",
+                    "index_ai_generation_log_created_at"},
+            {"AiGenerationLogDao.getSavedLogs",
+                    "SELECT * FROM ai_generation_log WHERE is_saved = 1 ORDER BY created_at DESC",
+                    "index_ai_generation_log_is_saved_created_at"},
+            {"AiGenerationLogDao.getLogsByMethod",
+                    "SELECT * FROM ai_generation_log WHERE generation_method = ? ORDER BY created_at DESC LIMIT ?",
+                    "index_ai_generation_log_generation_method_created_at"},
+            {"AiGenerationLogDao.getLogsByQualityScore",
+                    "SELECT * FROM ai_generation_log WHERE quality_score >= ? ORDER BY quality_score DESC, created_at DESC",
+                    "index_ai_generation_log_quality_score_created_at"},
+            {"AiGenerationLogDao.checkDuplicateNumbers",
+                    "SELECT COUNT(*) FROM ai_generation_log WHERE generated_numbers = ?",
+                    "index_ai_generation_log_generated_numbers"},
+
+            // LottoDrawHistoryDao - 회차 조회
+            {"LottoDrawHistoryDao.getByDrawNumber",
+                    "SELECT * FROM lotto_draw_history WHERE draw_number = ?",
+                    "index_lotto_draw_history_draw_number"},
+            {"LottoDrawHistoryDao.getByDrawRange",
+                    "SELECT * FROM lotto_draw_history WHERE draw_number BETWEEN ? AND ? ORDER BY draw_number DESC",
+                    "index_lotto_draw_history_draw_number"},
+            {"LottoDrawHistoryDao.getRecent",
+                    "SELECT * FROM lotto_draw_history ORDER BY draw_number DESC LIMIT ?",
+                    "index_lotto_draw_history_draw_number"},
+    };
+
+    private static final Pattern FULL_SCAN = Pattern.compile("^SCAN (?:TABLE )?(\\w+)$");
+
+    private AppDatabase db;
+    private SupportSQLiteDatabase sqlite;
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        context.deleteDatabase(DB_NAME);
+
+        // 1. 현재 스키마로 만든 뒤 버전 7 상태로 되돌림 (테이블 구조는 7 이후 같음)
+        AppDatabase current = Room.databaseBuilder(context, AppDatabase.class, DB_NAME)
+                .allowMainThreadQueries()
+                .build();
+        SupportSQLiteDatabase v7 = current.getOpenHelper().getWritableDatabase();
+        for (String index : V8_INDEXES) {
+            v7.execSQL("DROP INDEX `" + index + "`");
+        }
+        v7.execSQL("CREATE INDEX `index_ai_generation_log_created_at` ON `ai_generation_log` (`created_at`)");
+        v7.execSQL("CREATE INDEX `index_ai_generation_log_is_saved` ON `ai_generation_log` (`is_saved`)");
+        v7.setVersion(7);
+        current.close();
+
+        // 2. 앱과 같은 마이그레이션으로 최신 버전까지 (파괴적 재생성 없이, 끝나면 Room이 스키마 검증)
+        db = Room.databaseBuilder(context, AppDatabase.class, DB_NAME)
+                .addMigrations(AppDatabase.MIGRATIONS)
+                .allowMainThreadQueries()
+                .build();
+        sqlite = db.getOpenHelper().getWritableDatabase();
+    }
+
+    @After
+    public void tearDown() {
+        db.close();
+    }
+
+    @Test
+    public void testMigrationReachedLatestSchema() {
+        assertEquals(9, sqlite.getVersion());
+        for (String index : V8_INDEXES) {
+            assertTrue("마이그레이션 후 인덱스 없음: " + index, indexExists(index));
+        }
+        assertFalse("(is_saved, created_at)으로 대체된 인덱스가 남음", indexExists("index_ai_generation_log_is_saved"));
+    }
+
+    @Test
+    public void testQueriesUseExpectedIndexes() {
+        List<String> failures = new ArrayList<>();
+        for (String[] query : QUERIES) {
+            List<String> plan = explain(query[1]);
+            if (!String.join("\n", plan).contains(query[2])) {
+                failures.add(query[0] + ": " + query[2] + " 사용 안 함 → " + plan);
+            }
+            for (String step : plan) {
+                Matcher m = FULL_SCAN.matcher(step);
+                if (m.matches()) failures.add(query[0] + ": 인덱스 없는 전체 스캔 → " + step);
+            }
+        }
+        assertTrue("실행 계획 문제:\n" + String.join("\n", failures), failures.isEmpty());
+    }
+
+    // ==================== 헬퍼 ====================
+
+    private List<String> explain(String sql) {
+        int params = sql.length() - sql.replace("?", "").length();
+        List<String> steps = new ArrayList<>();
+        try (Cursor c = sqlite.query("EXPLAIN QUERY PLAN " + sql, new Object[params])) {
+            int detail = c.getColumnIndexOrThrow("detail");
+            while (c.moveToNext()) steps.add(c.getString(detail));
+        }
+        return steps;
+    }
+
+    private boolean indexExists(String name) {
+        try (Cursor c = sqlite.query("SELECT 1 FROM sqlite_master WHERE type = 'index' AND name = ?",
+                new Object[]{name})) {
+            return c.moveToFirst();
+        }
+    }
+}
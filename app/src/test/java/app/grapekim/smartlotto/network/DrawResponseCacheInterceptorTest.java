@@ -0,0 +1,103 @@
+package app.grapekim.smartlotto.network;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+
+import static org.junit.Assert.*;
+
+/**
+ * 당첨번호 응답 캐시 정책 테스트 (서버가 gzip으로 압축한 응답 포함)
+ */
+public class DrawResponseCacheInterceptorTest {
+
+    private static final String PUBLISHED =
+            "{\"returnValue\":\"success\",\"drwNo\":1190,\"drwtNo1\":1,\"drwtNo6\":45}";
+    private static final String NOT_PUBLISHED = "{\"returnValue\":\"fail\"}";
+
+    @Rule
+    public final TemporaryFolder tmp = new TemporaryFolder();
+
+    private final MockWebServer server = new MockWebServer();
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws IOException {
+        server.start();
+        client = new OkHttpClient.Builder()
+                .cache(new Cache(tmp.newFolder("http_cache"), 1024 * 1024))
+                .addNetworkInterceptor(new SecureOkHttpClient.DrawResponseCacheInterceptor())
+                .build();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void testGzipPublishedDrawIsCached() throws IOException {
+        server.enqueue(gzipResponse(PUBLISHED));
+
+        assertEquals(PUBLISHED, fetch(1190, false));
+        assertEquals(PUBLISHED, fetch(1190, true));   // 두 번째는 디스크 캐시에서
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void testGzipUnpublishedDrawIsNotCached() throws IOException {
+        server.enqueue(gzipResponse(NOT_PUBLISHED));
+        server.enqueue(gzipResponse(PUBLISHED));
+
+        assertEquals(NOT_PUBLISHED, fetch(1191, false));
+        assertEquals(PUBLISHED, fetch(1191, false));  // 발표 후 바로 다시 조회됨
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void testPlainPublishedDrawIsCached() throws IOException {
+        server.enqueue(new MockResponse().setBody(PUBLISHED));
+
+        assertEquals(PUBLISHED, fetch(1190, false));
+        assertEquals(PUBLISHED, fetch(1190, true));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    // ==================== 헬퍼 ====================
+
+    private String fetch(int round, boolean expectCached) throws IOException {
+        Request request = new Request.Builder()
+                .url(server.url("/common.do?method=getLottoNumber&drwNo=" + round))
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            assertEquals(expectCached, response.networkResponse() == null);
+            return response.body().string();
+        }
+    }
+
+    private static MockResponse gzipResponse(String json) throws IOException {
+        Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+            sink.writeUtf8(json);
+        }
+        return new MockResponse()
+                .addHeader("Content-Type", "application/json;charset=UTF-8")
+                .addHeader("Content-Encoding", "gzip")
+                .setBody(compressed);
+    }
+}
@@ -0,0 +1,40 @@
+package app.grapekim.smartlotto.network;
+
+import android.app.Application;
+
+import androidx.test.core.app.ApplicationProvider;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import okhttp3.OkHttpClient;
+
+import static org.junit.Assert.*;
+
+/**
+ * 공유 클라이언트 초기화 순서 테스트
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34, application = Application.class)
+public class SecureOkHttpClientTest {
+
+    @Test
+    public void testInitAttachesCacheToClientCreatedEarlier() {
+        // init 전에 다른 경로가 먼저 공유 클라이언트를 만든 경우
+        OkHttpClient early = SecureOkHttpClient.getInstance();
+
+        SecureOkHttpClient.init(ApplicationProvider.getApplicationContext());
+        OkHttpClient initialized = SecureOkHttpClient.getInstance();
+
+        assertNotNull("init 후에는 디스크 캐시가 있어야 함", initialized.cache());
+        assertSame(early.connectionPool(), initialized.connectionPool());
+        assertSame(early.dispatcher(), initialized.dispatcher());
+        assertEquals(early.certificatePinner(), initialized.certificatePinner());
+
+        // 두 번째 init은 그대로 유지
+        SecureOkHttpClient.init(ApplicationProvider.getApplicationContext());
+        assertSame(initialized, SecureOkHttpClient.getInstance());
+    }
+}
@@ -0,0 +1,195 @@
+#!/usr/bin/env python3
+"""
+미리 채워진 Room DB(assets/database/lotto.db) 생성 스크립트
+
+assets/draw_kor.csv 를 읽어 lotto_draw_history 를 채우고,
+number_statistics / number_pairs 를 앱(LottoRepositoryImpl)과 같은 방식으로 미리 계산합니다.
+테이블 구조는 Room이 내보낸 스키마 JSON(app/schemas)을 그대로 사용하므로
+엔티티가 바뀌어도 스크립트를 고칠 필요가 없습니다.
+
+Gradle의 generate<Variant>PrepackagedDatabase 작업이 빌드마다 호출하며, 직접 실행도 가능합니다:
+    python scripts/build_prepackaged_db.py \
+        --schema-dir app/schemas/app.grapekim.smartlotto.data.local.room.AppDatabase \
+        --csv app/src/main/assets/draw_kor.csv \
+        --out app/build/generated/prepackagedDb/database/lotto.db
+"""
+import argparse
+import csv
+import json
+import os
+import sqlite3
+import sys
+import time
+
+MAX_NUMBER = 45
+PICK_COUNT = 6
+INVALID_RANK = -1
+
+# BINOMIAL[n][k] = C(n, k) (LottoTicketCodec 과 같은 표)
+BINOMIAL = [[0] * (PICK_COUNT + 1) for _ in range(MAX_NUMBER + 1)]
+for _n in range(MAX_NUMBER + 1):
+    BINOMIAL[_n][0] = 1
+    for _k in range(1, PICK_COUNT + 1):
+        BINOMIAL[_n][_k] = 0 if _n == 0 else BINOMIAL[_n - 1][_k - 1] + BINOMIAL[_n - 1][_k]
+
+
+def ticket_rank(numbers):
+    """LottoTicketCodec.rank 와 같은 조합 순위 (유효하지 않으면 -1)"""
+    unique = sorted(set(numbers))
+    if len(unique) != PICK_COUNT or unique[0] < 1 or unique[-1] > MAX_NUMBER:
+        return INVALID_RANK
+    return sum(BINOMIAL[number - 1][k] for k, number in enumerate(unique, start=1))
+
+
+def avoidance_score(number):
+    """LottoRepositoryImpl.calculateAvoidanceScore 와 같은 기본 기피도"""
+    if number in (4, 13, 14, 24, 34, 44):
+        return 80.0
+    if number % 10 == 4 or number % 10 == 0:
+        return 60.0
+    if number in (7, 3, 8, 1, 9):
+        return 20.0
+    return 50.0
+
+
+# ==================== 입력 ====================
+
+def load_schema(schema_dir):
+    """스키마 폴더에서 가장 높은 버전의 JSON"""
+    versions = [int(name[:-5]) for name in os.listdir(schema_dir)
+                if name.endswith(".json") and name[:-5].isdigit()]
+    if not versions:
+        raise FileNotFoundError(f"스키마 JSON 없음: {schema_dir}")
+    with open(os.path.join(schema_dir, f"{max(versions)}.json"), encoding="utf-8") as f:
+        return json.load(f)["database"]
+
+
+def load_draws(csv_path):
+    """CSV 당첨번호 (LottoDataLoader.parseCsvLine 과 같은 검증, 회차 오름차순)"""
+    draws = {}
+    with open(csv_path, encoding="utf-8") as f:
+        for row in csv.DictReader(f):
+            try:
+                draw_no = int(row["drawNo"])
+                date = row["date"].strip()
+                numbers = [int(row[f"n{i}"]) for i in range(1, 7)]
+                bonus = int(row["bonus"])
+            except (KeyError, TypeError, ValueError):
+                continue
+            if not date or any(n < 1 or n > MAX_NUMBER for n in numbers + [bonus]):
+                continue
+            if len(set(numbers)) != PICK_COUNT:
+                continue
+            draws[draw_no] = (date, numbers, bonus)
+    return [(no,) + draws[no] for no in sorted(draws)]
+
+
+# ==================== 생성 ====================
+
+def create_schema(db, schema):
+    for entity in schema["entities"]:
+        table = entity["tableName"]
+        db.execute(entity["createSql"].replace("${TABLE_NAME}", table))
+        for index in entity.get("indices", []):
+            db.execute(index["createSql"].replace("${TABLE_NAME}", table))
+    for view in schema.get("views", []):
+        db.execute(view["createSql"].replace("${VIEW_NAME}", view["viewName"]))
+    # room_master_table은 만들지 않음: 첫 실행 시 Room이 미리 채워진 DB의 테이블/인덱스를
+    # 엔티티와 대조 검증(onValidateSchema)한 뒤 identity hash를 직접 기록함
+    db.execute(f"PRAGMA user_version = {int(schema['version'])}")
+
+
+def insert_draws(db, draws, now):
+    db.executemany(
+        "INSERT INTO lotto_draw_history (draw_number, draw_date, number1, number2, number3, "
+        "number4, number5, number6, bonus_number, created_at, ticket_rank) "
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+        [(no, date, *numbers, bonus, now, ticket_rank(numbers)) for no, date, numbers, bonus in draws])
+
+
+def insert_statistics(db, draws, now):
+    """
+    LottoRepositoryImpl.updateNumberStatisticsInternal / updateNumberPairsInternal 과 같은 계산.
+    앱은 drawHistoryDao.getAll()(회차 내림차순) 목록으로 계산하므로 같은 순서를 따릅니다.
+    """
+    ordered = [set(numbers) for _, _, numbers, _ in reversed(draws)]
+    rounds = [no for no, _, _, _ in reversed(draws)]
+    total = len(ordered)
+    latest = max(rounds)
+
+    def last_draw_with(*wanted):
+        # 앱과 같이 목록 끝에서부터 찾음
+        for i in range(total - 1, -1, -1):
+            if all(n in ordered[i] for n in wanted):
+                return rounds[i]
+        return 0
+
+    stats = []
+    check_count = min(10, total)
+    for number in range(1, MAX_NUMBER + 1):
+        appearance = sum(1 for numbers in ordered if number in numbers)
+        last_draw = last_draw_with(number)
+        gap = latest - last_draw
+        if total < 10:
+            trend = 50.0
+        else:
+            recent = sum(1 for numbers in ordered[total - check_count:] if number in numbers)
+            trend = recent / check_count * 100.0
+        stats.append((number, appearance, last_draw, gap, appearance / total * 100.0,
+                      max(0, gap * 2.0), trend, number % 2, number % 10, avoidance_score(number), now))
+    db.executemany(
+        "INSERT INTO number_statistics (number, appearance_count, last_draw_number, last_appearance_gap, "
+        "popularity_score, neglect_score, trend_score, is_odd, last_digit, avoidance_score, updated_at) "
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", stats)
+
+    pairs = []
+    for i in range(1, MAX_NUMBER + 1):
+        for j in range(i + 1, MAX_NUMBER + 1):
+            count = sum(1 for numbers in ordered if i in numbers and j in numbers)
+            if count > 0:
+                pairs.append((i, j, count, last_draw_with(i, j), count / total * 100.0, now))
+    db.executemany(
+        "INSERT INTO number_pairs (number1, number2, pair_count, last_draw_together, pair_score, updated_at) "
+        "VALUES (?, ?, ?, ?, ?, ?)", pairs)
+    return len(stats), len(pairs)
+
+
+def main():
+    parser = argparse.ArgumentParser(description="미리 채워진 Room DB 생성")
+    parser.add_argument("--schema-dir", required=True)
+    parser.add_argument("--csv", required=True)
+    parser.add_argument("--out", required=True)
+    args = parser.parse_args()
+
+    schema = load_schema(args.schema_dir)
+    draws = load_draws(args.csv)
+    if not draws:
+        print(f"❌ CSV에 유효한 회차 없음: {args.csv}")
+        return 1
+
+    os.makedirs(os.path.dirname(os.path.abspath(args.out)), exist_ok=True)
+    tmp = args.out + ".tmp"
+    if os.path.exists(tmp):
+        os.remove(tmp)
+
+    now = int(time.time() * 1000)
+    db = sqlite3.connect(tmp)
+    try:
+        # Room은 WAL 모드로 여므로 복사 전 파일은 단일 파일(DELETE 저널)로 둠
+        db.execute("PRAGMA journal_mode = DELETE")
+        with db:
+            create_schema(db, schema)
+            insert_draws(db, draws, now)
+            stats_count, pair_count = insert_statistics(db, draws, now)
+        db.execute("VACUUM")
+    finally:
+        db.close()
+    os.replace(tmp, args.out)
+
+    print(f"✅ {args.out}: v{schema['version']}, {len(draws)}회 (최신 {draws[-1][0]}회), "
+          f"통계 {stats_count}, 번호 쌍 {pair_count}")
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())